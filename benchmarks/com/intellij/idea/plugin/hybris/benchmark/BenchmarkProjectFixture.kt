@@ -0,0 +1,174 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.benchmark
+
+import com.intellij.codeInsight.daemon.impl.HighlightInfo
+import com.intellij.codeInspection.InspectionProfileEntry
+import com.intellij.idea.plugin.hybris.common.HybrisConstants
+import com.intellij.idea.plugin.hybris.settings.components.ProjectSettingsComponent
+import com.intellij.openapi.application.ReadAction
+import com.intellij.openapi.application.WriteAction
+import com.intellij.openapi.project.Project
+import com.intellij.openapi.roots.ModuleRootModificationUtil
+import com.intellij.openapi.roots.OrderRootType
+import com.intellij.openapi.roots.libraries.Library
+import com.intellij.openapi.roots.libraries.LibraryTablesRegistrar
+import com.intellij.openapi.util.io.FileUtil
+import com.intellij.openapi.vfs.LocalFileSystem
+import com.intellij.psi.PsiFile
+import com.intellij.psi.PsiManager
+import com.intellij.psi.xml.XmlFile
+import com.intellij.testFramework.LightProjectDescriptor
+import com.intellij.testFramework.PsiTestUtil
+import com.intellij.testFramework.fixtures.CodeInsightTestFixture
+import com.intellij.testFramework.fixtures.IdeaTestFixtureFactory
+import com.intellij.testFramework.fixtures.impl.TempDirTestFixtureImpl
+import com.intellij.testFramework.runInEdtAndWait
+import com.intellij.util.xml.DomElement
+import com.intellij.util.xml.DomManager
+import java.nio.file.Files
+import java.nio.file.Path
+import java.util.*
+import kotlin.io.path.extension
+import kotlin.io.path.inputStream
+import kotlin.io.path.isRegularFile
+import kotlin.io.path.name
+
+/**
+ * Headless project with a generated SAP Commerce layout, shared by all benchmarks of the single JMH trial.
+ */
+class BenchmarkProjectFixture(spec: SyntheticProjectSpec) {
+
+    private val root: Path = Files.createTempDirectory("sap-commerce-benchmark")
+    private val fixture: CodeInsightTestFixture
+    private val libraries = mutableListOf<Library>()
+
+    val hybrisDirectory: Path = SyntheticProjectGenerator(spec).generate(root)
+    val project: Project
+        get() = fixture.project
+
+    init {
+        val factory = IdeaTestFixtureFactory.getFixtureFactory()
+        val projectFixture = factory.createLightFixtureBuilder(LightProjectDescriptor.EMPTY_PROJECT_DESCRIPTOR, "sap-commerce-benchmark").fixture
+        fixture = factory.createCodeInsightFixture(projectFixture, TempDirTestFixtureImpl())
+
+        runInEdtAndWait { fixture.setUp() }
+
+        // DOM file descriptions are applicable only to the SAP Commerce projects
+        ProjectSettingsComponent.getInstance(project).state.hybrisProject = true
+
+        LocalFileSystem.getInstance().refreshAndFindFileByNioFile(hybrisDirectory)
+            ?.refresh(false, true)
+    }
+
+    fun <T : DomElement> findRootElements(fileNameSuffix: String, clazz: Class<T>): List<DomFixture<T>> {
+        val domManager = DomManager.getDomManager(project)
+        val psiManager = PsiManager.getInstance(project)
+        val localFileSystem = LocalFileSystem.getInstance()
+
+        return findFiles { it.name.endsWith(fileNameSuffix) }
+            .mapNotNull { path ->
+                val virtualFile = localFileSystem.findFileByNioFile(path) ?: return@mapNotNull null
+                val xmlFile = psiManager.findFile(virtualFile) as? XmlFile ?: return@mapNotNull null
+                val rootElement = domManager.getFileElement(xmlFile, clazz)?.rootElement ?: return@mapNotNull null
+
+                // <extension>/resources/<file>
+                DomFixture(path.parent.parent.name, path.name, rootElement)
+            }
+    }
+
+    /**
+     * Properties in the order of the SAP Commerce: platform, extensions, then local overrides.
+     */
+    fun loadProperties(): LinkedHashMap<String, String> = findFiles { it.extension == "properties" }
+        .sortedBy {
+            when {
+                it.parent.name == HybrisConstants.EXTENSION_NAME_PLATFORM -> 0
+                it.parent.name == "config" -> 2
+                else -> 1
+            }
+        }
+        .fold(LinkedHashMap()) { result, path ->
+            path.inputStream().use { input -> Properties().apply { load(input) } }
+                .forEach { (key, value) -> result[key.toString()] = value.toString() }
+            result
+        }
+
+    /**
+     * Adds the project libraries with the given classes roots as dependencies of the project module, in a single roots change.
+     */
+    fun addProjectLibraries(classesRoots: Map<String, List<Path>>) = runInEdtAndWait {
+        val localFileSystem = LocalFileSystem.getInstance()
+        val virtualRoots = classesRoots.mapValues { (_, roots) -> roots.mapNotNull { localFileSystem.refreshAndFindFileByNioFile(it) } }
+
+        WriteAction.run<RuntimeException> {
+            val tableModel = LibraryTablesRegistrar.getInstance().getLibraryTable(project).modifiableModel
+            virtualRoots.forEach { (name, roots) ->
+                val library = tableModel.createLibrary(name)
+                val libraryModel = library.modifiableModel
+                roots.forEach { libraryModel.addRoot(it, OrderRootType.CLASSES) }
+                libraryModel.commit()
+                libraries.add(library)
+            }
+            tableModel.commit()
+        }
+
+        ModuleRootModificationUtil.updateModel(fixture.module) { model -> libraries.forEach { model.addLibraryEntry(it) } }
+    }
+
+    fun configureByText(fileName: String, text: String): PsiFile {
+        lateinit var file: PsiFile
+        runInEdtAndWait { file = fixture.configureByText(fileName, text) }
+        return file
+    }
+
+    fun enableInspections(vararg inspections: InspectionProfileEntry) = runInEdtAndWait { fixture.enableInspections(*inspections) }
+
+    /**
+     * Runs all highlighting passes for the file configured via [configureByText].
+     */
+    fun doHighlighting(): List<HighlightInfo> {
+        lateinit var highlightInfos: List<HighlightInfo>
+        runInEdtAndWait { highlightInfos = fixture.doHighlighting() }
+        return highlightInfos
+    }
+
+    fun <T> readAction(computable: () -> T): T = ReadAction.compute<T, RuntimeException> { computable() }
+
+    fun dispose() {
+        runInEdtAndWait {
+            libraries.forEach { PsiTestUtil.removeProjectLibrary(fixture.module, it) }
+            fixture.tearDown()
+        }
+        FileUtil.delete(root)
+    }
+
+    fun findFiles(filter: (Path) -> Boolean): List<Path> = Files.walk(hybrisDirectory).use { paths ->
+        paths
+            .filter { it.isRegularFile() && filter(it) }
+            .sorted()
+            .toList()
+    }
+
+    data class DomFixture<T : DomElement>(
+        val extensionName: String,
+        val fileName: String,
+        val dom: T,
+    )
+}
@@ -0,0 +1,97 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.benchmark
+
+import com.intellij.idea.plugin.hybris.acl.AclLanguage
+import com.intellij.idea.plugin.hybris.flexibleSearch.FlexibleSearchLanguage
+import com.intellij.idea.plugin.hybris.impex.ImpexLanguage
+import com.intellij.idea.plugin.hybris.polyglotQuery.PolyglotQueryLanguage
+import com.intellij.lang.Language
+
+/**
+ * Generated input of the given size, built by repeating the same unit.
+ * Pathological corpora are meant to expose backtracking of the lexer and error recovery of the parser.
+ */
+class GrammarCorpus(
+    val name: String,
+    private val prefix: String = "",
+    private val unit: (Int) -> String,
+) {
+
+    fun generate(sizeKb: Int): String {
+        val size = sizeKb * 1024
+        val text = StringBuilder(size + 1024).append(prefix)
+        var index = 0
+        while (text.length < size) text.append(unit(index++))
+        return text.toString()
+    }
+}
+
+enum class Grammar(val language: Language, val corpora: List<GrammarCorpus>) {
+
+    IMPEX(
+        ImpexLanguage, listOf(
+            GrammarCorpus("regular", IMPEX_HEADER) { ";product$it;\"Product $it\";12.5;true;Default:Staged\n" },
+            GrammarCorpus("multiline values", IMPEX_HEADER) {
+                ";product$it;\"${"A long description line of the product $it. ".repeat(8)}\n${"continued on the next line. ".repeat(8)}\";1;false;Default:Staged \\\n;\n"
+            },
+            // quote is never closed, the lexer has to look ahead for the closing quote
+            GrammarCorpus("unterminated quotes", IMPEX_HEADER) { ";product$it;\"Product $it;12.5;true;Default:Staged\n" },
+        )
+    ),
+    // FlexibleSearch file holds a single statement, so selects are combined via UNION
+    FLEXIBLE_SEARCH(
+        FlexibleSearchLanguage, listOf(
+            GrammarCorpus("regular", FXS_HEADER) {
+                "\nUNION ALL\nSELECT {p.pk}, {p.code}, {p.name[en]} FROM {Product AS p JOIN CatalogVersion AS cv ON {p.catalogVersion} = {cv.pk}} " +
+                    "WHERE {p.code} LIKE '%$it%' AND {cv.version} = ?version"
+            },
+            GrammarCorpus("nested subqueries", FXS_HEADER) {
+                "\nUNION ALL\nSELECT {pk} FROM {Product} WHERE {pk} IN (" +
+                    "{{ SELECT {pk} FROM {Product} WHERE {pk} IN (".repeat(NESTING_DEPTH) +
+                    "?pk$it" + ") }}".repeat(NESTING_DEPTH) +
+                    ")"
+            },
+            GrammarCorpus("unterminated quotes", FXS_HEADER) { "\nUNION ALL\nSELECT {pk} FROM {Product} WHERE {code} = 'product$it AND {name} = ?name" },
+        )
+    ),
+    ACL(
+        AclLanguage, listOf(
+            GrammarCorpus("regular", ACL_HEADER) {
+                "UserGroup;group$it;employeegroup;;;;;;;\n;;;;Product;+;+;-;-;-\n;;;;Category.name;+;-;-;-;-\n"
+            },
+            GrammarCorpus("unterminated quotes", ACL_HEADER) { "User;\"user$it;employeegroup;\"password;;;;;;\n;;;;Product;+;+;-;-;-\n" },
+        )
+    ),
+    POLYGLOT_QUERY(
+        PolyglotQueryLanguage, listOf(
+            GrammarCorpus("regular") {
+                "GET {Product} WHERE {code} = ?code$it AND ({name[en]} IS NOT NULL OR {description} <> ?description) ORDER BY {code} ASC, {name[en]} DESC\n"
+            },
+            GrammarCorpus("nested expressions") {
+                "GET {Product} WHERE " + "({code} = ?code AND ".repeat(NESTING_DEPTH) + "{pk} IS NULL" + ")".repeat(NESTING_DEPTH) + "\n"
+            },
+        )
+    );
+}
+
+private const val NESTING_DEPTH = 32
+private const val IMPEX_HEADER = "INSERT_UPDATE Product;code[unique=true];name[lang=en];price;approved;catalogVersion(catalog(id),version)[unique=true]\n"
+private const val FXS_HEADER = "SELECT {pk} FROM {Product}"
+private const val ACL_HEADER = "\$START_USERRIGHTS\nType;UID;MemberOfGroups;Password;Target;read;change;create;remove;change_perm\n"
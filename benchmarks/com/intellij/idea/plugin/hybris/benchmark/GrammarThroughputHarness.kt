@@ -0,0 +1,172 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.benchmark
+
+import com.google.gson.GsonBuilder
+import com.intellij.lang.ASTNode
+import com.intellij.lang.LanguageParserDefinitions
+import com.intellij.lang.ParserDefinition
+import com.intellij.lang.PsiBuilderFactory
+import com.intellij.openapi.project.Project
+import java.lang.management.ManagementFactory
+import java.nio.file.Path
+import kotlin.io.path.createParentDirectories
+import kotlin.io.path.writeText
+import kotlin.system.exitProcess
+
+/**
+ * Lexes and parses generated corpora of each custom language at several sizes.
+ *
+ * Reports tokens/s, nodes/s and allocated bytes per KB of input. Cost per KB is expected to stay flat with the growth of the input,
+ * corpus is flagged as non-linear once it grows more than [NON_LINEAR_THRESHOLD] times compared to the smallest size,
+ * in that case the process exits with a non-zero code, so the Gradle task fails.
+ *
+ * Usage: `./gradlew grammarBenchmark`, JSON report is written to the path passed as the first argument.
+ */
+object GrammarThroughputHarness {
+
+    private val SIZES_KB = listOf(16, 64, 256, 1024)
+    private const val WARMUP_ITERATIONS = 5
+    private const val MEASURED_ITERATIONS = 10
+    private const val NON_LINEAR_THRESHOLD = 2.0
+
+    private val threadMXBean = ManagementFactory.getThreadMXBean() as com.sun.management.ThreadMXBean
+
+    @JvmStatic
+    fun main(args: Array<String>) {
+        val fixture = BenchmarkProjectFixture(SyntheticProjectSpec(extensions = 0))
+        val results = try {
+            Grammar.entries.flatMap { grammar ->
+                val parserDefinition = LanguageParserDefinitions.INSTANCE.forLanguage(grammar.language)
+                grammar.corpora.flatMap { corpus ->
+                    SIZES_KB
+                        .map { sizeKb -> fixture.readAction { measure(fixture.project, parserDefinition, grammar, corpus, sizeKb) } }
+                        .let { flagNonLinear(it) }
+                }
+            }
+        } finally {
+            fixture.dispose()
+        }
+
+        results.forEach { println(it) }
+
+        args.firstOrNull()
+            ?.let { Path.of(it) }
+            ?.also { it.createParentDirectories().writeText(GsonBuilder().setPrettyPrinting().create().toJson(results)) }
+
+        val nonLinear = results.filterNot { it.linear }
+        if (nonLinear.isNotEmpty()) {
+            System.err.println("Cost does not scale linearly: " + nonLinear.joinToString { "${it.grammar} / ${it.corpus} / ${it.sizeKb} KB" })
+            exitProcess(1)
+        }
+        exitProcess(0)
+    }
+
+    private fun measure(project: Project, parserDefinition: ParserDefinition, grammar: Grammar, corpus: GrammarCorpus, sizeKb: Int): Result {
+        val text = corpus.generate(sizeKb)
+
+        repeat(WARMUP_ITERATIONS) {
+            lex(project, parserDefinition, text)
+            parse(project, parserDefinition, text)
+        }
+
+        var tokens = 0
+        var lexTime = Long.MAX_VALUE
+        repeat(MEASURED_ITERATIONS) {
+            val start = System.nanoTime()
+            tokens = lex(project, parserDefinition, text)
+            lexTime = minOf(lexTime, System.nanoTime() - start)
+        }
+
+        var nodes = 0
+        var parseTime = Long.MAX_VALUE
+        var allocated = Long.MAX_VALUE
+        repeat(MEASURED_ITERATIONS) {
+            val allocatedBefore = threadMXBean.currentThreadAllocatedBytes
+            val start = System.nanoTime()
+            val root = parse(project, parserDefinition, text)
+            parseTime = minOf(parseTime, System.nanoTime() - start)
+            allocated = minOf(allocated, threadMXBean.currentThreadAllocatedBytes - allocatedBefore)
+
+            // counted outside of the measured interval, the walk is not a part of the parsing
+            nodes = countNodes(root)
+        }
+
+        val kb = text.length / 1024.0
+        return Result(
+            grammar = grammar.name,
+            corpus = corpus.name,
+            sizeKb = sizeKb,
+            tokensPerSecond = (tokens * 1_000_000_000.0 / lexTime).toLong(),
+            nodesPerSecond = (nodes * 1_000_000_000.0 / parseTime).toLong(),
+            bytesPerKb = (allocated / kb).toLong(),
+            nanosPerKb = (parseTime / kb).toLong(),
+        )
+    }
+
+    private fun lex(project: Project, parserDefinition: ParserDefinition, text: String): Int {
+        val lexer = parserDefinition.createLexer(project)
+        lexer.start(text)
+
+        var tokens = 0
+        while (lexer.tokenType != null) {
+            tokens++
+            lexer.advance()
+        }
+        return tokens
+    }
+
+    private fun parse(project: Project, parserDefinition: ParserDefinition, text: String): ASTNode {
+        val builder = PsiBuilderFactory.getInstance().createBuilder(parserDefinition, parserDefinition.createLexer(project), text)
+        return parserDefinition.createParser(project).parse(parserDefinition.fileNodeType, builder)
+    }
+
+    // iterative, deeply nested corpora may not fit into the stack
+    private fun countNodes(root: ASTNode): Int {
+        var nodes = 0
+        val stack = ArrayDeque<ASTNode>()
+        stack.addLast(root)
+        while (stack.isNotEmpty()) {
+            val node = stack.removeLast()
+            nodes++
+            var child = node.firstChildNode
+            while (child != null) {
+                stack.addLast(child)
+                child = child.treeNext
+            }
+        }
+        return nodes
+    }
+
+    private fun flagNonLinear(results: List<Result>): List<Result> {
+        val baseline = results.first().nanosPerKb.coerceAtLeast(1)
+        return results.map { it.copy(linear = it.nanosPerKb <= baseline * NON_LINEAR_THRESHOLD) }
+    }
+
+    data class Result(
+        val grammar: String,
+        val corpus: String,
+        val sizeKb: Int,
+        val tokensPerSecond: Long,
+        val nodesPerSecond: Long,
+        val bytesPerKb: Long,
+        val nanosPerKb: Long,
+        val linear: Boolean = true,
+    )
+}
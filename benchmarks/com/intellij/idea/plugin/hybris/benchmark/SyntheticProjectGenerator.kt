@@ -0,0 +1,282 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.benchmark
+
+import com.intellij.idea.plugin.hybris.common.HybrisConstants
+import java.nio.file.Files
+import java.nio.file.Path
+import kotlin.io.path.createDirectories
+import kotlin.io.path.writeText
+import kotlin.random.Random
+
+/**
+ * Size of the synthetic SAP Commerce project, every extension gets the same amount of declarations.
+ */
+data class SyntheticProjectSpec(
+    val extensions: Int = 20,
+    val itemTypesPerExtension: Int = 40,
+    val attributesPerItemType: Int = 10,
+    val relationsPerExtension: Int = 10,
+    val redeclaredItemTypesPerExtension: Int = 5,
+    val beansPerExtension: Int = 40,
+    val propertiesPerBean: Int = 10,
+    val cockpitContextsPerExtension: Int = 20,
+    val propertiesPerExtension: Int = 100,
+    val seed: Long = 42,
+)
+
+/**
+ * Generates a deterministic SAP Commerce layout: the same spec always produces byte-to-byte identical files.
+ *
+ * ```
+ * hybris/bin/platform                           - extensions.xml, project.properties
+ * hybris/bin/custom/<group>/<extension>         - extensioninfo.xml, project.properties, resources/*-items.xml, *-beans.xml, *-backoffice-config.xml
+ * hybris/config                                 - localextensions.xml, local.properties
+ * ```
+ */
+class SyntheticProjectGenerator(private val spec: SyntheticProjectSpec) {
+
+    private val random = Random(spec.seed)
+
+    fun generate(root: Path): Path {
+        val hybris = root.resolve("hybris")
+        val bin = hybris.resolve("bin")
+        val extensionNames = (0 until spec.extensions).map { extensionName(it) }
+
+        write(bin.resolve(HybrisConstants.EXTENSION_NAME_PLATFORM), HybrisConstants.EXTENSIONS_XML, platformExtensionsXml())
+        write(bin.resolve(HybrisConstants.EXTENSION_NAME_PLATFORM), HybrisConstants.PROJECT_PROPERTIES_FILE, platformProperties())
+
+        extensionNames.forEachIndexed { index, name ->
+            val extensionDir = bin.resolve("custom").resolve("group${index / EXTENSIONS_PER_GROUP}").resolve(name)
+            val resources = extensionDir.resolve("resources")
+
+            write(extensionDir, HybrisConstants.EXTENSION_INFO_XML, extensionInfoXml(index))
+            write(extensionDir, HybrisConstants.PROJECT_PROPERTIES_FILE, extensionProperties(index))
+            write(resources, name + HybrisConstants.HYBRIS_ITEMS_XML_FILE_ENDING, itemsXml(index))
+            write(resources, name + HybrisConstants.HYBRIS_BEANS_XML_FILE_ENDING, beansXml(index))
+            write(resources, "$name-backoffice-config.xml", backofficeConfigXml(index))
+
+            // sources are not scanned for the modules, but still have to be traversed by the file system
+            Files.createDirectories(extensionDir.resolve("src/com/synthetic/$name"))
+        }
+
+        val config = hybris.resolve("config")
+        write(config, HybrisConstants.LOCAL_EXTENSIONS_XML, localExtensionsXml(extensionNames))
+        write(config, HybrisConstants.LOCAL_PROPERTIES_FILE, localProperties())
+
+        return hybris
+    }
+
+    private fun platformExtensionsXml() = """
+        |<?xml version="1.0" encoding="UTF-8"?>
+        |<hybrisconfig xmlns:xsi="http://www.w3.org/2001/XMLSchema-instance" xsi:noNamespaceSchemaLocation="resources/schemas/extensions.xsd">
+        |    <extensions>
+        |        <path dir="${'$'}{HYBRIS_BIN_DIR}" autoload="false"/>
+        |    </extensions>
+        |</hybrisconfig>
+        |""".trimMargin()
+
+    private fun platformProperties() = buildString {
+        appendLine("lang.packs=de,en,fr")
+        appendLine("build.parallel=true")
+        appendLine("synthetic.home=${'$'}{platformhome}/../..")
+    }
+
+    private fun localExtensionsXml(extensionNames: List<String>) = buildString {
+        appendLine("""<?xml version="1.0" encoding="UTF-8"?>""")
+        appendLine("""<hybrisconfig xmlns:xsi="http://www.w3.org/2001/XMLSchema-instance" xsi:noNamespaceSchemaLocation="resources/schemas/extensions.xsd">""")
+        appendLine("""    <extensions>""")
+        appendLine("""        <path dir="${'$'}{HYBRIS_BIN_DIR}" autoload="false"/>""")
+        extensionNames.forEach { appendLine("""        <extension name="$it"/>""") }
+        appendLine("""    </extensions>""")
+        appendLine("""</hybrisconfig>""")
+    }
+
+    private fun localProperties() = buildString {
+        // override a slice of the extension properties, as it is usually done for the local environment
+        (0 until spec.extensions).forEach { extension ->
+            (0 until spec.propertiesPerExtension step 10).forEach { property ->
+                appendLine("${propertyKey(extension, property)}=local-${'$'}{synthetic.home}")
+            }
+        }
+    }
+
+    private fun extensionInfoXml(index: Int) = buildString {
+        val name = extensionName(index)
+        appendLine("""<?xml version="1.0" encoding="UTF-8"?>""")
+        appendLine("""<extensioninfo xmlns:xsi="http://www.w3.org/2001/XMLSchema-instance" xsi:noNamespaceSchemaLocation="extensioninfo.xsd">""")
+        appendLine("""    <extension abstractclassprefix="Generated" classprefix="${classPrefix(index)}" name="$name" jaloLogicFree="true">""")
+        requiredExtensions(index).forEach { appendLine("""        <requires-extension name="${extensionName(it)}"/>""") }
+        appendLine("""        <coremodule generated="true" manager="de.hybris.platform.jalo.extension.GenericManager" packageroot="com.synthetic.$name"/>""")
+        appendLine("""        <meta key="backoffice-module" value="true"/>""")
+        appendLine("""    </extension>""")
+        appendLine("""</extensioninfo>""")
+    }
+
+    private fun extensionProperties(index: Int) = buildString {
+        (0 until spec.propertiesPerExtension).forEach { property ->
+            val value = when {
+                // reference a property of one of the required extensions, to resolve nested placeholders
+                property % 5 == 0 && index > 0 -> "${'$'}{${propertyKey(random.nextInt(index), random.nextInt(spec.propertiesPerExtension))}}/$property"
+                property % 3 == 0 -> "${'$'}{synthetic.home}/${extensionName(index)}/$property"
+                else -> "value-$index-$property"
+            }
+            appendLine("${propertyKey(index, property)}=$value")
+        }
+    }
+
+    private fun itemsXml(index: Int) = buildString {
+        appendLine("""<?xml version="1.0" encoding="ISO-8859-1"?>""")
+        appendLine("""<items xmlns:xsi="http://www.w3.org/2001/XMLSchema-instance" xsi:noNamespaceSchemaLocation="items.xsd">""")
+
+        appendLine("""    <enumtypes>""")
+        appendLine("""        <enumtype code="${classPrefix(index)}Status" autocreate="true" generate="true" dynamic="true">""")
+        (0 until ENUM_VALUES).forEach { appendLine("""            <value code="value$it"/>""") }
+        appendLine("""        </enumtype>""")
+        appendLine("""    </enumtypes>""")
+
+        appendLine("""    <relations>""")
+        (0 until spec.relationsPerExtension).forEach { relation ->
+            val code = "${classPrefix(index)}Relation$relation"
+            val manyToMany = relation % 2 == 0
+            appendLine("""        <relation code="$code" localized="false">""")
+            if (manyToMany) appendLine("""            <deployment table="${code.lowercase()}" typecode="${typeCode(index, spec.itemTypesPerExtension + relation)}"/>""")
+            appendLine("""            <sourceElement type="${itemTypeCode(index, random.nextInt(spec.itemTypesPerExtension))}" qualifier="source$relation" cardinality="${if (manyToMany) "many" else "one"}"/>""")
+            appendLine("""            <targetElement type="${randomItemType(index)}" qualifier="target$relation" cardinality="many" collectiontype="list" ordered="true"/>""")
+            appendLine("""        </relation>""")
+        }
+        appendLine("""    </relations>""")
+
+        appendLine("""    <itemtypes>""")
+        (0 until spec.itemTypesPerExtension).forEach { itemType ->
+            val code = itemTypeCode(index, itemType)
+            val extends = if (itemType == 0) "GenericItem" else itemTypeCode(index, random.nextInt(itemType))
+            appendLine("""        <itemtype code="$code" extends="$extends" autocreate="true" generate="true">""")
+            appendLine("""            <deployment table="${code.lowercase()}" typecode="${typeCode(index, itemType)}"/>""")
+            appendAttributes(index, "attribute", spec.attributesPerItemType)
+            appendLine("""            <indexes>""")
+            appendLine("""                <index name="${code}Idx" unique="true">""")
+            appendLine("""                    <key attribute="attribute0"/>""")
+            appendLine("""                </index>""")
+            appendLine("""            </indexes>""")
+            appendLine("""        </itemtype>""")
+        }
+        // extend item types declared by the required extensions, so the merger has to combine several declarations
+        if (index > 0) {
+            (0 until spec.redeclaredItemTypesPerExtension).forEach { _ ->
+                val extension = random.nextInt(index)
+                appendLine("""        <itemtype code="${itemTypeCode(extension, random.nextInt(spec.itemTypesPerExtension))}" autocreate="false" generate="false">""")
+                appendAttributes(index, "${extensionName(index)}Attribute", spec.attributesPerItemType / 2)
+                appendLine("""        </itemtype>""")
+            }
+        }
+        appendLine("""    </itemtypes>""")
+
+        appendLine("""</items>""")
+    }
+
+    private fun StringBuilder.appendAttributes(index: Int, prefix: String, count: Int) {
+        appendLine("""            <attributes>""")
+        (0 until count).forEach { attribute ->
+            val type = when (attribute % 4) {
+                0 -> "java.lang.String"
+                1 -> "localized:java.lang.String"
+                2 -> "${classPrefix(index)}Status"
+                else -> randomItemType(index)
+            }
+            appendLine("""                <attribute qualifier="$prefix$attribute" type="$type">""")
+            appendLine("""                    <persistence type="property"/>""")
+            appendLine("""                    <modifiers optional="${attribute != 0}"/>""")
+            appendLine("""                </attribute>""")
+        }
+        appendLine("""            </attributes>""")
+    }
+
+    private fun beansXml(index: Int) = buildString {
+        val packageName = "com.synthetic.${extensionName(index)}.data"
+        appendLine("""<?xml version="1.0" encoding="ISO-8859-1"?>""")
+        appendLine("""<beans xmlns:xsi="http://www.w3.org/2001/XMLSchema-instance" xsi:noNamespaceSchemaLocation="beans.xsd">""")
+        appendLine("""    <enum class="$packageName.${classPrefix(index)}Kind">""")
+        (0 until ENUM_VALUES).forEach { appendLine("""        <value>KIND_$it</value>""") }
+        appendLine("""    </enum>""")
+        (0 until spec.beansPerExtension).forEach { bean ->
+            val extends = if (bean == 0) "" else """ extends="$packageName.${classPrefix(index)}Bean${random.nextInt(bean)}Data""""
+            appendLine("""    <bean class="$packageName.${classPrefix(index)}Bean${bean}Data"$extends>""")
+            if (bean % 10 == 0) appendLine("""        <hints><hint name="wsRelated"/></hints>""")
+            (0 until spec.propertiesPerBean).forEach { property ->
+                val type = when (property % 3) {
+                    0 -> "String"
+                    1 -> "java.util.List<$packageName.${classPrefix(index)}Bean${random.nextInt(spec.beansPerExtension)}Data>"
+                    else -> "$packageName.${classPrefix(index)}Kind"
+                }
+                appendLine("""        <property name="property$property" type="$type"/>""")
+            }
+            appendLine("""    </bean>""")
+        }
+        appendLine("""    <bean class="$packageName.${classPrefix(index)}Event" extends="de.hybris.platform.servicelayer.event.events.AbstractEvent">""")
+        appendLine("""        <property name="payload" type="String"/>""")
+        appendLine("""    </bean>""")
+        appendLine("""</beans>""")
+    }
+
+    private fun backofficeConfigXml(index: Int) = buildString {
+        appendLine("""<?xml version="1.0" encoding="UTF-8"?>""")
+        appendLine("""<config xmlns="${HybrisConstants.SCHEMA_COCKPIT_NG_CONFIG}" xmlns:list-view="http://www.hybris.com/cockpitng/component/listView">""")
+        (0 until spec.cockpitContextsPerExtension).forEach { context ->
+            val type = randomItemType(index)
+            val component = CONTEXT_COMPONENTS[context % CONTEXT_COMPONENTS.size]
+            appendLine("""    <context type="$type" component="$component" module="${extensionName(index)}" principal="group${context % 3}">""")
+            appendLine("""        <list-view:list-view>""")
+            appendLine("""            <list-view:column qualifier="attribute0"/>""")
+            appendLine("""        </list-view:list-view>""")
+            appendLine("""    </context>""")
+        }
+        appendLine("""</config>""")
+    }
+
+    private fun requiredExtensions(index: Int) = if (index == 0) emptySet()
+    else (0 until REQUIRED_EXTENSIONS)
+        .map { random.nextInt(index) }
+        .toSortedSet()
+
+    // item type of the current or any previous extension
+    private fun randomItemType(index: Int) = itemTypeCode(random.nextInt(index + 1), random.nextInt(spec.itemTypesPerExtension))
+
+    private fun typeCode(extension: Int, index: Int) = FIRST_TYPE_CODE + extension * TYPE_CODES_PER_EXTENSION + index
+
+    companion object {
+        private const val EXTENSIONS_PER_GROUP = 10
+        private const val REQUIRED_EXTENSIONS = 3
+        private const val ENUM_VALUES = 5
+        private const val FIRST_TYPE_CODE = 20000
+        private const val TYPE_CODES_PER_EXTENSION = 1000
+        private val CONTEXT_COMPONENTS = listOf("listview", "editor-area", "advanced-search", "simple-search", "base")
+
+        fun extensionName(index: Int) = "synthetic%03d".format(index)
+        fun classPrefix(index: Int) = "Synthetic%03d".format(index)
+        fun itemTypeCode(extension: Int, index: Int) = "${classPrefix(extension)}Item$index"
+        fun propertyKey(extension: Int, index: Int) = "${extensionName(extension)}.property$index"
+
+        private fun write(directory: Path, fileName: String, content: String) {
+            directory.createDirectories()
+                .resolve(fileName)
+                .writeText(content)
+        }
+    }
+}
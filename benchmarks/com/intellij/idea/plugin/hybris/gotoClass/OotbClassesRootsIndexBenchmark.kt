@@ -0,0 +1,112 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.gotoClass
+
+import org.openjdk.jmh.annotations.*
+import org.openjdk.jmh.infra.Blackhole
+
+/**
+ * OOTB scope check of the class files of a large generated platform:
+ * parent chain walk with root probes per candidate file versus the nearest class root lookup of the [OotbClassesRootsIndex].
+ */
+@State(Scope.Benchmark)
+class OotbClassesRootsIndexBenchmark {
+
+    @Param("500000")
+    var files: Int = 0
+
+    private lateinit var classRoots: List<Node>
+    private lateinit var classFiles: List<Node>
+
+    @Setup(Level.Trial)
+    fun setUp() {
+        val hybris = Node("hybris", null)
+        val bin = Node("bin", Node("bootstrap", Node("platform", hybris)))
+        val extensions = Node("ext", hybris)
+
+        classRoots = buildList {
+            (0 until EXTENSIONS).forEach { index ->
+                val extension = Node("extension$index", extensions)
+                Node(EXTENSION_INFO_XML, extension)
+                add(Node(CLASSES, extension))
+                add(Node("library$index.jar", Node("lib", extension)))
+            }
+            (0 until BOOTSTRAP_JARS).forEach { add(Node("bootstrap$it.jar", bin)) }
+            add(Node(MODELS_JAR, bin))
+        }
+
+        val packages = classRoots.associateWith { root ->
+            (0 until PACKAGES).map { index -> (0 until PACKAGE_DEPTH).fold(root) { parent, depth -> Node("p$index$depth", parent) } }
+        }
+        classFiles = (0 until files).map { index ->
+            val root = classRoots[index % classRoots.size]
+            Node("Class$index.class", packages[root]!![index % PACKAGES])
+        }
+    }
+
+    @Benchmark
+    fun parentWalk(blackhole: Blackhole) = classFiles.forEach { file ->
+        blackhole.consume(
+            generateSequence(file) { it.parent }
+                .firstOrNull { it.name == CLASSES || it.name.endsWith(".jar") }
+                ?.let { isOotbRoot(it) }
+                ?: false
+        )
+    }
+
+    // roots are re-collected on each roots change, so their collection is a part of the check
+    @Benchmark
+    fun rootsIndex(blackhole: Blackhole) {
+        val classRootsSet = classRoots.toHashSet()
+        val ootbRoots = classRoots.filter { isOotbRoot(it) }.toHashSet()
+
+        classFiles.forEach { file ->
+            blackhole.consume(
+                OotbClassesRootsIndex.contains(file, ootbRoots) { generateSequence(it) { node -> node.parent }.firstOrNull { node -> node in classRootsSet } }
+            )
+        }
+    }
+
+    // same rules as in the OotbClassesRootsIndex, including the child probe and path comparison done for every candidate
+    private fun isOotbRoot(root: Node) = root.name == MODELS_JAR
+        || (root.name.endsWith(".jar") && root.parent?.path?.endsWith("bootstrap/bin") == true)
+        || (root.name == CLASSES && root.parent?.children?.any { it.name == EXTENSION_INFO_XML } == true)
+
+    // identity based, same as VirtualFile
+    private class Node(val name: String, val parent: Node?) {
+        val children = mutableListOf<Node>()
+
+        init {
+            parent?.children?.add(this)
+        }
+
+        val path: String
+            get() = parent?.let { it.path + '/' + name } ?: name
+    }
+
+    companion object {
+        private const val CLASSES = "classes"
+        private const val MODELS_JAR = "models.jar"
+        private const val EXTENSION_INFO_XML = "extensioninfo.xml"
+        private const val EXTENSIONS = 600
+        private const val BOOTSTRAP_JARS = 49
+        private const val PACKAGES = 7
+        private const val PACKAGE_DEPTH = 5
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.impex.editor
+
+import org.openjdk.jmh.annotations.*
+import org.openjdk.jmh.infra.Blackhole
+import kotlin.random.Random
+
+/**
+ * Line highlighters of a generated ImpEx file resolved for the whole file and for the viewport around a random caret position.
+ */
+@State(Scope.Benchmark)
+class ImpExLinesIndexBenchmark {
+
+    @Param("300")
+    var blocks: Int = 0
+
+    @Param("999")
+    var valueLines: Int = 0
+
+    private lateinit var index: ImpExLinesIndex
+    private val random = Random(42)
+
+    @Setup(Level.Trial)
+    fun setUp() {
+        val headerLines = IntArray(blocks) { it * (valueLines + 1) }
+        index = ImpExLinesIndex(headerLines, Array(blocks) { block -> IntArray(valueLines) { headerLines[block] + 1 + it } })
+    }
+
+    @Benchmark
+    fun wholeFile(blackhole: Blackhole) = index.forEachLine(0, Int.MAX_VALUE) { line, kind ->
+        blackhole.consume(line)
+        blackhole.consume(kind)
+    }
+
+    @Benchmark
+    fun viewport(blackhole: Blackhole) {
+        val firstLine = random.nextInt(index.linesCount)
+
+        index.forEachLine(firstLine - VIEWPORT, firstLine + 2 * VIEWPORT) { line, kind ->
+            blackhole.consume(line)
+            blackhole.consume(kind)
+        }
+    }
+
+    companion object {
+        private const val VIEWPORT = 60
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.impex.formatting
+
+import com.intellij.idea.plugin.hybris.benchmark.BenchmarkProjectFixture
+import com.intellij.idea.plugin.hybris.benchmark.SyntheticProjectSpec
+import com.intellij.idea.plugin.hybris.impex.ImpexLanguage
+import com.intellij.lang.LanguageFormatting
+import com.intellij.openapi.Disposable
+import com.intellij.openapi.command.WriteCommandAction
+import com.intellij.openapi.editor.Document
+import com.intellij.openapi.util.Disposer
+import com.intellij.psi.PsiDocumentManager
+import com.intellij.psi.PsiFile
+import com.intellij.psi.codeStyle.CodeStyleManager
+import com.intellij.testFramework.runInEdtAndWait
+import org.openjdk.jmh.annotations.*
+import kotlin.random.Random
+
+/**
+ * Reformat of a generated ImpEx file through the [CodeStyleManager], with the precomputed column widths of the [ImpExColumnWidthsStrategy]
+ * and with the shared alignments of the [ImpExTableAlignmentStrategy] used before.
+ *
+ * Both strategies must produce identical text, it is verified once per trial.
+ */
+@State(Scope.Benchmark)
+class ImpExFormatterBenchmark {
+
+    @Param("100000")
+    var lines: Int = 0
+
+    @Param("columnWidths", "sharedAlignments")
+    var strategy: String = ""
+
+    private lateinit var fixture: BenchmarkProjectFixture
+    private lateinit var file: PsiFile
+    private lateinit var document: Document
+    private lateinit var text: String
+    private lateinit var strategyDisposable: Disposable
+
+    @Setup(Level.Trial)
+    fun setUp() {
+        fixture = BenchmarkProjectFixture(SyntheticProjectSpec(extensions = 1))
+        text = generate()
+        file = fixture.configureByText("benchmark.impex", text)
+        document = fixture.readAction { PsiDocumentManager.getInstance(fixture.project).getDocument(file)!! }
+
+        val columnWidthsText = reformat()
+        val sharedAlignmentsText = withSharedAlignments { reformat() }
+        check(columnWidthsText == sharedAlignmentsText) { "Strategies must produce identical output" }
+
+        strategyDisposable = Disposer.newDisposable()
+        if (strategy == "sharedAlignments") registerSharedAlignments(strategyDisposable)
+    }
+
+    @TearDown(Level.Trial)
+    fun tearDown() {
+        Disposer.dispose(strategyDisposable)
+        fixture.dispose()
+    }
+
+    @Setup(Level.Invocation)
+    fun resetText() = edit { document.setText(text) }
+
+    @Benchmark
+    fun reformat(): String {
+        edit { CodeStyleManager.getInstance(fixture.project).reformat(file) }
+        return fixture.readAction { document.text }
+    }
+
+    private fun <T> withSharedAlignments(action: () -> T): T {
+        val disposable = Disposer.newDisposable()
+        try {
+            registerSharedAlignments(disposable)
+            resetText()
+            return action()
+        } finally {
+            Disposer.dispose(disposable)
+        }
+    }
+
+    private fun registerSharedAlignments(disposable: Disposable) = LanguageFormatting.INSTANCE
+        .addExplicitExtension(ImpexLanguage, SharedAlignmentsFormattingModelBuilder(), disposable)
+
+    private fun edit(change: () -> Unit) = runInEdtAndWait {
+        WriteCommandAction.runWriteCommandAction(fixture.project) {
+            change()
+            PsiDocumentManager.getInstance(fixture.project).commitDocument(document)
+        }
+    }
+
+    private fun generate() = buildString {
+        val random = Random(42)
+        (0 until lines).forEach { line ->
+            if (line % LINES_PER_BLOCK == 0) {
+                append("\nINSERT_UPDATE Product")
+                (0 until COLUMNS).forEach { append(";attribute$it") }
+            } else {
+                (0 until COLUMNS).forEach { append(";").append("v".repeat(1 + random.nextInt(10 + line / 2_000))) }
+            }
+            append('\n')
+        }
+    }
+
+    private class SharedAlignmentsFormattingModelBuilder : ImpexFormattingModelBuilder() {
+        override fun createAlignmentStrategy(spacingBuilder: ImpExSpacingBuilder, impexSettings: ImpexCodeStyleSettings): ImpExAlignmentStrategy =
+            if (impexSettings.TABLIFY) ImpExTableAlignmentStrategy()
+            else ImpExColumnsAlignmentStrategy()
+    }
+
+    companion object {
+        private const val LINES_PER_BLOCK = 10_000
+        private const val COLUMNS = 8
+    }
+}
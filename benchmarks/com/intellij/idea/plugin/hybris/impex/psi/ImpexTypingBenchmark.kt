@@ -0,0 +1,95 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.impex.psi
+
+import com.intellij.idea.plugin.hybris.benchmark.BenchmarkProjectFixture
+import com.intellij.idea.plugin.hybris.benchmark.SyntheticProjectSpec
+import com.intellij.openapi.command.WriteCommandAction
+import com.intellij.openapi.editor.Document
+import com.intellij.psi.PsiDocumentManager
+import com.intellij.psi.PsiFile
+import com.intellij.psi.util.PsiTreeUtil
+import com.intellij.testFramework.runInEdtAndWait
+import org.openjdk.jmh.annotations.*
+import org.openjdk.jmh.infra.Blackhole
+
+/**
+ * Typing into a value of a large generated ImpEx file: a character is typed and erased, each keystroke is committed
+ * and followed by the `valueGroups` lookup of every header parameter, as done by the highlighting of the file.
+ *
+ * Edits are reparsed in place by the [ImpexLeafReparser], so only caches of the edited header block are recalculated.
+ */
+@State(Scope.Benchmark)
+class ImpexTypingBenchmark {
+
+    @Param("200000")
+    var lines: Int = 0
+
+    private lateinit var fixture: BenchmarkProjectFixture
+    private lateinit var file: PsiFile
+    private lateinit var document: Document
+    private lateinit var headerParameters: Collection<ImpexFullHeaderParameter>
+    private var offset = 0
+
+    @Setup(Level.Trial)
+    fun setUp() {
+        fixture = BenchmarkProjectFixture(SyntheticProjectSpec(extensions = 1))
+
+        val text = generate()
+        file = fixture.configureByText("benchmark.impex", text)
+        document = fixture.readAction { PsiDocumentManager.getInstance(fixture.project).getDocument(file)!! }
+        headerParameters = fixture.readAction { PsiTreeUtil.findChildrenOfType(file, ImpexFullHeaderParameter::class.java) }
+        // value in the middle of the file
+        offset = text.indexOf("; product${lines / 2};") + "; p".length
+
+        // warm up all caches
+        fixture.readAction { headerParameters.forEach { it.valueGroups } }
+    }
+
+    @TearDown(Level.Trial)
+    fun tearDown() = fixture.dispose()
+
+    @Benchmark
+    fun typeAndErase(blackhole: Blackhole) {
+        edit { document.insertString(offset, "x") }
+        blackhole.consume(fixture.readAction { headerParameters.sumOf { it.valueGroups.size } })
+
+        edit { document.deleteString(offset, offset + 1) }
+        blackhole.consume(fixture.readAction { headerParameters.sumOf { it.valueGroups.size } })
+    }
+
+    private fun edit(change: () -> Unit) = runInEdtAndWait {
+        WriteCommandAction.runWriteCommandAction(fixture.project) {
+            change()
+            PsiDocumentManager.getInstance(fixture.project).commitDocument(document)
+        }
+    }
+
+    private fun generate() = buildString {
+        append("\$catalogVersion = catalogVersion(catalog(id[default = 'Default']), version[default = 'Staged'])\n")
+        (0 until lines).forEach {
+            if (it % LINES_PER_BLOCK == 0) append("INSERT_UPDATE Product; code[unique = true]; name[lang = en]; \$catalogVersion; approvalStatus(code)\n")
+            append("; product$it; Product $it; ; approved\n")
+        }
+    }
+
+    companion object {
+        private const val LINES_PER_BLOCK = 1_000
+    }
+}
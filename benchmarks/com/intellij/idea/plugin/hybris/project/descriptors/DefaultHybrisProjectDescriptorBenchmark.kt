@@ -0,0 +1,45 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.project.descriptors
+
+import com.intellij.idea.plugin.hybris.benchmark.BenchmarkProjectFixture
+import com.intellij.idea.plugin.hybris.benchmark.SyntheticProjectSpec
+import org.openjdk.jmh.annotations.*
+import java.io.File
+
+@State(Scope.Benchmark)
+class DefaultHybrisProjectDescriptorBenchmark {
+
+    @Param("10", "50", "200")
+    var extensions: Int = 0
+
+    private lateinit var fixture: BenchmarkProjectFixture
+
+    @Setup(Level.Trial)
+    fun setUp() {
+        fixture = BenchmarkProjectFixture(SyntheticProjectSpec(extensions = extensions))
+    }
+
+    @TearDown(Level.Trial)
+    fun tearDown() = fixture.dispose()
+
+    @Benchmark
+    fun findModuleRoots(): Map<DefaultHybrisProjectDescriptor.DIRECTORY_TYPE, Set<File>> = DefaultHybrisProjectDescriptor()
+        .findModuleRoots(fixture.hybrisDirectory.toFile())
+}
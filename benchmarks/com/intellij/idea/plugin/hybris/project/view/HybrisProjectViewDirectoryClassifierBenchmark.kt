@@ -0,0 +1,92 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.project.view
+
+import com.intellij.idea.plugin.hybris.common.HybrisConstants
+import org.openjdk.jmh.annotations.*
+import org.openjdk.jmh.infra.Blackhole
+import java.io.File
+import java.nio.file.Files
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * Classification of the extension directories on each expansion of the custom directory in the Project View:
+ * `java.io.File` probes per directory versus classification cached per directory by the [HybrisProjectViewDirectoryClassifier].
+ */
+@State(Scope.Benchmark)
+class HybrisProjectViewDirectoryClassifierBenchmark {
+
+    @Param("800")
+    var extensions: Int = 0
+
+    private lateinit var customDirectory: File
+    private lateinit var directories: List<File>
+    private val cache = ConcurrentHashMap<File, Int>()
+
+    @Setup(Level.Trial)
+    fun setUp() {
+        customDirectory = Files.createTempDirectory("custom").toFile()
+
+        directories = (0 until extensions).map { index ->
+            File(customDirectory, "extension$index").apply {
+                mkdirs()
+                File(this, HybrisConstants.EXTENSION_INFO_XML).createNewFile()
+                File(this, HybrisConstants.DOT_PROJECT).createNewFile()
+                when (index % 10) {
+                    0 -> File(this, HybrisConstants.GRADLE_BUILD).createNewFile()
+                    1 -> File(this, "pom.xml").createNewFile()
+                    2 -> File(this, HybrisConstants.FILE_ANGULAR_JSON).createNewFile()
+                }
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    fun tearDown() {
+        customDirectory.deleteRecursively()
+    }
+
+    @Benchmark
+    fun fileProbes(blackhole: Blackhole) = directories.forEach { blackhole.consume(isExternalModuleWithProbes(it)) }
+
+    // children of each directory are listed once, next expansions are served from the cache
+    @Benchmark
+    fun cached(blackhole: Blackhole) = directories.forEach { blackhole.consume(isExternalModuleCached(it, cache)) }
+
+    @Benchmark
+    fun firstExpansion(blackhole: Blackhole) {
+        val cache = HashMap<File, Int>()
+        directories.forEach { blackhole.consume(isExternalModuleCached(it, cache)) }
+    }
+
+    // children are listed once per directory, same as the VFS does on the first access
+    private fun isExternalModuleCached(directory: File, cache: MutableMap<File, Int>) = HybrisProjectViewDirectoryClassifier.isExternalModule(
+        cache.computeIfAbsent(directory) {
+            val children = directory.listFiles()!!.filter { it.isFile }.map { it.name }.toHashSet()
+            HybrisProjectViewDirectoryClassifier.classify(directory.invariantSeparatorsPath, false) { it in children }
+        }
+    )
+
+    // same probes as the HybrisProjectService performs for every directory node
+    private fun isExternalModuleWithProbes(file: File) = File(file, HybrisConstants.GRADLE_SETTINGS).isFile || File(file, HybrisConstants.GRADLE_BUILD).isFile
+        || File(file, HybrisConstants.DOT_PROJECT).isFile
+        || File(file, HybrisConstants.GRADLE_SETTINGS_KTS).isFile || File(file, HybrisConstants.GRADLE_BUILD_KTS).isFile
+        || File(file, HybrisConstants.FILE_ANGULAR_JSON).isFile
+        || File(file, "pom.xml").isFile
+}
@@ -0,0 +1,50 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.properties
+
+import com.intellij.idea.plugin.hybris.benchmark.BenchmarkProjectFixture
+import com.intellij.idea.plugin.hybris.benchmark.SyntheticProjectSpec
+import org.openjdk.jmh.annotations.*
+
+/**
+ * Collection of the properties relies on the imported `config` and `platform` modules, so only resolution of the placeholders is measured.
+ */
+@State(Scope.Benchmark)
+class PropertyServiceBenchmark {
+
+    @Param("10", "50")
+    var extensions: Int = 0
+
+    private lateinit var fixture: BenchmarkProjectFixture
+    private lateinit var propertyService: PropertyService
+    private lateinit var properties: Map<String, String>
+
+    @Setup(Level.Trial)
+    fun setUp() {
+        fixture = BenchmarkProjectFixture(SyntheticProjectSpec(extensions = extensions))
+        propertyService = PropertyService(fixture.project)
+        properties = fixture.loadProperties()
+    }
+
+    @TearDown(Level.Trial)
+    fun tearDown() = fixture.dispose()
+
+    @Benchmark
+    fun resolveProperties(): Map<String, String> = propertyService.resolveProperties(LinkedHashMap(properties))
+}
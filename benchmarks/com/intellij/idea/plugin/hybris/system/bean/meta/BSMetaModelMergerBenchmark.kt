@@ -0,0 +1,55 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.system.bean.meta
+
+import com.intellij.idea.plugin.hybris.benchmark.BenchmarkProjectFixture
+import com.intellij.idea.plugin.hybris.benchmark.SyntheticProjectSpec
+import com.intellij.idea.plugin.hybris.common.HybrisConstants
+import com.intellij.idea.plugin.hybris.system.bean.model.Beans
+import com.intellij.openapi.components.service
+import org.openjdk.jmh.annotations.*
+
+@State(Scope.Benchmark)
+class BSMetaModelMergerBenchmark {
+
+    @Param("10", "50")
+    var extensions: Int = 0
+
+    private lateinit var fixture: BenchmarkProjectFixture
+    private lateinit var localMetaModels: List<BSMetaModel>
+
+    @Setup(Level.Trial)
+    fun setUp() {
+        fixture = BenchmarkProjectFixture(SyntheticProjectSpec(extensions = extensions))
+
+        val processor = fixture.project.service<BSMetaModelProcessor>()
+        localMetaModels = fixture.readAction {
+            fixture.findRootElements(HybrisConstants.HYBRIS_BEANS_XML_FILE_ENDING, Beans::class.java)
+                .map { processor.process(it.extensionName, it.extensionName, it.fileName, true, it.dom) }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    fun tearDown() = fixture.dispose()
+
+    @Benchmark
+    fun merge(): BSGlobalMetaModel = fixture.readAction {
+        BSGlobalMetaModel().also { BSMetaModelMerger.merge(it, localMetaModels) }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.system.meta
+
+import com.intellij.idea.plugin.hybris.benchmark.BenchmarkProjectFixture
+import com.intellij.idea.plugin.hybris.benchmark.SyntheticProjectSpec
+import com.intellij.idea.plugin.hybris.common.HybrisConstants
+import com.intellij.idea.plugin.hybris.system.type.meta.TSMetaCollector
+import com.intellij.idea.plugin.hybris.system.type.model.Items
+import kotlinx.coroutines.runBlocking
+import org.openjdk.jmh.annotations.*
+import java.nio.file.Files
+
+/**
+ * Collection of the `items.xml` files by the [TSMetaCollector], when the files are not a part of any module,
+ * but of the project libraries, so the owning library of each file is resolved via the [LibraryRootsIndex].
+ *
+ * The resources of each generated extension form a library, all other libraries have an empty classes root, as the third-party jars.
+ */
+@State(Scope.Benchmark)
+class LibraryRootsIndexBenchmark {
+
+    @Param("1500")
+    var libraries: Int = 0
+
+    private lateinit var fixture: BenchmarkProjectFixture
+    private lateinit var collector: TSMetaCollector
+
+    @Setup(Level.Trial)
+    fun setUp() {
+        fixture = BenchmarkProjectFixture(SyntheticProjectSpec(extensions = EXTENSIONS))
+
+        val extensionLibraries = fixture.findFiles { it.name.endsWith(HybrisConstants.HYBRIS_ITEMS_XML_FILE_ENDING) }
+            .map { it.parent }
+            .distinct()
+            .associate { "extension-${it.parent.fileName}" to listOf(it) }
+        val thirdPartyRoot = fixture.hybrisDirectory.resolve("lib")
+        val thirdPartyLibraries = (extensionLibraries.size until libraries).associate { index ->
+            "library$index" to listOf(Files.createDirectories(thirdPartyRoot.resolve("library$index")))
+        }
+
+        fixture.addProjectLibraries(thirdPartyLibraries + extensionLibraries)
+        collector = TSMetaCollector(fixture.project)
+
+        check(collect().size == extensionLibraries.size) { "All items.xml files must be collected from the libraries" }
+    }
+
+    @TearDown(Level.Trial)
+    fun tearDown() = fixture.dispose()
+
+    @Benchmark
+    fun collect(): Set<Meta<Items>> = runBlocking { collector.collectDependencies() }
+
+    companion object {
+        private const val EXTENSIONS = 200
+    }
+}
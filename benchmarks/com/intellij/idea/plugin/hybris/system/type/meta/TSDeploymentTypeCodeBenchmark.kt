@@ -0,0 +1,113 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.system.type.meta
+
+import com.intellij.idea.plugin.hybris.benchmark.BenchmarkProjectFixture
+import com.intellij.idea.plugin.hybris.benchmark.SyntheticProjectSpec
+import com.intellij.idea.plugin.hybris.codeInspection.rule.typeSystem.TSDeploymentTypeCodeMustBeGreaterThanTenThousand
+import com.intellij.idea.plugin.hybris.codeInspection.rule.typeSystem.TSDeploymentTypeCodeMustBeUnique
+import com.intellij.idea.plugin.hybris.common.HybrisConstants
+import com.intellij.openapi.components.service
+import com.intellij.psi.PsiManager
+import com.intellij.testFramework.runInEdtAndWait
+import org.openjdk.jmh.annotations.*
+import org.openjdk.jmh.infra.Blackhole
+
+/**
+ * Highlighting of an `*-items.xml` with 500 deployments, every one of them flagged by the type code inspections.
+ *
+ * `nextAvailable*` benchmarks resolve the next available type code once per flagged deployment, as it was done eagerly
+ * on each highlighting pass: `nextAvailableScan` via the linear scan used before the [TSTypeCodeAllocator].
+ */
+@State(Scope.Benchmark)
+class TSDeploymentTypeCodeBenchmark {
+
+    @Param("500")
+    var deployments: Int = 0
+
+    private lateinit var fixture: BenchmarkProjectFixture
+    private lateinit var typeCodes: Set<Int>
+
+    @Setup(Level.Trial)
+    fun setUp() {
+        fixture = BenchmarkProjectFixture(SyntheticProjectSpec(extensions = 1))
+        fixture.enableInspections(TSDeploymentTypeCodeMustBeUnique(), TSDeploymentTypeCodeMustBeGreaterThanTenThousand())
+        fixture.configureByText("benchmark-items.xml", generate())
+
+        val stateService = fixture.project.service<TSMetaModelStateService>()
+        val deadline = System.currentTimeMillis() + TYPE_SYSTEM_TIMEOUT
+        stateService.init()
+        while (!stateService.initialized()) {
+            check(System.currentTimeMillis() < deadline) { "Type System is not built in $TYPE_SYSTEM_TIMEOUT ms" }
+            Thread.sleep(50)
+        }
+
+        typeCodes = stateService.get().getTypeCodeRegistry().getTypeCodes() + TSMetaModelAccess.getInstance(fixture.project).getReservedTypeCodes().keys
+
+        val problems = fixture.doHighlighting().count { it.inspectionToolId != null }
+        check(problems >= deployments) { "Every deployment must be flagged, but only $problems problems are reported" }
+    }
+
+    @TearDown(Level.Trial)
+    fun tearDown() = fixture.dispose()
+
+    @Benchmark
+    fun highlighting(blackhole: Blackhole) {
+        // DOM inspection results are cached until the next PSI modification
+        runInEdtAndWait { PsiManager.getInstance(fixture.project).dropPsiCaches() }
+        blackhole.consume(fixture.doHighlighting())
+    }
+
+    @Benchmark
+    fun nextAvailableScan(blackhole: Blackhole) = repeat(deployments) {
+        blackhole.consume(
+            (HybrisConstants.TS_TYPECODE_MIN_ALLOWED..Short.MAX_VALUE)
+                .asSequence()
+                .filterNot { code -> HybrisConstants.TS_TYPECODE_RESERVED_RANGES.any { code in it } }
+                .firstOrNull { !typeCodes.contains(it) }
+        )
+    }
+
+    @Benchmark
+    fun nextAvailableIntervals(blackhole: Blackhole) {
+        val allocator = TSTypeCodeAllocator.of(typeCodes, HybrisConstants.TS_TYPECODE_RESERVED_RANGES)
+        repeat(deployments) { blackhole.consume(allocator.nextAvailable()) }
+    }
+
+    // each pair of Item types claims the same type code, every tenth pair claims one below the allowed minimum
+    private fun generate() = buildString {
+        append("<items>\n    <itemtypes>\n")
+        (0 until deployments).forEach {
+            val pair = it / 2
+            val typeCode = if (pair % 10 == 0) 1 + pair else HybrisConstants.TS_TYPECODE_MIN_ALLOWED + 100 + pair
+            append(
+                """
+                |        <itemtype code="BenchmarkItem$it" extends="GenericItem" autocreate="true" generate="true">
+                |            <deployment table="benchmarkitems$it" typecode="$typeCode"/>
+                |        </itemtype>
+                |""".trimMargin()
+            )
+        }
+        append("    </itemtypes>\n</items>\n")
+    }
+
+    companion object {
+        private const val TYPE_SYSTEM_TIMEOUT = 30_000L
+    }
+}
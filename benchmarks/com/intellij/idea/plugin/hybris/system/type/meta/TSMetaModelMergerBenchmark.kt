@@ -0,0 +1,55 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.system.type.meta
+
+import com.intellij.idea.plugin.hybris.benchmark.BenchmarkProjectFixture
+import com.intellij.idea.plugin.hybris.benchmark.SyntheticProjectSpec
+import com.intellij.idea.plugin.hybris.common.HybrisConstants
+import com.intellij.idea.plugin.hybris.system.type.model.Items
+import com.intellij.openapi.components.service
+import org.openjdk.jmh.annotations.*
+
+@State(Scope.Benchmark)
+class TSMetaModelMergerBenchmark {
+
+    @Param("10", "50")
+    var extensions: Int = 0
+
+    private lateinit var fixture: BenchmarkProjectFixture
+    private lateinit var localMetaModels: List<TSMetaModel>
+
+    @Setup(Level.Trial)
+    fun setUp() {
+        fixture = BenchmarkProjectFixture(SyntheticProjectSpec(extensions = extensions))
+
+        val processor = fixture.project.service<TSMetaModelProcessor>()
+        localMetaModels = fixture.readAction {
+            fixture.findRootElements(HybrisConstants.HYBRIS_ITEMS_XML_FILE_ENDING, Items::class.java)
+                .map { processor.process(it.extensionName, it.extensionName, it.fileName, true, it.dom) }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    fun tearDown() = fixture.dispose()
+
+    @Benchmark
+    fun merge(): TSGlobalMetaModel = fixture.readAction {
+        TSGlobalMetaModel().also { TSMetaModelMerger.merge(it, localMetaModels) }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.intellij.idea.plugin.hybris.system.type.meta
+
+import com.intellij.idea.plugin.hybris.benchmark.BenchmarkProjectFixture
+import com.intellij.idea.plugin.hybris.benchmark.SyntheticProjectSpec
+import com.intellij.idea.plugin.hybris.common.HybrisConstants
+import com.intellij.idea.plugin.hybris.system.type.meta.model.TSGlobalMetaItem
+import com.intellij.idea.plugin.hybris.system.type.meta.model.TSMetaRelation
+import com.intellij.idea.plugin.hybris.system.type.meta.model.TSMetaType
+import com.intellij.idea.plugin.hybris.system.type.model.Items
+import com.intellij.openapi.components.service
+import org.openjdk.jmh.annotations.*
+import org.openjdk.jmh.infra.Blackhole
+
+/**
+ * Relation lookups performed by the Type System inspections and the FlexibleSearch, ImpEx, ACL and Polyglot Query references:
+ * every qualifier of every Item type and a sample of the relation names are resolved once per invocation.
+ *
+ * `*Scan` benchmarks iterate over all relation ends, as it was done before the relation indexes of the [TSGlobalMetaModel].
+ */
+@State(Scope.Benchmark)
+class TSRelationLookupBenchmark {
+
+    @Param("5000")
+    var relations: Int = 0
+
+    private lateinit var fixture: BenchmarkProjectFixture
+    private lateinit var metaModel: TSGlobalMetaModel
+    private lateinit var qualifiers: List<Pair<TSGlobalMetaItem, String>>
+    private lateinit var relationNames: List<String>
+
+    @Setup(Level.Trial)
+    fun setUp() {
+        fixture = BenchmarkProjectFixture(SyntheticProjectSpec(extensions = EXTENSIONS, relationsPerExtension = relations / EXTENSIONS))
+
+        val processor = fixture.project.service<TSMetaModelProcessor>()
+        metaModel = fixture.readAction {
+            val localMetaModels = fixture.findRootElements(HybrisConstants.HYBRIS_ITEMS_XML_FILE_ENDING, Items::class.java)
+                .map { processor.process(it.extensionName, it.extensionName, it.fileName, true, it.dom) }
+            TSGlobalMetaModel().also { TSMetaModelMerger.merge(it, localMetaModels) }
+        }
+
+        qualifiers = metaModel.getMetaType<TSGlobalMetaItem>(TSMetaType.META_ITEM).values
+            .flatMap { meta -> meta.allRelationEnds.mapNotNull { it.qualifier }.map { meta to it } + (meta to "unknown") }
+        relationNames = metaModel.getMetaType<TSMetaRelation>(TSMetaType.META_RELATION).keys.take(RELATION_NAMES)
+    }
+
+    @TearDown(Level.Trial)
+    fun tearDown() = fixture.dispose()
+
+    @Benchmark
+    fun qualifierScan(blackhole: Blackhole) = qualifiers.forEach { (meta, qualifier) ->
+        blackhole.consume(meta.allRelationEnds.filter { qualifier.equals(it.name, true) })
+    }
+
+    @Benchmark
+    fun qualifierIndex(blackhole: Blackhole) = qualifiers.forEach { (meta, qualifier) ->
+        blackhole.consume((sequenceOf(meta) + meta.allExtends.asSequence()).flatMap { metaModel.getRelations(it.name, qualifier) }.toList())
+    }
+
+    @Benchmark
+    fun relationNameScan(blackhole: Blackhole) = relationNames.forEach { name ->
+        blackhole.consume(
+            metaModel.getAllRelations().values()
+                .map { it.owner }
+                .filter { name == it.name }
+        )
+    }
+
+    @Benchmark
+    fun relationNameIndex(blackhole: Blackhole) = relationNames.forEach { name ->
+        blackhole.consume(metaModel.getRelationsByName(name))
+    }
+
+    companion object {
+        private const val EXTENSIONS = 50
+        private const val RELATION_NAMES = 200
+    }
+}
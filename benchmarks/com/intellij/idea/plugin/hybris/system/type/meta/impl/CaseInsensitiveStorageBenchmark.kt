@@ -0,0 +1,163 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.system.type.meta.impl
+
+import com.intellij.idea.plugin.hybris.benchmark.BenchmarkProjectFixture
+import com.intellij.idea.plugin.hybris.benchmark.SyntheticProjectSpec
+import com.intellij.idea.plugin.hybris.common.HybrisConstants
+import com.intellij.idea.plugin.hybris.system.bean.meta.BSGlobalMetaModel
+import com.intellij.idea.plugin.hybris.system.bean.meta.BSMetaModelMerger
+import com.intellij.idea.plugin.hybris.system.bean.meta.BSMetaModelProcessor
+import com.intellij.idea.plugin.hybris.system.bean.meta.model.BSGlobalMetaClassifier
+import com.intellij.idea.plugin.hybris.system.bean.meta.model.BSMetaType
+import com.intellij.idea.plugin.hybris.system.bean.model.Beans
+import com.intellij.idea.plugin.hybris.system.cockpitng.meta.CngGlobalMetaModel
+import com.intellij.idea.plugin.hybris.system.cockpitng.meta.CngMetaModelAggregatedProcessor
+import com.intellij.idea.plugin.hybris.system.cockpitng.meta.CngMetaModelMerger
+import com.intellij.idea.plugin.hybris.system.cockpitng.meta.model.CngMetaConfig
+import com.intellij.idea.plugin.hybris.system.cockpitng.model.config.Config
+import com.intellij.idea.plugin.hybris.system.type.meta.TSGlobalMetaModel
+import com.intellij.idea.plugin.hybris.system.type.meta.TSMetaModelMerger
+import com.intellij.idea.plugin.hybris.system.type.meta.TSMetaModelProcessor
+import com.intellij.idea.plugin.hybris.system.type.model.Items
+import com.intellij.openapi.components.service
+import org.openjdk.jmh.annotations.*
+import java.lang.ref.Reference
+
+/**
+ * Heap retained by the Type, Bean and Cockpit NG global meta models of a synthetic project,
+ * built with the compact case-insensitive maps and with the concurrent hash maps used before them.
+ *
+ * Heap is measured after GC before and after the model is built, local meta models are only reachable through the global one.
+ * Results are reported as the `bytes` and `bytesPerClassifier` secondary metrics.
+ * Synthetic backoffice configs declare only contexts, which are not kept in case-insensitive maps, so the Cockpit NG model is the baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+class CaseInsensitiveStorageBenchmark {
+
+    @Param("50")
+    var extensions: Int = 0
+
+    @Param("TS", "BS", "CNG")
+    var system: String = ""
+
+    @Param("compact", "concurrent")
+    var storage: String = ""
+
+    private lateinit var fixture: BenchmarkProjectFixture
+    private lateinit var build: () -> Pair<Any, Int>
+
+    @Setup(Level.Trial)
+    fun setUp() {
+        fixture = BenchmarkProjectFixture(SyntheticProjectSpec(extensions = extensions))
+        CaseInsensitive.setCompactDisabled(storage == "concurrent")
+
+        build = when (system) {
+            "TS" -> typeSystem()
+            "BS" -> beanSystem()
+            else -> cockpitNg()
+        }
+    }
+
+    @TearDown(Level.Trial)
+    fun tearDown() {
+        CaseInsensitive.setCompactDisabled(false)
+        fixture.dispose()
+    }
+
+    @Benchmark
+    fun retainedHeap(retainedHeap: RetainedHeap) {
+        val before = usedHeapAfterGc()
+        val (model, classifiers) = fixture.readAction { build() }
+        val retained = usedHeapAfterGc() - before
+        Reference.reachabilityFence(model)
+
+        retainedHeap.bytes = retained
+        retainedHeap.bytesPerClassifier = retained / classifiers.coerceAtLeast(1)
+    }
+
+    private fun typeSystem(): () -> Pair<Any, Int> {
+        val processor = fixture.project.service<TSMetaModelProcessor>()
+        val roots = fixture.readAction { fixture.findRootElements(HybrisConstants.HYBRIS_ITEMS_XML_FILE_ENDING, Items::class.java) }
+
+        return {
+            val localMetaModels = roots.map { processor.process(it.extensionName, it.extensionName, it.fileName, true, it.dom) }
+            val globalMetaModel = TSGlobalMetaModel().also { TSMetaModelMerger.merge(it, localMetaModels) }
+
+            globalMetaModel to globalMetaModel.getMetaTypes().values.sumOf { it.size }
+        }
+    }
+
+    private fun beanSystem(): () -> Pair<Any, Int> {
+        val processor = fixture.project.service<BSMetaModelProcessor>()
+        val roots = fixture.readAction { fixture.findRootElements(HybrisConstants.HYBRIS_BEANS_XML_FILE_ENDING, Beans::class.java) }
+
+        return {
+            val localMetaModels = roots.map { processor.process(it.extensionName, it.extensionName, it.fileName, true, it.dom) }
+            val globalMetaModel = BSGlobalMetaModel().also { BSMetaModelMerger.merge(it, localMetaModels) }
+
+            globalMetaModel to BSMetaType.entries.sumOf { globalMetaModel.getMetaType<BSGlobalMetaClassifier<*>>(it).size }
+        }
+    }
+
+    private fun cockpitNg(): () -> Pair<Any, Int> {
+        val processor = fixture.project.service<CngMetaModelAggregatedProcessor>()
+        val roots = fixture.readAction { fixture.findRootElements("-backoffice-config.xml", Config::class.java) }
+
+        return {
+            val metas = roots.map { processor.process(it.extensionName, it.extensionName, it.fileName, true, it.dom) }
+            val globalMetaModel = CngGlobalMetaModel().also { CngMetaModelMerger.merge(it, metas) }
+
+            val contexts = metas.filterIsInstance<CngMetaConfig>().sumOf { it.contexts.size }
+            globalMetaModel to with(globalMetaModel) {
+                contexts + actionDefinitions.size + widgetDefinitions.size + editorDefinitions.size + widgets.size
+            }
+        }
+    }
+
+    private fun usedHeapAfterGc(): Long {
+        val runtime = Runtime.getRuntime()
+        repeat(GC_RUNS) { System.gc() }
+        return runtime.totalMemory() - runtime.freeMemory()
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    class RetainedHeap {
+
+        @JvmField
+        var bytes: Long = 0
+
+        @JvmField
+        var bytesPerClassifier: Long = 0
+
+        @Setup(Level.Iteration)
+        fun reset() {
+            bytes = 0
+            bytesPerClassifier = 0
+        }
+    }
+
+    companion object {
+        private const val GC_RUNS = 3
+    }
+}
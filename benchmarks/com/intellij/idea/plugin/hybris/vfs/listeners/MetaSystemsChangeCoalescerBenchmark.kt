@@ -0,0 +1,95 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.vfs.listeners
+
+import com.intellij.idea.plugin.hybris.vfs.listeners.MetaSystemsChangeDispatcher.MetaSystem
+import org.openjdk.jmh.annotations.*
+import java.util.concurrent.ScheduledThreadPoolExecutor
+import kotlin.random.Random
+
+/**
+ * Replays VFS events of a `git checkout`, delivered in batches of different size, into the coalescer:
+ * resolution of the affected meta systems and accumulation of the changes until the quiet window ends.
+ */
+@State(Scope.Benchmark)
+class MetaSystemsChangeCoalescerBenchmark {
+
+    @Param("5000")
+    var events: Int = 0
+
+    private lateinit var batches: List<List<String>>
+    private lateinit var executor: ScheduledThreadPoolExecutor
+
+    @Setup(Level.Trial)
+    fun setUp() {
+        val random = Random(SEED)
+        val checkoutEvents = (0 until events).map { index ->
+            val extension = "$ROOT/custom/extension${random.nextInt(EXTENSIONS)}"
+            when (random.nextInt(100)) {
+                0, 1 -> "$extension/resources/${extension.substringAfterLast('/')}-items.xml"
+                2, 3 -> "$extension/resources/${extension.substringAfterLast('/')}-beans.xml"
+                4 -> TRACKED_CNG_MODELS.random(random)
+                in 5..20 -> "$extension/resources/localization/${extension.substringAfterLast('/')}-locales_en.properties"
+                else -> "$extension/src/com/company/Class$index.java"
+            }
+        }
+
+        batches = buildList {
+            var index = 0
+            while (index < checkoutEvents.size) {
+                val batch = checkoutEvents.subList(index, minOf(checkoutEvents.size, index + random.nextInt(1, MAX_BATCH_SIZE)))
+                index += batch.size
+                add(batch)
+            }
+        }
+        // cancelled flushes of the previous batches must not pile up in the queue
+        executor = ScheduledThreadPoolExecutor(1).also { it.removeOnCancelPolicy = true }
+    }
+
+    @TearDown(Level.Trial)
+    fun tearDown() {
+        executor.shutdownNow()
+    }
+
+    @Benchmark
+    fun replay() {
+        // quiet window never ends during the replay, so only the accumulation is measured
+        val coalescer = MetaSystemsChangeCoalescer<MetaSystem>({ QUIET_WINDOW }, executor) { _, _ -> }
+
+        batches.forEach { batch ->
+            batch
+                .mapNotNull { MetaSystemsAsyncFileListener.getChange(it.substringAfterLast('/'), it) { TRACKED_CNG_MODELS } }
+                .groupBy({ it.first }, { it.second })
+                .let { coalescer.submit(it) }
+        }
+
+        coalescer.cancel()
+    }
+
+    companion object {
+        private const val SEED = 42
+        private const val EXTENSIONS = 150
+        private const val MAX_BATCH_SIZE = 200
+        private const val QUIET_WINDOW = 60_000L
+        private const val ROOT = "/home/user/hybris/bin"
+        private val TRACKED_CNG_MODELS = (0 until 10)
+            .map { "$ROOT/custom/extension$it/resources/extension$it-backoffice-config.xml" }
+            .toSet()
+    }
+}
@@ -19,6 +19,7 @@ import org.gradle.internal.os.OperatingSystem
 import org.jetbrains.changelog.Changelog
 import org.jetbrains.changelog.markdownToHTML
 import org.jetbrains.intellij.platform.gradle.IntelliJPlatformType
+import org.jetbrains.intellij.platform.gradle.TestFrameworkType
 import org.jetbrains.intellij.platform.gradle.models.ProductRelease
 import org.jetbrains.intellij.platform.gradle.tasks.RunIdeTask
 import org.openapitools.generator.gradle.plugin.tasks.GenerateTask
@@ -33,6 +34,8 @@ plugins {
     alias(libs.plugins.gradleIntelliJPlugin) // Gradle IntelliJ Plugin
     alias(libs.plugins.changelog) // Gradle IntelliJ Plugin
     alias(libs.plugins.openAPIGenerator) // openapi Generator
+    alias(libs.plugins.kotlinAllOpen) // JMH requires non-final State classes
+    alias(libs.plugins.kotlinxBenchmark) // JMH benchmarks
 }
 
 repositories {
@@ -66,6 +69,44 @@ sourceSets {
     test {
         java.srcDirs("tests")
     }
+    create("benchmarks") {
+        java.srcDirs("benchmarks")
+        compileClasspath += main.get().output + test.get().compileClasspath
+        runtimeClasspath += main.get().output + test.get().runtimeClasspath
+    }
+    // runs inside the SAP Commerce JVM, so it is compiled for its Java version and shipped apart from the plugin jar
+    create("warmPlatformDaemon") {
+        java.srcDirs("warmPlatformDaemon")
+    }
+}
+
+kotlin {
+    // benchmarks may access internal declarations of the plugin
+    target.compilations.getByName("benchmarks")
+        .associateWith(target.compilations.getByName("main"))
+}
+
+allOpen {
+    annotation("org.openjdk.jmh.annotations.State")
+}
+
+// JMH benchmarks, results are exported as JSON into build/reports/benchmarks/main/<timestamp>/benchmarks.json
+// Run: ./gradlew benchmarksBenchmark
+benchmark {
+    targets {
+        register("benchmarks")
+    }
+    configurations {
+        named("main") {
+            warmups = 3
+            iterations = 5
+            iterationTime = 2
+            iterationTimeUnit = "s"
+            mode = "avgt"
+            outputTimeUnit = "ms"
+            reportFormat = "json"
+        }
+    }
 }
 
 idea {
@@ -245,6 +286,41 @@ tasks {
         dependsOn(ccv2OpenApiTasks)
     }
 
+    named<JavaCompile>("compileWarmPlatformDaemonJava") {
+        options.release = 17
+    }
+
+    val warmPlatformDaemonJar by registering(Jar::class) {
+        archiveFileName = "warm-platform-daemon.jar"
+        from(sourceSets["warmPlatformDaemon"].output)
+    }
+
+    // not in the `lib` folder, the daemon must not be loaded by the plugin class loader
+    prepareSandbox {
+        from(warmPlatformDaemonJar) {
+            into(pluginName.map { "$it/daemon" })
+        }
+    }
+
+    // benchmarks run on top of the headless test application, so they need the same sandbox as tests
+    named<JavaExec>("benchmarksBenchmark") {
+        dependsOn(prepareTestSandbox)
+        jvmArgumentProviders.addAll(test.get().jvmArgumentProviders)
+        maxHeapSize = properties("intellij.maxHeapSize").get()
+    }
+
+    register<JavaExec>("grammarBenchmark") {
+        group = "benchmark"
+        description = "Measures throughput of the custom languages lexers and parsers."
+        classpath = sourceSets["benchmarks"].runtimeClasspath
+        mainClass = "com.intellij.idea.plugin.hybris.benchmark.GrammarThroughputHarness"
+        args(layout.buildDirectory.file("reports/benchmarks/grammar.json").get().asFile.path)
+
+        dependsOn(prepareTestSandbox)
+        jvmArgumentProviders.addAll(test.get().jvmArgumentProviders)
+        maxHeapSize = properties("intellij.maxHeapSize").get()
+    }
+
     printProductsReleases {
         channels = listOf(ProductRelease.Channel.EAP)
         types = listOf(IntelliJPlatformType.IntellijIdeaCommunity)
@@ -301,6 +377,8 @@ dependencies {
     implementation(libs.bundles.commons)
     implementation(libs.bundles.jaxb)
     implementation(libs.jsr305)
+    // only the protocol constants are used by the plugin, they are inlined by the compiler
+    compileOnly(sourceSets["warmPlatformDaemon"].output)
     implementation(libs.jsoup)
     implementation(libs.dtdparser)
     implementation(libs.maven.model)
@@ -311,12 +389,15 @@ dependencies {
         exclude("org.apache.httpcomponents", "httpmime")
     }
     testImplementation(kotlin("test"))
+    testImplementation(libs.hsqldb)
     testRuntimeOnly("junit:junit:4.13.2")
+    "benchmarksImplementation"(libs.kotlinx.benchmark.runtime)
 
     intellijPlatform {
         intellijIdeaUltimate(properties("intellij.version"), useInstaller = false)
 
         pluginVerifier()
+        testFramework(TestFrameworkType.Platform)
 
         bundledModules(
             "intellij.grid.impl"
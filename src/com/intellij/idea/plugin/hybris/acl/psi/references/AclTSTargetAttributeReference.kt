@@ -87,7 +87,7 @@ open class AclTSTargetAttributeReference : TSReferenceBase<PsiElement>, Highligh
                             ?.let { it.allAttributes[featureName] }
                             ?.let { attr -> AttributeResolveResult(attr) }
 
-                        is TSGlobalMetaItem -> resolve(meta, featureName)
+                        is TSGlobalMetaItem -> resolve(metaModelAccess, meta, featureName)
 
                         is TSGlobalMetaRelation -> {
                             if (HybrisConstants.ATTRIBUTE_SOURCE.equals(featureName, ignoreCase = true)) {
@@ -96,7 +96,7 @@ open class AclTSTargetAttributeReference : TSReferenceBase<PsiElement>, Highligh
                                 RelationEndResolveResult(meta.target)
                             } else {
                                 metaModelAccess.findMetaItemByName(HybrisConstants.TS_TYPE_LINK)
-                                    ?.let { resolve(it, featureName) }
+                                    ?.let { resolve(metaModelAccess, it, featureName) }
                             }
                         }
 
@@ -113,12 +113,12 @@ open class AclTSTargetAttributeReference : TSReferenceBase<PsiElement>, Highligh
             )
         }
 
-        private fun resolve(meta: TSGlobalMetaItem, featureName: String) = meta.allAttributes[featureName]
+        private fun resolve(metaModelAccess: TSMetaModelAccess, meta: TSGlobalMetaItem, featureName: String) = meta.allAttributes[featureName]
             ?.let { attr -> AttributeResolveResult(attr) }
             ?: meta.allOrderingAttributes[featureName]
                 ?.let { attr -> OrderingAttributeResolveResult(attr) }
-            ?: meta.allRelationEnds
-                .find { relationEnd -> relationEnd.name.equals(featureName, true) }
+            ?: metaModelAccess.findRelationEndsByQualifier(meta, featureName)
+                .firstOrNull()
                 ?.let { relationEnd -> RelationEndResolveResult(relationEnd) }
 
     }
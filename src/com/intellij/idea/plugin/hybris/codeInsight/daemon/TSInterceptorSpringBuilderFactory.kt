@@ -19,21 +19,20 @@
 package com.intellij.idea.plugin.hybris.codeInsight.daemon
 
 import com.intellij.codeInsight.navigation.DomGotoRelatedItem
-import com.intellij.idea.plugin.hybris.common.HybrisConstants
 import com.intellij.idea.plugin.hybris.common.utils.HybrisI18NBundleUtils.message
 import com.intellij.idea.plugin.hybris.common.utils.HybrisIcons
-import com.intellij.idea.plugin.hybris.spring.SpringHelper
+import com.intellij.idea.plugin.hybris.system.spring.SpringTypeCodeRegistry
 import com.intellij.navigation.GotoRelatedItem
 import com.intellij.openapi.project.Project
-import com.intellij.psi.JavaPsiFacade
+import com.intellij.openapi.util.NotNullLazyValue
 import com.intellij.psi.PsiElement
-import com.intellij.psi.search.GlobalSearchScope
 import com.intellij.spring.SpringBundle
 import com.intellij.spring.gutter.SpringBeansPsiElementCellRenderer
 import com.intellij.spring.gutter.groups.SpringGutterIconBuilder
 import com.intellij.spring.model.SpringBeanPointer
 import com.intellij.spring.model.xml.DomSpringBean
 import com.intellij.util.NotNullFunction
+import com.intellij.util.xml.DomManager
 
 /**
  * Initial idea taken from SpringBeanAnnotator
@@ -69,17 +68,13 @@ object TSInterceptorSpringBuilderFactory {
     }
 
     fun createGutterBuilder(project: Project, typeCode: String): SpringGutterIconBuilder<SpringBeanPointer<*>>? {
-        val clazz = JavaPsiFacade.getInstance(project)
-            .findClass(HybrisConstants.CLASS_FQN_INTERCEPTOR_MAPPING, GlobalSearchScope.allScope(project))
-            ?: return null
-
         val builder = SpringGutterIconBuilder.createBuilder(
             HybrisIcons.TypeSystem.INTERCEPTOR,
             converter,
             gotoRelatedItemProvider
         )
         builder
-            .setTargets(SpringHelper.resolveInterceptorBeansLazy(clazz, typeCode))
+            .setTargets(resolveInterceptorBeansLazy(project, typeCode))
             .setEmptyPopupText(message("hybris.editor.gutter.ts.interceptor.no.matches"))
             .setPopupTitle(message("hybris.editor.gutter.ts.interceptor.choose.title"))
             .setTooltipText(message("hybris.editor.gutter.ts.interceptor.tooltip.text"))
@@ -88,4 +83,20 @@ object TSInterceptorSpringBuilderFactory {
         return builder
     }
 
+    private fun resolveInterceptorBeansLazy(
+        project: Project,
+        typeCode: String
+    ): NotNullLazyValue<MutableCollection<out SpringBeanPointer<*>>> = NotNullLazyValue.lazy {
+        val domManager = DomManager.getDomManager(project)
+        val registry = SpringTypeCodeRegistry.getInstance(project)
+
+        registry.getInterceptorMappings(typeCode)
+            .mapNotNull { registry.findInterceptorTag(it) }
+            .mapNotNull { domManager.getDomElement(it) as? DomSpringBean }
+            .map { SpringBeanPointer.createSpringBeanPointer(it) }
+            .distinct()
+            .sortedWith(SpringBeanPointer.DISPLAY_COMPARATOR)
+            .toMutableList()
+    }
+
 }
\ No newline at end of file
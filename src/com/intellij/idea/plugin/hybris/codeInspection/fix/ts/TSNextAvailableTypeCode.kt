@@ -0,0 +1,46 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.codeInspection.fix.ts
+
+import com.intellij.idea.plugin.hybris.common.utils.HybrisI18NBundleUtils.message
+import com.intellij.idea.plugin.hybris.notifications.Notifications
+import com.intellij.idea.plugin.hybris.system.type.meta.TSMetaModelAccess
+import com.intellij.notification.NotificationType
+import com.intellij.openapi.progress.ProcessCanceledException
+import com.intellij.openapi.project.Project
+
+internal object TSNextAvailableTypeCode {
+
+    /**
+     * Type System is not available while it is dirty or being re-built, e.g. right after the edit of the `items.xml`,
+     * in such case the fix is not applied and the user is notified instead of failing the write command.
+     */
+    fun resolve(project: Project): Int? = try {
+        TSMetaModelAccess.getInstance(project).getNextAvailableTypeCode()
+    } catch (_: ProcessCanceledException) {
+        Notifications.create(
+            NotificationType.WARNING,
+            message("hybris.inspections.fix.ts.typeCode.notReady.title"),
+            message("hybris.inspections.fix.ts.typeCode.notReady.text")
+        )
+            .hideAfter(5)
+            .notify(project)
+        null
+    }
+}
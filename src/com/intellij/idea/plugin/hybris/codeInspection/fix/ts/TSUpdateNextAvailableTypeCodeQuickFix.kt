@@ -0,0 +1,40 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.intellij.idea.plugin.hybris.codeInspection.fix.ts
+
+import com.intellij.codeInspection.LocalQuickFix
+import com.intellij.codeInspection.ProblemDescriptor
+import com.intellij.idea.plugin.hybris.codeInspection.fix.xml.XmlUpdateAttributeQuickFix
+import com.intellij.idea.plugin.hybris.common.utils.HybrisI18NBundleUtils.message
+import com.intellij.idea.plugin.hybris.system.type.model.Deployment
+import com.intellij.openapi.project.Project
+
+/**
+ * Next available type code is resolved only when the fix is applied, not on each highlighting pass.
+ */
+class TSUpdateNextAvailableTypeCodeQuickFix : LocalQuickFix {
+
+    override fun getFamilyName() = message("hybris.inspections.fix.ts.UpdateNextAvailableTypeCode", Deployment.TYPE_CODE)
+
+    override fun applyFix(project: Project, descriptor: ProblemDescriptor) {
+        val typeCode = TSNextAvailableTypeCode.resolve(project) ?: return
+
+        XmlUpdateAttributeQuickFix(Deployment.TYPE_CODE, typeCode.toString())
+            .applyFix(project, descriptor)
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.intellij.idea.plugin.hybris.codeInspection.rule.businessProcess
+
+import com.intellij.codeHighlighting.HighlightDisplayLevel
+import com.intellij.codeInspection.InspectionManager
+import com.intellij.codeInspection.LocalInspectionTool
+import com.intellij.codeInspection.ProblemDescriptor
+import com.intellij.codeInspection.ProblemHighlightType
+import com.intellij.idea.plugin.hybris.common.utils.HybrisI18NBundleUtils.message
+import com.intellij.idea.plugin.hybris.settings.components.ProjectSettingsComponent
+import com.intellij.idea.plugin.hybris.spring.SpringHelper
+import com.intellij.idea.plugin.hybris.system.businessProcess.analysis.BpProcessAnalyzer
+import com.intellij.idea.plugin.hybris.system.businessProcess.analysis.BpProcessEventTriggers
+import com.intellij.idea.plugin.hybris.system.businessProcess.analysis.BpProcessProblem
+import com.intellij.idea.plugin.hybris.system.businessProcess.indexing.BpProcessIndex
+import com.intellij.idea.plugin.hybris.system.businessProcess.model.NavigableElement
+import com.intellij.idea.plugin.hybris.system.spring.SpringTypeCodeRegistry
+import com.intellij.psi.PsiElement
+import com.intellij.psi.PsiFile
+import com.intellij.psi.util.PsiTreeUtil
+import com.intellij.psi.xml.XmlAttribute
+import com.intellij.psi.xml.XmlFile
+import com.intellij.psi.xml.XmlTag
+
+/**
+ * Reports problems of the business process graph, see [BpProcessAnalyzer].
+ *
+ * Graph is taken from the [BpProcessIndex], so DOM of the process is not built on each highlighting pass.
+ */
+class BpProcessDefinitionInspection : LocalInspectionTool() {
+
+    override fun getDefaultLevel(): HighlightDisplayLevel = HighlightDisplayLevel.WARNING
+
+    override fun checkFile(file: PsiFile, manager: InspectionManager, isOnTheFly: Boolean): Array<ProblemDescriptor>? {
+        if (file !is XmlFile) return null
+        val rootTag = file.rootTag ?: return null
+        val project = file.project
+        if (!ProjectSettingsComponent.getInstance(project).isHybrisProject()) return null
+
+        val definition = BpProcessIndex.getDefinition(file) ?: return null
+        val eventTriggers = BpProcessEventTriggers.getInstance(project)
+        val springRegistry = SpringTypeCodeRegistry.getInstance(project)
+
+        val problems = BpProcessAnalyzer.analyze(
+            definition,
+            { eventTriggers.isTriggered(it) },
+            { SpringHelper.isBeanDefined(file, it) ?: springRegistry.isBeanDefined(it) }
+        )
+        if (problems.isEmpty()) return null
+
+        val nodeTags = rootTag.subTags
+            .filter { it.getAttributeValue(NavigableElement.ID) != null }
+            .associateBy { it.getAttributeValue(NavigableElement.ID)!! }
+
+        return problems
+            .mapNotNull { problem ->
+                val element = findElement(rootTag, nodeTags, problem) ?: return@mapNotNull null
+                val highlightType = if (problem.kind == BpProcessProblem.Kind.UNREACHABLE_NODE) ProblemHighlightType.LIKE_UNUSED_SYMBOL
+                else ProblemHighlightType.GENERIC_ERROR_OR_WARNING
+
+                manager.createProblemDescriptor(
+                    element,
+                    message("hybris.inspections.bp.BpProcessDefinitionInspection.key", problem.message),
+                    isOnTheFly,
+                    emptyArray(),
+                    highlightType
+                )
+            }
+            .toTypedArray()
+    }
+
+    private fun findElement(rootTag: XmlTag, nodeTags: Map<String, XmlTag>, problem: BpProcessProblem): PsiElement? {
+        val tag = problem.nodeId
+            ?.let { nodeTags[it] }
+            ?: rootTag
+
+        return when (problem.kind) {
+            BpProcessProblem.Kind.UNREACHABLE_NODE -> tag.getAttribute(NavigableElement.ID)?.valueElement
+
+            BpProcessProblem.Kind.UNTRIGGERED_EVENT -> PsiTreeUtil.findChildrenOfType(tag, XmlTag::class.java)
+                .firstOrNull { it.localName == TAG_EVENT && it.value.trimmedText == problem.value }
+                ?.value?.textElements?.firstOrNull()
+                ?: findAttributeValue(tag, problem.value)
+
+            else -> findAttributeValue(tag, problem.value)
+        }
+            ?: tag
+    }
+
+    private fun findAttributeValue(tag: XmlTag, value: String) = PsiTreeUtil.findChildrenOfType(tag, XmlAttribute::class.java)
+        .firstOrNull { it.value?.trim() == value }
+        ?.valueElement
+
+    companion object {
+        private const val TAG_EVENT = "event"
+    }
+}
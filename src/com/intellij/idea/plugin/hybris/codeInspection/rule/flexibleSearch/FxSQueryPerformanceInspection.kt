@@ -0,0 +1,55 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.codeInspection.rule.flexibleSearch
+
+import com.intellij.codeHighlighting.HighlightDisplayLevel
+import com.intellij.codeInspection.LocalInspectionTool
+import com.intellij.codeInspection.ProblemsHolder
+import com.intellij.idea.plugin.hybris.common.utils.HybrisI18NBundleUtils.message
+import com.intellij.idea.plugin.hybris.flexibleSearch.analysis.FxSQueryPerformanceAnalyzer
+import com.intellij.idea.plugin.hybris.flexibleSearch.psi.FlexibleSearchSelectStatement
+import com.intellij.idea.plugin.hybris.flexibleSearch.psi.FlexibleSearchVisitor
+import com.intellij.idea.plugin.hybris.flexibleSearch.sql.FxSExplainer
+import com.intellij.idea.plugin.hybris.settings.components.ProjectSettingsComponent
+import com.intellij.psi.PsiElementVisitor
+import com.intellij.psi.PsiFile
+
+class FxSQueryPerformanceInspection : LocalInspectionTool() {
+
+    override fun getDefaultLevel(): HighlightDisplayLevel = HighlightDisplayLevel.WEAK_WARNING
+    override fun buildVisitor(holder: ProblemsHolder, isOnTheFly: Boolean): PsiElementVisitor = object : FlexibleSearchVisitor() {
+
+        override fun visitSelectStatement(o: FlexibleSearchSelectStatement) {
+            // whole query is analyzed at once, nested statements are part of the top-most one
+            if (o.parent !is PsiFile) return
+            if (!ProjectSettingsComponent.getInstance(o.project).isHybrisProject()) return
+
+            val report = FxSQueryPerformanceAnalyzer.analyze(o.containingFile)
+            // results of the last `EXPLAIN` against the local database, if any
+            val explainFindings = FxSExplainer.getFindings(o.containingFile)
+
+            (report.findings + explainFindings).forEach {
+                holder.registerProblem(
+                    it.element,
+                    message("hybris.inspections.fxs.FxSQueryPerformance.key", it.message, report.cost)
+                )
+            }
+        }
+    }
+}
@@ -18,8 +18,8 @@
 
 package com.intellij.idea.plugin.hybris.codeInspection.rule.typeSystem
 
-import com.intellij.idea.plugin.hybris.codeInspection.fix.xml.XmlUpdateAttributeQuickFix
-import com.intellij.idea.plugin.hybris.system.type.meta.TSMetaModelAccess
+import com.intellij.codeInspection.LocalQuickFix
+import com.intellij.idea.plugin.hybris.codeInspection.fix.ts.TSUpdateNextAvailableTypeCodeQuickFix
 import com.intellij.idea.plugin.hybris.system.type.meta.TSMetaModelStateService
 import com.intellij.idea.plugin.hybris.system.type.meta.model.TSMetaDeployment
 import com.intellij.idea.plugin.hybris.system.type.model.Deployment
@@ -34,8 +34,10 @@ import com.intellij.util.xml.highlighting.DomHighlightingHelper
 abstract class AbstractTSDeploymentTypeCodeInspection : AbstractCustomOnlyTSInspection() {
 
     protected open fun applicable(project: Project, dom: Deployment): Boolean = true
-    protected open fun applicable(project: Project, dom: Deployment, deployment: TSMetaDeployment): Boolean = true
+    protected open fun applicable(project: Project, dom: Deployment, claimants: List<TSMetaDeployment>): Boolean = true
     protected open fun customMessage(project: Project, dom: Deployment): String? = null
+    protected open fun customMessage(project: Project, dom: Deployment, claimants: List<TSMetaDeployment>): String? = customMessage(project, dom)
+    protected open fun additionalFixes(project: Project, dom: Deployment, claimants: List<TSMetaDeployment>): List<LocalQuickFix> = emptyList()
 
     override fun inspect(
         project: Project,
@@ -55,25 +57,17 @@ abstract class AbstractTSDeploymentTypeCodeInspection : AbstractCustomOnlyTSInsp
     ) {
         if (!applicable(project, dom)) return
 
-        val deployment = project.service<TSMetaModelStateService>().get()
-            .getDeploymentForTypeCode(dom.typeCode.stringValue)
-        deployment ?: return
+        val claimants = project.service<TSMetaModelStateService>().get()
+            .getTypeCodeRegistry()
+            .getClaimants(dom.typeCode.stringValue)
+            .takeIf { it.isNotEmpty() }
+            ?: return
 
-        if (!applicable(project, dom, deployment)) return
+        if (!applicable(project, dom, claimants)) return
 
-        val fix = TSMetaModelAccess.getInstance(project).getNextAvailableTypeCode()
-            ?.toString()
-            ?.let {
-                XmlUpdateAttributeQuickFix(
-                    Deployment.TYPE_CODE,
-                    it
-                )
-            }
-        val message = customMessage(project, dom) ?: displayName
-        if (fix == null) {
-            holder.createProblem(dom.typeCode, severity, message)
-        } else {
-            holder.createProblem(dom.typeCode, severity, message, fix)
-        }
+        val message = customMessage(project, dom, claimants) ?: displayName
+        val fixes = listOf<LocalQuickFix>(TSUpdateNextAvailableTypeCodeQuickFix()) + additionalFixes(project, dom, claimants)
+
+        holder.createProblem(dom.typeCode, severity, message, *fixes.toTypedArray())
     }
 }
\ No newline at end of file
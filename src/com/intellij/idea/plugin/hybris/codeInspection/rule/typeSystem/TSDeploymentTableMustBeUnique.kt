@@ -49,17 +49,26 @@ class TSDeploymentTableMustBeUnique : AbstractTSInspection() {
         holder: DomElementAnnotationHolder,
         severity: HighlightSeverity
     ) {
-        val deployment = project.service<TSMetaModelStateService>().get().getDeploymentForTable(dom.table.value)
-        deployment ?: return
+        val typeCode = dom.typeCode.stringValue
+        val conflicts = project.service<TSMetaModelStateService>().get()
+            .getTypeCodeRegistry()
+            .getTableClaimants(dom.table.value)
+            .filterNot { StringUtils.equals(typeCode, it.typeCode) }
+            .takeIf { it.isNotEmpty() }
+            ?: return
 
-        if (StringUtils.equals(dom.typeCode.stringValue, deployment.typeCode)) return
+        val message = if (typeCode == null) displayName
+        else HybrisI18NBundleUtils.message(
+            "hybris.inspections.ts.DeploymentTableMustBeUnique.claimants.key",
+            dom.table.stringValue ?: "",
+            conflicts.joinToString(", ") { "'${it.typeCode}' [${it.extensionName}]" }
+        )
 
         holder.createProblem(
             dom.table,
             severity,
-            dom.typeCode.stringValue?.let { HybrisI18NBundleUtils.message("hybris.inspections.ts.DeploymentTableMustBeUnique.details.key", it) }
-                ?: displayName,
-            PsiNavigateToDomFix(deployment.domAnchor)
+            message,
+            PsiNavigateToDomFix(conflicts.first().domAnchor)
         )
     }
 }
\ No newline at end of file
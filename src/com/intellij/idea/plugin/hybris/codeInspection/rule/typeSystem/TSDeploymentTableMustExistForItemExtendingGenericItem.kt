@@ -18,11 +18,9 @@
 
 package com.intellij.idea.plugin.hybris.codeInspection.rule.typeSystem
 
-import com.intellij.idea.plugin.hybris.codeInspection.fix.xml.XmlAddTagQuickFix
+import com.intellij.idea.plugin.hybris.codeInspection.fix.ts.TSAddDeploymentQuickFix
 import com.intellij.idea.plugin.hybris.common.HybrisConstants
-import com.intellij.idea.plugin.hybris.system.type.meta.TSMetaModelAccess
 import com.intellij.idea.plugin.hybris.system.type.meta.TSMetaModelStateService
-import com.intellij.idea.plugin.hybris.system.type.model.Deployment
 import com.intellij.idea.plugin.hybris.system.type.model.ItemType
 import com.intellij.idea.plugin.hybris.system.type.model.Items
 import com.intellij.idea.plugin.hybris.system.type.model.all
@@ -79,28 +77,6 @@ class TSDeploymentTableMustExistForItemExtendingGenericItem : AbstractTSInspecti
 
         if (countDeploymentTablesInParents > 0) return
 
-        val fix = getOptionalFix(project, itemTypeCode)
-
-        if (fix == null) {
-            holder.createProblem(dom, severity, displayName, getTextRange(dom))
-        } else {
-            holder.createProblem(dom, severity, displayName, getTextRange(dom), fix)
-        }
+        holder.createProblem(dom, severity, displayName, getTextRange(dom), TSAddDeploymentQuickFix(itemTypeCode))
     }
-
-    private fun getOptionalFix(project: Project, itemTypeCode: String) = TSMetaModelAccess.getInstance(project).getNextAvailableTypeCode()
-        ?.toString()
-        ?.let {
-            sortedMapOf(
-                Deployment.TABLE to itemTypeCode,
-                Deployment.TYPE_CODE to it,
-            )
-        }
-        ?.let {
-            XmlAddTagQuickFix(
-                tagName = ItemType.DEPLOYMENT,
-                insertAfterTag = ItemType.DESCRIPTION,
-                attributes = it
-            )
-        }
-}
\ No newline at end of file
+}
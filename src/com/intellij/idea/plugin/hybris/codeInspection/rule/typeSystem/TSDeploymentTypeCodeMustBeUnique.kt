@@ -18,13 +18,26 @@
 
 package com.intellij.idea.plugin.hybris.codeInspection.rule.typeSystem
 
+import com.intellij.idea.plugin.hybris.codeInspection.fix.PsiNavigateToDomFix
+import com.intellij.idea.plugin.hybris.common.utils.HybrisI18NBundleUtils
 import com.intellij.idea.plugin.hybris.system.type.meta.model.TSMetaDeployment
 import com.intellij.idea.plugin.hybris.system.type.model.Deployment
 import com.intellij.openapi.project.Project
-import org.apache.commons.lang3.StringUtils
 
 class TSDeploymentTypeCodeMustBeUnique : AbstractTSDeploymentTypeCodeInspection() {
 
-    override fun applicable(project: Project, dom: Deployment, deployment: TSMetaDeployment) = !StringUtils
-        .equals(dom.table.stringValue, deployment.table)
-}
\ No newline at end of file
+    override fun applicable(project: Project, dom: Deployment, claimants: List<TSMetaDeployment>) = conflicts(dom, claimants).isNotEmpty()
+
+    override fun customMessage(project: Project, dom: Deployment, claimants: List<TSMetaDeployment>) = HybrisI18NBundleUtils.message(
+        "hybris.inspections.ts.DeploymentTypeCodeMustBeUnique.claimants.key",
+        dom.typeCode.stringValue ?: "",
+        conflicts(dom, claimants).joinToString(", ") { "'${it.table}' [${it.extensionName}]" }
+    )
+
+    override fun additionalFixes(project: Project, dom: Deployment, claimants: List<TSMetaDeployment>) = conflicts(dom, claimants)
+        .take(1)
+        .map { PsiNavigateToDomFix(it.domAnchor) }
+
+    private fun conflicts(dom: Deployment, claimants: List<TSMetaDeployment>) = claimants
+        .filterNot { it.table.equals(dom.table.stringValue, true) }
+}
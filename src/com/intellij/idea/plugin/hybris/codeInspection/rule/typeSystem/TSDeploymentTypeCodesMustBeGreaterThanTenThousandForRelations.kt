@@ -17,9 +17,8 @@
  */
 package com.intellij.idea.plugin.hybris.codeInspection.rule.typeSystem
 
+import com.intellij.idea.plugin.hybris.codeInspection.fix.ts.TSUpdateNextAvailableTypeCodeQuickFix
 import com.intellij.idea.plugin.hybris.common.HybrisConstants
-import com.intellij.idea.plugin.hybris.codeInspection.fix.xml.XmlUpdateAttributeQuickFix
-import com.intellij.idea.plugin.hybris.system.type.meta.TSMetaModelAccess
 import com.intellij.idea.plugin.hybris.system.type.model.Deployment
 import com.intellij.idea.plugin.hybris.system.type.model.Items
 import com.intellij.lang.annotation.HighlightSeverity
@@ -52,10 +51,7 @@ class TSDeploymentTypeCodesMustBeGreaterThanTenThousandForRelations : AbstractCu
                 dom.typeCode,
                 severity,
                 displayName,
-                XmlUpdateAttributeQuickFix(
-                    Deployment.TYPE_CODE,
-                    TSMetaModelAccess.getInstance(project).getNextAvailableTypeCode().toString()
-                )
+                TSUpdateNextAvailableTypeCodeQuickFix()
             )
         }
     }
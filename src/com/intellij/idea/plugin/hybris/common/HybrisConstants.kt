@@ -171,6 +171,7 @@ object HybrisConstants {
     const val PLATFORM_TOMCAT_6_DIRECTORY = "tomcat-6"
     const val PLATFORM_TOMCAT_DIRECTORY = "tomcat"
     const val PLATFORM_LIBRARY_GROUP = "Platform Bootstrap"
+    const val SHARED_LIBRARY_PREFIX = "Shared: "
     const val PLATFORM_DATABASE_DRIVER_LIBRARY = "Database Drivers"
 
     const val TOMCAT_WRAPPER_CONFIG_DIR = "conf"
@@ -310,6 +311,13 @@ object HybrisConstants {
     val TS_TYPECODE_RANGE_XPRINT = 24400..24599
     val TS_TYPECODE_RANGE_PRINT = 23400..23999
     val TS_TYPECODE_RANGE_PROCESSING = 32700..32799
+    val TS_TYPECODE_RESERVED_RANGES = listOf(
+        TS_TYPECODE_RANGE_B2BCOMMERCE,
+        TS_TYPECODE_RANGE_COMMONS,
+        TS_TYPECODE_RANGE_XPRINT,
+        TS_TYPECODE_RANGE_PRINT,
+        TS_TYPECODE_RANGE_PROCESSING,
+    )
 
     val BP_NAVIGABLE_ELEMENTS = setOf("action", "end", "wait", "join", "notify", "split", "scriptAction", "choice")
 
@@ -390,6 +398,7 @@ object HybrisConstants {
     const val URL_HELP_GENERATING_API_TOKENS = "https://help.sap.com/docs/SAP_COMMERCE_CLOUD_PUBLIC_CLOUD/0fa6bcf4736c46f78c248512391eb467/b5d4d851cbd54469906a089bb8dd58d8.html"
 
     const val SPRING_NAMESPACE = "http://www.springframework.org/schema/beans"
+    const val SPRING_P_NAMESPACE = "http://www.springframework.org/schema/p"
 
     const val QUOTE_LENGTH = 2
 
@@ -0,0 +1,128 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.flexibleSearch.actions
+
+import com.intellij.codeInsight.daemon.DaemonCodeAnalyzer
+import com.intellij.idea.plugin.hybris.common.utils.HybrisI18NBundleUtils.message
+import com.intellij.idea.plugin.hybris.common.utils.HybrisIcons
+import com.intellij.idea.plugin.hybris.flexibleSearch.file.FlexibleSearchFile
+import com.intellij.idea.plugin.hybris.flexibleSearch.sql.FxSExplainResult
+import com.intellij.idea.plugin.hybris.flexibleSearch.sql.FxSExplainService
+import com.intellij.idea.plugin.hybris.notifications.Notifications
+import com.intellij.idea.plugin.hybris.settings.components.ProjectSettingsComponent
+import com.intellij.lang.injection.InjectedLanguageManager
+import com.intellij.notification.NotificationType
+import com.intellij.openapi.actionSystem.ActionUpdateThread
+import com.intellij.openapi.actionSystem.AnAction
+import com.intellij.openapi.actionSystem.AnActionEvent
+import com.intellij.openapi.actionSystem.CommonDataKeys
+import com.intellij.openapi.application.invokeLater
+import com.intellij.openapi.fileEditor.TextEditorWithPreview
+import com.intellij.openapi.fileTypes.ex.FileTypeManagerEx
+import com.intellij.openapi.progress.ProgressIndicator
+import com.intellij.openapi.progress.ProgressManager
+import com.intellij.openapi.progress.Task
+import com.intellij.openapi.util.text.StringUtil
+import com.intellij.testFramework.LightVirtualFile
+
+/**
+ * Translates the FlexibleSearch query under the caret to SQL and explains it against the local project data source.
+ *
+ * Plan is opened as a report, full table scans and missing indexes are shown inline by the FxSQueryPerformance inspection.
+ */
+class FlexibleSearchExplainQueryAction : AnAction(
+    message("hybris.fxs.actions.explain"),
+    message("hybris.fxs.actions.explain.description"),
+    HybrisIcons.FlexibleSearch.FILE
+) {
+
+    override fun getActionUpdateThread() = ActionUpdateThread.BGT
+
+    override fun update(e: AnActionEvent) {
+        e.presentation.isEnabledAndVisible = e.project
+            ?.takeIf { ProjectSettingsComponent.getInstance(it).isHybrisProject() }
+            ?.let { findFile(e) } != null
+    }
+
+    override fun actionPerformed(e: AnActionEvent) {
+        val project = e.project ?: return
+        val file = findFile(e) ?: return
+        val hostFile = InjectedLanguageManager.getInstance(project).getTopLevelFile(file)
+
+        ProgressManager.getInstance().run(object : Task.Backgroundable(project, message("hybris.fxs.actions.explain.progress"), true) {
+            override fun run(indicator: ProgressIndicator) {
+                val result = try {
+                    FxSExplainService.getInstance(project).explain(file)
+                } catch (e: Exception) {
+                    Notifications.create(
+                        NotificationType.WARNING,
+                        message("hybris.fxs.actions.explain.error.title"),
+                        e.message ?: e.javaClass.simpleName
+                    )
+                        .hideAfter(10)
+                        .notify(project)
+                    return
+                }
+
+                val lvf = LightVirtualFile(message("hybris.fxs.actions.explain.title")).also {
+                    it.setContent(null, render(result), true)
+                    it.fileType = FileTypeManagerEx.getInstance().getFileTypeByExtension("md")
+                    it.isWritable = false
+                }
+
+                invokeLater {
+                    TextEditorWithPreview.openPreviewForFile(project, lvf)
+                    DaemonCodeAnalyzer.getInstance(project).restart(hostFile)
+                }
+            }
+        })
+    }
+
+    private fun findFile(e: AnActionEvent): FlexibleSearchFile? {
+        val file = e.getData(CommonDataKeys.PSI_FILE) ?: return null
+        if (file is FlexibleSearchFile) return file
+
+        val offset = e.getData(CommonDataKeys.CARET)?.offset ?: return null
+
+        return InjectedLanguageManager.getInstance(file.project)
+            .findInjectedElementAt(file, offset)
+            ?.containingFile as? FlexibleSearchFile
+    }
+
+    private fun render(result: FxSExplainResult) = buildString {
+        appendLine("# ${message("hybris.fxs.actions.explain.title")}")
+        appendLine()
+        appendLine("```sql")
+        appendLine(result.translation.sql)
+        appendLine("```")
+        appendLine()
+
+        val columnsCount = result.plan.rows.maxOfOrNull { it.size } ?: 0
+        if (columnsCount > 0) {
+            appendLine((1..columnsCount).joinToString(" | ", "| ", " |") { "#$it" })
+            appendLine((1..columnsCount).joinToString("|", "|", "|") { "---" })
+            result.plan.rows.forEach { row ->
+                appendLine(row.joinToString(" | ", "| ", " |") { StringUtil.escapeChar(it.replace("\n", "<br>"), '|') })
+            }
+            appendLine()
+        }
+
+        result.findings.forEach { appendLine("- ${it.message}") }
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.flexibleSearch.actions
+
+import com.intellij.idea.plugin.hybris.common.utils.HybrisI18NBundleUtils.message
+import com.intellij.idea.plugin.hybris.common.utils.HybrisIcons
+import com.intellij.idea.plugin.hybris.flexibleSearch.analysis.FxSQueryPerformanceAnalyzer
+import com.intellij.idea.plugin.hybris.flexibleSearch.analysis.FxSQueryPerformanceReport
+import com.intellij.idea.plugin.hybris.flexibleSearch.file.FlexibleSearchFile
+import com.intellij.idea.plugin.hybris.flexibleSearch.file.FlexibleSearchFileType
+import com.intellij.idea.plugin.hybris.flexibleSearch.indexing.FlexibleSearchQueryIndex
+import com.intellij.idea.plugin.hybris.settings.components.ProjectSettingsComponent
+import com.intellij.lang.injection.InjectedLanguageManager
+import com.intellij.openapi.actionSystem.ActionUpdateThread
+import com.intellij.openapi.actionSystem.AnAction
+import com.intellij.openapi.actionSystem.AnActionEvent
+import com.intellij.openapi.application.ReadAction
+import com.intellij.openapi.application.invokeLater
+import com.intellij.openapi.fileEditor.TextEditorWithPreview
+import com.intellij.openapi.fileTypes.ex.FileTypeManagerEx
+import com.intellij.openapi.progress.ProgressIndicator
+import com.intellij.openapi.progress.ProgressManager
+import com.intellij.openapi.progress.Task
+import com.intellij.openapi.project.Project
+import com.intellij.openapi.util.text.StringUtil
+import com.intellij.openapi.vfs.VirtualFile
+import com.intellij.psi.PsiDocumentManager
+import com.intellij.psi.PsiElement
+import com.intellij.psi.PsiFile
+import com.intellij.psi.PsiLanguageInjectionHost
+import com.intellij.psi.PsiManager
+import com.intellij.psi.search.FileTypeIndex
+import com.intellij.psi.search.GlobalSearchScope
+import com.intellij.psi.util.PsiTreeUtil
+import com.intellij.testFramework.LightVirtualFile
+
+/**
+ * Analyzes all FlexibleSearch queries of the project, both `.fxs` files and queries embedded into the source code,
+ * and opens a report sorted by the estimated query cost.
+ */
+class FlexibleSearchQueryPerformanceReportAction : AnAction(
+    message("hybris.fxs.actions.performance_report"),
+    message("hybris.fxs.actions.performance_report.description"),
+    HybrisIcons.FlexibleSearch.FILE
+) {
+
+    override fun getActionUpdateThread() = ActionUpdateThread.BGT
+
+    override fun update(e: AnActionEvent) {
+        e.presentation.isEnabledAndVisible = e.project
+            ?.let { ProjectSettingsComponent.getInstance(it).isHybrisProject() }
+            ?: false
+    }
+
+    override fun actionPerformed(e: AnActionEvent) {
+        val project = e.project ?: return
+
+        ProgressManager.getInstance().run(object : Task.Backgroundable(project, message("hybris.fxs.actions.performance_report.progress"), true) {
+            override fun run(indicator: ProgressIndicator) {
+                val files = ReadAction
+                    .nonBlocking<Collection<VirtualFile>> { collectFiles(project) }
+                    .inSmartMode(project)
+                    .wrapProgress(indicator)
+                    .executeSynchronously()
+
+                indicator.isIndeterminate = false
+
+                // each file is analyzed in its own read action, so write actions are not blocked for the whole scan
+                val entries = files
+                    .flatMapIndexed { index, file ->
+                        indicator.checkCanceled()
+                        indicator.fraction = index.toDouble() / files.size
+                        indicator.text2 = file.name
+
+                        ReadAction
+                            .nonBlocking<List<Entry>> { collectEntries(project, file) }
+                            .inSmartMode(project)
+                            .wrapProgress(indicator)
+                            .executeSynchronously()
+                    }
+                    .sortedByDescending { it.cost }
+
+                val lvf = LightVirtualFile(message("hybris.fxs.actions.performance_report.title")).also {
+                    it.setContent(null, render(entries), true)
+                    it.fileType = FileTypeManagerEx.getInstance().getFileTypeByExtension("md")
+                    it.isWritable = false
+                }
+
+                invokeLater {
+                    TextEditorWithPreview.openPreviewForFile(project, lvf)
+                }
+            }
+        })
+    }
+
+    private fun collectFiles(project: Project): Collection<VirtualFile> {
+        val scope = GlobalSearchScope.projectScope(project)
+
+        return LinkedHashSet<VirtualFile>().apply {
+            addAll(FileTypeIndex.getFiles(FlexibleSearchFileType, scope))
+            addAll(FlexibleSearchQueryIndex.getQueryFiles(scope))
+        }
+    }
+
+    private fun collectEntries(project: Project, virtualFile: VirtualFile): List<Entry> {
+        if (!virtualFile.isValid) return emptyList()
+        val psiFile = PsiManager.getInstance(project).findFile(virtualFile) ?: return emptyList()
+
+        if (psiFile is FlexibleSearchFile) return listOf(Entry.of(psiFile, psiFile, FxSQueryPerformanceAnalyzer.analyze(psiFile)))
+
+        val injectedLanguageManager = InjectedLanguageManager.getInstance(project)
+
+        return PsiTreeUtil.findChildrenOfType(psiFile, PsiLanguageInjectionHost::class.java)
+            .flatMap { host ->
+                injectedLanguageManager.getInjectedPsiFiles(host)
+                    ?.mapNotNull { it.first as? FlexibleSearchFile }
+                    ?.map { Entry.of(psiFile, host, FxSQueryPerformanceAnalyzer.analyze(it)) }
+                    ?: emptyList()
+            }
+    }
+
+    private fun render(entries: List<Entry>) = buildString {
+        appendLine("# ${message("hybris.fxs.actions.performance_report.title")}")
+        appendLine()
+        appendLine("| Cost | Location | Findings |")
+        appendLine("|---:|---|---|")
+
+        entries.forEach { entry ->
+            val findings = entry.findings
+                .joinToString("<br>") { StringUtil.escapeChar(it, '|') }
+                .ifEmpty { "-" }
+
+            appendLine("| ${entry.cost} | ${entry.location} | $findings |")
+        }
+    }
+
+    /**
+     * Detached from the PSI, so the report is rendered outside of the read action.
+     */
+    private data class Entry(
+        val location: String,
+        val cost: Int,
+        val findings: List<String>,
+    ) {
+        companion object {
+            fun of(file: PsiFile, anchor: PsiElement, report: FxSQueryPerformanceReport): Entry {
+                val line = PsiDocumentManager.getInstance(file.project).getDocument(file)
+                    ?.getLineNumber(anchor.textRange.startOffset)
+                    ?.plus(1)
+                    ?: 1
+
+                return Entry(
+                    "${file.virtualFile?.path ?: file.name}:$line",
+                    report.cost,
+                    report.findings.map { it.message }
+                )
+            }
+        }
+    }
+}
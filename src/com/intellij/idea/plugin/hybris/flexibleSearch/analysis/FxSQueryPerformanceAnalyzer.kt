@@ -0,0 +1,166 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.flexibleSearch.analysis
+
+import com.intellij.idea.plugin.hybris.common.HybrisConstants
+import com.intellij.idea.plugin.hybris.flexibleSearch.FxSUtils
+import com.intellij.idea.plugin.hybris.flexibleSearch.psi.*
+import com.intellij.idea.plugin.hybris.system.type.meta.TSMetaModelAccess
+import com.intellij.idea.plugin.hybris.system.type.meta.TSModificationTracker
+import com.intellij.openapi.components.service
+import com.intellij.psi.PsiFile
+import com.intellij.psi.util.CachedValueProvider
+import com.intellij.psi.util.CachedValuesManager
+import com.intellij.psi.util.PsiTreeUtil
+
+/**
+ * Static analysis of the FlexibleSearch query against the Type System: indexes, deployments and type hierarchy.
+ *
+ * Cost is a relative heuristic, it is not related to any real database plan, but allows comparing queries with each other.
+ */
+object FxSQueryPerformanceAnalyzer {
+
+    private const val COST_TABLE = 1
+    private const val COST_NON_INDEXED_PREDICATE = 10
+    private const val COST_NON_INDEXED_ORDERING = 5
+    private const val COST_LEADING_WILDCARD = 10
+    private const val COST_NON_DEPLOYED_RELATION = 15
+    private const val COST_SUBTYPE_TABLE = 5
+
+    // number of sub-types which results in a huge `typepkstring IN (..)` condition
+    private const val SUBTYPES_THRESHOLD = 50
+
+    fun analyze(file: PsiFile): FxSQueryPerformanceReport = CachedValuesManager.getCachedValue(file) {
+        CachedValueProvider.Result.create(
+            doAnalyze(file),
+            file, file.project.service<TSModificationTracker>()
+        )
+    }
+
+    private fun doAnalyze(file: PsiFile): FxSQueryPerformanceReport {
+        val metaModelAccess = TSMetaModelAccess.getInstance(file.project)
+        val findings = mutableListOf<FxSQueryPerformanceFinding>()
+
+        val tables = PsiTreeUtil.findChildrenOfType(file, FlexibleSearchDefinedTableName::class.java)
+        tables.forEach { analyzeTable(metaModelAccess, it, findings) }
+
+        PsiTreeUtil.findChildrenOfType(file, FlexibleSearchYColumnName::class.java)
+            .forEach { analyzeColumn(metaModelAccess, it, findings) }
+
+        PsiTreeUtil.findChildrenOfType(file, FlexibleSearchLikeExpression::class.java)
+            .forEach { analyzeLike(it, findings) }
+
+        val cost = tables.size * COST_TABLE + findings.sumOf { it.cost }
+
+        return FxSQueryPerformanceReport(findings, cost)
+    }
+
+    private fun analyzeTable(metaModelAccess: TSMetaModelAccess, table: FlexibleSearchDefinedTableName, findings: MutableList<FxSQueryPerformanceFinding>) {
+        val tableName = table.tableName
+
+        metaModelAccess.findMetaRelationByName(tableName)
+            ?.takeIf { it.deployment == null }
+            ?.let {
+                findings.add(
+                    FxSQueryPerformanceFinding(
+                        FxSQueryPerformanceFinding.Kind.NON_DEPLOYED_RELATION, table,
+                        COST_NON_DEPLOYED_RELATION, tableName
+                    )
+                )
+                return
+            }
+
+        if (table.node.findChildByType(FlexibleSearchTypes.EXCLAMATION_MARK) != null) return
+
+        val metaItem = metaModelAccess.findMetaItemByName(tableName) ?: return
+        val subTypes = metaItem.hierarchy.filter { it.name != metaItem.name }
+        val subTypesTables = metaItem.hierarchy
+            .mapNotNull { it.deployment?.table }
+            .map { it.lowercase() }
+            .distinct()
+
+        if (subTypes.size < SUBTYPES_THRESHOLD && subTypesTables.size < 2) return
+
+        findings.add(
+            FxSQueryPerformanceFinding(
+                FxSQueryPerformanceFinding.Kind.UNBOUNDED_SUBTYPES, table,
+                subTypesTables.size * COST_SUBTYPE_TABLE, tableName, subTypes.size.toString(), subTypesTables.size.toString()
+            )
+        )
+    }
+
+    private fun analyzeColumn(metaModelAccess: TSMetaModelAccess, column: FlexibleSearchYColumnName, findings: MutableList<FxSQueryPerformanceFinding>) {
+        val clause = PsiTreeUtil.getParentOfType(
+            column,
+            FlexibleSearchWhereClause::class.java,
+            FlexibleSearchJoinConstraint::class.java,
+            FlexibleSearchOrderClause::class.java,
+            FlexibleSearchResultColumns::class.java,
+            FlexibleSearchGroupByClause::class.java,
+        )
+        val cost = when (clause) {
+            is FlexibleSearchWhereClause,
+            is FlexibleSearchJoinConstraint -> COST_NON_INDEXED_PREDICATE
+
+            is FlexibleSearchOrderClause -> COST_NON_INDEXED_ORDERING
+            else -> return
+        }
+
+        val columnName = FxSUtils.getColumnName(column.text)
+        if (HybrisConstants.ATTRIBUTE_PK.equals(columnName, true)) return
+
+        // localized attributes are stored in the `lp` table, indexes declared in the items.xml are not applicable for them
+        if (column.parent.node.findChildByType(FlexibleSearchTypes.COLUMN_LOCALIZED_NAME) != null) return
+
+        val tableName = column.tableToAlias?.first?.tableName ?: return
+        val metaItem = metaModelAccess.findMetaItemByName(tableName) ?: return
+        val attribute = metaItem.allAttributes[columnName] ?: return
+
+        if (attribute.isLocalized || attribute.isDynamic) return
+
+        val indexed = metaItem.allIndexes
+            .any { index -> index.keys.any { it.equals(attribute.name, true) } }
+        if (indexed) return
+
+        findings.add(
+            FxSQueryPerformanceFinding(
+                FxSQueryPerformanceFinding.Kind.NON_INDEXED_ATTRIBUTE, column,
+                cost, attribute.name, metaItem.name ?: tableName
+            )
+        )
+    }
+
+    private fun analyzeLike(likeExpression: FlexibleSearchLikeExpression, findings: MutableList<FxSQueryPerformanceFinding>) {
+        val pattern = likeExpression.expressionList
+            .getOrNull(1)
+            ?.takeIf { it is FlexibleSearchLiteralExpression }
+            ?.text
+            ?.trim()
+            ?: return
+
+        if (!pattern.startsWith("'%") && !pattern.startsWith("\"%")) return
+
+        findings.add(
+            FxSQueryPerformanceFinding(
+                FxSQueryPerformanceFinding.Kind.LEADING_WILDCARD, likeExpression,
+                COST_LEADING_WILDCARD, pattern
+            )
+        )
+    }
+}
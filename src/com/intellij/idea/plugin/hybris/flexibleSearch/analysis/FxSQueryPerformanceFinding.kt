@@ -0,0 +1,44 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.flexibleSearch.analysis
+
+import com.intellij.idea.plugin.hybris.common.utils.HybrisI18NBundleUtils.message
+import com.intellij.psi.PsiElement
+
+data class FxSQueryPerformanceFinding(
+    val kind: Kind,
+    val element: PsiElement,
+    val cost: Int,
+    val arguments: List<String>,
+) {
+
+    constructor(kind: Kind, element: PsiElement, cost: Int, vararg arguments: String) : this(kind, element, cost, arguments.toList())
+
+    val message: String
+        get() = message(kind.messageKey, *arguments.toTypedArray())
+
+    enum class Kind(val messageKey: String) {
+        NON_INDEXED_ATTRIBUTE("hybris.inspections.fxs.FxSQueryPerformance.nonIndexedAttribute"),
+        UNBOUNDED_SUBTYPES("hybris.inspections.fxs.FxSQueryPerformance.unboundedSubtypes"),
+        NON_DEPLOYED_RELATION("hybris.inspections.fxs.FxSQueryPerformance.nonDeployedRelation"),
+        LEADING_WILDCARD("hybris.inspections.fxs.FxSQueryPerformance.leadingWildcard"),
+        FULL_TABLE_SCAN("hybris.inspections.fxs.FxSQueryPerformance.fullTableScan"),
+        MISSING_INDEX("hybris.inspections.fxs.FxSQueryPerformance.missingIndex"),
+    }
+}
@@ -24,6 +24,7 @@ import com.intellij.codeInsight.daemon.MergeableLineMarkerInfo
 import com.intellij.idea.plugin.hybris.common.utils.HybrisI18NBundleUtils.message
 import com.intellij.idea.plugin.hybris.common.utils.HybrisIcons
 import com.intellij.idea.plugin.hybris.flexibleSearch.FxSUtils
+import com.intellij.idea.plugin.hybris.flexibleSearch.indexing.FlexibleSearchQueryIndex
 import com.intellij.idea.plugin.hybris.flexibleSearch.psi.FlexibleSearchElementFactory
 import com.intellij.idea.plugin.hybris.notifications.Notifications
 import com.intellij.idea.plugin.hybris.settings.components.ProjectSettingsComponent
@@ -63,8 +64,13 @@ class FlexibleSearchQueryLineMarkerProvider : LineMarkerProviderDescriptor() {
         val parent = element.parent
         if (parent !is PsiVariable || parent.nameIdentifier == null) return null
 
+        val indexedQueries = element.containingFile.virtualFile
+            ?.let { FlexibleSearchQueryIndex.getQueries(element.project, it) }
+        if (indexedQueries != null && indexedQueries.none { it.contains(element.textRange.startOffset) }) return null
+
         val expression = expressionProvider.invoke()
-        if (!FxSUtils.isFlexibleSearchQuery(expression)) return null
+        // fallback to the on-the-fly detection while indexes are not available
+        if (indexedQueries == null && !FxSUtils.isFlexibleSearchQuery(expression)) return null
 
         return FlexibleSearchDataEditModeLineMarkerInfo(parent.nameIdentifier!!, icon, expression)
     }
@@ -0,0 +1,255 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.flexibleSearch.indexing
+
+import com.intellij.idea.plugin.hybris.flexibleSearch.FlexibleSearchLexer
+import com.intellij.idea.plugin.hybris.flexibleSearch.FxSUtils
+import com.intellij.idea.plugin.hybris.flexibleSearch.psi.FlexibleSearchTypes
+import com.intellij.openapi.util.TextRange
+import com.intellij.psi.TokenType
+import com.intellij.psi.tree.IElementType
+import com.intellij.psi.tree.TokenSet
+
+/**
+ * Lightweight, PSI-less detection of the FlexibleSearch queries embedded into the Java, Kotlin and Groovy sources.
+ *
+ * Query is a chain of the string literals concatenated via `+`, where `XyzModel._TYPECODE` and `XyzModel.ATTRIBUTE` constants
+ * are substituted with corresponding type and attribute names. Single-quoted literals are strings in Groovy, but chars in Java and Kotlin.
+ */
+object FlexibleSearchQueryExtractor {
+
+    private const val TYPECODE_SUFFIX = "._TYPECODE"
+    private const val MODEL_SUFFIX = "Model"
+    private const val UNKNOWN_OPERAND = "?param"
+
+    private val IDENTIFIERS = TokenSet.create(FlexibleSearchTypes.IDENTIFIER, FlexibleSearchTypes.BACKTICK_LITERAL, FlexibleSearchTypes.ORDER)
+    private val IGNORED = TokenSet.create(TokenType.WHITE_SPACE, FlexibleSearchTypes.COMMENT, FlexibleSearchTypes.LINE_COMMENT)
+    private val COLUMN_SEPARATORS = TokenSet.create(FlexibleSearchTypes.DOT, FlexibleSearchTypes.COLON)
+    private val TABLE_SEPARATORS = TokenSet.create(FlexibleSearchTypes.JOIN, FlexibleSearchTypes.COMMA)
+    private val TABLE_MODIFIERS = TokenSet.create(FlexibleSearchTypes.EXCLAMATION_MARK, FlexibleSearchTypes.STAR)
+
+    fun extract(text: CharSequence, groovy: Boolean = false): List<FlexibleSearchIndexedQuery> = findConcatenations(text, groovy)
+        .mapNotNull { operands ->
+            val query = operands.joinToString("") { it.value }
+            if (!FxSUtils.isFlexibleSearchQuery(query)) return@mapNotNull null
+
+            val range = TextRange(operands.first().range.startOffset, operands.last().range.endOffset)
+            val (types, attributes) = collectReferences(query)
+
+            FlexibleSearchIndexedQuery(range, types, attributes)
+        }
+
+    /**
+     * Returns `types` and `type.attribute` pairs referenced by the query, all in lower case.
+     */
+    fun collectReferences(query: String): Pair<Set<String>, Set<String>> {
+        val tokens = tokenize(query)
+        val types = linkedSetOf<String>()
+        val aliases = mutableMapOf<String, String>()
+        val columns = mutableListOf<Pair<String?, String>>()
+        val fromLevels = ArrayDeque<Int>()
+        var braceLevel = 0
+        var expectTable = false
+        var index = 0
+
+        while (index < tokens.size) {
+            val (type, value) = tokens[index]
+
+            when {
+                type == FlexibleSearchTypes.LBRACE && tokens.getOrNull(index - 1)?.first == FlexibleSearchTypes.FROM -> {
+                    braceLevel++
+                    fromLevels.addLast(braceLevel)
+                    expectTable = true
+                }
+
+                type == FlexibleSearchTypes.LBRACE -> {
+                    val first = tokens.getOrNull(index + 1)
+                    val separator = tokens.getOrNull(index + 2)
+                    val second = tokens.getOrNull(index + 3)
+
+                    if (first != null && first.first in IDENTIFIERS) {
+                        if (separator?.first in COLUMN_SEPARATORS && second != null && second.first in IDENTIFIERS) {
+                            columns.add(normalize(first.second) to normalize(second.second))
+                            index += 3
+                        } else {
+                            columns.add(null to normalize(first.second))
+                            index += 1
+                        }
+                    }
+                    while (index < tokens.size && tokens[index].first != FlexibleSearchTypes.RBRACE) index++
+                }
+
+                type == FlexibleSearchTypes.RBRACE -> {
+                    if (fromLevels.lastOrNull() == braceLevel) fromLevels.removeLast()
+                    braceLevel--
+                }
+
+                fromLevels.lastOrNull() == braceLevel && type in TABLE_SEPARATORS -> expectTable = true
+
+                fromLevels.lastOrNull() == braceLevel && expectTable && type in IDENTIFIERS -> {
+                    val table = normalize(value)
+                    types.add(table)
+                    expectTable = false
+
+                    var next = index + 1
+                    if (tokens.getOrNull(next)?.first in TABLE_MODIFIERS) next++
+                    if (tokens.getOrNull(next)?.first == FlexibleSearchTypes.AS) next++
+                    tokens.getOrNull(next)
+                        ?.takeIf { it.first == FlexibleSearchTypes.IDENTIFIER || it.first == FlexibleSearchTypes.BACKTICK_LITERAL }
+                        ?.let {
+                            aliases[normalize(it.second)] = table
+                            next++
+                        }
+                    index = next - 1
+                }
+            }
+            index++
+        }
+
+        val attributes = columns
+            .flatMap { (alias, attribute) ->
+                val owners = alias
+                    ?.let { listOf(aliases[it] ?: it) }
+                    ?: types
+                owners.map { "$it.$attribute" }
+            }
+            .toSet()
+
+        return types to attributes
+    }
+
+    private fun tokenize(query: String): List<Pair<IElementType, String>> {
+        val lexer = FlexibleSearchLexer()
+        val tokens = mutableListOf<Pair<IElementType, String>>()
+
+        lexer.start(query)
+        while (true) {
+            val tokenType = lexer.tokenType ?: break
+            if (tokenType !in IGNORED) tokens.add(tokenType to lexer.tokenText)
+            lexer.advance()
+        }
+        return tokens
+    }
+
+    private fun normalize(text: String) = FxSUtils.getColumnName(text).lowercase()
+
+    private fun findConcatenations(text: CharSequence, groovy: Boolean): List<List<Operand>> {
+        val concatenations = mutableListOf<List<Operand>>()
+        var current = mutableListOf<Operand>()
+        var expectOperand = true
+        var index = 0
+
+        fun flush() {
+            if (current.any { it.literal }) concatenations.add(current)
+            current = mutableListOf()
+            expectOperand = true
+        }
+
+        while (index < text.length) {
+            val c = text[index]
+            when {
+                c.isWhitespace() -> index++
+
+                text.startsWith("//", index) -> index = text.indexOf('\n', index).takeIf { it >= 0 } ?: text.length
+
+                text.startsWith("/*", index) -> index = text.indexOf("*/", index + 2).takeIf { it >= 0 }?.plus(2) ?: text.length
+
+                c == '\'' && !groovy -> {
+                    flush()
+                    index = skipQuoted(text, index, '\'')
+                }
+
+                c == '"' || c == '\'' -> {
+                    if (!expectOperand) flush()
+
+                    val tripleQuote = "$c$c$c"
+                    val textBlock = text.startsWith(tripleQuote, index)
+                    val end = if (textBlock) text.indexOf(tripleQuote, index + 3).takeIf { it >= 0 }?.plus(3) ?: text.length
+                    else skipQuoted(text, index, c)
+                    val quoteLength = if (textBlock) 3 else 1
+                    val value = if (end - index >= quoteLength * 2) text.substring(index + quoteLength, end - quoteLength)
+                    else ""
+
+                    current.add(Operand(TextRange(index, end), unescape(value), true))
+                    expectOperand = false
+                    index = end
+                }
+
+                c == '+' && !expectOperand -> {
+                    expectOperand = true
+                    index++
+                }
+
+                Character.isJavaIdentifierStart(c) -> {
+                    var end = index + 1
+                    while (end < text.length && (Character.isJavaIdentifierPart(text[end]) || text[end] == '.')) end++
+                    val identifier = text.substring(index, end)
+
+                    if (expectOperand && current.isNotEmpty()) {
+                        current.add(Operand(TextRange(index, end), substitute(identifier), false))
+                        expectOperand = false
+                    } else {
+                        flush()
+                    }
+                    index = end
+                }
+
+                else -> {
+                    flush()
+                    index++
+                }
+            }
+        }
+        flush()
+
+        return concatenations
+    }
+
+    private fun substitute(identifier: String) = when {
+        identifier.endsWith(TYPECODE_SUFFIX) -> identifier
+            .removeSuffix(TYPECODE_SUFFIX)
+            .substringAfterLast('.')
+            .removeSuffix(MODEL_SUFFIX)
+
+        identifier.substringBeforeLast('.', "").endsWith(MODEL_SUFFIX) -> identifier.substringAfterLast('.')
+
+        else -> UNKNOWN_OPERAND
+    }
+
+    private fun skipQuoted(text: CharSequence, start: Int, quote: Char): Int {
+        var index = start + 1
+        while (index < text.length) {
+            when (text[index]) {
+                '\\' -> index += 2
+                quote -> return index + 1
+                '\n' -> return index
+                else -> index++
+            }
+        }
+        return text.length
+    }
+
+    private fun unescape(value: String) = value
+        .replace("\\n", " ")
+        .replace("\\t", " ")
+        .replace("\\\"", "\"")
+        .replace("\\'", "'")
+
+    private data class Operand(val range: TextRange, val value: String, val literal: Boolean)
+}
@@ -0,0 +1,109 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.flexibleSearch.indexing
+
+import com.intellij.openapi.fileEditor.FileDocumentManager
+import com.intellij.openapi.project.DumbService
+import com.intellij.openapi.project.Project
+import com.intellij.openapi.util.TextRange
+import com.intellij.openapi.vfs.VirtualFile
+import com.intellij.psi.search.GlobalSearchScope
+import com.intellij.util.indexing.*
+import com.intellij.util.io.DataExternalizer
+import com.intellij.util.io.DataInputOutputUtil
+import com.intellij.util.io.EnumeratorStringDescriptor
+import com.intellij.util.io.KeyDescriptor
+import java.io.DataInput
+import java.io.DataOutput
+
+/**
+ * Index of the FlexibleSearch queries embedded into the Java, Kotlin and Groovy sources.
+ *
+ * Keys are lower-cased type names and `type.attribute` pairs referenced by the queries, all queries are stored under the [QUERY_KEY].
+ * Values are text ranges of the queries within the file.
+ */
+class FlexibleSearchQueryIndex : FileBasedIndexExtension<String, List<TextRange>>() {
+
+    override fun getName() = NAME
+    override fun getVersion() = 2
+    override fun dependsOnFileContent() = true
+    override fun getKeyDescriptor(): KeyDescriptor<String> = EnumeratorStringDescriptor.INSTANCE
+    override fun getValueExternalizer(): DataExternalizer<List<TextRange>> = TextRangesExternalizer
+    override fun getInputFilter() = FileBasedIndex.InputFilter { it.extension in SUPPORTED_EXTENSIONS }
+
+    override fun getIndexer() = DataIndexer<String, List<TextRange>, FileContent> { inputData ->
+        val entries = mutableMapOf<String, MutableList<TextRange>>()
+
+        FlexibleSearchQueryExtractor.extract(inputData.contentAsText, inputData.file.extension == GROOVY_EXTENSION)
+            .forEach { query ->
+                entries.getOrPut(QUERY_KEY) { mutableListOf() }.add(query.range)
+                (query.types + query.attributes).forEach { entries.getOrPut(it) { mutableListOf() }.add(query.range) }
+            }
+
+        entries
+    }
+
+    private object TextRangesExternalizer : DataExternalizer<List<TextRange>> {
+        override fun save(out: DataOutput, value: List<TextRange>) {
+            DataInputOutputUtil.writeINT(out, value.size)
+            value.forEach {
+                DataInputOutputUtil.writeINT(out, it.startOffset)
+                DataInputOutputUtil.writeINT(out, it.length)
+            }
+        }
+
+        override fun read(input: DataInput): List<TextRange> = List(DataInputOutputUtil.readINT(input)) {
+            TextRange.from(DataInputOutputUtil.readINT(input), DataInputOutputUtil.readINT(input))
+        }
+    }
+
+    companion object {
+        val NAME = ID.create<String, List<TextRange>>("hybris.flexibleSearch.embeddedQuery")
+        const val QUERY_KEY = "*"
+        private const val GROOVY_EXTENSION = "groovy"
+        private val SUPPORTED_EXTENSIONS = setOf("java", "kt", GROOVY_EXTENSION)
+
+        /**
+         * Returns text ranges of all queries in the given file or `null` if index is not available at the moment.
+         * Index is not used for unsaved files to avoid in-memory re-indexing on each keystroke.
+         */
+        fun getQueries(project: Project, file: VirtualFile): List<TextRange>? {
+            if (DumbService.isDumb(project)) return null
+            if (file.extension !in SUPPORTED_EXTENSIONS) return null
+            if (FileDocumentManager.getInstance().isFileModified(file)) return null
+
+            return FileBasedIndex.getInstance().getFileData(NAME, file, project)[QUERY_KEY]
+                ?: emptyList()
+        }
+
+        /**
+         * Returns source files with at least one embedded query, regardless of the case of the query keywords.
+         */
+        fun getQueryFiles(scope: GlobalSearchScope): Collection<VirtualFile> = FileBasedIndex.getInstance()
+            .getContainingFiles(NAME, QUERY_KEY, scope)
+
+        fun getFiles(type: String, attribute: String? = null, scope: GlobalSearchScope): Collection<VirtualFile> {
+            val key = attribute
+                ?.let { "${type.lowercase()}.${it.lowercase()}" }
+                ?: type.lowercase()
+
+            return FileBasedIndex.getInstance().getContainingFiles(NAME, key, scope)
+        }
+    }
+}
@@ -20,13 +20,20 @@ package com.intellij.idea.plugin.hybris.flexibleSearch.injection.impl
 
 import com.intellij.idea.plugin.hybris.flexibleSearch.FlexibleSearchLanguage
 import com.intellij.idea.plugin.hybris.flexibleSearch.FxSUtils
+import com.intellij.idea.plugin.hybris.flexibleSearch.indexing.FlexibleSearchQueryIndex
 import com.intellij.idea.plugin.hybris.lang.injection.impl.AbstractLanguageToKotlinInjectorProvider
 import com.intellij.util.application
+import org.jetbrains.kotlin.psi.KtStringTemplateExpression
 
 class FlexibleSearchToKotlinInjectorProvider : AbstractLanguageToKotlinInjectorProvider(FlexibleSearchLanguage) {
 
     override fun canProcess(expression: String) = FxSUtils.isFlexibleSearchQuery(expression)
 
+    override fun canProcess(host: KtStringTemplateExpression, expression: String) = host.containingFile.virtualFile
+        ?.let { FlexibleSearchQueryIndex.getQueries(host.project, it) }
+        ?.any { it.contains(host.textRange.startOffset) }
+        ?: canProcess(expression)
+
     companion object {
         fun getInstance(): FlexibleSearchToKotlinInjectorProvider? = application.getService(FlexibleSearchToKotlinInjectorProvider::class.java)
     }
@@ -0,0 +1,80 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.intellij.idea.plugin.hybris.flexibleSearch.lang.findUsages
+
+import com.intellij.idea.plugin.hybris.flexibleSearch.file.FlexibleSearchFile
+import com.intellij.idea.plugin.hybris.flexibleSearch.indexing.FlexibleSearchQueryIndex
+import com.intellij.idea.plugin.hybris.flexibleSearch.psi.FlexibleSearchYColumnName
+import com.intellij.idea.plugin.hybris.system.type.meta.TSMetaModelAccess
+import com.intellij.idea.plugin.hybris.system.type.model.Attribute
+import com.intellij.idea.plugin.hybris.system.type.psi.TSPsiHelper
+import com.intellij.idea.plugin.hybris.system.type.util.TSUtils
+import com.intellij.lang.injection.InjectedLanguageManager
+import com.intellij.openapi.application.QueryExecutorBase
+import com.intellij.psi.PsiLanguageInjectionHost
+import com.intellij.psi.PsiManager
+import com.intellij.psi.PsiReference
+import com.intellij.psi.search.GlobalSearchScope
+import com.intellij.psi.search.searches.ReferencesSearch
+import com.intellij.psi.util.PsiTreeUtil
+import com.intellij.psi.xml.XmlAttribute
+import com.intellij.psi.xml.XmlAttributeValue
+import com.intellij.util.Processor
+
+/**
+ * Finds usages of the items.xml attribute within FlexibleSearch queries embedded into the source code.
+ * Candidate files are taken from the [FlexibleSearchQueryIndex], so only files with matching queries are processed.
+ */
+class FlexibleSearchTSAttributeReferenceSearcher : QueryExecutorBase<PsiReference, ReferencesSearch.SearchParameters>(true) {
+
+    override fun processQuery(queryParameters: ReferencesSearch.SearchParameters, consumer: Processor<in PsiReference>) {
+        val elementToSearch = queryParameters.elementToSearch as? XmlAttributeValue ?: return
+        if (!elementToSearch.isValid) return
+        if ((elementToSearch.parent as? XmlAttribute)?.name != Attribute.QUALIFIER) return
+        if (!TSUtils.isTypeSystemFile(elementToSearch.containingFile)) return
+
+        val project = elementToSearch.project
+        val qualifier = elementToSearch.value.takeIf { it.isNotBlank() } ?: return
+        val typeCode = TSPsiHelper.resolveTypeCode(elementToSearch) ?: return
+        val scope = queryParameters.effectiveSearchScope as? GlobalSearchScope ?: return
+
+        // attribute can be referenced via any sub-type of its owner
+        val types = TSMetaModelAccess.getInstance(project).findMetaItemByName(typeCode)
+            ?.hierarchy
+            ?.mapNotNull { it.name }
+            ?: listOf(typeCode)
+
+        val psiManager = PsiManager.getInstance(project)
+        val injectedLanguageManager = InjectedLanguageManager.getInstance(project)
+
+        types
+            .flatMap { FlexibleSearchQueryIndex.getFiles(it, qualifier, scope) }
+            .distinct()
+            .mapNotNull { psiManager.findFile(it) }
+            .forEach { psiFile ->
+                PsiTreeUtil.findChildrenOfType(psiFile, PsiLanguageInjectionHost::class.java)
+                    .flatMap { host -> injectedLanguageManager.getInjectedPsiFiles(host) ?: emptyList() }
+                    .mapNotNull { it.first as? FlexibleSearchFile }
+                    .flatMap { PsiTreeUtil.findChildrenOfType(it, FlexibleSearchYColumnName::class.java) }
+                    .filter { it.text.equals(qualifier, true) }
+                    .mapNotNull { it.reference }
+                    .filter { it.isReferenceTo(elementToSearch) }
+                    .forEach { if (!consumer.process(it)) return }
+            }
+    }
+}
@@ -196,8 +196,7 @@ class FxSYColumnReference(owner: FlexibleSearchYColumnName) : PsiReferenceBase.P
                         ?.let { listOf(it) }
                         ?: emptyList()
 
-                    val relations = meta.allRelationEnds
-                        .filter { refName.equals(it.name, true) }
+                    val relations = metaService.findRelationEndsByQualifier(meta, refName)
                         .map { RelationEndResolveResult(it) }
 
                     (attributes + orderingAttributes + relations).toTypedArray()
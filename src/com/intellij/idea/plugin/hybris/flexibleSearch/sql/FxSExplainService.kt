@@ -0,0 +1,104 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.flexibleSearch.sql
+
+import com.intellij.database.dataSource.LocalDataSource
+import com.intellij.database.dataSource.LocalDataSourceManager
+import com.intellij.idea.plugin.hybris.common.utils.HybrisI18NBundleUtils.message
+import com.intellij.idea.plugin.hybris.flexibleSearch.analysis.FxSQueryPerformanceFinding
+import com.intellij.idea.plugin.hybris.project.configurators.DataSourcesConfigurator
+import com.intellij.idea.plugin.hybris.properties.PropertyService
+import com.intellij.idea.plugin.hybris.system.type.meta.TSMetaModelAccess
+import com.intellij.openapi.application.runReadAction
+import com.intellij.openapi.components.Service
+import com.intellij.openapi.project.Project
+import com.intellij.openapi.vfs.JarFileSystem
+import com.intellij.openapi.vfs.VfsUtilCore
+import com.intellij.psi.PsiFile
+import java.io.File
+import java.net.URLClassLoader
+import java.sql.Driver
+import java.util.*
+
+/**
+ * Explains FlexibleSearch queries against the local data source created by the [DataSourcesConfigurator] during the project import.
+ *
+ * Connection is opened with the JDBC driver configured for the data source and credentials of the `local.properties`.
+ */
+@Service(Service.Level.PROJECT)
+class FxSExplainService(private val project: Project) {
+
+    fun explain(file: PsiFile): FxSExplainResult {
+        val dataSource = LocalDataSourceManager.getInstance(project).dataSources
+            .firstOrNull { it.name == DataSourcesConfigurator.DATA_SOURCE_NAME }
+            ?: throw FxSExplainException(message("hybris.fxs.actions.explain.error.no_data_source", DataSourcesConfigurator.DATA_SOURCE_NAME))
+        val dialect = FxSSqlDialect.fromJdbcUrl(dataSource.url)
+            ?: throw FxSExplainException(message("hybris.fxs.actions.explain.error.unsupported_database", dataSource.url ?: ""))
+
+        val (modificationStamp, translation) = runReadAction {
+            file.modificationStamp to FxSSqlTranslator.translate(file, TSMetaModelAccess.getInstance(project), FxSSqlDialect.EXPLAIN_PARAMETER)
+        }
+
+        val plan = explain(dataSource, dialect, translation.sql)
+        val findings = runReadAction { FxSExplainer.analyze(translation, plan) }
+
+        FxSExplainer.storeFindings(file, modificationStamp, findings)
+
+        return FxSExplainResult(dialect, translation, plan, findings)
+    }
+
+    private fun explain(dataSource: LocalDataSource, dialect: FxSSqlDialect, sql: String): FxSExplainPlan {
+        val driverClass = dataSource.driverClass
+            ?: throw FxSExplainException(message("hybris.fxs.actions.explain.error.no_driver", dataSource.name))
+        val classpath = (dataSource.classpathElements + (dataSource.databaseDriver?.additionalClasspathElements ?: emptyList()))
+            .flatMap { it.classesRootUrls }
+            .map { File(VfsUtilCore.urlToPath(it).removeSuffix(JarFileSystem.JAR_SEPARATOR)).toURI().toURL() }
+            .toTypedArray()
+
+        val propertyService = PropertyService.getInstance(project)
+        val properties = Properties().apply {
+            propertyService?.findProperty(PROPERTY_DB_USERNAME)?.let { setProperty("user", it) }
+            propertyService?.findProperty(PROPERTY_DB_PASSWORD)?.let { setProperty("password", it) }
+        }
+
+        return URLClassLoader(classpath, javaClass.classLoader).use { classLoader ->
+            val driver = Class.forName(driverClass, true, classLoader).getDeclaredConstructor().newInstance() as Driver
+            val connection = driver.connect(dataSource.url, properties)
+                ?: throw FxSExplainException(message("hybris.fxs.actions.explain.error.unsupported_database", dataSource.url ?: ""))
+
+            connection.use { FxSExplainer.explain(it, dialect, sql) }
+        }
+    }
+
+    companion object {
+        private const val PROPERTY_DB_USERNAME = "db.username"
+        private const val PROPERTY_DB_PASSWORD = "db.password"
+
+        fun getInstance(project: Project): FxSExplainService = project.getService(FxSExplainService::class.java)
+    }
+}
+
+data class FxSExplainResult(
+    val dialect: FxSSqlDialect,
+    val translation: FxSSqlTranslation,
+    val plan: FxSExplainPlan,
+    val findings: List<FxSQueryPerformanceFinding>,
+)
+
+class FxSExplainException(message: String) : Exception(message)
@@ -0,0 +1,103 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.flexibleSearch.sql
+
+import com.intellij.idea.plugin.hybris.flexibleSearch.analysis.FxSQueryPerformanceFinding
+import com.intellij.idea.plugin.hybris.flexibleSearch.psi.FlexibleSearchJoinConstraint
+import com.intellij.idea.plugin.hybris.flexibleSearch.psi.FlexibleSearchWhereClause
+import com.intellij.openapi.util.Key
+import com.intellij.psi.PsiFile
+import com.intellij.psi.util.PsiTreeUtil
+import java.sql.Connection
+
+/**
+ * Executes `EXPLAIN` for the translated query and maps the full table scans reported by the database back to the FlexibleSearch elements.
+ *
+ * Findings of the last explain are kept in the file itself until its next modification, so the inspection can show them inline.
+ */
+object FxSExplainer {
+
+    private const val COST_FULL_TABLE_SCAN = 20
+    private const val COST_MISSING_INDEX = 10
+    private val EXPLAIN_FINDINGS = Key.create<Pair<Long, List<FxSQueryPerformanceFinding>>>("HYBRIS_FXS_EXPLAIN_FINDINGS")
+
+    fun explain(connection: Connection, dialect: FxSSqlDialect, sql: String): FxSExplainPlan {
+        val rows = connection.createStatement().use { statement ->
+            statement.executeQuery(dialect.explain(sql)).use { resultSet ->
+                val columnCount = resultSet.metaData.columnCount
+
+                buildList {
+                    while (resultSet.next()) {
+                        add((1..columnCount).map { resultSet.getString(it) ?: "" })
+                    }
+                }
+            }
+        }
+
+        return FxSExplainPlan(rows, dialect.findFullScans(rows))
+    }
+
+    fun analyze(translation: FxSSqlTranslation, plan: FxSExplainPlan): List<FxSQueryPerformanceFinding> {
+        val findings = mutableListOf<FxSQueryPerformanceFinding>()
+
+        translation.tables
+            // MySQL reports aliases instead of the table names
+            .filter { plan.fullScans.contains(it.table) || plan.fullScans.contains(it.alias.lowercase()) }
+            .forEach { table ->
+                findings.add(
+                    FxSQueryPerformanceFinding(
+                        FxSQueryPerformanceFinding.Kind.FULL_TABLE_SCAN, table.element,
+                        COST_FULL_TABLE_SCAN, table.element.tableName, table.table
+                    )
+                )
+
+                translation.columns
+                    .filter { it.table == table && !it.isLocalized }
+                    .filter { PsiTreeUtil.getParentOfType(it.element, FlexibleSearchWhereClause::class.java, FlexibleSearchJoinConstraint::class.java) != null }
+                    .distinctBy { it.column.lowercase() }
+                    .forEach {
+                        findings.add(
+                            FxSQueryPerformanceFinding(
+                                FxSQueryPerformanceFinding.Kind.MISSING_INDEX, it.element,
+                                COST_MISSING_INDEX, it.column, table.table
+                            )
+                        )
+                    }
+            }
+
+        return findings
+    }
+
+    fun storeFindings(file: PsiFile, modificationStamp: Long, findings: List<FxSQueryPerformanceFinding>) = file
+        .putUserData(EXPLAIN_FINDINGS, modificationStamp to findings)
+
+    fun getFindings(file: PsiFile): List<FxSQueryPerformanceFinding> = file.getUserData(EXPLAIN_FINDINGS)
+        ?.takeIf { it.first == file.modificationStamp }
+        ?.second
+        ?: emptyList()
+}
+
+/**
+ * @param rows rows of the `EXPLAIN` result set as returned by the database
+ * @param fullScans lower-cased names of the tables scanned without an index
+ */
+data class FxSExplainPlan(
+    val rows: List<List<String>>,
+    val fullScans: Set<String>,
+)
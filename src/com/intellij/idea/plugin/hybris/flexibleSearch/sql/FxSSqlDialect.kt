@@ -0,0 +1,85 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.flexibleSearch.sql
+
+/**
+ * Database specific parts of the FlexibleSearch explain: `EXPLAIN` syntax and detection of the full table scans in its output.
+ */
+enum class FxSSqlDialect(private val jdbcPrefixes: List<String>) {
+
+    HSQLDB(listOf("jdbc:hsqldb:")) {
+        override fun explain(sql: String) = "EXPLAIN PLAN FOR $sql"
+
+        // range variables are printed one by one, each as `table=NAME` followed by `access=FULL SCAN` or `access=INDEX PRED`
+        override fun findFullScans(plan: List<List<String>>): Set<String> {
+            val tables = mutableSetOf<String>()
+            var table: String? = null
+
+            plan.flatten()
+                .flatMap { it.lines() }
+                .map { it.trim() }
+                .forEach { line ->
+                    when {
+                        line.startsWith("table=") -> table = line.substringAfter("table=").trim().lowercase()
+                        line.startsWith("access=FULL SCAN") -> table?.let { tables.add(it) }
+                    }
+                }
+            return tables
+        }
+    },
+
+    MYSQL(listOf("jdbc:mysql:", "jdbc:mariadb:")) {
+        override fun explain(sql: String) = "EXPLAIN $sql"
+
+        // columns: id, select_type, table, partitions, type, possible_keys, key, ...
+        override fun findFullScans(plan: List<List<String>>) = plan
+            .filter { it.getOrNull(MYSQL_TYPE_COLUMN).equals("ALL", true) }
+            .mapNotNull { it.getOrNull(MYSQL_TABLE_COLUMN)?.lowercase() }
+            .toSet()
+    },
+
+    POSTGRESQL(listOf("jdbc:postgresql:")) {
+        override fun explain(sql: String) = "EXPLAIN $sql"
+
+        override fun findFullScans(plan: List<List<String>>) = plan
+            .flatten()
+            .mapNotNull { POSTGRESQL_SEQ_SCAN.find(it)?.groupValues?.get(1)?.lowercase() }
+            .toSet()
+    };
+
+    abstract fun explain(sql: String): String
+
+    /**
+     * @param plan rows of the `EXPLAIN` result set, each row is a list of its column values
+     * @return lower-cased names of the tables which are scanned without an index
+     */
+    abstract fun findFullScans(plan: List<List<String>>): Set<String>
+
+    companion object {
+        // value used instead of the bind parameters, `EXPLAIN` cannot be executed for a statement with unbound parameters
+        const val EXPLAIN_PARAMETER = "'0'"
+
+        private const val MYSQL_TABLE_COLUMN = 2
+        private const val MYSQL_TYPE_COLUMN = 4
+        private val POSTGRESQL_SEQ_SCAN = "Seq Scan on (\\w+)".toRegex()
+
+        fun fromJdbcUrl(url: String?): FxSSqlDialect? = url
+            ?.let { entries.firstOrNull { dialect -> dialect.jdbcPrefixes.any { prefix -> url.startsWith(prefix, true) } } }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.flexibleSearch.sql
+
+import com.intellij.idea.plugin.hybris.system.type.meta.model.TSGlobalMetaItem
+import com.intellij.idea.plugin.hybris.system.type.meta.model.TSGlobalMetaItem.TSGlobalMetaItemAttribute
+import com.intellij.idea.plugin.hybris.system.type.meta.model.TSGlobalMetaRelation
+import com.intellij.idea.plugin.hybris.system.type.model.PersistenceType
+
+/**
+ * Mapping of the Type System to the database tables and columns, as it is done by the SAP Commerce persistence layer.
+ *
+ * Items without own deployment are stored in the deployment table of the nearest super type or in the `genericitems`,
+ * many-to-many relations without deployment are stored in the `links` table and localized attributes in the `lp` table of the item.
+ */
+object FxSSqlMapping {
+
+    const val COLUMN_PK = "PK"
+    const val COLUMN_TYPE_PK = "TypePkString"
+    const val COLUMN_ITEM_PK = "ITEMPK"
+    const val COLUMN_LANGUAGE_PK = "LANGPK"
+    const val COLUMN_SOURCE_PK = "SourcePK"
+    const val COLUMN_TARGET_PK = "TargetPK"
+    const val COLUMN_QUALIFIER = "Qualifier"
+    const val TABLE_GENERIC_ITEMS = "genericitems"
+    const val TABLE_LINKS = "links"
+    const val LOCALIZED_TABLE_SUFFIX = "lp"
+
+    private const val PROPERTY_COLUMN_PREFIX = "p_"
+
+    private val ITEM_COLUMNS = mapOf(
+        "pk" to COLUMN_PK,
+        "itemtype" to COLUMN_TYPE_PK,
+        "owner" to "OwnerPkString",
+        "creationtime" to "createdTS",
+        "modifiedtime" to "modifiedTS",
+    )
+
+    private val LINK_COLUMNS = ITEM_COLUMNS + mapOf(
+        "source" to COLUMN_SOURCE_PK,
+        "target" to COLUMN_TARGET_PK,
+        "sequencenumber" to "SequenceNumber",
+        "reversesequencenumber" to "RSequenceNumber",
+        "qualifier" to COLUMN_QUALIFIER,
+        "language" to "languagepk",
+    )
+
+    fun getTable(metaItem: TSGlobalMetaItem): String = (sequenceOf(metaItem) + metaItem.allExtends.asSequence())
+        .firstNotNullOfOrNull { it.deployment?.table }
+        ?.lowercase()
+        ?: TABLE_GENERIC_ITEMS
+
+    fun getTable(relation: TSGlobalMetaRelation): String = relation.deployment?.table
+        ?.lowercase()
+        ?: TABLE_LINKS
+
+    fun getLocalizedTable(table: String) = table + LOCALIZED_TABLE_SUFFIX
+
+    fun getColumn(attributeName: String, attribute: TSGlobalMetaItemAttribute?): String {
+        ITEM_COLUMNS[attributeName.lowercase()]?.let { return it }
+
+        return attribute?.persistence
+            ?.takeIf { it.type == PersistenceType.CMP }
+            ?.qualifier
+            ?: (PROPERTY_COLUMN_PREFIX + attributeName.lowercase())
+    }
+
+    fun getLinkColumn(attributeName: String): String = LINK_COLUMNS[attributeName.lowercase()]
+        ?: (PROPERTY_COLUMN_PREFIX + attributeName.lowercase())
+}
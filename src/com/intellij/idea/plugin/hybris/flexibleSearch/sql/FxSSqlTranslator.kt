@@ -0,0 +1,298 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.flexibleSearch.sql
+
+import com.intellij.idea.plugin.hybris.flexibleSearch.FxSUtils
+import com.intellij.idea.plugin.hybris.flexibleSearch.psi.*
+import com.intellij.idea.plugin.hybris.system.type.meta.TSMetaModelAccess
+import com.intellij.idea.plugin.hybris.system.type.meta.model.TSGlobalMetaItem
+import com.intellij.idea.plugin.hybris.system.type.meta.model.TSGlobalMetaItem.TSGlobalMetaItemAttribute
+import com.intellij.idea.plugin.hybris.system.type.meta.model.TSGlobalMetaRelation
+import com.intellij.psi.PsiComment
+import com.intellij.psi.PsiElement
+import com.intellij.psi.PsiFile
+import com.intellij.psi.PsiWhiteSpace
+import com.intellij.psi.util.PsiTreeUtil
+import com.intellij.psi.util.elementType
+
+/**
+ * Translates the FlexibleSearch query into the plain SQL in a way similar to the SAP Commerce `FlexibleSearch` service:
+ * types are replaced with their deployment tables restricted by the `TypePkString`, attributes with columns
+ * and localized attributes with the lookup of the `lp` table.
+ *
+ * Values of the bind parameters, type restrictions and languages are not known locally, all of them are replaced with the [parameter] placeholder.
+ */
+object FxSSqlTranslator {
+
+    const val PARAMETER_PLACEHOLDER = "?"
+    private const val ALIAS_PREFIX = "item_t"
+    private val whitespaceRegex = "\\s+".toRegex()
+
+    fun translate(file: PsiFile, metaModelAccess: TSMetaModelAccess, parameter: String = PARAMETER_PLACEHOLDER): FxSSqlTranslation {
+        val translator = Translator(metaModelAccess, parameter)
+
+        PsiTreeUtil.findChildrenOfType(file, FlexibleSearchFromTable::class.java)
+            .forEachIndexed { index, fromTable -> translator.register(fromTable, index) }
+
+        translator.translate(file)
+
+        return translator.result()
+    }
+
+    private class Translator(private val metaModelAccess: TSMetaModelAccess, private val parameter: String) {
+
+        private val sql = StringBuilder()
+        private val parameters = mutableListOf<String>()
+        private val tables = LinkedHashMap<FlexibleSearchDefinedTableName, FxSSqlTableMapping>()
+        private val restrictions = HashMap<FlexibleSearchDefinedTableName, Restriction>()
+        private val columns = mutableListOf<FxSSqlColumnMapping>()
+
+        // restrictions of the tables declared in the `FROM` clause, one entry per currently translated `SELECT`
+        private val selectRestrictions = ArrayDeque<MutableList<Restriction>>()
+        private var joinRestriction: Restriction? = null
+
+        fun register(fromTable: FlexibleSearchFromTable, index: Int) {
+            val definedTable = fromTable.definedTableName
+            val tableName = definedTable.tableName
+            val alias = fromTable.tableAliasName
+                ?.text
+                ?.let { FxSUtils.getTableAliasName(it) }
+                ?: "$ALIAS_PREFIX$index"
+            val metaItem = metaModelAccess.findMetaItemByName(tableName)
+            val relation = if (metaItem == null) metaModelAccess.findMetaRelationByName(tableName) else null
+            val table = when {
+                metaItem != null -> FxSSqlMapping.getTable(metaItem)
+                relation != null -> FxSSqlMapping.getTable(relation)
+                else -> tableName.lowercase()
+            }
+
+            tables[definedTable] = FxSSqlTableMapping(definedTable, table, alias, metaItem, relation)
+
+            val exactType = definedTable.node.findChildByType(FlexibleSearchTypes.EXCLAMATION_MARK) != null
+            when {
+                metaItem != null && exactType -> Restriction("$alias.${FxSSqlMapping.COLUMN_TYPE_PK} = $parameter", "typePk($tableName)")
+                metaItem != null -> Restriction("$alias.${FxSSqlMapping.COLUMN_TYPE_PK} IN ($parameter)", "typePks($tableName)")
+                relation != null && relation.deployment == null -> Restriction("$alias.${FxSSqlMapping.COLUMN_QUALIFIER} = $parameter", "qualifier($tableName)")
+                relation != null -> Restriction("$alias.${FxSSqlMapping.COLUMN_TYPE_PK} = $parameter", "typePk($tableName)")
+                else -> null
+            }
+                ?.let { restrictions[definedTable] = it }
+        }
+
+        fun result() = FxSSqlTranslation(
+            sql.toString().replace(whitespaceRegex, " ").trim(),
+            parameters.toList(),
+            tables.values.toList(),
+            columns.toList()
+        )
+
+        fun translate(element: PsiElement) {
+            when (element) {
+                is PsiComment -> Unit
+                is PsiWhiteSpace -> sql.append(' ')
+                is FlexibleSearchSelectCoreSelect -> translateSelect(element)
+                is FlexibleSearchYFromClause -> translateChildren(element) { it.elementType != FlexibleSearchTypes.LBRACE && it.elementType != FlexibleSearchTypes.RBRACE }
+                is FlexibleSearchFromTable -> translateFromTable(element)
+                is FlexibleSearchJoinConstraint -> translateJoinConstraint(element)
+                is FlexibleSearchColumnRefYExpression -> translateColumn(element)
+                is FlexibleSearchResultColumn -> translateResultColumn(element)
+                is FlexibleSearchBindParameter -> appendParameter(element.text)
+                else -> when {
+                    element.firstChild != null -> translateChildren(element)
+                    element.elementType == FlexibleSearchTypes.LDBRACE || element.elementType == FlexibleSearchTypes.RDBRACE -> sql.append(' ')
+                    else -> sql.append(element.text)
+                }
+            }
+        }
+
+        private fun translateChildren(element: PsiElement, filter: (PsiElement) -> Boolean = { true }) = generateSequence(element.firstChild) { it.nextSibling }
+            .filter(filter)
+            .forEach { translate(it) }
+
+        private fun translateSelect(select: FlexibleSearchSelectCoreSelect) {
+            selectRestrictions.addLast(mutableListOf())
+            var whereTranslated = false
+
+            generateSequence(select.firstChild) { it.nextSibling }.forEach { child ->
+                when (child) {
+                    is FlexibleSearchWhereClause -> {
+                        translateWhere(child)
+                        whereTranslated = true
+                    }
+
+                    is FlexibleSearchGroupByClause -> {
+                        if (!whereTranslated) appendWhereRestrictions()
+                        whereTranslated = true
+                        translate(child)
+                    }
+
+                    else -> translate(child)
+                }
+            }
+
+            if (!whereTranslated) appendWhereRestrictions()
+
+            selectRestrictions.removeLast()
+        }
+
+        private fun translateWhere(where: FlexibleSearchWhereClause) {
+            val current = selectRestrictions.last()
+            val expression = where.expression
+
+            if (current.isEmpty() || expression == null) return translateChildren(where)
+
+            sql.append(" WHERE ")
+            current.forEach {
+                appendRestriction(it)
+                sql.append(" AND ")
+            }
+            sql.append('(')
+            translate(expression)
+            sql.append(") ")
+        }
+
+        private fun appendWhereRestrictions() {
+            val current = selectRestrictions.last()
+                .takeIf { it.isNotEmpty() }
+                ?: return
+
+            sql.append(" WHERE ")
+            current.forEachIndexed { index, restriction ->
+                if (index > 0) sql.append(" AND ")
+                appendRestriction(restriction)
+            }
+            sql.append(' ')
+        }
+
+        private fun translateFromTable(fromTable: FlexibleSearchFromTable) {
+            val definedTable = fromTable.definedTableName
+            val mapping = tables[definedTable] ?: return translateChildren(fromTable)
+
+            sql.append(" ${mapping.table} ${mapping.alias} ")
+
+            val restriction = restrictions[definedTable] ?: return
+
+            // restriction of the joined table must be a part of the join constraint, otherwise an outer join turns into the inner one
+            if (PsiTreeUtil.skipWhitespacesAndCommentsForward(fromTable.parent) is FlexibleSearchJoinConstraint) joinRestriction = restriction
+            else selectRestrictions.lastOrNull()?.add(restriction)
+        }
+
+        private fun translateJoinConstraint(joinConstraint: FlexibleSearchJoinConstraint) {
+            val restriction = joinRestriction
+            val expression = joinConstraint.expression
+            joinRestriction = null
+
+            if (restriction == null) return translateChildren(joinConstraint)
+            if (expression == null) {
+                selectRestrictions.lastOrNull()?.add(restriction)
+                return translateChildren(joinConstraint)
+            }
+
+            sql.append(" ON ")
+            appendRestriction(restriction)
+            sql.append(" AND (")
+            translate(expression)
+            sql.append(") ")
+        }
+
+        private fun translateColumn(columnRef: FlexibleSearchColumnRefYExpression) {
+            val yColumnName = columnRef.yColumnName ?: return translateChildren(columnRef)
+            val columnName = FxSUtils.getColumnName(yColumnName.text)
+            val mapping = yColumnName.tableToAlias
+                ?.first
+                ?.let { tables[it] }
+
+            if (mapping == null) {
+                sql.append(" $columnName ")
+                return
+            }
+
+            val attribute = mapping.metaItem?.allAttributes?.get(columnName)
+            val column = if (mapping.relation != null) FxSSqlMapping.getLinkColumn(columnName)
+            else FxSSqlMapping.getColumn(columnName, attribute)
+            val localizedName = columnRef.columnLocalizedName?.text
+            val localized = attribute?.isLocalized == true || localizedName != null
+
+            if (localized) {
+                val localizedAlias = "${mapping.alias}${FxSSqlMapping.LOCALIZED_TABLE_SUFFIX}"
+                sql.append(" (SELECT $localizedAlias.$column FROM ${FxSSqlMapping.getLocalizedTable(mapping.table)} $localizedAlias")
+                sql.append(" WHERE $localizedAlias.${FxSSqlMapping.COLUMN_ITEM_PK} = ${mapping.alias}.${FxSSqlMapping.COLUMN_PK}")
+                sql.append(" AND $localizedAlias.${FxSSqlMapping.COLUMN_LANGUAGE_PK} = ")
+                appendParameter("language(${localizedName ?: "session"})")
+                sql.append(") ")
+            } else {
+                sql.append(" ${mapping.alias}.$column ")
+            }
+
+            columns.add(FxSSqlColumnMapping(columnRef, mapping, column, attribute, localized))
+        }
+
+        // `{alias.*}`
+        private fun translateResultColumn(resultColumn: FlexibleSearchResultColumn) {
+            val selectedTableName = resultColumn.selectedTableName
+            if (resultColumn.firstChild.elementType != FlexibleSearchTypes.LBRACE || selectedTableName == null) return translateChildren(resultColumn)
+
+            val name = FxSUtils.getTableAliasName(selectedTableName.text)
+            val alias = tables.values
+                .firstOrNull { it.alias.equals(name, true) || it.element.tableName.equals(name, true) }
+                ?.alias
+                ?: name
+
+            sql.append(" $alias.* ")
+        }
+
+        private fun appendRestriction(restriction: Restriction) {
+            sql.append(restriction.sql)
+            parameters.add(restriction.parameter)
+        }
+
+        private fun appendParameter(name: String) {
+            sql.append(' ').append(parameter).append(' ')
+            parameters.add(name)
+        }
+    }
+
+    private data class Restriction(val sql: String, val parameter: String)
+}
+
+/**
+ * @param parameters descriptions of the parameters in order of their placeholders in the [sql]
+ */
+data class FxSSqlTranslation(
+    val sql: String,
+    val parameters: List<String>,
+    val tables: List<FxSSqlTableMapping>,
+    val columns: List<FxSSqlColumnMapping>,
+)
+
+data class FxSSqlTableMapping(
+    val element: FlexibleSearchDefinedTableName,
+    val table: String,
+    val alias: String,
+    val metaItem: TSGlobalMetaItem?,
+    val relation: TSGlobalMetaRelation?,
+)
+
+data class FxSSqlColumnMapping(
+    val element: FlexibleSearchColumnRefYExpression,
+    val table: FxSSqlTableMapping,
+    val column: String,
+    val attribute: TSGlobalMetaItemAttribute?,
+    val isLocalized: Boolean,
+)
@@ -0,0 +1,81 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.intellij.idea.plugin.hybris.gotoClass
+
+import com.intellij.idea.plugin.hybris.common.HybrisConstants
+import com.intellij.idea.plugin.hybris.common.HybrisUtil
+import com.intellij.openapi.components.Service
+import com.intellij.openapi.project.Project
+import com.intellij.openapi.roots.OrderEnumerator
+import com.intellij.openapi.roots.ProjectFileIndex
+import com.intellij.openapi.roots.ProjectRootManager
+import com.intellij.openapi.vfs.JarFileSystem
+import com.intellij.openapi.vfs.VirtualFile
+import com.intellij.psi.util.CachedValueProvider
+import com.intellij.psi.util.CachedValuesManager
+
+/**
+ * Library class roots of the OOTB code: jars of the platform `bootstrap/bin`, `models.jar` and `classes` directories of the extensions.
+ *
+ * Membership of a file is a hash lookup of its nearest class root, provided by the [ProjectFileIndex].
+ * Roots are re-collected on any change of the project roots.
+ */
+@Service(Service.Level.PROJECT)
+class OotbClassesRootsIndex(private val project: Project) {
+
+    private val cache = CachedValuesManager.getManager(project).createCachedValue(
+        {
+            CachedValueProvider.Result.create(collectRoots(), ProjectRootManager.getInstance(project))
+        }, false
+    )
+
+    fun contains(file: VirtualFile): Boolean {
+        val fileIndex = ProjectFileIndex.getInstance(project)
+
+        return contains(file, cache.value) { fileIndex.getClassRootForFile(it) }
+    }
+
+    private fun collectRoots(): Set<VirtualFile> = OrderEnumerator.orderEntries(project)
+        .withoutSdk()
+        .librariesOnly()
+        .classes()
+        .roots
+        .filter { isOotbRoot(it) }
+        .toHashSet()
+
+    private fun isOotbRoot(root: VirtualFile): Boolean {
+        val jar = JarFileSystem.getInstance().getVirtualFileForJar(root)
+
+        if (jar != null) {
+            return jar.name == HybrisConstants.JAR_MODELS
+                || jar.parent?.path?.endsWith(HybrisConstants.PLATFORM_BOOTSTRAP_DIRECTORY + '/' + HybrisConstants.BIN_DIRECTORY) == true
+        }
+
+        return root.isDirectory
+            && root.name == HybrisConstants.CLASSES_DIRECTORY
+            && root.parent?.let { HybrisUtil.isHybrisModuleRoot(it) } == true
+    }
+
+    companion object {
+        fun getInstance(project: Project): OotbClassesRootsIndex = project.getService(OotbClassesRootsIndex::class.java)
+
+        internal fun <F : Any> contains(file: F, roots: Set<F>, classRoot: (F) -> F?) = classRoot(file)
+            ?.let { it in roots }
+            ?: false
+    }
+}
@@ -18,44 +18,18 @@
 
 package com.intellij.idea.plugin.hybris.gotoClass
 
-import com.intellij.idea.plugin.hybris.common.HybrisConstants
-import com.intellij.idea.plugin.hybris.common.HybrisUtil
 import com.intellij.openapi.module.Module
 import com.intellij.openapi.project.Project
-import com.intellij.openapi.vfs.JarFileSystem
 import com.intellij.openapi.vfs.VirtualFile
 import com.intellij.psi.search.GlobalSearchScope
 
 class OotbClassesSearchScope(project: Project) : GlobalSearchScope(project) {
 
+    private val rootsIndex = OotbClassesRootsIndex.getInstance(project)
+
     override fun isSearchInModuleContent(module: Module) = false
 
     override fun isSearchInLibraries() = true
 
-    override fun contains(file: VirtualFile): Boolean {
-        var virtualFile: VirtualFile? = file
-
-        while (isNotClassesOrDirectories(virtualFile)) {
-            virtualFile = virtualFile?.parent
-        }
-        if (virtualFile == null) return false
-
-        if (virtualFile.name == HybrisConstants.CLASSES_DIRECTORY) {
-            return virtualFile.parent
-                ?.let { HybrisUtil.isHybrisModuleRoot(virtualFile) }
-                ?: false
-        }
-
-        return JarFileSystem.getInstance().getVirtualFileForJar(file)
-            ?.parent
-            ?.path
-            ?.endsWith(HybrisConstants.PLATFORM_BOOTSTRAP_DIRECTORY + '/' + HybrisConstants.BIN_DIRECTORY)
-            ?: false
-    }
-
-    private fun isNotClassesOrDirectories(f: VirtualFile?) = f != null
-        && !(f.isDirectory && (isClassesOrModels(f)))
-
-    private fun isClassesOrModels(f: VirtualFile) = f.name == HybrisConstants.CLASSES_DIRECTORY
-        || f.name == HybrisConstants.JAR_MODELS
+    override fun contains(file: VirtualFile) = rootsIndex.contains(file)
 }
@@ -17,7 +17,7 @@
  */
 package com.intellij.idea.plugin.hybris.impex.actions
 
-import com.intellij.idea.plugin.hybris.impex.assistance.event.ImpexHighlightingCaretListener
+import com.intellij.idea.plugin.hybris.impex.editor.ImpExViewportHighlighter
 import com.intellij.idea.plugin.hybris.impex.psi.ImpexFullHeaderParameter
 import com.intellij.idea.plugin.hybris.impex.psi.ImpexHeaderLine
 import com.intellij.idea.plugin.hybris.impex.psi.ImpexValueGroup
@@ -45,7 +45,7 @@ abstract class AbstractImpExTableColumnMoveAction(private val direction: ImpExCo
         run(project, "Moving the '${headerParameter.text}' column ${direction.name.lowercase(Locale.ROOT)}") {
             WriteCommandAction.runWriteCommandAction(project) {
                 PostprocessReformattingAspect.getInstance(project).disablePostprocessFormattingInside {
-                    ImpexHighlightingCaretListener.getInstance().clearHighlightedArea(editor)
+                    ImpExViewportHighlighter.getInstance(editor)?.clearColumn()
 
                     val headerLine = headerParameter.headerLine ?: return@disablePostprocessFormattingInside
                     val column = headerParameter.columnNumber
@@ -25,13 +25,10 @@ import com.intellij.idea.plugin.hybris.impex.constants.InterceptorType
 import com.intellij.idea.plugin.hybris.impex.psi.ImpexAnyAttributeName
 import com.intellij.idea.plugin.hybris.impex.psi.ImpexAnyAttributeValue
 import com.intellij.idea.plugin.hybris.java.completion.JavaClassCompletionService
-import com.intellij.idea.plugin.hybris.project.utils.Plugin
-import com.intellij.idea.plugin.hybris.spring.SpringHelper
+import com.intellij.idea.plugin.hybris.system.spring.SpringTypeCodeRegistry
 import com.intellij.idea.plugin.hybris.system.type.codeInsight.completion.TSCompletionService
 import com.intellij.idea.plugin.hybris.system.type.meta.model.TSMetaType
 import com.intellij.openapi.project.Project
-import com.intellij.psi.JavaPsiFacade
-import com.intellij.psi.search.GlobalSearchScope
 
 /**
  * https://help.sap.com/docs/SAP_COMMERCE/d0224eca81e249cb821f2cdf45a82ace/1c8f5bebdc6e434782ff0cfdb0ca1847.html?locale=en-US
@@ -51,20 +48,13 @@ enum class TypeModifier(
             .toSet()
     },
     DISABLE_INTERCEPTOR_BEANS("disable.interceptor.beans") {
-        override fun getLookupElements(project: Project): Set<LookupElement> {
-            if (Plugin.SPRING.isDisabled()) return emptySet()
-
-            val interceptorClass = JavaPsiFacade.getInstance(project)
-                .findClass(HybrisConstants.CLASS_FQN_INTERCEPTOR_MAPPING, GlobalSearchScope.allScope(project))
-                ?: return emptySet()
-
-            return SpringHelper.resolveInterceptorBeansLazy(interceptorClass).value
-                .mapNotNull {
-                    it.springBean.beanName
-                        ?.let { lookupElement -> ImpExLookupElementFactory.buildInterceptor(lookupElement, it.beanClass?.name) }
-                }
-                .toSet()
-        }
+        override fun getLookupElements(project: Project): Set<LookupElement> = SpringTypeCodeRegistry.getInstance(project)
+            .getInterceptorMappings()
+            .mapNotNull {
+                it.interceptorBeanId
+                    ?.let { lookupElement -> ImpExLookupElementFactory.buildInterceptor(lookupElement, it.interceptorClass?.substringAfterLast('.')) }
+            }
+            .toSet()
     },
     DISABLE_INTERCEPTOR_TYPES("disable.interceptor.types") {
         override fun getLookupElements(project: Project) = InterceptorType.entries
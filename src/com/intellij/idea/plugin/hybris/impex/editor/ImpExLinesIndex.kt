@@ -0,0 +1,72 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.impex.editor
+
+import java.util.*
+import kotlin.math.max
+
+/**
+ * Document line numbers of the header and value lines of each ImpEx header block.
+ *
+ * Lines of the visible area are resolved with the binary search, so the cost does not depend on the size of the file.
+ *
+ * @param headerLines sorted line numbers of the header lines
+ * @param valueLines sorted line numbers of the value lines of each header block
+ */
+class ImpExLinesIndex(
+    private val headerLines: IntArray,
+    private val valueLines: Array<IntArray>
+) {
+
+    val linesCount = headerLines.size + valueLines.sumOf { it.size }
+
+    fun forEachLine(fromLine: Int, toLine: Int, consumer: (Int, LineKind) -> Unit) {
+        var block = max(0, upperBound(headerLines, fromLine) - 1)
+
+        while (block < headerLines.size && headerLines[block] <= toLine) {
+            if (headerLines[block] >= fromLine) consumer(headerLines[block], LineKind.HEADER)
+
+            getValueLines(block, fromLine, toLine).forEach {
+                val kind = if ((it + 1) % 2 == 0) LineKind.VALUE_EVEN
+                else LineKind.VALUE_ODD
+                consumer(valueLines[block][it], kind)
+            }
+            block++
+        }
+    }
+
+    /**
+     * Indexes of the value lines of the header block placed between the given lines.
+     */
+    fun getValueLines(block: Int, fromLine: Int, toLine: Int): IntRange {
+        val lines = valueLines.getOrNull(block) ?: return IntRange.EMPTY
+
+        return upperBound(lines, fromLine - 1) until upperBound(lines, toLine)
+    }
+
+    // index of the first element greater than the key
+    private fun upperBound(array: IntArray, key: Int): Int {
+        val index = Arrays.binarySearch(array, key)
+        return if (index >= 0) index + 1 else -index - 1
+    }
+
+    enum class LineKind {
+        HEADER, VALUE_ODD, VALUE_EVEN
+    }
+}
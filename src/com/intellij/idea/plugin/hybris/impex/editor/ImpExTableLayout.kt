@@ -0,0 +1,76 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.impex.editor
+
+import com.intellij.idea.plugin.hybris.impex.psi.ImpexFile
+import com.intellij.idea.plugin.hybris.impex.psi.ImpexHeaderLine
+import com.intellij.idea.plugin.hybris.impex.psi.ImpexValueLine
+import com.intellij.openapi.util.TextRange
+import com.intellij.psi.util.CachedValueProvider
+import com.intellij.psi.util.CachedValuesManager
+
+/**
+ * Layout of the ImpEx header blocks of the file, cached until the next modification of the file.
+ */
+class ImpExTableLayout private constructor(
+    private val headerLines: List<ImpexHeaderLine>,
+    private val headerOffsets: IntArray,
+    private val valueLines: List<List<ImpexValueLine>>,
+    val lines: ImpExLinesIndex
+) {
+
+    /**
+     * Text ranges of the values of the given column placed between the given lines.
+     */
+    fun getColumnValues(headerLine: ImpexHeaderLine, column: Int, fromLine: Int, toLine: Int): List<TextRange> {
+        val block = headerOffsets.binarySearch(headerLine.textOffset)
+        if (block < 0 || headerLines[block] != headerLine) return emptyList()
+
+        return lines.getValueLines(block, fromLine, toLine)
+            .mapNotNull {
+                valueLines[block][it]
+                    .takeIf { valueLine -> valueLine.isValid }
+                    ?.getValueGroup(column)
+                    ?.value
+                    ?.textRange
+            }
+    }
+
+    companion object {
+        fun getInstance(file: ImpexFile): ImpExTableLayout? = CachedValuesManager.getCachedValue(file) {
+            CachedValueProvider.Result.create(build(file), file)
+        }
+
+        private fun build(file: ImpexFile): ImpExTableLayout? {
+            val document = file.viewProvider.document ?: return null
+            val headerLines = file.getHeaderLines()
+            val keys = headerLines.keys.toList()
+            val values = keys.map { headerLines[it]?.toList() ?: emptyList() }
+            // header lines are in the document order, so the header block is found with the binary search by offset
+            val offsets = keys.map { it.textOffset }.toIntArray()
+
+            val lines = ImpExLinesIndex(
+                offsets.map { document.getLineNumber(it) }.toIntArray(),
+                values.map { valueLines -> valueLines.map { document.getLineNumber(it.textOffset) }.toIntArray() }.toTypedArray()
+            )
+
+            return ImpExTableLayout(keys, offsets, values, lines)
+        }
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.impex.editor
+
+import com.intellij.codeInsight.folding.impl.FoldingUtil
+import com.intellij.codeInsight.highlighting.HighlightManager
+import com.intellij.idea.plugin.hybris.common.services.CommonIdeaService
+import com.intellij.idea.plugin.hybris.impex.ImpexLanguage
+import com.intellij.idea.plugin.hybris.impex.editor.ImpExLinesIndex.LineKind
+import com.intellij.idea.plugin.hybris.impex.highlighting.ImpexHighlighterColors
+import com.intellij.idea.plugin.hybris.impex.psi.ImpexFile
+import com.intellij.idea.plugin.hybris.impex.psi.ImpexFullHeaderParameter
+import com.intellij.idea.plugin.hybris.impex.psi.ImpexHeaderLine
+import com.intellij.idea.plugin.hybris.impex.utils.ImpexPsiUtils
+import com.intellij.openapi.Disposable
+import com.intellij.openapi.application.ModalityState
+import com.intellij.openapi.application.ReadAction
+import com.intellij.openapi.editor.Editor
+import com.intellij.openapi.editor.colors.EditorColors
+import com.intellij.openapi.editor.event.*
+import com.intellij.openapi.editor.ex.util.EditorUtil
+import com.intellij.openapi.editor.markup.HighlighterLayer
+import com.intellij.openapi.editor.markup.RangeHighlighter
+import com.intellij.openapi.project.Project
+import com.intellij.openapi.util.Key
+import com.intellij.psi.PsiDocumentManager
+import com.intellij.psi.util.PsiUtilBase
+import com.intellij.util.Alarm
+import com.intellij.util.asSafely
+import com.intellij.util.concurrency.AppExecutorUtil
+import java.awt.Point
+import kotlin.math.max
+import kotlin.math.min
+
+/**
+ * Highlights header and value lines of the ImpEx file and the column under caret, but only within the visible area of the editor.
+ *
+ * Highlighters are re-created when the editor is scrolled out of the already highlighted lines, on caret movement
+ * and on document changes, so their number depends on the size of the viewport instead of the size of the file.
+ * Document changes are coalesced, so the layout is re-computed once per typing pause instead of on every keystroke.
+ * Visible lines are resolved via the [ImpExTableLayout] cached for the file.
+ */
+class ImpExViewportHighlighter private constructor(
+    private val editor: Editor,
+    private val project: Project,
+    private val lineHighlightingEnabled: Boolean
+) : Disposable, VisibleAreaListener, CaretListener, DocumentListener {
+
+    private val lineHighlighters = mutableListOf<RangeHighlighter>()
+    private val columnHighlighters = mutableListOf<RangeHighlighter>()
+    private var highlightedLines = IntRange.EMPTY
+    private var layout: ImpExTableLayout? = null
+    private var columnSelection: ColumnSelection? = null
+    private val refreshAlarm = Alarm(Alarm.ThreadToUse.SWING_THREAD, this)
+
+    override fun visibleAreaChanged(e: VisibleAreaEvent) {
+        val visibleLines = getVisibleLines()
+        if (visibleLines.first >= highlightedLines.first && visibleLines.last <= highlightedLines.last) return
+
+        highlightLines(visibleLines)
+        highlightColumn(visibleLines)
+    }
+
+    override fun documentChanged(event: DocumentEvent) {
+        refreshAlarm.cancelAllRequests()
+        refreshAlarm.addRequest({ refresh() }, REFRESH_DELAY)
+    }
+
+    override fun caretPositionChanged(event: CaretEvent) {
+        if (CommonIdeaService.getInstance().isTypingActionInProgress()) return
+        if (project.isDisposed) return
+
+        ReadAction
+            .nonBlocking<ColumnSelection?> {
+                if (PsiUtilBase.getLanguageInEditor(editor, project) !is ImpexLanguage) return@nonBlocking null
+
+                ImpexPsiUtils.getHeaderOfValueGroupUnderCaret(editor)
+                    ?.asSafely<ImpexFullHeaderParameter>()
+                    ?.let { ColumnSelection(it, it.headerLine, it.columnNumber, false) }
+                    ?: ImpexPsiUtils.getFullHeaderParameterUnderCaret(editor)
+                        ?.let { ColumnSelection(it, it.headerLine, it.columnNumber, true) }
+            }
+            .withDocumentsCommitted(project)
+            .expireWhen { editor.isDisposed }
+            .finishOnUiThread(ModalityState.defaultModalityState()) {
+                if (it == columnSelection) return@finishOnUiThread
+
+                columnSelection = it
+                highlightColumn(getVisibleLines())
+            }
+            .submit(AppExecutorUtil.getAppExecutorService())
+    }
+
+    fun clearColumn() {
+        columnSelection = null
+        removeColumnHighlighters()
+    }
+
+    override fun dispose() {
+        editor.putUserData(KEY, null)
+        removeLineHighlighters()
+        removeColumnHighlighters()
+    }
+
+    /**
+     * Re-computes the layout of the file in background and re-highlights the visible area.
+     */
+    private fun refresh() {
+        ReadAction
+            .nonBlocking<ImpExTableLayout?> {
+                PsiDocumentManager.getInstance(project).getPsiFile(editor.document)
+                    ?.asSafely<ImpexFile>()
+                    ?.let { ImpExTableLayout.getInstance(it) }
+            }
+            .withDocumentsCommitted(project)
+            .expireWhen { editor.isDisposed }
+            .coalesceBy(this)
+            .finishOnUiThread(ModalityState.defaultModalityState()) {
+                layout = it
+
+                val visibleLines = getVisibleLines()
+                highlightLines(visibleLines)
+                highlightColumn(visibleLines)
+            }
+            .submit(AppExecutorUtil.getAppExecutorService())
+    }
+
+    private fun highlightLines(visibleLines: IntRange) {
+        removeLineHighlighters()
+
+        if (!lineHighlightingEnabled) return
+        val layout = layout ?: return
+        val markupModel = editor.markupModel
+
+        layout.lines.forEachLine(visibleLines.first, visibleLines.last) { line, kind ->
+            lineHighlighters.add(markupModel.addLineHighlighter(getTextAttributesKey(kind), line, HighlighterLayer.SYNTAX))
+        }
+        highlightedLines = visibleLines
+    }
+
+    private fun highlightColumn(visibleLines: IntRange) {
+        removeColumnHighlighters()
+
+        val selection = columnSelection
+            ?.takeIf { it.headerParameter.isValid }
+            ?: return
+
+        val textRanges = if (selection.values) {
+            val headerLine = selection.headerLine ?: return
+
+            layout
+                ?.getColumnValues(headerLine, selection.column, visibleLines.first, visibleLines.last)
+                ?: return
+        } else {
+            listOf(selection.headerParameter.textRange)
+        }
+
+        val highlightManager = HighlightManager.getInstance(project)
+        textRanges
+            .filterNot { FoldingUtil.isTextRangeFolded(editor, it) }
+            .forEach {
+                highlightManager.addRangeHighlight(
+                    editor, it.startOffset, it.endOffset, EditorColors.SEARCH_RESULT_ATTRIBUTES, false, columnHighlighters
+                )
+            }
+    }
+
+    // viewport is extended by its own height in both directions to avoid re-highlighting on every scroll
+    private fun getVisibleLines(): IntRange {
+        val visibleArea = editor.scrollingModel.visibleArea
+        val firstLine = editor.xyToLogicalPosition(Point(0, visibleArea.y)).line
+        val lastLine = editor.xyToLogicalPosition(Point(0, visibleArea.y + visibleArea.height)).line
+        val margin = lastLine - firstLine
+
+        return max(0, firstLine - margin)..min(editor.document.lineCount - 1, lastLine + margin)
+    }
+
+    private fun removeLineHighlighters() {
+        val markupModel = editor.markupModel
+
+        lineHighlighters.forEach { markupModel.removeHighlighter(it) }
+        lineHighlighters.clear()
+        highlightedLines = IntRange.EMPTY
+    }
+
+    private fun removeColumnHighlighters() {
+        if (columnHighlighters.isEmpty()) return
+
+        val highlightManager = HighlightManager.getInstance(project)
+
+        columnHighlighters.forEach { highlightManager.removeSegmentHighlighter(editor, it) }
+        columnHighlighters.clear()
+    }
+
+    private fun getTextAttributesKey(kind: LineKind) = when (kind) {
+        LineKind.HEADER -> ImpexHighlighterColors.HEADER_LINE
+        LineKind.VALUE_ODD -> ImpexHighlighterColors.VALUE_LINE_ODD
+        LineKind.VALUE_EVEN -> ImpexHighlighterColors.VALUE_LINE_EVEN
+    }
+
+    private data class ColumnSelection(
+        val headerParameter: ImpexFullHeaderParameter,
+        val headerLine: ImpexHeaderLine?,
+        val column: Int,
+        val values: Boolean
+    )
+
+    companion object {
+        private val KEY = Key.create<ImpExViewportHighlighter>("IMPEX_VIEWPORT_HIGHLIGHTER")
+        private const val REFRESH_DELAY = 300
+
+        fun getInstance(editor: Editor): ImpExViewportHighlighter? = editor.getUserData(KEY)
+
+        fun install(editor: Editor, project: Project, lineHighlightingEnabled: Boolean) {
+            if (getInstance(editor) != null) return
+
+            val highlighter = ImpExViewportHighlighter(editor, project, lineHighlightingEnabled)
+            editor.putUserData(KEY, highlighter)
+            EditorUtil.disposeWithEditor(editor, highlighter)
+
+            editor.scrollingModel.addVisibleAreaListener(highlighter, highlighter)
+            editor.caretModel.addCaretListener(highlighter, highlighter)
+            editor.document.addDocumentListener(highlighter, highlighter)
+
+            highlighter.refresh()
+        }
+    }
+}
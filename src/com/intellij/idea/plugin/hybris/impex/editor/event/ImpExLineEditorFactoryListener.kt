@@ -18,49 +18,21 @@
 
 package com.intellij.idea.plugin.hybris.impex.editor.event
 
-import com.intellij.idea.plugin.hybris.impex.editor.ImpExEditorMarkupModelHelper
+import com.intellij.idea.plugin.hybris.impex.editor.ImpExViewportHighlighter
 import com.intellij.idea.plugin.hybris.impex.psi.ImpexFile
-import com.intellij.openapi.application.readAction
-import com.intellij.openapi.components.Service
-import com.intellij.openapi.components.service
-import com.intellij.openapi.editor.Editor
 import com.intellij.openapi.editor.event.EditorFactoryEvent
 import com.intellij.openapi.editor.event.EditorFactoryListener
-import com.intellij.openapi.project.Project
 import com.intellij.psi.PsiDocumentManager
-import com.intellij.util.asSafely
-import kotlinx.coroutines.CoroutineScope
-import kotlinx.coroutines.launch
 
 class ImpExLineEditorFactoryListener : EditorFactoryListener {
 
     override fun editorCreated(event: EditorFactoryEvent) {
         val editor = event.editor
         val project = editor.project ?: return
+        val psiFile = PsiDocumentManager.getInstance(project).getPsiFile(editor.document)
+            ?.takeIf { it is ImpexFile }
+            ?: return
 
-        project.service<ImpExLineHighlighterService>().highlight(editor)
+        ImpExViewportHighlighter.install(editor, project, psiFile.isPhysical)
     }
 }
-
-@Service(Service.Level.PROJECT)
-private class ImpExLineHighlighterService(private val project: Project, private val coroutineScope: CoroutineScope) {
-
-    fun highlight(editor: Editor) {
-        coroutineScope.launch {
-            val headerLines = readAction {
-                PsiDocumentManager.getInstance(project).getPsiFile(editor.document)
-                    ?.takeIf { it.isPhysical }
-                    ?.asSafely<ImpexFile>()
-                    ?.getHeaderLines()
-            } ?: return@launch
-
-            headerLines.entries.forEach {
-                ImpExEditorMarkupModelHelper.highlightHeaderLine(editor, it.key.textOffset)
-
-                it.value.forEachIndexed { index, impexValueLine ->
-                    ImpExEditorMarkupModelHelper.highlightValueLine(editor, index, impexValueLine.textOffset)
-                }
-            }
-        }
-    }
-}
\ No newline at end of file
@@ -20,6 +20,7 @@
 package com.intellij.idea.plugin.hybris.impex.formatting
 
 import com.intellij.formatting.Alignment
+import com.intellij.formatting.Spacing
 import com.intellij.lang.ASTNode
 
 interface ImpExAlignmentStrategy {
@@ -27,4 +28,9 @@ interface ImpExAlignmentStrategy {
     fun getAlignment(currentNode: ASTNode): Alignment?
 
     fun processNode(currentNode: ASTNode)
+
+    /**
+     * Spacing before the given node, which takes precedence over the [ImpExSpacingBuilder] rules.
+     */
+    fun getSpacing(currentNode: ASTNode): Spacing? = null
 }
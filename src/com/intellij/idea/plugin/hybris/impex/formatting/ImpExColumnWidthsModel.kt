@@ -0,0 +1,219 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.impex.formatting
+
+import com.intellij.formatting.Alignment
+import com.intellij.idea.plugin.hybris.impex.psi.ImpexTypes
+import com.intellij.lang.ASTNode
+import com.intellij.openapi.util.text.StringUtil
+import com.intellij.psi.TokenType
+import kotlin.math.max
+
+/**
+ * Column layout of all ImpEx tables of the file, computed in a single pass over the AST.
+ *
+ * For each header block the start of every column is calculated upfront from the formatted widths of its cells,
+ * so the spacing before the cell can be set explicitly instead of chaining all cells of the column into a shared [Alignment].
+ *
+ * Shared alignments are still used for the first column, if some of its cells start the line,
+ * and for all columns of the header block containing multi-line cells.
+ */
+class ImpExColumnWidthsModel private constructor(
+    private val spacingBuilder: ImpExSpacingBuilder,
+    private val tablify: Boolean
+) {
+
+    private val spaces = HashMap<ASTNode, Int>()
+    private val alignments = HashMap<ASTNode, Alignment>()
+
+    fun getSpaces(node: ASTNode) = spaces[node]
+    fun getAlignment(node: ASTNode) = alignments[node]
+
+    private fun build(file: ASTNode) {
+        val rows = mutableListOf<Row>()
+        var node = file.firstChildNode
+
+        while (node != null) {
+            when (node.elementType) {
+                ImpexTypes.HEADER_LINE -> {
+                    layout(rows)
+                    if (tablify) row(node)?.let { rows.add(it) }
+                }
+
+                ImpexTypes.VALUE_LINE -> row(node)?.let { rows.add(it) }
+                ImpexTypes.USER_RIGHTS -> layout(rows)
+            }
+            node = node.treeNext
+        }
+        layout(rows)
+    }
+
+    private fun layout(rows: MutableList<Row>) {
+        if (rows.isEmpty()) return
+
+        val columns = rows.maxOf { it.cells.size }
+        val columnAlignments = Array(columns) { Alignment.createAlignment(true, Alignment.Anchor.LEFT) }
+
+        if (rows.any { it.metrics == null }) {
+            rows.forEach { row -> row.cells.forEachIndexed { column, cell -> alignments[cell] = columnAlignments[column] } }
+        } else {
+            val metrics = rows.map { it.metrics!! }
+            val starts = computeStarts(metrics)
+            // cell at the start of the line cannot be moved by the spacing
+            val alignFirstColumn = metrics.any { it.prefix == null }
+
+            rows.forEachIndexed { index, row ->
+                row.cells.forEachIndexed { column, cell ->
+                    if (column == 0 && alignFirstColumn) alignments[cell] = columnAlignments[0]
+                    else spaces[cell] = starts[column] - end(metrics[index], column - 1, starts)
+                }
+            }
+        }
+
+        rows.clear()
+    }
+
+    private fun row(line: ASTNode): Row? {
+        val blocks = mutableListOf<ASTNode>()
+        val gaps = mutableListOf<Int?>()
+        var gap = Gap()
+        var child = line.firstChildNode
+
+        while (child != null) {
+            if (ImpexBlock.isBlock(child)) {
+                gaps.add(if (blocks.isEmpty()) gap.verbatim() else gap.spaces(blocks.last(), child))
+                blocks.add(child)
+                gap = Gap()
+            } else {
+                gap.add(child)
+            }
+            child = child.treeNext
+        }
+
+        val columns = blocks.indices.filter { isColumn(blocks[it]) }
+        if (columns.isEmpty()) return null
+
+        return Row(columns.map { blocks[it] }, metrics(blocks, gaps, columns))
+    }
+
+    private fun metrics(blocks: List<ASTNode>, gaps: List<Int?>, columns: List<Int>): Metrics? {
+        val prefix = if (columns[0] == 0) null
+        else width(blocks, gaps, 0, columns[0]) ?: return null
+
+        val columnGaps = IntArray(columns.size)
+        val widths = IntArray(columns.size - 1)
+
+        for (column in columns.indices) {
+            if (columns[column] > 0) columnGaps[column] = gaps[columns[column]] ?: return null
+            // width of the last cell does not affect the layout
+            if (column < widths.size) widths[column] = width(blocks, gaps, columns[column], columns[column + 1]) ?: return null
+        }
+
+        return Metrics(prefix, columnGaps, widths)
+    }
+
+    private fun width(blocks: List<ASTNode>, gaps: List<Int?>, from: Int, to: Int): Int? {
+        var width = 0
+        for (index in from until to) {
+            if (index > from) width += gaps[index] ?: return null
+            width += width(blocks[index]) ?: return null
+        }
+        return width
+    }
+
+    /**
+     * Formatted width of the block: nested blocks are separated according to the spacing rules, everything else is kept as is.
+     *
+     * @return `null` if the block spans multiple lines
+     */
+    private fun width(block: ASTNode): Int? {
+        var width = 0
+        var previous: ASTNode? = null
+        var gap = Gap()
+        var child = block.firstChildNode
+
+        while (child != null) {
+            if (ImpexBlock.isBlock(child)) {
+                width += (if (previous == null) gap.verbatim() else gap.spaces(previous, child)) ?: return null
+                width += width(child) ?: return null
+                previous = child
+                gap = Gap()
+            } else {
+                gap.add(child)
+            }
+            child = child.treeNext
+        }
+
+        return if (previous == null) block.textLength.takeUnless { StringUtil.containsLineBreak(block.chars) }
+        else gap.verbatim()?.let { width + it }
+    }
+
+    private fun isColumn(node: ASTNode) = node.elementType == ImpexTypes.VALUE_GROUP
+        || tablify && node.elementType == ImpexTypes.PARAMETERS_SEPARATOR
+
+    private inner class Gap {
+        private var length = 0
+        private var lineBreak = false
+        private var whiteSpace = true
+
+        fun add(node: ASTNode) {
+            length += node.textLength
+            lineBreak = lineBreak || StringUtil.containsLineBreak(node.chars)
+            whiteSpace = whiteSpace && node.elementType == TokenType.WHITE_SPACE
+        }
+
+        fun verbatim() = length.takeUnless { lineBreak }
+
+        fun spaces(left: ASTNode, right: ASTNode) = if (whiteSpace) spacingBuilder.getSpaces(left.elementType, right.elementType) ?: verbatim()
+        else verbatim()
+    }
+
+    private class Row(val cells: List<ASTNode>, val metrics: Metrics?)
+
+    /**
+     * @param prefix width of the content before the first column, `null` if the first column starts the line
+     * @param gaps minimal spacing before each column
+     * @param widths width of each column except the last one
+     */
+    internal class Metrics(val prefix: Int?, val gaps: IntArray, val widths: IntArray)
+
+    companion object {
+
+        fun build(file: ASTNode, spacingBuilder: ImpExSpacingBuilder, tablify: Boolean) = ImpExColumnWidthsModel(spacingBuilder, tablify)
+            .apply { build(file) }
+
+        /**
+         * Start of each column, same as if all cells of the column were aligned:
+         * the column starts right after the longest content before it, including the minimal spacing.
+         */
+        internal fun computeStarts(rows: List<Metrics>): IntArray {
+            val starts = IntArray(rows.maxOfOrNull { it.gaps.size } ?: 0)
+
+            for (column in starts.indices) {
+                for (row in rows) {
+                    if (column < row.gaps.size) starts[column] = max(starts[column], end(row, column - 1, starts) + row.gaps[column])
+                }
+            }
+            return starts
+        }
+
+        internal fun end(row: Metrics, column: Int, starts: IntArray) = if (column < 0) row.prefix ?: 0
+        else starts[column] + row.widths[column]
+    }
+}
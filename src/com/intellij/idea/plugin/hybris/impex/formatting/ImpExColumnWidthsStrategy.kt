@@ -0,0 +1,58 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.impex.formatting
+
+import com.intellij.formatting.Alignment
+import com.intellij.formatting.Spacing
+import com.intellij.idea.plugin.hybris.impex.psi.ImpexTypes
+import com.intellij.lang.ASTNode
+import com.intellij.psi.impl.source.tree.TreeUtil
+
+/**
+ * Lays out ImpEx tables using the column widths precomputed by the [ImpExColumnWidthsModel].
+ *
+ * User rights blocks are small and have own rules for the lines, they are still aligned by the [ImpExColumnsAlignmentStrategy].
+ */
+class ImpExColumnWidthsStrategy(
+    private val spacingBuilder: ImpExSpacingBuilder,
+    private val tablify: Boolean
+) : ImpExAlignmentStrategy {
+
+    private val userRightsStrategy = if (tablify) ImpExTableAlignmentStrategy()
+    else ImpExColumnsAlignmentStrategy()
+    private var model: ImpExColumnWidthsModel? = null
+
+    override fun getAlignment(currentNode: ASTNode): Alignment? = if (isUserRights(currentNode)) userRightsStrategy.getAlignment(currentNode)
+    else model?.getAlignment(currentNode)
+
+    override fun getSpacing(currentNode: ASTNode): Spacing? = model?.getSpaces(currentNode)
+        ?.let { spacingBuilder.createSpacing(it) }
+
+    override fun processNode(currentNode: ASTNode) {
+        if (model == null) {
+            val file = currentNode.psi.containingFile.node
+            model = ImpExColumnWidthsModel.build(file, spacingBuilder, tablify)
+        }
+
+        if (isUserRights(currentNode)) userRightsStrategy.processNode(currentNode)
+    }
+
+    private fun isUserRights(currentNode: ASTNode) = currentNode.elementType == ImpexTypes.USER_RIGHTS
+        || TreeUtil.findParent(currentNode, ImpexTypes.USER_RIGHTS) != null
+}
@@ -18,77 +18,76 @@
 
 package com.intellij.idea.plugin.hybris.impex.formatting
 
+import com.intellij.formatting.Spacing
 import com.intellij.formatting.SpacingBuilder
 import com.intellij.idea.plugin.hybris.impex.ImpexLanguage
 import com.intellij.idea.plugin.hybris.impex.psi.ImpexTypes
 import com.intellij.psi.codeStyle.CodeStyleSettings
+import com.intellij.psi.tree.IElementType
 
 class ImpExSpacingBuilder(
     settings: CodeStyleSettings,
     impexSettings: ImpexCodeStyleSettings
 ) : SpacingBuilder(settings, ImpexLanguage) {
 
-    init {
-        this
-            .between(
-                ImpexTypes.ANY_HEADER_MODE,
-                ImpexTypes.FULL_HEADER_TYPE
-            )
-            .spaces(1)
-
-            .before(ImpexTypes.VALUE_GROUP)
-            .spaceIf(impexSettings.SPACE_BEFORE_FIELD_VALUE_SEPARATOR)
-
-            .after(ImpexTypes.FIELD_VALUE_SEPARATOR)
-            .spaceIf(impexSettings.SPACE_AFTER_FIELD_VALUE_SEPARATOR)
-
-            .before(ImpexTypes.PARAMETERS_SEPARATOR)
-            .spaceIf(impexSettings.SPACE_BEFORE_PARAMETERS_SEPARATOR)
+    private val rules = listOf(
+        spaceBetween(ImpexTypes.ANY_HEADER_MODE, ImpexTypes.FULL_HEADER_TYPE, true),
 
-            .after(ImpexTypes.PARAMETERS_SEPARATOR)
-            .spaceIf(impexSettings.SPACE_AFTER_PARAMETERS_SEPARATOR)
+        spaceBefore(ImpexTypes.VALUE_GROUP, impexSettings.SPACE_BEFORE_FIELD_VALUE_SEPARATOR),
+        spaceAfter(ImpexTypes.FIELD_VALUE_SEPARATOR, impexSettings.SPACE_AFTER_FIELD_VALUE_SEPARATOR),
 
-            .before(ImpexTypes.ATTRIBUTE_SEPARATOR)
-            .spaceIf(impexSettings.SPACE_BEFORE_ATTRIBUTE_SEPARATOR)
+        spaceBefore(ImpexTypes.PARAMETERS_SEPARATOR, impexSettings.SPACE_BEFORE_PARAMETERS_SEPARATOR),
+        spaceAfter(ImpexTypes.PARAMETERS_SEPARATOR, impexSettings.SPACE_AFTER_PARAMETERS_SEPARATOR),
 
-            .after(ImpexTypes.COMMA)
-            .spaceIf(impexSettings.SPACE_AFTER_COMMA)
+        spaceBefore(ImpexTypes.ATTRIBUTE_SEPARATOR, impexSettings.SPACE_BEFORE_ATTRIBUTE_SEPARATOR),
 
-            .before(ImpexTypes.COMMA)
-            .spaceIf(impexSettings.SPACE_BEFORE_COMMA)
+        spaceAfter(ImpexTypes.COMMA, impexSettings.SPACE_AFTER_COMMA),
+        spaceBefore(ImpexTypes.COMMA, impexSettings.SPACE_BEFORE_COMMA),
 
-            .after(ImpexTypes.ATTRIBUTE_SEPARATOR)
-            .spaceIf(impexSettings.SPACE_AFTER_ATTRIBUTE_SEPARATOR)
+        spaceAfter(ImpexTypes.ATTRIBUTE_SEPARATOR, impexSettings.SPACE_AFTER_ATTRIBUTE_SEPARATOR),
 
-            .before(ImpexTypes.FIELD_LIST_ITEM_SEPARATOR)
-            .spaceIf(impexSettings.SPACE_BEFORE_FIELD_LIST_ITEM_SEPARATOR)
+        spaceBefore(ImpexTypes.FIELD_LIST_ITEM_SEPARATOR, impexSettings.SPACE_BEFORE_FIELD_LIST_ITEM_SEPARATOR),
+        spaceAfter(ImpexTypes.FIELD_LIST_ITEM_SEPARATOR, impexSettings.SPACE_AFTER_FIELD_LIST_ITEM_SEPARATOR),
 
-            .after(ImpexTypes.FIELD_LIST_ITEM_SEPARATOR)
-            .spaceIf(impexSettings.SPACE_AFTER_FIELD_LIST_ITEM_SEPARATOR)
+        spaceAfter(ImpexTypes.ASSIGN_VALUE, impexSettings.SPACE_AFTER_ASSIGN_VALUE),
+        spaceBefore(ImpexTypes.ASSIGN_VALUE, impexSettings.SPACE_BEFORE_ASSIGN_VALUE),
 
-            .after(ImpexTypes.ASSIGN_VALUE)
-            .spaceIf(impexSettings.SPACE_AFTER_ASSIGN_VALUE)
+        spaceAfter(ImpexTypes.LEFT_ROUND_BRACKET, impexSettings.SPACE_AFTER_LEFT_ROUND_BRACKET),
+        spaceBefore(ImpexTypes.RIGHT_ROUND_BRACKET, impexSettings.SPACE_BEFORE_RIGHT_ROUND_BRACKET),
 
-            .before(ImpexTypes.ASSIGN_VALUE)
-            .spaceIf(impexSettings.SPACE_BEFORE_ASSIGN_VALUE)
+        spaceAfter(ImpexTypes.LEFT_SQUARE_BRACKET, impexSettings.SPACE_AFTER_LEFT_SQUARE_BRACKET),
+        spaceBefore(ImpexTypes.RIGHT_SQUARE_BRACKET, impexSettings.SPACE_BEFORE_RIGHT_SQUARE_BRACKET),
 
-            .after(ImpexTypes.LEFT_ROUND_BRACKET)
-            .spaceIf(impexSettings.SPACE_AFTER_LEFT_ROUND_BRACKET)
+        spaceAfter(ImpexTypes.ALTERNATIVE_PATTERN, impexSettings.SPACE_AFTER_ALTERNATIVE_PATTERN),
+        spaceBefore(ImpexTypes.ALTERNATIVE_PATTERN, impexSettings.SPACE_BEFORE_ALTERNATIVE_PATTERN),
+    )
 
-            .before(ImpexTypes.RIGHT_ROUND_BRACKET)
-            .spaceIf(impexSettings.SPACE_BEFORE_RIGHT_ROUND_BRACKET)
-
-            .after(ImpexTypes.LEFT_SQUARE_BRACKET)
-            .spaceIf(impexSettings.SPACE_AFTER_LEFT_SQUARE_BRACKET)
+    init {
+        rules.forEach {
+            when {
+                it.left != null && it.right != null -> between(it.left, it.right)
+                it.left != null -> after(it.left)
+                else -> before(it.right!!)
+            }
+                .spaces(it.spaces)
+        }
+    }
 
-            .before(ImpexTypes.RIGHT_SQUARE_BRACKET)
-            .spaceIf(impexSettings.SPACE_BEFORE_RIGHT_SQUARE_BRACKET)
+    /**
+     * Number of spaces between two sibling blocks, resolved in the same way as [getSpacing], first matching rule wins.
+     *
+     * @return `null` if there is no rule for the given blocks and the existing whitespace is kept as is
+     */
+    fun getSpaces(left: IElementType, right: IElementType) = rules
+        .firstOrNull { (it.left == null || it.left == left) && (it.right == null || it.right == right) }
+        ?.spaces
 
-            .after(ImpexTypes.ALTERNATIVE_PATTERN)
-            .spaceIf(impexSettings.SPACE_AFTER_ALTERNATIVE_PATTERN)
+    // same as the spacing created by the rules, line breaks are not kept
+    fun createSpacing(spaces: Int): Spacing = Spacing.createSpacing(spaces, spaces, 0, false, 0)
 
-            .before(ImpexTypes.ALTERNATIVE_PATTERN)
-            .spaceIf(impexSettings.SPACE_BEFORE_ALTERNATIVE_PATTERN)
-    }
+    private fun spaceBetween(left: IElementType, right: IElementType, space: Boolean) = Rule(left, right, if (space) 1 else 0)
+    private fun spaceBefore(right: IElementType, space: Boolean) = Rule(null, right, if (space) 1 else 0)
+    private fun spaceAfter(left: IElementType, space: Boolean) = Rule(left, null, if (space) 1 else 0)
 
-}
\ No newline at end of file
+    private data class Rule(val left: IElementType?, val right: IElementType?, val spaces: Int)
+}
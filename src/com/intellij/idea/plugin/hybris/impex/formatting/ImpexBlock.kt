@@ -62,7 +62,9 @@ class ImpexBlock(
     }
 
     override fun isLeaf() = myNode.firstChildNode == null
-    override fun getSpacing(child1: Block?, child2: Block): Spacing? = spacingBuilder.getSpacing(this, child1, child2)
+    override fun getSpacing(child1: Block?, child2: Block): Spacing? = (child2 as? ImpexBlock)
+        ?.let { alignmentStrategy.getSpacing(it.node) }
+        ?: spacingBuilder.getSpacing(this, child1, child2)
     override fun getIndent(): Indent = Indent.getNoneIndent()
 
     override fun buildChildren(): List<Block> {
@@ -75,7 +77,7 @@ class ImpexBlock(
         while (currentNode != null) {
             alignmentStrategy.processNode(currentNode)
 
-            if (isNewBlockToBeMade(currentNode)) {
+            if (isBlock(currentNode)) {
                 val block = ImpexBlock(
                     node = currentNode,
                     alignment = alignmentStrategy.getAlignment(currentNode),
@@ -92,13 +94,14 @@ class ImpexBlock(
         return blocks
     }
 
-    private fun isNewBlockToBeMade(currentNode: ASTNode) = currentNode.elementType != TokenType.WHITE_SPACE
-        && currentNode.elementType != ImpexTypes.CRLF
-        && currentNode.elementType != ImpexTypes.ATTRIBUTE_NAME
-        && currentNode.elementType != ImpexTypes.ATTRIBUTE_VALUE
-        && currentNode.elementType != ImpexTypes.HEADER_TYPE
-        && currentNode.elementType != ImpexTypes.VALUE_SUBTYPE
-        && currentNode.treeParent.elementType != ImpexTypes.VALUE
-        && currentNode.treeParent.elementType != ImpexTypes.ANY_ATTRIBUTE_VALUE
-
+    companion object {
+        fun isBlock(currentNode: ASTNode) = currentNode.elementType != TokenType.WHITE_SPACE
+            && currentNode.elementType != ImpexTypes.CRLF
+            && currentNode.elementType != ImpexTypes.ATTRIBUTE_NAME
+            && currentNode.elementType != ImpexTypes.ATTRIBUTE_VALUE
+            && currentNode.elementType != ImpexTypes.HEADER_TYPE
+            && currentNode.elementType != ImpexTypes.VALUE_SUBTYPE
+            && currentNode.treeParent.elementType != ImpexTypes.VALUE
+            && currentNode.treeParent.elementType != ImpexTypes.ANY_ATTRIBUTE_VALUE
+    }
 }
\ No newline at end of file
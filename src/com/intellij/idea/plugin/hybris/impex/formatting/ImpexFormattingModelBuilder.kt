@@ -22,28 +22,25 @@ import com.intellij.formatting.FormattingContext
 import com.intellij.formatting.FormattingModel
 import com.intellij.formatting.FormattingModelBuilder
 import com.intellij.formatting.FormattingModelProvider
-import com.intellij.psi.codeStyle.CodeStyleSettings
 
-class ImpexFormattingModelBuilder : FormattingModelBuilder {
+open class ImpexFormattingModelBuilder : FormattingModelBuilder {
 
     override fun createModel(formattingContext: FormattingContext): FormattingModel {
         val element = formattingContext.psiElement
         val settings = formattingContext.codeStyleSettings
+        val impexSettings = settings.getCustomSettings(ImpexCodeStyleSettings::class.java)
+        val spacingBuilder = ImpExSpacingBuilder(settings, impexSettings)
         val impexBlock = ImpexBlock(
             node = element.node,
-            spacingBuilder = ImpExSpacingBuilder(settings, settings.getCustomSettings(ImpexCodeStyleSettings::class.java)),
+            spacingBuilder = spacingBuilder,
             codeStyleSettings = settings,
-            alignmentStrategy = getAlignmentStrategy(settings)
+            alignmentStrategy = createAlignmentStrategy(spacingBuilder, impexSettings)
         )
 
         return FormattingModelProvider.createFormattingModelForPsiFile(element.containingFile, impexBlock, settings)
     }
 
-    private fun getAlignmentStrategy(settings: CodeStyleSettings): ImpExAlignmentStrategy {
-        val impexCodeStyleSettings = settings.getCustomSettings(ImpexCodeStyleSettings::class.java)
-
-        return if (impexCodeStyleSettings.TABLIFY) ImpExTableAlignmentStrategy()
-        else ImpExColumnsAlignmentStrategy()
-    }
+    protected open fun createAlignmentStrategy(spacingBuilder: ImpExSpacingBuilder, impexSettings: ImpexCodeStyleSettings): ImpExAlignmentStrategy =
+        ImpExColumnWidthsStrategy(spacingBuilder, impexSettings.TABLIFY)
 
 }
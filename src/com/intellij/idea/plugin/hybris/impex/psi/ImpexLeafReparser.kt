@@ -0,0 +1,108 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.impex.psi
+
+import com.intellij.idea.plugin.hybris.impex.ImpexLexerAdapter
+import com.intellij.lang.ASTFactory
+import com.intellij.lang.ASTNode
+import com.intellij.psi.impl.source.tree.TreeUtil
+import com.intellij.psi.tree.IElementType
+
+/**
+ * Incremental reparse of a single ImpEx token.
+ *
+ * ImpEx PSI is flat, header and value lines are siblings and the parser depends only on the token types,
+ * so if an edit keeps the sequence of token types unchanged, the tree structure is unchanged as well,
+ * and it is enough to replace the edited leaf. All other PSI elements of the file are preserved.
+ *
+ * Almost every ImpEx lexer state is reset on a line break, thus only the logical line of the edited token is re-lexed.
+ * Whenever that cannot be proven safe, `null` is returned and the platform falls back to a regular reparse.
+ */
+object ImpexLeafReparser {
+
+    // characters which may affect lexing of the neighbour lines: multi-line strings, line continuations and line breaks
+    private val NON_LOCAL_CHARS = charArrayOf('"', '\\', '\r', '\n')
+
+    @JvmStatic
+    fun reparse(leaf: ASTNode, newLeafText: CharSequence): ASTNode? {
+        val type = leaf.elementType
+        if (type == ImpexTypes.CRLF || type == ImpexTypes.MULTILINE_SEPARATOR) return null
+        if (newLeafText.isEmpty() || !isLocal(leaf.chars) || !isLocal(newLeafText)) return null
+        // lexer state of the user rights block survives line breaks
+        if (TreeUtil.findParent(leaf, ImpexTypes.USER_RIGHTS) != null) return null
+
+        val line = lineOf(leaf)
+        val index = line.indexOfFirst { it === leaf }
+        val tokens = line.map { Token(it.elementType, it.text) }
+
+        return if (canReplace(tokens, index, newLeafText.toString())) ASTFactory.leaf(type, newLeafText)
+        else null
+    }
+
+    /**
+     * Verifies that the line re-lexed from scratch reproduces the existing tokens, and that after replacing the text
+     * of the token at [index] with [newText] only that token changes, keeping its type.
+     */
+    internal fun canReplace(line: List<Token>, index: Int, newText: String): Boolean {
+        if (index !in line.indices) return false
+
+        val (oldTokens, oldState) = lex(line.joinToString("") { it.text })
+        if (oldTokens != line) return false
+
+        val expected = line.toMutableList()
+        expected[index] = Token(line[index].type, newText)
+
+        val (newTokens, newState) = lex(expected.joinToString("") { it.text })
+        return newState == oldState && newTokens == expected
+    }
+
+    internal fun lex(text: CharSequence): Pair<List<Token>, Int> {
+        val lexer = ImpexLexerAdapter()
+        lexer.start(text)
+
+        val tokens = mutableListOf<Token>()
+        while (true) {
+            val tokenType = lexer.tokenType ?: break
+            tokens.add(Token(tokenType, lexer.tokenText))
+            lexer.advance()
+        }
+        return tokens to lexer.state
+    }
+
+    private fun isLocal(text: CharSequence) = NON_LOCAL_CHARS.none { text.contains(it) }
+
+    private fun lineOf(leaf: ASTNode): List<ASTNode> {
+        val line = generateSequence(TreeUtil.prevLeaf(leaf)) { TreeUtil.prevLeaf(it) }
+            .takeWhile { it.elementType != ImpexTypes.CRLF }
+            .toMutableList()
+            .apply { reverse() }
+
+        line.add(leaf)
+
+        var next = TreeUtil.nextLeaf(leaf)
+        while (next != null) {
+            line.add(next)
+            if (next.elementType == ImpexTypes.CRLF) break
+            next = TreeUtil.nextLeaf(next)
+        }
+        return line
+    }
+
+    internal data class Token(val type: IElementType, val text: String)
+}
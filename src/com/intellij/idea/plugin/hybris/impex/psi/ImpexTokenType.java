@@ -20,16 +20,20 @@
 package com.intellij.idea.plugin.hybris.impex.psi;
 
 import com.intellij.idea.plugin.hybris.impex.ImpexLanguage;
+import com.intellij.lang.ASTFactory;
+import com.intellij.lang.ASTNode;
 import com.intellij.psi.tree.IElementType;
+import com.intellij.psi.tree.IReparseableLeafElementType;
 import org.jetbrains.annotations.NonNls;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.regex.Pattern;
 
 import static org.apache.commons.lang3.StringUtils.isBlank;
 import static org.apache.commons.lang3.StringUtils.lowerCase;
 
-public class ImpexTokenType extends IElementType {
+public class ImpexTokenType extends IElementType implements IReparseableLeafElementType<ASTNode> {
 
     private static final Pattern PATTERN = Pattern.compile("[_]");
 
@@ -37,6 +41,18 @@ public class ImpexTokenType extends IElementType {
         super(debugName, ImpexLanguage.INSTANCE);
     }
 
+    @NotNull
+    @Override
+    public ASTNode createLeafNode(@NotNull final CharSequence leafText) {
+        return ASTFactory.defaultLeaf(this, leafText);
+    }
+
+    @Nullable
+    @Override
+    public ASTNode reparseLeaf(@NotNull final ASTNode leaf, @NotNull final CharSequence newLeafText) {
+        return ImpexLeafReparser.reparse(leaf, newLeafText);
+    }
+
     @Override
     public String toString() {
         final String name = super.toString();
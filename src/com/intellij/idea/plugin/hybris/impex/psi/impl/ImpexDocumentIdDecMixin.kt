@@ -22,7 +22,6 @@ import com.intellij.idea.plugin.hybris.impex.psi.*
 import com.intellij.lang.ASTNode
 import com.intellij.psi.util.CachedValueProvider
 import com.intellij.psi.util.CachedValuesManager
-import com.intellij.psi.util.PsiModificationTracker
 import com.intellij.psi.util.parentOfType
 import java.io.Serial
 
@@ -36,7 +35,7 @@ abstract class ImpexDocumentIdDecMixin(node: ASTNode) : ImpexPsiNamedElementMixi
             ?: emptyMap()
 
         CachedValueProvider.Result.create(
-            foundValues, PsiModificationTracker.MODIFICATION_COUNT
+            foundValues, ImpexModificationTrackers.block(parentOfType<ImpexHeaderLine>())
         )
     }
 
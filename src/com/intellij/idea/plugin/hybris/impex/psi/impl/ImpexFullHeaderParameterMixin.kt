@@ -28,7 +28,6 @@ import com.intellij.openapi.util.Key
 import com.intellij.psi.util.CachedValue
 import com.intellij.psi.util.CachedValueProvider
 import com.intellij.psi.util.CachedValuesManager
-import com.intellij.psi.util.PsiModificationTracker
 import java.io.Serial
 
 abstract class ImpexFullHeaderParameterMixin(node: ASTNode) : ASTWrapperPsiElement(node), ImpexFullHeaderParameter {
@@ -38,7 +37,7 @@ abstract class ImpexFullHeaderParameterMixin(node: ASTNode) : ASTWrapperPsiEleme
 
         CachedValueProvider.Result.createSingleDependency(
             columnNumber,
-            PsiModificationTracker.MODIFICATION_COUNT,
+            ImpexModificationTrackers.line(headerLine),
         )
     }, false)
 
@@ -51,7 +50,7 @@ abstract class ImpexFullHeaderParameterMixin(node: ASTNode) : ASTWrapperPsiEleme
 
         CachedValueProvider.Result.createSingleDependency(
             valueGroups,
-            PsiModificationTracker.MODIFICATION_COUNT,
+            ImpexModificationTrackers.block(headerLine),
         )
     }, false)
 
@@ -29,6 +29,8 @@ import java.io.Serial
 
 abstract class ImpexHeaderLineMixin(node: ASTNode) : ASTWrapperPsiElement(node), ImpexHeaderLine {
 
+    internal val blockModificationTracker = ImpexHeaderBlockModificationTracker(node)
+
     override fun getFullHeaderParameter(parameterName: String): ImpexFullHeaderParameter? = CachedValuesManager.getManager(project).getCachedValue(
         this, CACHE_KEY_BY_NAME,
         {
@@ -37,7 +39,7 @@ abstract class ImpexHeaderLineMixin(node: ASTNode) : ASTWrapperPsiElement(node),
 
             CachedValueProvider.Result.createSingleDependency(
                 fhp,
-                PsiModificationTracker.MODIFICATION_COUNT,
+                ImpexModificationTrackers.line(this),
             )
 
         },
@@ -52,7 +54,7 @@ abstract class ImpexHeaderLineMixin(node: ASTNode) : ASTWrapperPsiElement(node),
 
             CachedValueProvider.Result.createSingleDependency(
                 fhp,
-                PsiModificationTracker.MODIFICATION_COUNT,
+                ImpexModificationTrackers.line(this),
             )
         },
         false
@@ -71,7 +73,7 @@ abstract class ImpexHeaderLineMixin(node: ASTNode) : ASTWrapperPsiElement(node),
         }
         CachedValueProvider.Result.createSingleDependency(
             valueLines,
-            PsiModificationTracker.MODIFICATION_COUNT,
+            blockModificationTracker,
         )
     }, false)
 
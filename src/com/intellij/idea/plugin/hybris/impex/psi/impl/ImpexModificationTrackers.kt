@@ -0,0 +1,90 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.impex.psi.impl
+
+import com.intellij.idea.plugin.hybris.impex.psi.ImpexHeaderLine
+import com.intellij.idea.plugin.hybris.impex.psi.ImpexLeafReparser
+import com.intellij.idea.plugin.hybris.impex.psi.ImpexTypes
+import com.intellij.lang.ASTNode
+import com.intellij.openapi.util.ModificationTracker
+import com.intellij.psi.PsiElement
+import com.intellij.psi.impl.source.tree.CompositeElement
+import com.intellij.psi.util.PsiModificationTracker
+
+/**
+ * Dependencies for the caches of ImpEx lines and header blocks.
+ *
+ * A token edit reparsed in place by [ImpexLeafReparser] changes the modification count of the edited line only,
+ * so caches depending on these trackers instead of [PsiModificationTracker.MODIFICATION_COUNT] survive edits of other lines.
+ */
+internal object ImpexModificationTrackers {
+
+    /**
+     * Tracks changes within the given line.
+     */
+    fun line(line: PsiElement?): Any = (line?.node as? CompositeElement)
+        ?.let { ModificationTracker { it.modificationCount.toLong() } }
+        ?: PsiModificationTracker.MODIFICATION_COUNT
+
+    /**
+     * Tracks changes within the header line and all lines of its block, up to the next header line.
+     */
+    fun block(headerLine: ImpexHeaderLine?): Any = (headerLine as? ImpexHeaderLineMixin)
+        ?.blockModificationTracker
+        ?: PsiModificationTracker.MODIFICATION_COUNT
+}
+
+/**
+ * ImpEx PSI is flat, there is no composite element for the header block, so its stamp is combined from the identity
+ * and the modification count of each line of the block. Any replaced, added or removed line changes the stamp.
+ *
+ * The stamp is recalculated only once the file itself has been changed.
+ */
+internal class ImpexHeaderBlockModificationTracker(private val headerLine: ASTNode) : ModificationTracker {
+
+    @Volatile
+    private var snapshot = Snapshot(-1, 0)
+
+    override fun getModificationCount(): Long {
+        val fileStamp = (headerLine.treeParent as? CompositeElement)
+            ?.modificationCount
+            ?: return blockStamp()
+
+        val current = snapshot
+        if (current.fileStamp == fileStamp) return current.blockStamp
+
+        return Snapshot(fileStamp, blockStamp())
+            .also { snapshot = it }
+            .blockStamp
+    }
+
+    private fun blockStamp(): Long {
+        var stamp = 0L
+        var node: ASTNode? = headerLine
+
+        while (node != null) {
+            stamp = 31 * stamp + System.identityHashCode(node) + ((node as? CompositeElement)?.modificationCount ?: 0)
+            node = node.treeNext
+            if (node?.elementType == ImpexTypes.HEADER_LINE) break
+        }
+        return stamp
+    }
+
+    private data class Snapshot(val fileStamp: Int, val blockStamp: Long)
+}
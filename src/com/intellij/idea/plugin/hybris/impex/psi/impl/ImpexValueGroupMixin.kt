@@ -58,7 +58,7 @@ abstract class ImpexValueGroupMixin(node: ASTNode) : ASTWrapperPsiElement(node),
 
         CachedValueProvider.Result.createSingleDependency(
             columnNumber,
-            PsiModificationTracker.MODIFICATION_COUNT,
+            ImpexModificationTrackers.line(valueLine),
         )
     }, false)
 
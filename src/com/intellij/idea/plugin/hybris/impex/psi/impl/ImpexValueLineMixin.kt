@@ -27,23 +27,22 @@ import com.intellij.openapi.util.Key
 import com.intellij.psi.util.CachedValue
 import com.intellij.psi.util.CachedValueProvider
 import com.intellij.psi.util.CachedValuesManager
-import com.intellij.psi.util.PsiModificationTracker
+import com.intellij.psi.util.siblings
 import com.intellij.util.asSafely
 import java.io.Serial
 
 abstract class ImpexValueLineMixin(node: ASTNode) : ASTWrapperPsiElement(node), ImpexValueLine {
 
     override fun getHeaderLine(): ImpexHeaderLine? = CachedValuesManager.getManager(project).getCachedValue(this, CACHE_KEY_HEADER_LINE, {
-        val headerLine = this.containingFile
-            .asSafely<ImpexFile>()
-            ?.getHeaderLines()
-            ?.entries
-            ?.find { it.value.contains(this) }
-            ?.key
+        // value lines of a header are its next siblings up to the next header line
+        val headerLine = this
+            .takeIf { it.parent is ImpexFile }
+            ?.siblings(forward = false, withSelf = false)
+            ?.firstNotNullOfOrNull { it.asSafely<ImpexHeaderLine>() }
 
         CachedValueProvider.Result.createSingleDependency(
             headerLine,
-            PsiModificationTracker.MODIFICATION_COUNT,
+            ImpexModificationTrackers.block(headerLine),
         )
     }, false)
 
@@ -114,8 +114,8 @@ class ImpexFunctionTSAttributeReference(owner: ImpexParameter) : TSReferenceBase
                             ?.let { attr -> AttributeResolveResult(attr) }
                             ?: meta.allOrderingAttributes[featureName]
                                 ?.let { attr -> OrderingAttributeResolveResult(attr) }
-                            ?: meta.allRelationEnds
-                                .find { relationEnd -> relationEnd.name.equals(featureName, true) }
+                            ?: metaService.findRelationEndsByQualifier(meta, featureName)
+                                .firstOrNull()
                                 ?.let { relationEnd -> RelationEndResolveResult(relationEnd) }
 
                         is TSGlobalMetaCollection -> resolveType(
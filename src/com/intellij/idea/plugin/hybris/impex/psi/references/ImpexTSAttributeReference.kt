@@ -93,8 +93,8 @@ internal class ImpexTSAttributeReference(owner: ImpexAnyHeaderParameterName) : T
                     ?.let { AttributeResolveResult(it) }
                     ?: meta.allOrderingAttributes[featureName]
                         ?.let { OrderingAttributeResolveResult(it) }
-                    ?: meta.allRelationEnds
-                        .find { it.name.equals(featureName, true) }
+                    ?: metaModelService.findRelationEndsByQualifier(meta, featureName)
+                        .firstOrNull()
                         ?.let { RelationEndResolveResult(it) }
             }
 
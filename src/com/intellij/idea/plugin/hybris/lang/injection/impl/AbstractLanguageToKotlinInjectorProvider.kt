@@ -31,6 +31,8 @@ abstract class AbstractLanguageToKotlinInjectorProvider(injectLanguage: Language
 
     abstract fun canProcess(expression: String): Boolean
 
+    open fun canProcess(host: KtStringTemplateExpression, expression: String) = canProcess(expression)
+
     override fun tryInject(
         host: PsiLanguageInjectionHost,
         injectionPlacesRegistrar: InjectedLanguagePlaces
@@ -40,7 +42,7 @@ abstract class AbstractLanguageToKotlinInjectorProvider(injectLanguage: Language
         if (PsiTreeUtil.findChildOfType(host, KtReferenceExpression::class.java) != null) return
 
         val expression = host.text
-        if (!canProcess(expression)) return
+        if (!canProcess(host, expression)) return
 
         if (expression.startsWith("\"\"\"")) {
             registerInjectionPlace(injectionPlacesRegistrar, host, 3)
@@ -112,8 +112,7 @@ class PolyglotQueryAttributeKeyNameReference(owner: PolyglotQueryAttributeKeyNam
                         ?.let { listOf(it) }
                         ?: emptyList()
 
-                    val relations = meta.allRelationEnds
-                        .filter { refName.equals(it.name, true) }
+                    val relations = metaService.findRelationEndsByQualifier(meta, refName)
                         .map { RelationEndResolveResult(it) }
 
                     (attributes + orderingAttributes + relations).toTypedArray()
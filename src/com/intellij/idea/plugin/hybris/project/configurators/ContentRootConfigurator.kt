@@ -25,6 +25,20 @@ import com.intellij.openapi.roots.ModifiableRootModel
 
 interface ContentRootConfigurator {
 
+    /**
+     * Computes content root of the module, may be invoked concurrently for different modules outside of the write action.
+     */
+    fun plan(
+        moduleDescriptor: ModuleDescriptor,
+        appSettings: ApplicationSettings
+    ): ContentRootPlan
+
+    fun configure(
+        indicator: ProgressIndicator,
+        modifiableRootModel: ModifiableRootModel,
+        plan: ContentRootPlan
+    )
+
     fun configure(
         indicator: ProgressIndicator,
         modifiableRootModel: ModifiableRootModel,
@@ -0,0 +1,64 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.intellij.idea.plugin.hybris.project.configurators
+
+import com.intellij.openapi.roots.ModifiableRootModel
+import org.jetbrains.jps.model.JpsElement
+import org.jetbrains.jps.model.module.JpsModuleSourceRootType
+
+/**
+ * Content root of the module computed without touching the project model, see [ContentRootConfigurator.plan].
+ */
+data class ContentRootPlan(
+    val url: String,
+    val sourceFolders: List<SourceFolder>,
+    val excludeFolders: List<String>,
+    val excludePatterns: List<String>,
+) {
+
+    fun apply(modifiableRootModel: ModifiableRootModel) {
+        val contentEntry = modifiableRootModel.addContentEntry(url)
+
+        sourceFolders.forEach { contentEntry.addSourceFolder(it.url, it.rootType, it.properties) }
+        excludeFolders.forEach { contentEntry.addExcludeFolder(it) }
+        excludePatterns.forEach { contentEntry.addExcludePattern(it) }
+    }
+
+    data class SourceFolder(
+        val url: String,
+        val rootType: JpsModuleSourceRootType<JpsElement>,
+        val properties: JpsElement,
+    )
+
+    class Builder(private val url: String) {
+
+        private val sourceFolders = mutableListOf<SourceFolder>()
+        private val excludeFolders = mutableListOf<String>()
+        private val excludePatterns = mutableListOf<String>()
+
+        @Suppress("UNCHECKED_CAST")
+        fun <P : JpsElement> addSourceFolder(url: String, rootType: JpsModuleSourceRootType<P>, properties: P) = apply {
+            sourceFolders.add(SourceFolder(url, rootType as JpsModuleSourceRootType<JpsElement>, properties))
+        }
+
+        fun addExcludeFolder(url: String) = apply { excludeFolders.add(url) }
+        fun addExcludePattern(pattern: String) = apply { excludePatterns.add(pattern) }
+
+        fun build() = ContentRootPlan(url, sourceFolders.toList(), excludeFolders.toList(), excludePatterns.toList())
+    }
+}
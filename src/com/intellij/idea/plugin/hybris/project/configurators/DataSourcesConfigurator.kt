@@ -49,8 +49,8 @@ class DataSourcesConfigurator {
 
         dataSourceRegistry.setImportedFlag(false)
         dataSourceRegistry.builder
-            .withName("[y] local")
-            .withGroupName("[y] SAP Commerce")
+            .withName(DATA_SOURCE_NAME)
+            .withGroupName(DATA_SOURCE_GROUP)
             .withUrl(projectProperties["db.url"]?.replace("\\", ""))
             .withUser(projectProperties["db.username"])
             .withPassword(projectProperties["db.password"])
@@ -113,4 +113,8 @@ class DataSourcesConfigurator {
         dataSource.ensureDriverConfigured()
     }
 
+    companion object {
+        const val DATA_SOURCE_NAME = "[y] local"
+        const val DATA_SOURCE_GROUP = "[y] SAP Commerce"
+    }
 }
\ No newline at end of file
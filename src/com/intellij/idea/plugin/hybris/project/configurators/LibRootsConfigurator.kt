@@ -28,13 +28,24 @@ import com.intellij.openapi.roots.ModifiableRootModel
 
 interface LibRootsConfigurator {
 
-    fun configure(
-        progressIndicator: ProgressIndicator,
+    /**
+     * Resolves libraries of the module, may be invoked concurrently for different modules outside of the write action.
+     */
+    fun plan(
         allYModules: Map<String, YModuleDescriptor>,
+        moduleDescriptor: ModuleDescriptor
+    ): LibRootsPlan
+
+    /**
+     * Applies the planned libraries to the module, jars listed in [sharedLibraries] are referenced as project libraries.
+     */
+    fun configure(
+        indicator: ProgressIndicator,
+        plan: LibRootsPlan,
+        sharedLibraries: SharedLibraries,
         modifiableRootModel: ModifiableRootModel,
         moduleDescriptor: ModuleDescriptor,
-        modifiableModelsProvider: IdeModifiableModelsProvider,
-        indicator: ProgressIndicator
+        modifiableModelsProvider: IdeModifiableModelsProvider
     )
 
 }
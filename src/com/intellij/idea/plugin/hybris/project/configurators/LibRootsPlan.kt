@@ -0,0 +1,50 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.intellij.idea.plugin.hybris.project.configurators
+
+import com.intellij.idea.plugin.hybris.project.descriptors.JavaLibraryDescriptor
+import java.io.File
+
+/**
+ * Module libraries resolved without touching the project model, see [LibRootsConfigurator.plan].
+ *
+ * Only plain [File]s are planned, so planning does not refresh the VFS, [ioFiles] have to be refreshed before the plan is applied.
+ */
+data class LibRootsPlan(
+    val sourceCodeRoot: File?,
+    val libraries: List<Library>,
+) {
+
+    val ioFiles
+        get() = listOfNotNull(sourceCodeRoot) + libraries.flatMap { it.sourceFiles + it.sourceJarDirectories }
+
+    data class Library(
+        val descriptor: JavaLibraryDescriptor,
+        val sourceFiles: List<File>,
+        val sourceJarDirectories: List<File>,
+        val jars: List<Jar> = emptyList(),
+    )
+
+    /**
+     * Jar of the library folder, [contentHash] allows sharing the same jar shipped by different extensions.
+     */
+    data class Jar(
+        val file: File,
+        val contentHash: String,
+    )
+}
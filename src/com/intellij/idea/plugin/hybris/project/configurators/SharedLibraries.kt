@@ -0,0 +1,103 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.intellij.idea.plugin.hybris.project.configurators
+
+import com.intellij.idea.plugin.hybris.common.HybrisConstants
+import com.intellij.openapi.externalSystem.service.project.IdeModifiableModelsProvider
+import com.intellij.openapi.roots.OrderRootType
+import com.intellij.openapi.roots.libraries.Library
+import com.intellij.openapi.vfs.VfsUtil
+import com.intellij.openapi.vfs.VirtualFile
+
+/**
+ * Jars shipped by more than one module, detected by the [LibRootsPlan.Jar.contentHash].
+ *
+ * Each such jar is added once to the project library table and referenced from the modules,
+ * instead of being repeated in the module library of every extension.
+ * Keeps the library and root counts of the import for the diagnostic output.
+ */
+class SharedLibraries(plans: Collection<LibRootsPlan>) {
+
+    private val jarUsages = plans
+        .flatMap { plan ->
+            plan.libraries
+                .flatMap { it.jars }
+                .map { it.contentHash }
+                .distinct()
+        }
+        .groupingBy { it }
+        .eachCount()
+    private val libraries = mutableMapOf<String, SharedLibrary>()
+
+    var moduleLibrariesCount = 0
+        private set
+    var rootsCount = 0
+        private set
+    var rootsWithoutSharingCount = 0
+        private set
+
+    fun isShared(jar: LibRootsPlan.Jar) = (jarUsages[jar.contentHash] ?: 0) > 1
+
+    fun getOrCreate(
+        jar: LibRootsPlan.Jar,
+        sourceJarDirectories: List<VirtualFile>,
+        modifiableModelsProvider: IdeModifiableModelsProvider
+    ): Library {
+        val sharedLibrary = libraries.getOrPut(jar.contentHash) {
+            val libraryTableModifiableModel = modifiableModelsProvider.modifiableProjectLibrariesModel
+            val name = (HybrisConstants.SHARED_LIBRARY_PREFIX + jar.file.name)
+                .takeIf { libraryTableModifiableModel.getLibraryByName(it) == null }
+                ?: "${HybrisConstants.SHARED_LIBRARY_PREFIX}${jar.file.name} (${jar.contentHash.take(8)})"
+            val library = libraryTableModifiableModel.createLibrary(name)
+
+            modifiableModelsProvider.getModifiableLibraryModel(library)
+                .addRoot(VfsUtil.getUrlForLibraryRoot(jar.file), OrderRootType.CLASSES)
+            rootsCount++
+
+            SharedLibrary(library)
+        }
+
+        // same jar may come with the sources of different extensions
+        sourceJarDirectories
+            .filter { sharedLibrary.sourceJarDirectories.add(it) }
+            .forEach {
+                modifiableModelsProvider.getModifiableLibraryModel(sharedLibrary.library)
+                    .addJarDirectory(it, true, OrderRootType.SOURCES)
+                rootsCount++
+            }
+
+        return sharedLibrary.library
+    }
+
+    /**
+     * @param rootsWithoutSharing roots of the same module library, if no jars were shared
+     */
+    fun onModuleLibraryCreated(roots: Int, rootsWithoutSharing: Int = roots) {
+        moduleLibrariesCount++
+        rootsCount += roots
+        rootsWithoutSharingCount += rootsWithoutSharing
+    }
+
+    override fun toString() = "module libraries: $moduleLibrariesCount, shared libraries: ${libraries.size}, roots: $rootsCount, " +
+        "roots without shared libraries: $rootsWithoutSharingCount"
+
+    private data class SharedLibrary(
+        val library: Library,
+        val sourceJarDirectories: MutableSet<VirtualFile> = mutableSetOf()
+    )
+}
@@ -21,12 +21,12 @@ package com.intellij.idea.plugin.hybris.project.configurators.impl;
 
 import com.intellij.idea.plugin.hybris.common.HybrisConstants;
 import com.intellij.idea.plugin.hybris.project.configurators.ContentRootConfigurator;
+import com.intellij.idea.plugin.hybris.project.configurators.ContentRootPlan;
 import com.intellij.idea.plugin.hybris.project.descriptors.ModuleDescriptor;
 import com.intellij.idea.plugin.hybris.project.descriptors.YSubModuleDescriptor;
 import com.intellij.idea.plugin.hybris.project.descriptors.impl.*;
 import com.intellij.idea.plugin.hybris.settings.ApplicationSettings;
 import com.intellij.openapi.progress.ProgressIndicator;
-import com.intellij.openapi.roots.ContentEntry;
 import com.intellij.openapi.roots.ModifiableRootModel;
 import com.intellij.openapi.util.io.FileUtil;
 import com.intellij.openapi.vfs.VfsUtil;
@@ -63,9 +63,27 @@ public class DefaultContentRootConfigurator implements ContentRootConfigurator {
         @NotNull final ModifiableRootModel modifiableRootModel,
         @NotNull final ModuleDescriptor moduleDescriptor,
         @NotNull final ApplicationSettings appSettings
+    ) {
+        configure(indicator, modifiableRootModel, plan(moduleDescriptor, appSettings));
+    }
+
+    @Override
+    public void configure(
+        @NotNull final ProgressIndicator indicator,
+        @NotNull final ModifiableRootModel modifiableRootModel,
+        @NotNull final ContentRootPlan plan
     ) {
         indicator.setText2(message("hybris.project.import.module.content"));
-        final var contentEntry = modifiableRootModel.addContentEntry(VfsUtil.pathToUrl(
+        plan.apply(modifiableRootModel);
+    }
+
+    @NotNull
+    @Override
+    public ContentRootPlan plan(
+        @NotNull final ModuleDescriptor moduleDescriptor,
+        @NotNull final ApplicationSettings appSettings
+    ) {
+        final var contentRoot = new ContentRootPlan.Builder(VfsUtil.pathToUrl(
             moduleDescriptor.getModuleRootDirectory().getAbsolutePath()
         ));
 
@@ -73,28 +91,30 @@ public class DefaultContentRootConfigurator implements ContentRootConfigurator {
             .map(relPath -> new File(moduleDescriptor.getModuleRootDirectory(), relPath))
             .collect(Collectors.toList());
 
-        configureCommonRoots(moduleDescriptor, contentEntry, dirsToIgnore, appSettings);
+        configureCommonRoots(moduleDescriptor, contentRoot, dirsToIgnore, appSettings);
 
         if (moduleDescriptor instanceof final CCv2ModuleDescriptor yCCv2ModuleDescriptor) {
-            contentEntry.addExcludePattern(HybrisConstants.HYBRIS_DIRECTORY);
+            contentRoot.addExcludePattern(HybrisConstants.HYBRIS_DIRECTORY);
         }
         if (moduleDescriptor instanceof final YWebSubModuleDescriptor ySubModuleDescriptor) {
-            configureWebRoots(ySubModuleDescriptor, contentEntry, appSettings);
+            configureWebRoots(ySubModuleDescriptor, contentRoot, appSettings);
         }
         if (moduleDescriptor instanceof final YCommonWebSubModuleDescriptor ySubModuleDescriptor) {
-            configureWebModuleRoots(ySubModuleDescriptor, contentEntry);
+            configureWebModuleRoots(ySubModuleDescriptor, contentRoot);
         }
         if (moduleDescriptor instanceof final YAcceleratorAddonSubModuleDescriptor ySubModuleDescriptor) {
-            configureWebModuleRoots(ySubModuleDescriptor, contentEntry);
+            configureWebModuleRoots(ySubModuleDescriptor, contentRoot);
         }
         if (moduleDescriptor instanceof final PlatformModuleDescriptor platformModuleDescriptor) {
-            configurePlatformRoots(platformModuleDescriptor, contentEntry, dirsToIgnore, appSettings);
+            configurePlatformRoots(platformModuleDescriptor, contentRoot, dirsToIgnore, appSettings);
         }
+
+        return contentRoot.build();
     }
 
     protected void configureCommonRoots(
         @NotNull final ModuleDescriptor moduleDescriptor,
-        @NotNull final ContentEntry contentEntry,
+        @NotNull final ContentRootPlan.Builder contentRoot,
         @NotNull final List<File> dirsToIgnore,
         @NotNull final ApplicationSettings appSettings
     ) {
@@ -104,14 +124,14 @@ public class DefaultContentRootConfigurator implements ContentRootConfigurator {
             || !rootProjectDescriptor.isImportOotbModulesInReadOnlyMode()
             || HybrisConstants.EXTENSION_NAME_PLATFORM_SERVICES.equals(moduleDescriptor.getName())
         ) {
-            addSourceRoots(contentEntry, moduleDescriptor.getModuleRootDirectory(), dirsToIgnore, appSettings, SRC_DIR_NAMES, JavaSourceRootType.SOURCE);
+            addSourceRoots(contentRoot, moduleDescriptor.getModuleRootDirectory(), dirsToIgnore, appSettings, SRC_DIR_NAMES, JavaSourceRootType.SOURCE);
 
             if (customModuleDescriptor || !rootProjectDescriptor.isExcludeTestSources()) {
-                addSourceRoots(contentEntry, moduleDescriptor.getModuleRootDirectory(), dirsToIgnore, appSettings, TEST_SRC_DIR_NAMES, JavaSourceRootType.TEST_SOURCE);
+                addSourceRoots(contentRoot, moduleDescriptor.getModuleRootDirectory(), dirsToIgnore, appSettings, TEST_SRC_DIR_NAMES, JavaSourceRootType.TEST_SOURCE);
             }
 
             addSourceFolderIfNotIgnored(
-                contentEntry,
+                contentRoot,
                 new File(moduleDescriptor.getModuleRootDirectory(), GEN_SRC_DIRECTORY),
                 JavaSourceRootType.SOURCE,
                 JpsJavaExtensionService.getInstance().createSourceRootProperties("", true),
@@ -119,35 +139,35 @@ public class DefaultContentRootConfigurator implements ContentRootConfigurator {
             );
         }
 
-        configureResourceDirectory(contentEntry, moduleDescriptor, dirsToIgnore, appSettings);
+        configureResourceDirectory(contentRoot, moduleDescriptor, dirsToIgnore, appSettings);
 
-        excludeCommonNeedlessDirs(contentEntry, moduleDescriptor);
+        excludeCommonNeedlessDirs(contentRoot, moduleDescriptor);
     }
 
     protected void configureResourceDirectory(
-        @NotNull final ContentEntry contentEntry,
+        @NotNull final ContentRootPlan.Builder contentRoot,
         @NotNull final ModuleDescriptor moduleDescriptor,
         @NotNull final List<File> dirsToIgnore,
         @NotNull final ApplicationSettings appSettings
     ) {
         final var resourcesDirectory = new File(moduleDescriptor.getModuleRootDirectory(), RESOURCES_DIRECTORY);
 
-        addSourceFolderIfNotIgnored(contentEntry, resourcesDirectory, JavaResourceRootType.RESOURCE, dirsToIgnore, appSettings);
+        addSourceFolderIfNotIgnored(contentRoot, resourcesDirectory, JavaResourceRootType.RESOURCE, dirsToIgnore, appSettings);
 
         final var extensionsResourcesToExcludeList = appSettings.getExtensionsResourcesToExclude();
         final var shouldExcludeResourcesDir = CollectionUtils.isNotEmpty(extensionsResourcesToExcludeList)
             && extensionsResourcesToExcludeList.contains(moduleDescriptor.getName());
 
         if (shouldExcludeResourcesDir) {
-            excludeDirectory(contentEntry, resourcesDirectory);
+            excludeDirectory(contentRoot, resourcesDirectory);
         }
     }
 
     protected void excludeCommonNeedlessDirs(
-        final ContentEntry contentEntry,
+        final ContentRootPlan.Builder contentRoot,
         final ModuleDescriptor moduleDescriptor
     ) {
-        excludeSubDirectories(contentEntry, moduleDescriptor.getModuleRootDirectory(), Arrays.asList(
+        excludeSubDirectories(contentRoot, moduleDescriptor.getModuleRootDirectory(), Arrays.asList(
             EXTERNAL_TOOL_BUILDERS_DIRECTORY,
             SETTINGS_DIRECTORY,
             TEST_CLASSES_DIRECTORY,
@@ -159,42 +179,42 @@ public class DefaultContentRootConfigurator implements ContentRootConfigurator {
 
         if (isCustomModuleDescriptor(moduleDescriptor)
             || !moduleDescriptor.getRootProjectDescriptor().isImportOotbModulesInReadOnlyMode()) {
-            excludeDirectory(contentEntry, new File(moduleDescriptor.getModuleRootDirectory(), CLASSES_DIRECTORY));
+            excludeDirectory(contentRoot, new File(moduleDescriptor.getModuleRootDirectory(), CLASSES_DIRECTORY));
         }
     }
 
     private void excludeSubDirectories(
-        @NotNull final ContentEntry contentEntry,
+        @NotNull final ContentRootPlan.Builder contentRoot,
         @NotNull final File dir,
         @NotNull final Iterable<String> names
     ) {
         for (String subDirName : names) {
-            excludeDirectory(contentEntry, new File(dir, subDirName));
+            excludeDirectory(contentRoot, new File(dir, subDirName));
         }
     }
 
-    private static void excludeDirectory(@NotNull final ContentEntry contentEntry, @NotNull final File dir) {
-        contentEntry.addExcludeFolder(VfsUtil.pathToUrl(dir.getAbsolutePath()));
+    private static void excludeDirectory(@NotNull final ContentRootPlan.Builder contentRoot, @NotNull final File dir) {
+        contentRoot.addExcludeFolder(VfsUtil.pathToUrl(dir.getAbsolutePath()));
     }
 
     protected void configureWebRoots(
         @NotNull final YWebSubModuleDescriptor moduleDescriptor,
-        @NotNull final ContentEntry contentEntry,
+        @NotNull final ContentRootPlan.Builder contentRoot,
         @NotNull final ApplicationSettings appSettings
     ) {
-        configureWebModuleRoots(moduleDescriptor, contentEntry);
+        configureWebModuleRoots(moduleDescriptor, contentRoot);
 
         final var rootProjectDescriptor = moduleDescriptor.getRootProjectDescriptor();
 
         if (isCustomModuleDescriptor(moduleDescriptor) || !rootProjectDescriptor.isImportOotbModulesInReadOnlyMode()) {
-            configureExternalModuleRoot(moduleDescriptor, contentEntry, appSettings, COMMON_WEB_SRC_DIRECTORY, JavaSourceRootType.SOURCE);
-            configureExternalModuleRoot(moduleDescriptor, contentEntry, appSettings, ADDON_SRC_DIRECTORY, JavaSourceRootType.SOURCE);
+            configureExternalModuleRoot(moduleDescriptor, contentRoot, appSettings, COMMON_WEB_SRC_DIRECTORY, JavaSourceRootType.SOURCE);
+            configureExternalModuleRoot(moduleDescriptor, contentRoot, appSettings, ADDON_SRC_DIRECTORY, JavaSourceRootType.SOURCE);
         }
     }
 
     private static void configureExternalModuleRoot(
         final @NotNull YWebSubModuleDescriptor moduleDescriptor,
-        final @NotNull ContentEntry contentEntry,
+        final @NotNull ContentRootPlan.Builder contentRoot,
         final @NotNull ApplicationSettings appSettings,
         final String sourceRoot,
         final JavaSourceRootType type
@@ -215,7 +235,7 @@ public class DefaultContentRootConfigurator implements ContentRootConfigurator {
             .map(it -> new File(commonWebSrcDir, it))
             .forEach(directory -> {
                 addSourceFolderIfNotIgnored(
-                    contentEntry,
+                    contentRoot,
                     directory,
                     type,
                     JpsJavaExtensionService.getInstance().createSourceRootProperties("", true),
@@ -226,50 +246,50 @@ public class DefaultContentRootConfigurator implements ContentRootConfigurator {
 
     protected void configurePlatformRoots(
         @NotNull final PlatformModuleDescriptor moduleDescriptor,
-        @NotNull final ContentEntry contentEntry,
+        @NotNull final ContentRootPlan.Builder contentRoot,
         final List<File> dirsToIgnore,
         final ApplicationSettings appSettings
     ) {
         final var rootDirectory = moduleDescriptor.getModuleRootDirectory();
         final var platformBootstrapDirectory = new File(rootDirectory, PLATFORM_BOOTSTRAP_DIRECTORY);
 
-        addResourcesDirectory(contentEntry, platformBootstrapDirectory);
+        addResourcesDirectory(contentRoot, platformBootstrapDirectory);
         // Only when bootstrap gensrc registered as source folder we can properly build the Class Hierarchy
         final var gensrcDirectory = new File(platformBootstrapDirectory, GEN_SRC_DIRECTORY);
         addSourceFolderIfNotIgnored(
-            contentEntry,
+            contentRoot,
             gensrcDirectory,
             JavaSourceRootType.SOURCE,
             JpsJavaExtensionService.getInstance().createSourceRootProperties("", true),
             dirsToIgnore, appSettings
         );
 
-        excludeDirectory(contentEntry, gensrcDirectory);
-        excludeDirectory(contentEntry, new File(platformBootstrapDirectory, PLATFORM_MODEL_CLASSES_DIRECTORY));
+        excludeDirectory(contentRoot, gensrcDirectory);
+        excludeDirectory(contentRoot, new File(platformBootstrapDirectory, PLATFORM_MODEL_CLASSES_DIRECTORY));
 
         final var tomcat6 = new File(rootDirectory, PLATFORM_TOMCAT_6_DIRECTORY);
         if (tomcat6.exists()) {
-            excludeDirectory(contentEntry, tomcat6);
+            excludeDirectory(contentRoot, tomcat6);
         } else {
-            excludeDirectory(contentEntry, new File(rootDirectory, PLATFORM_TOMCAT_DIRECTORY));
+            excludeDirectory(contentRoot, new File(rootDirectory, PLATFORM_TOMCAT_DIRECTORY));
         }
-        contentEntry.addExcludePattern("apache-ant-*");
+        contentRoot.addExcludePattern("apache-ant-*");
     }
 
     protected void configureWebModuleRoots(
         @NotNull final YSubModuleDescriptor moduleDescriptor,
-        @NotNull final ContentEntry contentEntry
+        @NotNull final ContentRootPlan.Builder contentRoot
     ) {
         excludeSubDirectories(
-            contentEntry,
+            contentRoot,
             moduleDescriptor.getModuleRootDirectory(),
             List.of(TEST_CLASSES_DIRECTORY)
         );
-        configureWebInf(contentEntry, moduleDescriptor);
+        configureWebInf(contentRoot, moduleDescriptor);
     }
 
     private static void addSourceRoots(
-        @NotNull final ContentEntry contentEntry,
+        @NotNull final ContentRootPlan.Builder contentRoot,
         @NotNull final File dir,
         @NotNull final List<File> dirsToIgnore,
         @NotNull final ApplicationSettings appSettings,
@@ -278,7 +298,7 @@ public class DefaultContentRootConfigurator implements ContentRootConfigurator {
     ) {
         for (final var directory : directories) {
             addSourceFolderIfNotIgnored(
-                contentEntry,
+                contentRoot,
                 new File(dir, directory),
                 scope,
                 dirsToIgnore, appSettings
@@ -287,14 +307,14 @@ public class DefaultContentRootConfigurator implements ContentRootConfigurator {
     }
 
     protected static <P extends JpsElement> void addSourceFolderIfNotIgnored(
-        @NotNull final ContentEntry contentEntry,
+        @NotNull final ContentRootPlan.Builder contentRoot,
         @NotNull final File testSrcDir,
         @NotNull final JpsModuleSourceRootType<P> rootType,
         @NotNull final List<File> dirsToIgnore,
         @NotNull final ApplicationSettings appSettings
     ) {
         addSourceFolderIfNotIgnored(
-            contentEntry,
+            contentRoot,
             testSrcDir,
             rootType,
             rootType.createDefaultProperties(),
@@ -306,7 +326,7 @@ public class DefaultContentRootConfigurator implements ContentRootConfigurator {
     // /Users/Evgenii/work/upwork/test-projects/pawel-hybris/bin/ext-accelerator/acceleratorstorefrontcommons/commonweb/testsrc
 
     private static <P extends JpsElement> void addSourceFolderIfNotIgnored(
-        @NotNull final ContentEntry contentEntry,
+        @NotNull final ContentRootPlan.Builder contentRoot,
         @NotNull final File srcDir,
         @NotNull final JpsModuleSourceRootType<P> rootType,
         @NotNull final P properties,
@@ -318,7 +338,7 @@ public class DefaultContentRootConfigurator implements ContentRootConfigurator {
             if (BooleanUtils.isTrue(ignoreEmpty) && !srcDir.exists()) {
                 return;
             }
-            contentEntry.addSourceFolder(
+            contentRoot.addSourceFolder(
                 VfsUtil.pathToUrl(srcDir.getAbsolutePath()),
                 rootType,
                 properties
@@ -327,7 +347,7 @@ public class DefaultContentRootConfigurator implements ContentRootConfigurator {
     }
 
     protected void configureWebInf(
-        final ContentEntry contentEntry,
+        final ContentRootPlan.Builder contentRoot,
         final YSubModuleDescriptor moduleDescriptor
     ) {
         final File rootDirectory = moduleDescriptor.getModuleRootDirectory();
@@ -335,7 +355,7 @@ public class DefaultContentRootConfigurator implements ContentRootConfigurator {
         if (isCustomModuleDescriptor(moduleDescriptor)
             || (!moduleDescriptor.getRootProjectDescriptor().isImportOotbModulesInReadOnlyMode() && testSrcDirectoriesExists(rootDirectory))
         ) {
-            excludeDirectory(contentEntry, new File(rootDirectory, WEBROOT_WEBINF_CLASSES_PATH));
+            excludeDirectory(contentRoot, new File(rootDirectory, WEBROOT_WEBINF_CLASSES_PATH));
         }
     }
 
@@ -344,11 +364,12 @@ public class DefaultContentRootConfigurator implements ContentRootConfigurator {
             || (moduleDescriptor instanceof final YSubModuleDescriptor ySubModuleDescriptor && ySubModuleDescriptor.getOwner() instanceof YCustomRegularModuleDescriptor);
     }
 
-    private void addResourcesDirectory(final @NotNull ContentEntry contentEntry, final File platformBootstrapDirectory) {
+    private void addResourcesDirectory(final @NotNull ContentRootPlan.Builder contentRoot, final File platformBootstrapDirectory) {
         final var platformBootstrapResourcesDirectory = new File(platformBootstrapDirectory, RESOURCES_DIRECTORY);
-        contentEntry.addSourceFolder(
+        contentRoot.addSourceFolder(
             VfsUtil.pathToUrl(platformBootstrapResourcesDirectory.getAbsolutePath()),
-            JavaResourceRootType.RESOURCE
+            JavaResourceRootType.RESOURCE,
+            JavaResourceRootType.RESOURCE.createDefaultProperties()
         );
     }
 
@@ -20,6 +20,8 @@ package com.intellij.idea.plugin.hybris.project.configurators.impl
 import com.intellij.idea.plugin.hybris.common.HybrisConstants
 import com.intellij.idea.plugin.hybris.common.utils.HybrisI18NBundleUtils
 import com.intellij.idea.plugin.hybris.project.configurators.LibRootsConfigurator
+import com.intellij.idea.plugin.hybris.project.configurators.LibRootsPlan
+import com.intellij.idea.plugin.hybris.project.configurators.SharedLibraries
 import com.intellij.idea.plugin.hybris.project.descriptors.JavaLibraryDescriptor
 import com.intellij.idea.plugin.hybris.project.descriptors.ModuleDescriptor
 import com.intellij.idea.plugin.hybris.project.descriptors.YModuleDescriptor
@@ -28,6 +30,7 @@ import com.intellij.idea.plugin.hybris.project.descriptors.impl.PlatformModuleDe
 import com.intellij.idea.plugin.hybris.project.descriptors.impl.YCoreExtModuleDescriptor
 import com.intellij.idea.plugin.hybris.project.descriptors.impl.YOotbRegularModuleDescriptor
 import com.intellij.idea.plugin.hybris.project.descriptors.impl.YWebSubModuleDescriptor
+import com.intellij.openapi.diagnostic.thisLogger
 import com.intellij.openapi.externalSystem.service.project.IdeModifiableModelsProvider
 import com.intellij.openapi.progress.ProgressIndicator
 import com.intellij.openapi.roots.DependencyScope
@@ -36,34 +39,60 @@ import com.intellij.openapi.roots.ModifiableRootModel
 import com.intellij.openapi.roots.OrderRootType
 import com.intellij.openapi.roots.libraries.Library
 import com.intellij.openapi.vfs.JarFileSystem
+import com.intellij.openapi.vfs.LocalFileSystem
 import com.intellij.openapi.vfs.VfsUtil
 import com.intellij.openapi.vfs.VirtualFile
 import java.io.File
+import java.io.IOException
+import java.io.RandomAccessFile
+import java.util.*
+import java.util.zip.CRC32
 
 class DefaultLibRootsConfigurator : LibRootsConfigurator {
 
-    override fun configure(
-        progressIndicator: ProgressIndicator,
+    override fun plan(
         allYModules: Map<String, YModuleDescriptor>,
+        moduleDescriptor: ModuleDescriptor
+    ): LibRootsPlan {
+        val libraries = YModuleLibDescriptorUtil.getLibraryDescriptors(moduleDescriptor, allYModules)
+            .filter { it.libraryFile.exists() || it.scope != DependencyScope.COMPILE }
+            .map {
+                LibRootsPlan.Library(
+                    it,
+                    it.sourceFiles.filter { file -> file.exists() },
+                    it.sourceJarDirectories.filter { file -> file.exists() },
+                    getJars(it)
+                )
+            }
+
+        return LibRootsPlan(moduleDescriptor.rootProjectDescriptor.sourceCodeFile?.takeIf { it.exists() }, libraries)
+    }
+
+    override fun configure(
+        indicator: ProgressIndicator,
+        plan: LibRootsPlan,
+        sharedLibraries: SharedLibraries,
         modifiableRootModel: ModifiableRootModel,
         moduleDescriptor: ModuleDescriptor,
-        modifiableModelsProvider: IdeModifiableModelsProvider,
-        indicator: ProgressIndicator
+        modifiableModelsProvider: IdeModifiableModelsProvider
     ) {
         indicator.text2 = HybrisI18NBundleUtils.message("hybris.project.import.module.libs")
 
-        val sourceCodeRoot = getSourceCodeRoot(moduleDescriptor)
-        for (javaLibraryDescriptor in YModuleLibDescriptorUtil.getLibraryDescriptors(moduleDescriptor, allYModules)) {
-            if (!javaLibraryDescriptor.libraryFile.exists() && javaLibraryDescriptor.scope == DependencyScope.COMPILE) {
-                continue
-            }
-            if (javaLibraryDescriptor.directoryWithClasses) {
-                addClassesToModuleLibs(modifiableRootModel, modifiableModelsProvider, sourceCodeRoot, javaLibraryDescriptor)
+        val sourceCodeRoot = getSourceCodeRoot(plan)
+        val moduleLibraries = mutableListOf<Pair<Library, JavaLibraryDescriptor>>()
+        // same jar may be shipped in several folders of the module, e.g. `lib` and `web/webroot/WEB-INF/lib`
+        val sharedLibraryEntries = IdentityHashMap<Library, LibraryOrderEntry>()
+        for (library in plan.libraries) {
+            val moduleLibrary = if (library.descriptor.directoryWithClasses) {
+                addClassesToModuleLibs(modifiableRootModel, modifiableModelsProvider, sourceCodeRoot, library, sharedLibraries)
             } else {
-                addJarFolderToModuleLibs(modifiableRootModel, modifiableModelsProvider, javaLibraryDescriptor)
+                addJarFolderToModuleLibs(modifiableRootModel, modifiableModelsProvider, library, sharedLibraries, sharedLibraryEntries)
             }
+            moduleLibraries.add(moduleLibrary to library.descriptor)
         }
 
+        configureModuleLibraryEntries(modifiableRootModel, moduleLibraries)
+
         when (moduleDescriptor) {
             is PlatformModuleDescriptor -> moduleDescriptor.createBootstrapLib(sourceCodeRoot, modifiableModelsProvider)
             is YCoreExtModuleDescriptor -> addLibsToModule(modifiableRootModel, modifiableModelsProvider, HybrisConstants.PLATFORM_LIBRARY_GROUP, true)
@@ -90,8 +119,8 @@ class DefaultLibRootsConfigurator : LibRootsConfigurator {
         }
     }
 
-    private fun getSourceCodeRoot(moduleDescriptor: ModuleDescriptor) = moduleDescriptor.rootProjectDescriptor.sourceCodeFile
-        ?.let { VfsUtil.findFileByIoFile(it, true) }
+    private fun getSourceCodeRoot(plan: LibRootsPlan) = plan.sourceCodeRoot
+        ?.let { findFile(it) }
         ?.let {
             if (it.isDirectory) {
                 it
@@ -104,57 +133,109 @@ class DefaultLibRootsConfigurator : LibRootsConfigurator {
         modifiableRootModel: ModifiableRootModel,
         modifiableModelsProvider: IdeModifiableModelsProvider,
         sourceCodeRoot: VirtualFile?,
-        javaLibraryDescriptor: JavaLibraryDescriptor
-    ) {
+        plannedLibrary: LibRootsPlan.Library,
+        sharedLibraries: SharedLibraries
+    ): Library {
+        val javaLibraryDescriptor = plannedLibrary.descriptor
         val library = javaLibraryDescriptor.name
             ?.let { modifiableRootModel.moduleLibraryTable.createLibrary(it) }
             ?: modifiableRootModel.moduleLibraryTable.createLibrary()
         val libraryModifiableModel = modifiableModelsProvider.getModifiableLibraryModel(library)
         libraryModifiableModel.addRoot(VfsUtil.getUrlForLibraryRoot(javaLibraryDescriptor.libraryFile), OrderRootType.CLASSES)
 
-        val sourceDirAttached = attachSourceFiles(javaLibraryDescriptor, libraryModifiableModel).isNotEmpty()
-        attachSourceJarDirectories(javaLibraryDescriptor, libraryModifiableModel)
+        var roots = 1
+        val attachedSourceFiles = attachSourceFiles(plannedLibrary, libraryModifiableModel)
+        val sourceDirAttached = attachedSourceFiles.isNotEmpty()
+        roots += attachedSourceFiles.size
+        roots += attachSourceJarDirectories(plannedLibrary, libraryModifiableModel)
 
         if (sourceCodeRoot != null
             && !sourceDirAttached
             && javaLibraryDescriptor.libraryFile.name.endsWith(HybrisConstants.HYBRIS_PLATFORM_CODE_SERVER_JAR_SUFFIX)
         ) {
             libraryModifiableModel.addRoot(sourceCodeRoot, OrderRootType.SOURCES)
+            roots++
         }
 
-        if (javaLibraryDescriptor.exported) {
-            setLibraryEntryExported(modifiableRootModel, library)
-        }
+        sharedLibraries.onModuleLibraryCreated(roots)
 
-        setLibraryEntryScope(modifiableRootModel, library, javaLibraryDescriptor.scope)
+        return library
     }
 
+    /**
+     * Jars shipped by several extensions are referenced via shared project libraries, only the rest is added to the module library explicitly.
+     *
+     * The jar directory is added to the module library only when the folder has no shared jars, otherwise each shared jar
+     * would be on the module classpath twice: via the directory root and via the shared library.
+     * Jars added later to such a folder are picked up on the next import.
+     */
     private fun addJarFolderToModuleLibs(
         modifiableRootModel: ModifiableRootModel,
         modifiableModelsProvider: IdeModifiableModelsProvider,
-        javaLibraryDescriptor: JavaLibraryDescriptor
-    ) {
+        plannedLibrary: LibRootsPlan.Library,
+        sharedLibraries: SharedLibraries,
+        sharedLibraryEntries: MutableMap<Library, LibraryOrderEntry>
+    ): Library {
+        val javaLibraryDescriptor = plannedLibrary.descriptor
+        val (sharedJars, moduleJars) = plannedLibrary.jars.partition { sharedLibraries.isShared(it) }
+        val library = createJarFolderModuleLibrary(modifiableRootModel, modifiableModelsProvider, plannedLibrary, moduleJars, sharedJars.isEmpty(), sharedLibraries)
+
+        sharedJars.forEach {
+            val sharedLibrary = sharedLibraries.getOrCreate(it, plannedLibrary.sourceJarDirectories.mapNotNull { file -> findFile(file) }, modifiableModelsProvider)
+            val existingEntry = sharedLibraryEntries[sharedLibrary]
+
+            if (existingEntry == null) {
+                val orderEntry = modifiableRootModel.addLibraryEntry(sharedLibrary)
+                orderEntry.isExported = javaLibraryDescriptor.exported
+                orderEntry.scope = javaLibraryDescriptor.scope
+                sharedLibraryEntries[sharedLibrary] = orderEntry
+            } else {
+                // the widest of the folders' settings wins
+                existingEntry.isExported = existingEntry.isExported || javaLibraryDescriptor.exported
+                if (existingEntry.scope != javaLibraryDescriptor.scope) existingEntry.scope = DependencyScope.COMPILE
+            }
+        }
+
+        return library
+    }
+
+    private fun createJarFolderModuleLibrary(
+        modifiableRootModel: ModifiableRootModel,
+        modifiableModelsProvider: IdeModifiableModelsProvider,
+        plannedLibrary: LibRootsPlan.Library,
+        jars: List<LibRootsPlan.Jar>,
+        noSharedJars: Boolean,
+        sharedLibraries: SharedLibraries
+    ): Library {
+        val javaLibraryDescriptor = plannedLibrary.descriptor
         val projectLibraryTable = modifiableRootModel.moduleLibraryTable
         val library = javaLibraryDescriptor.name
             ?.let { projectLibraryTable.createLibrary(it) }
             ?: projectLibraryTable.createLibrary()
 
+        var roots = 0
         val libraryModifiableModel = modifiableModelsProvider.getModifiableLibraryModel(library)
-        libraryModifiableModel.addJarDirectory(VfsUtil.getUrlForLibraryRoot(javaLibraryDescriptor.libraryFile), true)
+        if (noSharedJars) {
+            libraryModifiableModel.addJarDirectory(VfsUtil.getUrlForLibraryRoot(javaLibraryDescriptor.libraryFile), true)
+            roots++
+        }
         // we have to add each jar file explicitly, otherwise Spring will not recognise `classpath:/META-INF/my.xml` in the jar files
         // Jetbrains IntelliJ IDEA issue - https://youtrack.jetbrains.com/issue/IDEA-257819
-        javaLibraryDescriptor.jarFiles.forEach {
+        // shared jars are explicitly added to their shared libraries instead
+        val jarFiles = if (noSharedJars) javaLibraryDescriptor.jarFiles
+        else jars.map { it.file }
+        jarFiles.forEach {
             libraryModifiableModel.addRoot(VfsUtil.getUrlForLibraryRoot(it), OrderRootType.CLASSES)
         }
+        roots += jarFiles.size
 
-        attachSourceFiles(javaLibraryDescriptor, libraryModifiableModel)
-        attachSourceJarDirectories(javaLibraryDescriptor, libraryModifiableModel)
+        val sourceRoots = attachSourceFiles(plannedLibrary, libraryModifiableModel).size + attachSourceJarDirectories(plannedLibrary, libraryModifiableModel)
+        roots += sourceRoots
 
-        if (javaLibraryDescriptor.exported) {
-            setLibraryEntryExported(modifiableRootModel, library)
-        }
+        // without the shared libraries: the jar directory and the explicit jars of the descriptor
+        sharedLibraries.onModuleLibraryCreated(roots, 1 + javaLibraryDescriptor.jarFiles.size + sourceRoots)
 
-        setLibraryEntryScope(modifiableRootModel, library, javaLibraryDescriptor.scope)
+        return library
     }
 
     private fun addLibsToModule(
@@ -166,43 +247,91 @@ class DefaultLibRootsConfigurator : LibRootsConfigurator {
         val libraryTableModifiableModel = modifiableModelsProvider.modifiableProjectLibrariesModel
         val library = libraryTableModifiableModel.getLibraryByName(libraryName)
             ?: libraryTableModifiableModel.createLibrary(libraryName)
-        modifiableRootModel.addLibraryEntry(library)
+        val orderEntry = modifiableRootModel.addLibraryEntry(library)
 
         if (export) {
-            setLibraryEntryExported(modifiableRootModel, library)
+            orderEntry.isExported = true
         }
     }
 
-    private fun setLibraryEntryExported(modifiableRootModel: ModifiableRootModel, library: Library) {
-        findOrderEntryForLibrary(modifiableRootModel, library).isExported = true
-    }
+    /**
+     * Order entries of the module libraries are looked up once for the whole module instead of scanning all entries per library.
+     */
+    private fun configureModuleLibraryEntries(
+        modifiableRootModel: ModifiableRootModel,
+        moduleLibraries: List<Pair<Library, JavaLibraryDescriptor>>
+    ) {
+        if (moduleLibraries.isEmpty()) return
 
-    private fun setLibraryEntryScope(modifiableRootModel: ModifiableRootModel, library: Library, scope: DependencyScope) {
-        findOrderEntryForLibrary(modifiableRootModel, library).scope = scope
+        // Library.equals cannot be used here, because all empty libs are equal, so entries are matched by identity instead
+        val orderEntries = modifiableRootModel.orderEntries
+            .filterIsInstance<LibraryOrderEntry>()
+            .filter { it.library != null }
+            .associateByTo(IdentityHashMap()) { it.library }
+
+        moduleLibraries.forEach { (library, descriptor) ->
+            val orderEntry = orderEntries[library]
+                ?: (modifiableRootModel.findLibraryOrderEntry(library) as LibraryOrderEntry)
+
+            if (descriptor.exported) {
+                orderEntry.isExported = true
+            }
+            orderEntry.scope = descriptor.scope
+        }
     }
 
     private fun attachSourceFiles(
-        javaLibraryDescriptor: JavaLibraryDescriptor,
+        plannedLibrary: LibRootsPlan.Library,
         libraryModifiableModel: Library.ModifiableModel
-    ) = javaLibraryDescriptor.sourceFiles
-        .mapNotNull { VfsUtil.findFileByIoFile(it, true) }
+    ) = plannedLibrary.sourceFiles
+        .mapNotNull { findFile(it) }
         .onEach { libraryModifiableModel.addRoot(it, OrderRootType.SOURCES) }
 
     private fun attachSourceJarDirectories(
-        javaLibraryDescriptor: JavaLibraryDescriptor,
+        plannedLibrary: LibRootsPlan.Library,
         libraryModifiableModel: Library.ModifiableModel
-    ) {
-        javaLibraryDescriptor.sourceJarDirectories
-            .mapNotNull { VfsUtil.findFileByIoFile(it, true) }
-            .forEach { libraryModifiableModel.addJarDirectory(it, true, OrderRootType.SOURCES) }
+    ) = plannedLibrary.sourceJarDirectories
+        .mapNotNull { findFile(it) }
+        .onEach { libraryModifiableModel.addJarDirectory(it, true, OrderRootType.SOURCES) }
+        .size
+
+    // planned files are refreshed in a single batch before the plan is applied
+    private fun findFile(file: File) = LocalFileSystem.getInstance().findFileByIoFile(file)
+
+    private fun getJars(descriptor: JavaLibraryDescriptor): List<LibRootsPlan.Jar> {
+        if (descriptor.directoryWithClasses) return emptyList()
+
+        val jarFiles = descriptor.jarFiles.takeIf { it.isNotEmpty() }
+            ?: descriptor.libraryFile.listFiles { _, name: String -> name.endsWith(".jar") }?.toSet()
+            ?: return emptyList()
+
+        return jarFiles
+            .sortedBy { it.name }
+            .map { LibRootsPlan.Jar(it, getContentHash(it)) }
     }
 
-    // Workaround of using Library.equals in findLibraryOrderEntry, which doesn't work here, because all empty libs are equal. Use == instead.
-    private fun findOrderEntryForLibrary(
-        modifiableRootModel: ModifiableRootModel,
-        library: Library
-    ) = modifiableRootModel.orderEntries
-        .mapNotNull { it as? LibraryOrderEntry }
-        .find { it.library == library }
-        ?: (modifiableRootModel.findLibraryOrderEntry(library) as LibraryOrderEntry)
+    companion object {
+        private const val CONTENT_HASH_TAIL_SIZE = 64 * 1024L
+
+        /**
+         * Jar central directory is stored at the end of the file and holds the CRC and size of every entry,
+         * so the checksum of the file tail together with its length identifies the content without reading the whole jar.
+         * Unreadable jars get a unique hash and are never shared.
+         */
+        internal fun getContentHash(jarFile: File) = try {
+            RandomAccessFile(jarFile, "r").use { file ->
+                val length = file.length()
+                val tail = ByteArray(minOf(length, CONTENT_HASH_TAIL_SIZE).toInt())
+                file.seek(length - tail.size)
+                file.readFully(tail)
+
+                val crc = CRC32()
+                crc.update(tail)
+                "%08x%016x".format(crc.value, length)
+            }
+        } catch (e: IOException) {
+            thisLogger().debug("Unable to compute content hash of the ${jarFile.path}", e)
+            jarFile.absolutePath
+        }
+    }
 }
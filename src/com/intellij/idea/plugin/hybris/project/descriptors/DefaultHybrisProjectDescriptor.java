@@ -645,6 +645,15 @@ public class DefaultHybrisProjectDescriptor implements HybrisProjectDescriptor {
         this.project = project;
     }
 
+    // package-private for the module roots scanning benchmark
+    Map<DIRECTORY_TYPE, Set<File>> findModuleRoots(@NotNull final File rootDirectory) throws InterruptedException, IOException {
+        this.rootDirectory = rootDirectory;
+
+        final Map<DIRECTORY_TYPE, Set<File>> moduleRootMap = newModuleRootMap();
+        findModuleRoots(moduleRootMap, getExcludedFromScanningDirectories(), false, rootDirectory, null);
+        return moduleRootMap;
+    }
+
     private void findModuleRoots(
         @NotNull final Map<DIRECTORY_TYPE, Set<File>> moduleRootMap,
         final Set<File> excludedFromScanning,
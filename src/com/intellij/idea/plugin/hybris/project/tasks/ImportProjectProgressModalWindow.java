@@ -55,7 +55,9 @@ import com.intellij.openapi.module.ModifiableModuleModel;
 import com.intellij.openapi.module.Module;
 import com.intellij.openapi.module.StdModuleTypes;
 import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
 import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.progress.util.ProgressIndicatorUtils;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.project.ProjectUtil;
 import com.intellij.openapi.projectRoots.JavaSdkVersion;
@@ -66,6 +68,7 @@ import com.intellij.openapi.roots.ProjectRootManager;
 import com.intellij.openapi.roots.impl.storage.ClassPathStorageUtil;
 import com.intellij.openapi.roots.impl.storage.ClasspathStorage;
 import com.intellij.openapi.util.io.FileUtil;
+import com.intellij.openapi.vfs.LocalFileSystem;
 import com.intellij.openapi.vfs.VfsUtilCore;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.codeStyle.CodeStyleScheme;
@@ -76,6 +79,7 @@ import com.intellij.spellchecker.dictionary.ProjectDictionary;
 import com.intellij.spellchecker.dictionary.UserDictionary;
 import com.intellij.spellchecker.state.ProjectDictionaryState;
 import com.intellij.spring.facet.SpringFacet;
+import com.intellij.util.concurrency.AppExecutorUtil;
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.NotNull;
 
@@ -86,10 +90,13 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static com.intellij.idea.plugin.hybris.common.HybrisConstants.*;
@@ -97,8 +104,8 @@ import static com.intellij.idea.plugin.hybris.common.utils.HybrisI18NBundleUtils
 
 public class ImportProjectProgressModalWindow extends Task.Modal {
     private static final Logger LOG = Logger.getInstance(ImportProjectProgressModalWindow.class);
-    private static final int COMMITTED_CHUNK_SIZE = 20;
     private static final String SHOW_UNLINKED_GRADLE_POPUP = "show.inlinked.gradle.project.popup";
+    private static final int PLAN_PARALLELISM = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
 
     private final Project project;
     private final ModifiableModuleModel model;
@@ -107,7 +114,7 @@ public class ImportProjectProgressModalWindow extends Task.Modal {
     private final List<Module> modules;
     private final boolean refresh;
     @NotNull
-    private IdeModifiableModelsProvider modifiableModelsProvider;
+    private final IdeModifiableModelsProvider modifiableModelsProvider;
 
     public ImportProjectProgressModalWindow(
         final Project project,
@@ -167,45 +174,51 @@ public class ImportProjectProgressModalWindow extends Task.Modal {
 
         processUltimateEdition(indicator);
 
-        ModifiableModuleModel rootProjectModifiableModel = model == null
+        final ModifiableModuleModel rootProjectModifiableModel = model == null
             ? modifiableModelsProvider.getModifiableModuleModel()
             : model;
 
         configuratorFactory.getSpringConfigurator().process(indicator, hybrisProjectDescriptor, allModuleDescriptors);
         groupModuleConfigurator.process(indicator, allModules);
 
-        int counter = 0;
-
         final var application = ApplicationManager.getApplication();
+        final var phaseTimings = new LinkedHashMap<String, Long>();
+
+        // phase 1: all file system probing, independent for each module, so can be done in parallel
+        indicator.setText(message("hybris.project.import.module.plan"));
+        final var plans = measure(phaseTimings, "plan", () -> planModules(indicator, allYModules, allModules, appSettings));
+        final var sharedLibraries = new SharedLibraries(plans.stream().map(ModuleImportPlan::libRoots).toList());
+
+        // planned files are made known to the VFS in one batch, the refresh must not run in the parallel section
+        measure(phaseTimings, "refresh", () -> {
+            LocalFileSystem.getInstance().refreshIoFiles(plans.stream()
+                .flatMap(plan -> plan.libRoots().getIoFiles().stream())
+                .collect(Collectors.toSet()));
+            return null;
+        });
 
-        for (final var moduleDescriptor : allModules) {
-            final var javaModule = createJavaModule(indicator, allYModules, rootProjectModifiableModel, moduleDescriptor, appSettings);
-            modules.add(javaModule);
-            counter++;
-
-            if (counter >= COMMITTED_CHUNK_SIZE) {
-                counter = 0;
-                application.invokeAndWait(() -> application.runWriteAction(modifiableModelsProvider::commit));
-
-                modifiableModelsProvider = new IdeModifiableModelsProviderImpl(project);
-
-                rootProjectModifiableModel = model == null
-                    ? modifiableModelsProvider.getModifiableModuleModel()
-                    : model;
-            }
-        }
+        // phase 2: only project model mutations, committed once all modules are configured
+        measure(phaseTimings, "apply", () -> {
+            plans.forEach(plan -> modules.add(createJavaModule(indicator, rootProjectModifiableModel, plan, sharedLibraries)));
 
-        configuratorFactory.getModuleDependenciesConfigurator().configure(indicator, hybrisProjectDescriptor, modifiableModelsProvider);
-        configuratorFactory.getSpringConfigurator().configure(indicator, hybrisProjectDescriptor, allModuleDescriptors, modifiableModelsProvider);
-        configuratorFactory.getRunConfigurationConfigurator().configure(indicator, hybrisProjectDescriptor, project, cache);
-        configuratorFactory.getVersionControlSystemConfigurator().configure(indicator, hybrisProjectDescriptor, project);
-        configuratorFactory.getSearchScopeConfigurator().configure(indicator, project, appSettings, rootProjectModifiableModel);
+            configuratorFactory.getModuleDependenciesConfigurator().configure(indicator, hybrisProjectDescriptor, modifiableModelsProvider);
+            configuratorFactory.getSpringConfigurator().configure(indicator, hybrisProjectDescriptor, allModuleDescriptors, modifiableModelsProvider);
+            configuratorFactory.getRunConfigurationConfigurator().configure(indicator, hybrisProjectDescriptor, project, cache);
+            configuratorFactory.getVersionControlSystemConfigurator().configure(indicator, hybrisProjectDescriptor, project);
+            configuratorFactory.getSearchScopeConfigurator().configure(indicator, project, appSettings, rootProjectModifiableModel);
 
-        configureProjectIcon();
+            configureProjectIcon();
+            return null;
+        });
 
         indicator.setText(message("hybris.project.import.saving.project"));
 
-        application.invokeAndWait(() -> application.runWriteAction(modifiableModelsProvider::commit));
+        measure(phaseTimings, "commit", () -> {
+            application.invokeAndWait(() -> application.runWriteAction(modifiableModelsProvider::commit));
+            return null;
+        });
+
+        LOG.info("Imported " + plans.size() + " modules, phase timings (ms): " + phaseTimings + ", " + sharedLibraries);
 
         configuratorFactory.getLoadedConfigurator().configure(project, hybrisProjectDescriptor.getModulesChosenForImport());
 
@@ -268,13 +281,62 @@ public class ImportProjectProgressModalWindow extends Task.Modal {
         }
     }
 
+    private static <T> T measure(final Map<String, Long> phaseTimings, final String phase, final Supplier<T> action) {
+        final var start = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            phaseTimings.put(phase, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+    }
+
+    /**
+     * Modules are planned on a bounded pool instead of the common ForkJoin pool, workers run under the import {@code indicator},
+     * so the planning stops as soon as the import is cancelled.
+     */
+    private List<ModuleImportPlan> planModules(final @NotNull ProgressIndicator indicator,
+                                               final Map<String, YModuleDescriptor> allYModules,
+                                               final List<ModuleDescriptor> modules,
+                                               final @NotNull ApplicationSettings appSettings
+    ) {
+        final var progressManager = ProgressManager.getInstance();
+        final var executor = AppExecutorUtil.createBoundedApplicationPoolExecutor("SAP Commerce Import Planner", PLAN_PARALLELISM);
+
+        try {
+            final var futures = modules.stream()
+                .map(moduleDescriptor -> executor.submit(() -> progressManager.runProcess(() -> {
+                    ProgressManager.checkCanceled();
+                    return planModule(allYModules, moduleDescriptor, appSettings);
+                }, indicator)))
+                .toList();
+
+            return futures.stream()
+                .map(future -> ProgressIndicatorUtils.awaitWithCheckCanceled(future, indicator))
+                .toList();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @NotNull
+    private ModuleImportPlan planModule(final Map<String, YModuleDescriptor> allYModules,
+                                        final ModuleDescriptor moduleDescriptor,
+                                        final @NotNull ApplicationSettings appSettings
+    ) {
+        return new ModuleImportPlan(
+            moduleDescriptor,
+            configuratorFactory.getLibRootsConfigurator().plan(allYModules, moduleDescriptor),
+            configuratorFactory.getContentRootConfigurator().plan(moduleDescriptor, appSettings)
+        );
+    }
+
     @NotNull
     private Module createJavaModule(final @NotNull ProgressIndicator indicator,
-                                    final Map<String, YModuleDescriptor> allYModules,
                                     final ModifiableModuleModel rootProjectModifiableModel,
-                                    final ModuleDescriptor moduleDescriptor,
-                                    final @NotNull ApplicationSettings appSettings
+                                    final ModuleImportPlan plan,
+                                    final SharedLibraries sharedLibraries
     ) {
+        final var moduleDescriptor = plan.moduleDescriptor();
         indicator.setText(message("hybris.project.import.module.import", moduleDescriptor.getName()));
         indicator.setText2(message("hybris.project.import.module.settings"));
 
@@ -293,8 +355,8 @@ public class ImportProjectProgressModalWindow extends Task.Modal {
         modifiableRootModel.inheritSdk();
 
         configuratorFactory.getJavadocSettingsConfigurator().configure(modifiableRootModel, moduleDescriptor);
-        configuratorFactory.getLibRootsConfigurator().configure(indicator, allYModules, modifiableRootModel, moduleDescriptor, modifiableModelsProvider, indicator);
-        configuratorFactory.getContentRootConfigurator().configure(indicator, modifiableRootModel, moduleDescriptor, appSettings);
+        configuratorFactory.getLibRootsConfigurator().configure(indicator, plan.libRoots(), sharedLibraries, modifiableRootModel, moduleDescriptor, modifiableModelsProvider);
+        configuratorFactory.getContentRootConfigurator().configure(indicator, modifiableRootModel, plan.contentRoot());
         configuratorFactory.getCompilerOutputPathsConfigurator().configure(indicator, modifiableRootModel, moduleDescriptor);
 
         indicator.setText2(message("hybris.project.import.module.facet"));
@@ -600,4 +662,6 @@ public class ImportProjectProgressModalWindow extends Task.Modal {
         }
     }
 
+    private record ModuleImportPlan(ModuleDescriptor moduleDescriptor, LibRootsPlan libRoots, ContentRootPlan contentRoot) {
+    }
 }
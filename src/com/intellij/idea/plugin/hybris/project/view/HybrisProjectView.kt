@@ -27,16 +27,13 @@ import com.intellij.idea.plugin.hybris.common.utils.HybrisIcons
 import com.intellij.idea.plugin.hybris.common.yExtensionName
 import com.intellij.idea.plugin.hybris.facet.YFacet
 import com.intellij.idea.plugin.hybris.project.descriptors.ModuleDescriptorType
-import com.intellij.idea.plugin.hybris.project.services.HybrisProjectService
 import com.intellij.idea.plugin.hybris.settings.components.ApplicationSettingsComponent
 import com.intellij.idea.plugin.hybris.settings.components.ProjectSettingsComponent
 import com.intellij.openapi.project.DumbAware
 import com.intellij.openapi.project.Project
 import com.intellij.openapi.roots.ProjectRootManager
-import com.intellij.openapi.vfs.VfsUtil
 import com.intellij.openapi.vfs.VirtualFile
 import com.intellij.ui.SimpleTextAttributes
-import com.intellij.util.application
 import com.intellij.util.asSafely
 import java.io.File
 
@@ -107,23 +104,13 @@ open class HybrisProjectView(val project: Project) : TreeStructureProvider, Dumb
         val otherNodes = mutableListOf<AbstractTreeNode<*>>()
         val treeNodes = mutableListOf<AbstractTreeNode<*>>()
 
-        val projectService = application.getService(HybrisProjectService::class.java)
-        val projectRootManager = ProjectRootManager.getInstance(project)
+        val classifier = HybrisProjectViewDirectoryClassifier.getInstance(project)
         for (child in children) {
             if (child is PsiDirectoryNode) {
                 val virtualFile = child.virtualFile
                     ?: continue
 
-                val file = VfsUtil.virtualToIoFile(virtualFile)
-                val yFacet = projectRootManager.fileIndex.getModuleForFile(virtualFile)
-                    ?.let { YFacet.get(it) }
-
-                if (yFacet == null && (projectService.isGradleModule(file)
-                        || projectService.isEclipseModule(file)
-                        || projectService.isGradleKtsModule(file)
-                        || projectService.isAngularModule(file)
-                        || projectService.isMavenModule(file))
-                ) {
+                if (classifier.isExternalModule(virtualFile)) {
                     otherNodes.add(child)
                 } else {
                     treeNodes.add(child)
@@ -242,13 +229,14 @@ open class HybrisProjectView(val project: Project) : TreeStructureProvider, Dumb
 
         val junkTreeNodes = mutableListOf<AbstractTreeNode<*>>()
         val treeNodes = mutableListOf<AbstractTreeNode<*>>()
+        val classifier = HybrisProjectViewDirectoryClassifier.getInstance(project)
 
         for (child in children) {
             if (child is BasePsiNode<*>) {
                 val virtualFile = child.virtualFile
                     ?: continue
 
-                if (isJunk(virtualFile, junkFileNames)) {
+                if (classifier.isJunk(virtualFile, junkFileNames)) {
                     junkTreeNodes.add(child)
                 } else {
                     treeNodes.add(child)
@@ -335,11 +323,4 @@ open class HybrisProjectView(val project: Project) : TreeStructureProvider, Dumb
         || HybrisConstants.CLASSES_DIRECTORY == file.name
         || HybrisConstants.TEST_CLASSES_DIRECTORY == file.name
 
-    private fun isJunk(virtualFile: VirtualFile, junkFileNames: List<String>) = junkFileNames.contains(virtualFile.name)
-        || isIdeaModuleFile(virtualFile)
-
-    private fun isIdeaModuleFile(virtualFile: VirtualFile) = virtualFile
-        .name
-        .endsWith(HybrisConstants.NEW_IDEA_MODULE_FILE_EXTENSION)
-
 }
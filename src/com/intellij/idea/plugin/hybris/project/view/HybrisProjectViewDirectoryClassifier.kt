@@ -0,0 +1,132 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.intellij.idea.plugin.hybris.project.view
+
+import com.intellij.idea.plugin.hybris.common.HybrisConstants
+import com.intellij.idea.plugin.hybris.facet.YFacet
+import com.intellij.openapi.Disposable
+import com.intellij.openapi.components.Service
+import com.intellij.openapi.project.Project
+import com.intellij.openapi.roots.ModuleRootEvent
+import com.intellij.openapi.roots.ModuleRootListener
+import com.intellij.openapi.roots.ProjectRootManager
+import com.intellij.openapi.util.io.FileUtilRt
+import com.intellij.openapi.vfs.VirtualFile
+import com.intellij.openapi.vfs.VirtualFileManager
+import com.intellij.openapi.vfs.newvfs.BulkFileListener
+import com.intellij.openapi.vfs.newvfs.events.VFileCreateEvent
+import com.intellij.openapi.vfs.newvfs.events.VFileEvent
+import com.intellij.openapi.vfs.newvfs.events.VFileMoveEvent
+import org.jetbrains.idea.maven.model.MavenConstants
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * Classification of the directories shown in the Project View: external Gradle, Maven, Eclipse and Angular modules, hybris modules and junk files.
+ *
+ * Classification of each directory is computed once, using already loaded VFS children instead of the `java.io.File` probes,
+ * and is invalidated on VFS changes of the directory or its direct children and on the module roots changes.
+ */
+@Service(Service.Level.PROJECT)
+class HybrisProjectViewDirectoryClassifier(private val project: Project) : Disposable {
+
+    private val classifications = ConcurrentHashMap<VirtualFile, Int>()
+
+    @Volatile
+    private var junkFileNames: Pair<List<String>, Set<String>> = emptyList<String>() to emptySet()
+
+    init {
+        with(project.messageBus.connect(this)) {
+            subscribe(VirtualFileManager.VFS_CHANGES, object : BulkFileListener {
+                override fun after(events: List<VFileEvent>) = events.forEach { invalidate(it) }
+            })
+            subscribe(ModuleRootListener.TOPIC, object : ModuleRootListener {
+                override fun rootsChanged(event: ModuleRootEvent) = classifications.clear()
+            })
+        }
+    }
+
+    fun isExternalModule(directory: VirtualFile) = isExternalModule(getClassification(directory))
+
+    fun isJunk(file: VirtualFile, junkFileNames: List<String>) = file.name in getJunkFileNames(junkFileNames)
+        || file.name.endsWith(HybrisConstants.NEW_IDEA_MODULE_FILE_EXTENSION)
+
+    private fun getClassification(directory: VirtualFile) = classifications.computeIfAbsent(directory) {
+        val hybrisModule = ProjectRootManager.getInstance(project).fileIndex.getModuleForFile(it)
+            ?.let { module -> YFacet.get(module) } != null
+
+        classify(it.path, hybrisModule) { name -> it.findChild(name)?.isDirectory == false }
+    }
+
+    private fun getJunkFileNames(names: List<String>): Set<String> {
+        val current = junkFileNames
+        if (current.first === names) return current.second
+
+        return names.toHashSet()
+            .also { junkFileNames = names to it }
+    }
+
+    private fun invalidate(event: VFileEvent) {
+        event.file?.let {
+            classifications.remove(it)
+            it.parent?.let { parent -> classifications.remove(parent) }
+        }
+        when (event) {
+            is VFileCreateEvent -> classifications.remove(event.parent)
+            is VFileMoveEvent -> {
+                classifications.remove(event.oldParent)
+                classifications.remove(event.newParent)
+            }
+        }
+    }
+
+    override fun dispose() = classifications.clear()
+
+    companion object {
+        internal const val HYBRIS = 1
+        internal const val GRADLE = 1 shl 1
+        internal const val GRADLE_KTS = 1 shl 2
+        internal const val MAVEN = 1 shl 3
+        internal const val ECLIPSE = 1 shl 4
+        internal const val ANGULAR = 1 shl 5
+
+        private const val EXTERNAL = GRADLE or GRADLE_KTS or MAVEN or ECLIPSE or ANGULAR
+        private val PLATFORM_MODULE_PREFIX = FileUtilRt.toSystemIndependentName(HybrisConstants.PLATFORM_MODULE_PREFIX)
+
+        fun getInstance(project: Project): HybrisProjectViewDirectoryClassifier = project.getService(HybrisProjectViewDirectoryClassifier::class.java)
+
+        /**
+         * Same rules as in the [com.intellij.idea.plugin.hybris.project.services.HybrisProjectService], but for the system-independent path.
+         */
+        internal fun classify(path: String, hybrisModule: Boolean, hasFile: (String) -> Boolean): Int {
+            var classification = if (hybrisModule) HYBRIS else 0
+
+            if (hasFile(HybrisConstants.FILE_ANGULAR_JSON)) classification = classification or ANGULAR
+            if (path.contains(PLATFORM_MODULE_PREFIX)) return classification
+
+            if (hasFile(HybrisConstants.GRADLE_SETTINGS) || hasFile(HybrisConstants.GRADLE_BUILD)) classification = classification or GRADLE
+            if (hasFile(HybrisConstants.GRADLE_SETTINGS_KTS) || hasFile(HybrisConstants.GRADLE_BUILD_KTS)) classification = classification or GRADLE_KTS
+            if (hasFile(MavenConstants.POM_XML)) classification = classification or MAVEN
+            if (hasFile(HybrisConstants.DOT_PROJECT)) classification = classification or ECLIPSE
+
+            return classification
+        }
+
+        internal fun isExternalModule(classification: Int) = classification and HYBRIS == 0
+            && classification and EXTERNAL != 0
+    }
+}
@@ -147,13 +147,15 @@ class PropertyService(val project: Project) {
         findAllIProperties()
             .filter { it.value != null && it.key != null }
             .associateTo(LinkedHashMap()) { it.key!! to it.value!! }
-            .let { properties ->
-                addEnvironmentProperties(properties)
-                properties
-                    .filter { it.value.contains(nestedPropertyPrefix) }
-                    .forEach { replacePlaceholder(properties, it.key, HashSet<String>()) }
-                return@let properties
-            }
+            .let { resolveProperties(it) }
+    }
+
+    internal fun resolveProperties(properties: LinkedHashMap<String, String>): Map<String, String> {
+        addEnvironmentProperties(properties)
+        properties
+            .filter { it.value.contains(nestedPropertyPrefix) }
+            .forEach { replacePlaceholder(properties, it.key, HashSet<String>()) }
+        return properties
     }
 
     fun initCache() = ReadAction
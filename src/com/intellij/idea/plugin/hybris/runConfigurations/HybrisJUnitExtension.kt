@@ -42,11 +42,6 @@ import java.util.*
 
 class HybrisJUnitExtension : RunConfigurationExtension() {
 
-    private companion object {
-        const val JVM_ADDITIONAL_PREFIX = "wrapper.java.additional."
-        const val STRIP_QUOTES_SUFFIX = ".stripquotes"
-    }
-
     override fun isApplicableFor(configuration: RunConfigurationBase<*>) =
         if (configuration !is JUnitConfiguration) false
         else ProjectSettingsComponent.getInstance(configuration.project)
@@ -62,29 +57,12 @@ class HybrisJUnitExtension : RunConfigurationExtension() {
         val junitConfig = (configuration as JUnitConfiguration)
 
         if (isApplicableFor(configuration) && !isPureUnitTest(junitConfig, project)) {
-            updateSapCXJVMProperties(project, params, executor)
+            updateSapCXJVMProperties(project, params, executor.id == DefaultDebugExecutor.EXECUTOR_ID)
         }
 
         super.updateJavaParameters(configuration, params, runnerSettings, executor)
     }
 
-    private fun updateSapCXJVMProperties(project: Project, params: JavaParameters, executor: Executor) {
-        PropertyService.getInstance(project)
-            ?.let { propertyService ->
-
-                val vmParameters = params.vmParametersList
-
-                val tomcatWrapperProperties = when {
-                    executor.id == DefaultDebugExecutor.EXECUTOR_ID -> propertyService.getTomcatWrapperProperties("debug")
-                    else -> propertyService.getTomcatWrapperProperties()
-                }
-
-                getTomcatWrapperJVMProperties(tomcatWrapperProperties).forEach {
-                    addVmParameterIfNotExist(vmParameters, it)
-                }
-            }
-    }
-
     override fun <T : RunConfigurationBase<*>?> updateJavaParameters(
         configuration: T & Any, params: JavaParameters, runnerSettings: RunnerSettings?
     ) {
@@ -111,74 +89,97 @@ class HybrisJUnitExtension : RunConfigurationExtension() {
         return psiClass.annotations.any { it.qualifiedName == annotationFQN }
     }
 
+    /**
+     * Platform classpath and Tomcat wrapper VM settings, shared with the warm platform daemon, see [com.intellij.idea.plugin.hybris.runConfigurations.warm.WarmPlatformService].
+     */
+    companion object {
+        private const val JVM_ADDITIONAL_PREFIX = "wrapper.java.additional."
+        private const val STRIP_QUOTES_SUFFIX = ".stripquotes"
 
-    private fun enhanceClassPath(params: JavaParameters, project: Project) {
-        val classPathEntries = HashSet<String>()
+        fun updateSapCXJVMProperties(project: Project, params: JavaParameters, debug: Boolean) {
+            PropertyService.getInstance(project)
+                ?.let { propertyService ->
 
-        val modules: Array<Module> = ModuleManager.getInstance(project).modules
-        for (module in modules) {
+                    val vmParameters = params.vmParametersList
 
-            if (YFacet.getState(module)?.type?.name.equals("CCV2")) {
-                continue
-            }
+                    val tomcatWrapperProperties = when {
+                        debug -> propertyService.getTomcatWrapperProperties("debug")
+                        else -> propertyService.getTomcatWrapperProperties()
+                    }
 
-            // Get the module's output paths (both production and test)
-            val moduleRootManager = ModuleRootManager.getInstance(module)
+                    getTomcatWrapperJVMProperties(tomcatWrapperProperties).forEach {
+                        addVmParameterIfNotExist(vmParameters, it)
+                    }
+                }
+        }
 
-            // Get the compiler output paths for production and test
-            val productionOutput = moduleRootManager.getModuleExtension(CompilerModuleExtension::class.java)
-                ?.compilerOutputPath
-            val testOutput = moduleRootManager.getModuleExtension(CompilerModuleExtension::class.java)
-                ?.compilerOutputPathForTests
+        fun enhanceClassPath(params: JavaParameters, project: Project) {
+            val classPathEntries = HashSet<String>()
 
-            // Add the output paths to the classpath
-            if (productionOutput != null && classPathEntries.add(productionOutput.path)) {
-                params.classPath.add(productionOutput.path)
-            }
-            if (testOutput != null && classPathEntries.add(testOutput.path)) {
-                params.classPath.add(testOutput.path)
-            }
+            val modules: Array<Module> = ModuleManager.getInstance(project).modules
+            for (module in modules) {
 
-            // **Add module dependencies to classpath**
-            OrderEnumerator.orderEntries(module)
-                .recursively()
-                .classes().roots.forEach {
-                    val path = it.presentableUrl
-                    if (classPathEntries.add(path)) {
-                        params.classPath.add(it)
-                    }
+                if (YFacet.getState(module)?.type?.name.equals("CCV2")) {
+                    continue
                 }
-        }
-    }
 
-    private fun getTomcatWrapperJVMProperties(
-        properties: Properties
-    ): List<String> = properties.entries
-        .asSequence()
-        .map { it.key.toString() to it.value.toString() }
-        .filter { (key, _) -> key.startsWith(JVM_ADDITIONAL_PREFIX) }
-        .filter { (key, _) -> !key.endsWith(STRIP_QUOTES_SUFFIX) }
-        .sortedBy { (key, _) ->
-            key.removePrefix(JVM_ADDITIONAL_PREFIX)
-                .toIntOrNull() ?: Int.MAX_VALUE
-        }
-        .map { (key, value) ->
-            when {
-                shouldStripQuotes(key, properties) -> value.replace("\"", "").trim()
-                else -> value.trim()
+                // Get the module's output paths (both production and test)
+                val moduleRootManager = ModuleRootManager.getInstance(module)
+
+                // Get the compiler output paths for production and test
+                val productionOutput = moduleRootManager.getModuleExtension(CompilerModuleExtension::class.java)
+                    ?.compilerOutputPath
+                val testOutput = moduleRootManager.getModuleExtension(CompilerModuleExtension::class.java)
+                    ?.compilerOutputPathForTests
+
+                // Add the output paths to the classpath
+                if (productionOutput != null && classPathEntries.add(productionOutput.path)) {
+                    params.classPath.add(productionOutput.path)
+                }
+                if (testOutput != null && classPathEntries.add(testOutput.path)) {
+                    params.classPath.add(testOutput.path)
+                }
+
+                // **Add module dependencies to classpath**
+                OrderEnumerator.orderEntries(module)
+                    .recursively()
+                    .classes().roots.forEach {
+                        val path = it.presentableUrl
+                        if (classPathEntries.add(path)) {
+                            params.classPath.add(it)
+                        }
+                    }
             }
         }
-        .toList()
 
-    private fun shouldStripQuotes(key: String, properties: Properties): Boolean =
-        properties["$key$STRIP_QUOTES_SUFFIX"]
-            ?.toString()
-            ?.uppercase() == "TRUE"
+        private fun getTomcatWrapperJVMProperties(
+            properties: Properties
+        ): List<String> = properties.entries
+            .asSequence()
+            .map { it.key.toString() to it.value.toString() }
+            .filter { (key, _) -> key.startsWith(JVM_ADDITIONAL_PREFIX) }
+            .filter { (key, _) -> !key.endsWith(STRIP_QUOTES_SUFFIX) }
+            .sortedBy { (key, _) ->
+                key.removePrefix(JVM_ADDITIONAL_PREFIX)
+                    .toIntOrNull() ?: Int.MAX_VALUE
+            }
+            .map { (key, value) ->
+                when {
+                    shouldStripQuotes(key, properties) -> value.replace("\"", "").trim()
+                    else -> value.trim()
+                }
+            }
+            .toList()
+
+        private fun shouldStripQuotes(key: String, properties: Properties): Boolean =
+            properties["$key$STRIP_QUOTES_SUFFIX"]
+                ?.toString()
+                ?.uppercase() == "TRUE"
 
-    private fun addVmParameterIfNotExist(vmParameters: ParametersList, newParam: String) {
-        if (!vmParameters.hasParameter(newParam)) {
-            vmParameters.add(newParam)
+        private fun addVmParameterIfNotExist(vmParameters: ParametersList, newParam: String) {
+            if (!vmParameters.hasParameter(newParam)) {
+                vmParameters.add(newParam)
+            }
         }
     }
-
 }
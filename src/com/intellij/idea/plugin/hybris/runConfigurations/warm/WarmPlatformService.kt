@@ -0,0 +1,319 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.intellij.idea.plugin.hybris.runConfigurations.warm
+
+import com.intellij.execution.configurations.JavaParameters
+import com.intellij.execution.process.OSProcessHandler
+import com.intellij.execution.process.ProcessEvent
+import com.intellij.execution.process.ProcessListener
+import com.intellij.ide.plugins.PluginManagerCore
+import com.intellij.idea.plugin.hybris.common.HybrisConstants
+import com.intellij.idea.plugin.hybris.project.utils.HybrisRootUtil
+import com.intellij.idea.plugin.hybris.runConfigurations.HybrisJUnitExtension
+import com.intellij.idea.plugin.hybris.system.type.meta.TSModificationTracker
+import com.intellij.openapi.Disposable
+import com.intellij.openapi.application.runReadAction
+import com.intellij.openapi.components.Service
+import com.intellij.openapi.components.service
+import com.intellij.openapi.diagnostic.thisLogger
+import com.intellij.openapi.extensions.PluginId
+import com.intellij.openapi.module.Module
+import com.intellij.openapi.module.ModuleManager
+import com.intellij.openapi.progress.ProcessCanceledException
+import com.intellij.openapi.progress.ProgressIndicator
+import com.intellij.openapi.project.Project
+import com.intellij.openapi.roots.CompilerModuleExtension
+import com.intellij.openapi.roots.ModuleRootManager
+import com.intellij.openapi.util.Key
+import java.io.ByteArrayOutputStream
+import java.io.File
+import java.io.PrintWriter
+import java.net.InetAddress
+import java.net.InetSocketAddress
+import java.net.Socket
+import java.net.SocketTimeoutException
+import java.nio.charset.StandardCharsets
+import java.nio.file.Path
+import java.security.SecureRandom
+import java.util.*
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.TimeoutException
+import kotlin.io.path.exists
+
+/**
+ * Keeps a JVM with the started `junit` tenant, see [WarmPlatformDaemon], so a single integration test does not boot the whole platform.
+ *
+ * The daemon is restarted (cold run) whenever the Type System has changed since its boot:
+ * either an `*-items.xml` file was modified or the `models.jar` was regenerated.
+ */
+@Service(Service.Level.PROJECT)
+class WarmPlatformService(private val project: Project) : Disposable {
+
+    @Volatile
+    private var daemon: Daemon? = null
+
+    val isRunning: Boolean
+        get() = daemon?.processHandler?.isProcessTerminated == false
+
+    @Synchronized
+    fun run(module: Module, testClass: String, testMethod: String?, indicator: ProgressIndicator): WarmPlatformRunResult {
+        val fingerprint = getFingerprint()
+        val current = daemon
+            ?.takeIf { !it.processHandler.isProcessTerminated && it.fingerprint == fingerprint }
+            ?: restart(module, fingerprint, indicator)
+        val coldRun = !current.used
+        current.used = true
+
+        val test = testMethod
+            ?.let { testClass + WarmPlatformDaemon.METHOD_SEPARATOR + it }
+            ?: testClass
+        val response = try {
+            send(current, "${WarmPlatformDaemon.COMMAND_RUN} $test") { indicator.checkCanceled() }
+        } catch (e: ProcessCanceledException) {
+            // the test keeps running in the daemon and may never finish, so it is not reused
+            daemon = null
+            current.processHandler.destroyProcess()
+            throw e
+        }
+
+        return parse(response, coldRun, current.bootTime)
+    }
+
+    @Synchronized
+    fun stop() {
+        val current = daemon ?: return
+        daemon = null
+
+        if (current.processHandler.isProcessTerminated) return
+
+        val deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(STOP_TIMEOUT_SECONDS)
+        try {
+            send(current, WarmPlatformDaemon.COMMAND_STOP) {
+                if (System.currentTimeMillis() > deadline) throw WarmPlatformException("Warm platform did not respond in $STOP_TIMEOUT_SECONDS seconds")
+            }
+        } catch (e: Exception) {
+            thisLogger().debug("Unable to stop the warm platform gracefully", e)
+        }
+        if (!current.processHandler.waitFor(TimeUnit.SECONDS.toMillis(STOP_TIMEOUT_SECONDS))) {
+            current.processHandler.destroyProcess()
+        }
+    }
+
+    override fun dispose() = stop()
+
+    private fun restart(module: Module, fingerprint: Fingerprint, indicator: ProgressIndicator): Daemon {
+        stop()
+        return start(module, fingerprint, indicator)
+            .also { daemon = it }
+    }
+
+    private fun start(module: Module, fingerprint: Fingerprint, indicator: ProgressIndicator): Daemon {
+        val token = createToken()
+        val params = runReadAction { createJavaParameters(module, token) }
+        val processHandler = OSProcessHandler(params.toCommandLine())
+        val ready = CompletableFuture<Pair<Int, Long>>()
+
+        processHandler.addProcessListener(object : ProcessListener {
+            override fun onTextAvailable(event: ProcessEvent, outputType: Key<*>) {
+                val text = event.text
+                if (!text.startsWith(WarmPlatformDaemon.READY_MARKER)) {
+                    thisLogger().debug(text.trimEnd())
+                    return
+                }
+
+                val (port, bootTime) = text.removePrefix(WarmPlatformDaemon.READY_MARKER)
+                    .trim()
+                    .split(WarmPlatformDaemon.BOOT_TIME_SEPARATOR)
+                ready.complete(port.toInt() to bootTime.toLong())
+            }
+
+            override fun processTerminated(event: ProcessEvent) {
+                ready.completeExceptionally(WarmPlatformException("Warm platform exited with code ${event.exitCode}"))
+            }
+        })
+        processHandler.startNotify()
+
+        while (true) {
+            if (indicator.isCanceled) {
+                processHandler.destroyProcess()
+                indicator.checkCanceled()
+            }
+
+            try {
+                val (port, bootTime) = ready.get(1, TimeUnit.SECONDS)
+                return Daemon(processHandler, port, token, bootTime, fingerprint)
+            } catch (_: TimeoutException) {
+                // still booting
+            } catch (e: Exception) {
+                throw e.cause as? WarmPlatformException ?: WarmPlatformException(e.message ?: e.javaClass.simpleName, e)
+            }
+        }
+    }
+
+    private fun createJavaParameters(module: Module, token: String): JavaParameters {
+        val params = JavaParameters()
+        params.configureByModule(module, JavaParameters.JDK_AND_CLASSES_AND_TESTS)
+        HybrisJUnitExtension.enhanceClassPath(params, project)
+        HybrisJUnitExtension.updateSapCXJVMProperties(project, params, false)
+
+        val reloadRoots = ModuleManager.getInstance(project).modules
+            .mapNotNull { ModuleRootManager.getInstance(it).getModuleExtension(CompilerModuleExtension::class.java)?.compilerOutputPathForTests }
+            .joinToString(File.pathSeparator) { it.presentableUrl }
+
+        params.classPath.add(getDaemonJar().toFile())
+        params.vmParametersList.addProperty(WarmPlatformDaemon.PROPERTY_RELOAD_ROOTS, reloadRoots)
+        // environment of a process is not visible to other users, unlike its command line
+        params.env = LinkedHashMap(params.env).apply { put(WarmPlatformDaemon.ENV_TOKEN, token) }
+        params.mainClass = WarmPlatformDaemon.MAIN_CLASS
+        HybrisRootUtil.findPlatformRootDirectory(project)
+            ?.let { params.workingDirectory = it.path }
+
+        return params
+    }
+
+    private fun getDaemonJar(): Path = PluginManagerCore.getPlugin(PluginId.getId(HybrisConstants.PLUGIN_ID))
+        ?.pluginPath
+        ?.resolve(DAEMON_JAR)
+        ?.takeIf { it.exists() }
+        ?: throw WarmPlatformException("Warm platform daemon is not found in the plugin distribution: $DAEMON_JAR")
+
+    private fun createToken() = ByteArray(TOKEN_LENGTH)
+        .also { SecureRandom().nextBytes(it) }
+        .let { Base64.getUrlEncoder().withoutPadding().encodeToString(it) }
+
+    /**
+     * Reads the response until the daemon closes the connection, [checkCanceled] is invoked every [READ_TIMEOUT_MS]
+     * while the daemon is busy, so a hanging test does not block the caller forever.
+     */
+    private fun send(daemon: Daemon, command: String, checkCanceled: () -> Unit): List<String> = Socket().use { socket ->
+        socket.connect(InetSocketAddress(InetAddress.getLoopbackAddress(), daemon.port), READ_TIMEOUT_MS)
+        socket.soTimeout = READ_TIMEOUT_MS
+
+        PrintWriter(socket.getOutputStream().writer(StandardCharsets.UTF_8), true).apply {
+            println(daemon.token)
+            println(command)
+        }
+
+        val input = socket.getInputStream()
+        val response = ByteArrayOutputStream()
+        val buffer = ByteArray(DEFAULT_BUFFER_SIZE)
+
+        while (true) {
+            val read = try {
+                input.read(buffer)
+            } catch (_: SocketTimeoutException) {
+                if (daemon.processHandler.isProcessTerminated) throw WarmPlatformException("Warm platform exited with code ${daemon.processHandler.exitCode}")
+                checkCanceled()
+                continue
+            }
+            if (read < 0) break
+            response.write(buffer, 0, read)
+        }
+
+        response.toString(StandardCharsets.UTF_8)
+            .lineSequence()
+            .takeWhile { it != WarmPlatformDaemon.RESPONSE_END }
+            .toList()
+    }
+
+    private fun parse(response: List<String>, coldRun: Boolean, bootTime: Long): WarmPlatformRunResult {
+        response.firstOrNull { it.startsWith(WarmPlatformDaemon.RESPONSE_ERROR) }
+            ?.let { throw WarmPlatformException(it.removePrefix(WarmPlatformDaemon.RESPONSE_ERROR).trim()) }
+
+        val counts = response.firstOrNull { it.startsWith(WarmPlatformDaemon.RESPONSE_RESULT) }
+            ?.removePrefix(WarmPlatformDaemon.RESPONSE_RESULT)
+            ?.trim()
+            ?.split(' ')
+            ?.map { it.toLong() }
+            ?: throw WarmPlatformException("Warm platform returned no result")
+
+        val failures = mutableListOf<WarmPlatformRunResult.Failure>()
+        response.forEach {
+            when {
+                it.startsWith(WarmPlatformDaemon.RESPONSE_FAILURE) -> failures.add(
+                    WarmPlatformRunResult.Failure(it.removePrefix(WarmPlatformDaemon.RESPONSE_FAILURE).trim())
+                )
+
+                it.startsWith(WarmPlatformDaemon.RESPONSE_TRACE) -> failures.lastOrNull()
+                    ?.trace
+                    ?.appendLine(it.removePrefix(WarmPlatformDaemon.RESPONSE_TRACE + " "))
+            }
+        }
+
+        return WarmPlatformRunResult(
+            coldRun = coldRun,
+            bootTime = bootTime,
+            testTime = counts[3],
+            runCount = counts[0].toInt(),
+            failureCount = counts[1].toInt(),
+            ignoreCount = counts[2].toInt(),
+            failures = failures
+        )
+    }
+
+    private fun getFingerprint() = Fingerprint(
+        project.service<TSModificationTracker>().modificationCount,
+        runReadAction { HybrisRootUtil.findPlatformRootDirectory(project) }
+            ?.let { File(it.path, HybrisConstants.PL_BOOTSTRAP_LIB_PATH) }
+            ?.resolve(HybrisConstants.JAR_MODELS)
+            ?.lastModified()
+            ?: 0L
+    )
+
+    private data class Fingerprint(
+        val typeSystemModificationCount: Long,
+        val modelsJarModificationTime: Long,
+    )
+
+    private class Daemon(
+        val processHandler: OSProcessHandler,
+        val port: Int,
+        val token: String,
+        val bootTime: Long,
+        val fingerprint: Fingerprint,
+        var used: Boolean = false,
+    )
+
+    companion object {
+        private const val STOP_TIMEOUT_SECONDS = 30L
+        private const val READ_TIMEOUT_MS = 1000
+        private const val TOKEN_LENGTH = 32
+        private const val DAEMON_JAR = "daemon/warm-platform-daemon.jar"
+
+        fun getInstance(project: Project): WarmPlatformService = project.getService(WarmPlatformService::class.java)
+    }
+}
+
+data class WarmPlatformRunResult(
+    val coldRun: Boolean,
+    val bootTime: Long,
+    val testTime: Long,
+    val runCount: Int,
+    val failureCount: Int,
+    val ignoreCount: Int,
+    val failures: List<Failure>,
+) {
+
+    data class Failure(
+        val testHeader: String,
+        val trace: StringBuilder = StringBuilder(),
+    )
+}
+
+class WarmPlatformException(message: String, cause: Throwable? = null) : Exception(message, cause)
@@ -0,0 +1,147 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.intellij.idea.plugin.hybris.runConfigurations.warm.actions
+
+import com.intellij.idea.plugin.hybris.common.utils.HybrisI18NBundleUtils.message
+import com.intellij.idea.plugin.hybris.common.utils.HybrisIcons
+import com.intellij.idea.plugin.hybris.notifications.Notifications
+import com.intellij.idea.plugin.hybris.runConfigurations.warm.WarmPlatformRunResult
+import com.intellij.idea.plugin.hybris.runConfigurations.warm.WarmPlatformService
+import com.intellij.idea.plugin.hybris.settings.components.ProjectSettingsComponent
+import com.intellij.notification.NotificationType
+import com.intellij.openapi.actionSystem.ActionUpdateThread
+import com.intellij.openapi.actionSystem.AnAction
+import com.intellij.openapi.actionSystem.AnActionEvent
+import com.intellij.openapi.actionSystem.CommonDataKeys
+import com.intellij.openapi.compiler.CompilerManager
+import com.intellij.openapi.module.Module
+import com.intellij.openapi.module.ModuleUtilCore
+import com.intellij.openapi.progress.ProcessCanceledException
+import com.intellij.openapi.progress.ProgressIndicator
+import com.intellij.openapi.progress.ProgressManager
+import com.intellij.openapi.progress.Task
+import com.intellij.openapi.project.Project
+import com.intellij.openapi.util.text.StringUtil
+import com.intellij.psi.PsiClass
+import com.intellij.psi.PsiMethod
+import com.intellij.psi.util.PsiTreeUtil
+
+/**
+ * Compiles the module and runs the test class or method under the caret in the warm platform, see [WarmPlatformService].
+ */
+class WarmPlatformRunTestAction : AnAction(
+    message("hybris.warmPlatform.actions.run"),
+    message("hybris.warmPlatform.actions.run.description"),
+    HybrisIcons.Y.LOGO_GREEN
+) {
+
+    override fun getActionUpdateThread() = ActionUpdateThread.BGT
+
+    override fun update(e: AnActionEvent) {
+        e.presentation.isEnabledAndVisible = e.project
+            ?.takeIf { ProjectSettingsComponent.getInstance(it).isHybrisProject() }
+            ?.let { findTest(e) } != null
+    }
+
+    override fun actionPerformed(e: AnActionEvent) {
+        val project = e.project ?: return
+        val test = findTest(e) ?: return
+        val module = ModuleUtilCore.findModuleForPsiElement(test.psiClass) ?: return
+        val testClass = test.psiClass.qualifiedName ?: return
+        val testMethod = test.psiMethod?.name
+
+        CompilerManager.getInstance(project).make(module) { aborted, errors, _, _ ->
+            if (aborted || errors > 0) return@make
+
+            run(project, module, testClass, testMethod)
+        }
+    }
+
+    private fun run(project: Project, module: Module, testClass: String, testMethod: String?) {
+        val testName = testMethod
+            ?.let { "${StringUtil.getShortName(testClass)}.$it" }
+            ?: StringUtil.getShortName(testClass)
+
+        ProgressManager.getInstance().run(object : Task.Backgroundable(project, message("hybris.warmPlatform.actions.run.progress", testName), true) {
+            override fun run(indicator: ProgressIndicator) {
+                val result = try {
+                    WarmPlatformService.getInstance(project).run(module, testClass, testMethod, indicator)
+                } catch (e: ProcessCanceledException) {
+                    throw e
+                } catch (e: Exception) {
+                    Notifications.create(
+                        NotificationType.WARNING,
+                        message("hybris.warmPlatform.notification.error.title"),
+                        e.message ?: e.javaClass.simpleName
+                    )
+                        .hideAfter(10)
+                        .notify(project)
+                    return
+                }
+
+                Notifications.create(
+                    if (result.failureCount == 0) NotificationType.INFORMATION else NotificationType.WARNING,
+                    message("hybris.warmPlatform.notification.title", testName),
+                    render(result)
+                )
+                    .hideAfter(if (result.failureCount == 0) 10 else 30)
+                    .notify(project)
+            }
+        })
+    }
+
+    private fun render(result: WarmPlatformRunResult) = buildString {
+        append(message("hybris.warmPlatform.notification.result", result.runCount, result.failureCount, result.ignoreCount))
+        append("<br>")
+        append(
+            if (result.coldRun) message("hybris.warmPlatform.notification.time.cold", result.bootTime, result.testTime)
+            else message("hybris.warmPlatform.notification.time.warm", result.testTime, result.bootTime)
+        )
+        result.failures.forEach {
+            append("<br><b>").append(StringUtil.escapeXmlEntities(it.testHeader)).append("</b>: ")
+            append(StringUtil.escapeXmlEntities(it.trace.lineSequence().firstOrNull() ?: ""))
+        }
+    }
+
+    private fun findTest(e: AnActionEvent): Test? {
+        val file = e.getData(CommonDataKeys.PSI_FILE) ?: return null
+        val element = e.getData(CommonDataKeys.CARET)
+            ?.let { file.findElementAt(it.offset) }
+            ?: e.getData(CommonDataKeys.PSI_ELEMENT)
+            ?: return null
+
+        val psiMethod = PsiTreeUtil.getParentOfType(element, PsiMethod::class.java, false)
+        val psiClass = psiMethod?.containingClass
+            ?: PsiTreeUtil.getParentOfType(element, PsiClass::class.java, false)
+            ?: return null
+
+        if (psiClass.qualifiedName == null || !psiClass.isTestClass()) return null
+
+        return Test(psiClass, psiMethod?.takeIf { it.isTestMethod() })
+    }
+
+    private fun PsiClass.isTestClass() = methods.any { it.isTestMethod() }
+
+    private fun PsiMethod.isTestMethod() = hasAnnotation(ANNOTATION_TEST)
+
+    private data class Test(val psiClass: PsiClass, val psiMethod: PsiMethod?)
+
+    companion object {
+        private const val ANNOTATION_TEST = "org.junit.Test"
+    }
+}
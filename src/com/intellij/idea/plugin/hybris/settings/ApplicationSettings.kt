@@ -49,6 +49,7 @@ data class ApplicationSettings(
     var junkDirectoryList: List<String> = HybrisConstants.DEFAULT_JUNK_FILE_NAMES,
     var extensionsResourcesToExclude: List<String> = HybrisConstants.DEFAULT_EXTENSIONS_RESOURCES_TO_EXCLUDE,
     var excludedFromIndexList: List<String> = HybrisConstants.DEFAULT_EXCLUDED_FROM_INDEX,
+    var metaSystemsRebuildQuietWindow: Int = 500,
 
     var ccv2ReadTimeout: Int = 60,
     var ccv2Subscriptions: List<CCv2Subscription> = emptyList(),
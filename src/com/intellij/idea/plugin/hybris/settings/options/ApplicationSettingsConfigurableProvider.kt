@@ -21,6 +21,7 @@ import com.intellij.idea.plugin.hybris.common.utils.HybrisI18NBundleUtils.messag
 import com.intellij.idea.plugin.hybris.settings.components.ApplicationSettingsComponent
 import com.intellij.openapi.options.BoundSearchableConfigurable
 import com.intellij.openapi.options.ConfigurableProvider
+import com.intellij.ui.dsl.builder.bindIntText
 import com.intellij.ui.dsl.builder.bindSelected
 import com.intellij.ui.dsl.builder.panel
 
@@ -72,6 +73,12 @@ class ApplicationSettingsConfigurableProvider : ConfigurableProvider() {
                 checkBox(message("hybris.ts.items.validation.settings.enabled"))
                     .bindSelected(state::warnIfGeneratedItemsAreOutOfDate)
             }
+            row {
+                label(message("hybris.settings.application.metaSystemsRebuildQuietWindow"))
+                intTextField(0..60_000)
+                    .comment(message("hybris.settings.application.metaSystemsRebuildQuietWindow.comment"))
+                    .bindIntText(state::metaSystemsRebuildQuietWindow)
+            }
         }
     }
 }
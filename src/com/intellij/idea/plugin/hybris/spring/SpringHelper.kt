@@ -26,17 +26,12 @@ import com.intellij.openapi.module.Module
 import com.intellij.openapi.module.ModuleManager
 import com.intellij.openapi.module.ModuleUtilCore
 import com.intellij.openapi.project.Project
-import com.intellij.openapi.util.NotNullLazyValue
 import com.intellij.psi.JavaPsiFacade
-import com.intellij.psi.PsiClass
 import com.intellij.psi.PsiElement
 import com.intellij.psi.search.GlobalSearchScope
 import com.intellij.psi.xml.XmlTag
 import com.intellij.spring.SpringManager
-import com.intellij.spring.java.SpringJavaClassInfo
-import com.intellij.spring.model.SpringBeanPointer
 import com.intellij.spring.model.utils.SpringModelSearchers
-import com.intellij.spring.model.xml.beans.SpringBean
 
 object SpringHelper {
 
@@ -60,31 +55,22 @@ object SpringHelper {
                 JavaPsiFacade.getInstance(element.project).findClass(it, GlobalSearchScope.allScope(element.project))
             }
 
+    /**
+     * Checks the bean with the Spring model, so aliases, inner beans and annotated components are taken into account.
+     *
+     * @return `null` when the Spring plugin is not active or the model is not available for the [element]
+     */
+    fun isBeanDefined(element: PsiElement, beanId: String): Boolean? = Plugin.SPRING.ifActive {
+        guessModule(element)
+            ?.let { springResolveBean(it, beanId) != null }
+    }
+
     private fun guessModule(element: PsiElement): Module? = ModuleUtilCore.findModuleForPsiElement(element)
         ?: ModuleManager.getInstance(element.project)
             .modules
             // fallback to Platform module
             .firstOrNull { YFacet.getState(it)?.type == ModuleDescriptorType.PLATFORM }
 
-    fun resolveInterceptorBeansLazy(
-        clazz: PsiClass,
-        name: String? = null
-    ): NotNullLazyValue<MutableCollection<out SpringBeanPointer<*>>> = NotNullLazyValue.lazy {
-        SpringJavaClassInfo.getSpringJavaClassInfo(clazz).resolve().mappedDomBeans
-            .asSequence()
-            .map { it.springBean }
-            .filterIsInstance<SpringBean>()
-            .filter { bean ->
-                bean.properties.find { property ->
-                    property.propertyName == "typeCode" && (name?.equals(property.valueAsString, true) ?: true)
-                } != null
-            }
-            .mapNotNull { bean -> bean.properties.find { property -> property.propertyName == "interceptor" } }
-            .mapNotNull { interceptor -> interceptor.refValue }
-            .sortedWith(SpringBeanPointer.DISPLAY_COMPARATOR)
-            .toMutableList()
-    }
-
     private fun springResolveBean(module: Module, beanId: String) = SpringManager.getInstance(module.project).getAllModels(module)
         .firstNotNullOfOrNull { SpringModelSearchers.findBean(it, beanId) }
 
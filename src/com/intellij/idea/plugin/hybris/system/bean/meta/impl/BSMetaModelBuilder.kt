@@ -77,11 +77,13 @@ class BSMetaModelBuilder(
 
     private fun createHints(dom: Hints): Map<String, BSMetaHint> = dom.hints
         .mapNotNull { create(it) }
-        .associateByTo(CaseInsensitive.CaseInsensitiveConcurrentHashMap()) { hint -> hint.name?.trim { it <= ' ' } }
+        .associateBy { hint -> hint.name?.trim { it <= ' ' } ?: "" }
+        .let { CaseInsensitive.compact(it) }
 
     private fun createProperties(dom: List<Property>): Map<String, BSMetaProperty> = dom
         .mapNotNull { create(it) }
-        .associateByTo(CaseInsensitive.CaseInsensitiveConcurrentHashMap()) { property -> property.name?.trim { it <= ' ' } }
+        .associateBy { property -> property.name?.trim { it <= ' ' } ?: "" }
+        .let { CaseInsensitive.compact(it) }
 
     private fun createAnnotations(dom: List<Annotations>) = dom
         .map { create(it) }
@@ -91,7 +93,8 @@ class BSMetaModelBuilder(
 
     private fun createEnumValues(dom: Enum): Map<String, BSMetaEnum.BSMetaEnumValue> = dom.values
         .mapNotNull { create(it) }
-        .associateByTo(CaseInsensitive.CaseInsensitiveConcurrentHashMap()) { attr -> attr.name?.trim { it <= ' ' } }
+        .associateBy { attr -> attr.name?.trim { it <= ' ' } ?: "" }
+        .let { CaseInsensitive.compact(it) }
 
     private fun create(dom: EnumValue): BSMetaEnum.BSMetaEnumValue? {
         val name = BSMetaModelNameProvider.extract(dom) ?: return null
@@ -20,16 +20,22 @@ package com.intellij.idea.plugin.hybris.system.bean.meta.impl
 import com.intellij.idea.plugin.hybris.system.bean.meta.BSMetaHelper
 import com.intellij.idea.plugin.hybris.system.bean.model.*
 import com.intellij.idea.plugin.hybris.system.bean.model.Enum
+import com.intellij.idea.plugin.hybris.system.meta.MetaSymbols
 
 object BSMetaModelNameProvider {
 
-    fun extract(dom: Enum): String? = dom.clazz.stringValue?.takeIf { it.isNotBlank() }
-    fun extract(dom: EnumValue): String? = dom.stringValue?.takeIf { it.isNotBlank() }
+    fun extract(dom: Enum): String? = symbol(dom.clazz.stringValue)
+    fun extract(dom: EnumValue): String? = symbol(dom.stringValue)
     fun extract(dom: Bean): String? = dom.clazz.stringValue
         ?.takeIf { it.isNotBlank() }
         ?.let { BSMetaHelper.getBeanName(it) }
+        ?.let { MetaSymbols.intern(it) }
 
-    fun extract(dom: Hint): String? = dom.name.stringValue?.takeIf { it.isNotBlank() }
-    fun extract(dom: Property): String? = dom.name.stringValue?.takeIf { it.isNotBlank() }
+    fun extract(dom: Hint): String? = symbol(dom.name.stringValue)
+    fun extract(dom: Property): String? = symbol(dom.name.stringValue)
+
+    private fun symbol(value: String?) = value
+        ?.takeIf { it.isNotBlank() }
+        ?.let { MetaSymbols.intern(it) }
 
 }
\ No newline at end of file
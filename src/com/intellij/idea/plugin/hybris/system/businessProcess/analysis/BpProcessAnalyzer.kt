@@ -0,0 +1,97 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.intellij.idea.plugin.hybris.system.businessProcess.analysis
+
+import com.intellij.idea.plugin.hybris.system.businessProcess.indexing.BpProcessDefinition
+import com.intellij.idea.plugin.hybris.system.businessProcess.indexing.BpProcessNodeType
+
+/**
+ * Static analysis of the business process graph: reachability of the nodes from the `start` and `onError` nodes,
+ * transitions to undefined nodes, waits for events which are never triggered and actions referencing missing Spring beans.
+ */
+object BpProcessAnalyzer {
+
+    private val PLACEHOLDER_REGEX = "\\$\\{[^}]*}".toRegex()
+    private val WORD_SEPARATOR_REGEX = "[^A-Za-z0-9_]+".toRegex()
+
+    fun analyze(
+        definition: BpProcessDefinition,
+        isEventTriggered: (String) -> Boolean,
+        isBeanDefined: (String) -> Boolean
+    ): List<BpProcessProblem> {
+        val problems = mutableListOf<BpProcessProblem>()
+        val nodes = definition.nodes.associateBy { it.id }
+
+        listOfNotNull(definition.start, definition.onError)
+            .filter { it !in nodes }
+            .forEach { problems.add(BpProcessProblem(BpProcessProblem.Kind.UNDEFINED_NODE, null, it)) }
+
+        definition.nodes.forEach { node ->
+            node.transitions
+                .filter { it.target !in nodes }
+                .forEach { problems.add(BpProcessProblem(BpProcessProblem.Kind.UNDEFINED_NODE, node.id, it.target)) }
+
+            if (node.type == BpProcessNodeType.WAIT) {
+                node.events
+                    .filterNot { isEventTriggered(it) }
+                    .forEach { problems.add(BpProcessProblem(BpProcessProblem.Kind.UNTRIGGERED_EVENT, node.id, it)) }
+            }
+
+            node.bean
+                ?.takeIf { node.type == BpProcessNodeType.ACTION && !it.contains("\${") }
+                ?.takeUnless { isBeanDefined(it) }
+                ?.let { problems.add(BpProcessProblem(BpProcessProblem.Kind.UNDEFINED_BEAN, node.id, it)) }
+        }
+
+        // missing `start` is reported by the DOM inspection, all nodes would be unreachable otherwise
+        if (definition.start == null) return problems
+
+        val reachable = HashSet<String>()
+        val queue = ArrayDeque(listOfNotNull(definition.start, definition.onError))
+        while (queue.isNotEmpty()) {
+            val id = queue.removeFirst()
+            if (!reachable.add(id)) continue
+
+            nodes[id]?.transitions?.forEach { queue.add(it.target) }
+        }
+
+        definition.nodes
+            .filter { it.id.isNotEmpty() && it.id !in reachable }
+            .forEach { problems.add(BpProcessProblem(BpProcessProblem.Kind.UNREACHABLE_NODE, it.id, it.id)) }
+
+        return problems
+    }
+
+    /**
+     * Most specific word of the event name which has to be present in the code triggering the event,
+     * placeholders, like `${process.code}`, are resolved at runtime and thus ignored.
+     * Returns `null` if there is no such word.
+     */
+    fun getEventWord(event: String) = event
+        .replace(PLACEHOLDER_REGEX, " ")
+        .split(WORD_SEPARATOR_REGEX)
+        .map { it.trim('_') }
+        .maxByOrNull { it.length }
+        ?.takeIf { it.isNotEmpty() }
+
+    /**
+     * Words of the string literals triggering the event with the given [word] as they are split by the word index.
+     * Underscore is part of the indexed word, so the literal `code + "_CSAOrderVerified"` is indexed as `_CSAOrderVerified`.
+     */
+    fun getIndexedWords(word: String) = listOf(word, "_$word")
+}
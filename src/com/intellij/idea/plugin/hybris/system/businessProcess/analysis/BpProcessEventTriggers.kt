@@ -0,0 +1,74 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.intellij.idea.plugin.hybris.system.businessProcess.analysis
+
+import com.intellij.lang.xml.XMLLanguage
+import com.intellij.openapi.components.Service
+import com.intellij.openapi.project.Project
+import com.intellij.psi.search.GlobalSearchScope
+import com.intellij.psi.search.PsiSearchHelper
+import com.intellij.psi.search.UsageSearchContext
+import com.intellij.psi.util.CachedValueProvider
+import com.intellij.psi.util.CachedValuesManager
+import com.intellij.psi.util.PsiModificationTracker
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * Checks whether the event awaited by the business process is triggered anywhere in the code.
+ *
+ * Lookup relies on the word index of the string literals, results are cached until the next change of the non-XML sources.
+ */
+@Service(Service.Level.PROJECT)
+class BpProcessEventTriggers(private val project: Project) {
+
+    private val cache = CachedValuesManager.getManager(project).createCachedValue(
+        {
+            CachedValueProvider.Result.create(
+                ConcurrentHashMap<String, Boolean>(),
+                PsiModificationTracker.getInstance(project).forLanguages { it !is XMLLanguage }
+            )
+        }, false
+    )
+
+    fun isTriggered(event: String): Boolean {
+        val word = BpProcessAnalyzer.getEventWord(event) ?: return true
+
+        return cache.value.computeIfAbsent(word) { search(it) }
+    }
+
+    private fun search(word: String) = BpProcessAnalyzer.getIndexedWords(word).any { searchIndexedWord(it) }
+
+    private fun searchIndexedWord(word: String): Boolean {
+        var found = false
+
+        PsiSearchHelper.getInstance(project).processCandidateFilesForText(
+            GlobalSearchScope.allScope(project), UsageSearchContext.IN_STRINGS, true, word
+        ) {
+            found = it.extension in CODE_EXTENSIONS
+            !found
+        }
+
+        return found
+    }
+
+    companion object {
+        private val CODE_EXTENSIONS = setOf("java", "kt", "groovy")
+
+        fun getInstance(project: Project): BpProcessEventTriggers = project.getService(BpProcessEventTriggers::class.java)
+    }
+}
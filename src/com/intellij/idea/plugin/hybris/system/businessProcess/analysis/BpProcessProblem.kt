@@ -0,0 +1,40 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.intellij.idea.plugin.hybris.system.businessProcess.analysis
+
+import com.intellij.idea.plugin.hybris.common.utils.HybrisI18NBundleUtils.message
+
+/**
+ * Problem of the business process definition, [nodeId] is `null` for problems of the process itself.
+ */
+data class BpProcessProblem(
+    val kind: Kind,
+    val nodeId: String?,
+    val value: String,
+) {
+
+    val message: String
+        get() = message(kind.messageKey, value)
+
+    enum class Kind(val messageKey: String) {
+        UNREACHABLE_NODE("hybris.inspections.bp.BpProcessDefinitionInspection.unreachableNode"),
+        UNDEFINED_NODE("hybris.inspections.bp.BpProcessDefinitionInspection.undefinedNode"),
+        UNTRIGGERED_EVENT("hybris.inspections.bp.BpProcessDefinitionInspection.untriggeredEvent"),
+        UNDEFINED_BEAN("hybris.inspections.bp.BpProcessDefinitionInspection.undefinedBean"),
+    }
+}
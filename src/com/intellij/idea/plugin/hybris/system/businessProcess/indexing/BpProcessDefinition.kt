@@ -0,0 +1,60 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.intellij.idea.plugin.hybris.system.businessProcess.indexing
+
+/**
+ * Lightweight graph of the business process definition, built from the XML text without DOM, see [BpProcessDefinitionParser].
+ */
+data class BpProcessDefinition(
+    val name: String,
+    val start: String?,
+    val onError: String?,
+    val nodes: List<BpProcessNode>,
+)
+
+data class BpProcessNode(
+    val id: String,
+    val type: BpProcessNodeType,
+    val bean: String?,
+    val events: List<String>,
+    val transitions: List<BpProcessTransition>,
+)
+
+/**
+ * Outgoing edge of the node: `transition`, `then` of the wait, join, notify, timeout and choice, or split `targetNode`.
+ */
+data class BpProcessTransition(
+    val name: String,
+    val target: String,
+)
+
+enum class BpProcessNodeType(val tagName: String) {
+    ACTION("action"),
+    SCRIPT_ACTION("scriptAction"),
+    WAIT("wait"),
+    SPLIT("split"),
+    JOIN("join"),
+    NOTIFY("notify"),
+    END("end");
+
+    companion object {
+        private val BY_TAG_NAME = entries.associateBy { it.tagName }
+
+        fun of(tagName: String) = BY_TAG_NAME[tagName]
+    }
+}
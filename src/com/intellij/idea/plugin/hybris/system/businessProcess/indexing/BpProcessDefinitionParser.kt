@@ -0,0 +1,143 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.intellij.idea.plugin.hybris.system.businessProcess.indexing
+
+import com.intellij.idea.plugin.hybris.common.HybrisConstants
+import com.intellij.idea.plugin.hybris.system.businessProcess.model.*
+import java.io.StringReader
+import javax.xml.stream.XMLInputFactory
+import javax.xml.stream.XMLStreamConstants
+import javax.xml.stream.XMLStreamException
+import javax.xml.stream.XMLStreamReader
+
+/**
+ * Streaming parser of the business process definition, it builds neither PSI nor DOM,
+ * so it can be used by the index and for the unsaved documents.
+ */
+object BpProcessDefinitionParser {
+
+    const val TRANSITION_THEN = "then"
+    const val TRANSITION_TIMEOUT = "timeout"
+    const val TRANSITION_SPLIT = "split"
+
+    private const val TAG_TRANSITION = "transition"
+    private const val TAG_TIMEOUT = "timeout"
+    private const val TAG_EVENT = "event"
+    private const val TAG_CASE = "case"
+    private const val TAG_CHOICE = "choice"
+    private const val TAG_TARGET_NODE = "targetNode"
+    private const val ATTRIBUTE_THEN = "then"
+
+    private val factory = XMLInputFactory.newFactory().apply {
+        setProperty(XMLInputFactory.SUPPORT_DTD, false)
+        setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false)
+        setProperty(XMLInputFactory.IS_COALESCING, true)
+    }
+
+    fun parse(text: CharSequence): BpProcessDefinition? {
+        if (!text.contains("<${HybrisConstants.ROOT_TAG_BUSINESS_PROCESS_XML}")) return null
+
+        val reader = try {
+            factory.createXMLStreamReader(StringReader(text.toString()))
+        } catch (_: XMLStreamException) {
+            return null
+        }
+
+        return try {
+            parse(reader)
+        } catch (_: XMLStreamException) {
+            null
+        } finally {
+            reader.close()
+        }
+    }
+
+    private fun parse(reader: XMLStreamReader): BpProcessDefinition? {
+        var name: String? = null
+        var start: String? = null
+        var onError: String? = null
+        val nodes = mutableListOf<BpProcessNode>()
+
+        var depth = 0
+        var node: NodeBuilder? = null
+
+        while (reader.hasNext()) {
+            when (reader.next()) {
+                XMLStreamConstants.START_ELEMENT -> {
+                    depth++
+                    val tagName = reader.localName
+
+                    when (depth) {
+                        1 -> {
+                            if (tagName != HybrisConstants.ROOT_TAG_BUSINESS_PROCESS_XML) return null
+
+                            name = reader.attribute(Process.NAME)
+                            start = reader.attribute(Process.START)
+                            onError = reader.attribute(Process.ON_ERROR)
+                        }
+
+                        2 -> node = BpProcessNodeType.of(tagName)
+                            ?.let { NodeBuilder(reader.attribute(NavigableElement.ID) ?: "", it, reader.attribute(Action.BEAN)) }
+                            ?.also { it.addTransition(TRANSITION_THEN, reader.attribute(ATTRIBUTE_THEN)) }
+
+                        else -> when (tagName) {
+                            TAG_TRANSITION -> node?.addTransition(reader.attribute(Transition.NAME) ?: "", reader.attribute(Transition.TO))
+                            TAG_TIMEOUT -> node?.addTransition(TRANSITION_TIMEOUT, reader.attribute(ATTRIBUTE_THEN))
+                            TAG_CASE -> reader.attribute(Case.EVENT)?.let { node?.events?.add(it) }
+                            TAG_CHOICE -> node?.addTransition(reader.attribute(NavigableElement.ID) ?: "", reader.attribute(ATTRIBUTE_THEN))
+                            TAG_TARGET_NODE -> node?.addTransition(TRANSITION_SPLIT, reader.attribute("name"))
+                            TAG_EVENT -> {
+                                // moves the reader to the end of the element
+                                val event = reader.elementText.trim()
+                                if (event.isNotEmpty()) node?.events?.add(event)
+                                depth--
+                            }
+                        }
+                    }
+                }
+
+                XMLStreamConstants.END_ELEMENT -> {
+                    if (depth == 2) {
+                        node?.let { nodes.add(it.build()) }
+                        node = null
+                    }
+                    depth--
+                }
+            }
+        }
+
+        return name
+            ?.takeIf { it.isNotBlank() }
+            ?.let { BpProcessDefinition(it, start, onError, nodes) }
+    }
+
+    private fun XMLStreamReader.attribute(name: String) = getAttributeValue(null, name)
+        ?.trim()
+        ?.takeIf { it.isNotEmpty() }
+
+    private class NodeBuilder(val id: String, val type: BpProcessNodeType, val bean: String?) {
+        val events = mutableListOf<String>()
+        val transitions = mutableListOf<BpProcessTransition>()
+
+        fun addTransition(name: String, target: String?) {
+            if (target != null) transitions.add(BpProcessTransition(name, target))
+        }
+
+        fun build() = BpProcessNode(id, type, bean, events, transitions)
+    }
+}
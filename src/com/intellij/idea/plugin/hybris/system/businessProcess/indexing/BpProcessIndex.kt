@@ -0,0 +1,131 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.intellij.idea.plugin.hybris.system.businessProcess.indexing
+
+import com.intellij.ide.highlighter.XmlFileType
+import com.intellij.openapi.fileEditor.FileDocumentManager
+import com.intellij.openapi.project.DumbService
+import com.intellij.openapi.project.Project
+import com.intellij.psi.PsiFile
+import com.intellij.psi.search.GlobalSearchScope
+import com.intellij.psi.util.CachedValueProvider
+import com.intellij.psi.util.CachedValuesManager
+import com.intellij.util.indexing.*
+import com.intellij.util.io.DataExternalizer
+import com.intellij.util.io.DataInputOutputUtil
+import com.intellij.util.io.EnumeratorStringDescriptor
+import com.intellij.util.io.IOUtil
+import com.intellij.util.io.KeyDescriptor
+import java.io.DataInput
+import java.io.DataOutput
+
+/**
+ * Index of the business process definitions.
+ *
+ * Key is the name of the process, value is its node graph with bean references of the actions and events of the waits.
+ */
+class BpProcessIndex : FileBasedIndexExtension<String, BpProcessDefinition>() {
+
+    override fun getName() = NAME
+    override fun getVersion() = 1
+    override fun dependsOnFileContent() = true
+    override fun getKeyDescriptor(): KeyDescriptor<String> = EnumeratorStringDescriptor.INSTANCE
+    override fun getValueExternalizer(): DataExternalizer<BpProcessDefinition> = BpProcessDefinitionExternalizer
+    override fun getInputFilter() = DefaultFileTypeSpecificInputFilter(XmlFileType.INSTANCE)
+
+    override fun getIndexer() = DataIndexer<String, BpProcessDefinition, FileContent> { inputData ->
+        BpProcessDefinitionParser.parse(inputData.contentAsText)
+            ?.let { mapOf(it.name to it) }
+            ?: emptyMap()
+    }
+
+    private object BpProcessDefinitionExternalizer : DataExternalizer<BpProcessDefinition> {
+        private val nodeTypes = BpProcessNodeType.entries
+
+        override fun save(out: DataOutput, value: BpProcessDefinition) {
+            IOUtil.writeUTF(out, value.name)
+            writeNullable(out, value.start)
+            writeNullable(out, value.onError)
+            DataInputOutputUtil.writeINT(out, value.nodes.size)
+            value.nodes.forEach { node ->
+                IOUtil.writeUTF(out, node.id)
+                DataInputOutputUtil.writeINT(out, node.type.ordinal)
+                writeNullable(out, node.bean)
+                DataInputOutputUtil.writeINT(out, node.events.size)
+                node.events.forEach { IOUtil.writeUTF(out, it) }
+                DataInputOutputUtil.writeINT(out, node.transitions.size)
+                node.transitions.forEach {
+                    IOUtil.writeUTF(out, it.name)
+                    IOUtil.writeUTF(out, it.target)
+                }
+            }
+        }
+
+        override fun read(input: DataInput) = BpProcessDefinition(
+            IOUtil.readUTF(input),
+            readNullable(input),
+            readNullable(input),
+            List(DataInputOutputUtil.readINT(input)) {
+                BpProcessNode(
+                    IOUtil.readUTF(input),
+                    nodeTypes[DataInputOutputUtil.readINT(input)],
+                    readNullable(input),
+                    List(DataInputOutputUtil.readINT(input)) { IOUtil.readUTF(input) },
+                    List(DataInputOutputUtil.readINT(input)) { BpProcessTransition(IOUtil.readUTF(input), IOUtil.readUTF(input)) }
+                )
+            }
+        )
+
+        private fun writeNullable(out: DataOutput, value: String?) {
+            out.writeBoolean(value != null)
+            if (value != null) IOUtil.writeUTF(out, value)
+        }
+
+        private fun readNullable(input: DataInput) = if (input.readBoolean()) IOUtil.readUTF(input) else null
+    }
+
+    companion object {
+        val NAME = ID.create<String, BpProcessDefinition>("hybris.businessProcess.definition")
+
+        /**
+         * Returns definition of the process declared in the given file.
+         * Index is not used for unsaved files, their text is parsed once per modification instead.
+         */
+        fun getDefinition(file: PsiFile): BpProcessDefinition? {
+            val project = file.project
+            val virtualFile = file.virtualFile
+
+            if (virtualFile == null || DumbService.isDumb(project) || FileDocumentManager.getInstance().isFileModified(virtualFile)) {
+                return CachedValuesManager.getCachedValue(file) {
+                    CachedValueProvider.Result.create(BpProcessDefinitionParser.parse(file.viewProvider.contents), file)
+                }
+            }
+
+            return FileBasedIndex.getInstance().getFileData(NAME, virtualFile, project)
+                .values
+                .firstOrNull()
+        }
+
+        fun getDefinition(project: Project, processName: String, scope: GlobalSearchScope = GlobalSearchScope.allScope(project)) = FileBasedIndex.getInstance()
+            .getValues(NAME, processName, scope)
+            .firstOrNull()
+
+        fun getProcessNames(project: Project): Collection<String> = FileBasedIndex.getInstance()
+            .getAllKeys(NAME, project)
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.system.cockpitng.codeInsight.daemon
+
+import com.intellij.codeInsight.daemon.LineMarkerInfo
+import com.intellij.codeInsight.navigation.NavigationGutterIconBuilder
+import com.intellij.idea.plugin.hybris.codeInsight.daemon.AbstractHybrisLineMarkerProvider
+import com.intellij.idea.plugin.hybris.common.utils.HybrisI18NBundleUtils.message
+import com.intellij.idea.plugin.hybris.common.utils.HybrisIcons
+import com.intellij.idea.plugin.hybris.system.cockpitng.meta.CngContextResolver
+import com.intellij.idea.plugin.hybris.system.cockpitng.model.config.Context
+import com.intellij.idea.plugin.hybris.system.cockpitng.psi.CngPsiHelper
+import com.intellij.idea.plugin.hybris.system.cockpitng.util.CngUtils
+import com.intellij.openapi.editor.markup.GutterIconRenderer
+import com.intellij.psi.PsiElement
+import com.intellij.psi.PsiFile
+import com.intellij.psi.util.childrenOfType
+import com.intellij.psi.xml.*
+import javax.swing.Icon
+
+/**
+ * Shows contexts merged into the effective configuration of the context: same component declared for the type itself,
+ * its parent types and type-agnostic contexts.
+ */
+class CngContextMergedContextsLineMarkerProvider : AbstractHybrisLineMarkerProvider<XmlAttributeValue>() {
+
+    override fun getName() = message("hybris.editor.gutter.cng.context.mergedContexts.name")
+    override fun getIcon(): Icon = HybrisIcons.CockpitNG.CONFIG
+    override fun canProcess(psi: PsiFile) = psi is XmlFile && CngUtils.isConfigFile(psi)
+    override fun tryCast(psi: PsiElement) = psi as? XmlAttributeValue
+
+    override fun collectDeclarations(psi: XmlAttributeValue): Collection<LineMarkerInfo<PsiElement>> {
+        val attribute = psi.parent as? XmlAttribute ?: return emptyList()
+        if (attribute.name != Context.COMPONENT) return emptyList()
+
+        val contextTag = attribute.parent
+            ?.takeIf { it.localName == CONTEXT_TAG }
+            ?: return emptyList()
+        val component = psi.value.takeIf { it.isNotBlank() } ?: return emptyList()
+        val type = CngPsiHelper.resolveContextType(contextTag) ?: return emptyList()
+        val leaf = psi.childrenOfType<XmlToken>()
+            .find { it.tokenType == XmlTokenType.XML_ATTRIBUTE_VALUE_TOKEN }
+            ?: return emptyList()
+
+        return CngContextResolver.getInstance(psi.project).getEffectiveContexts(type, component)
+            .mapNotNull { it.retrieveDom()?.xmlTag }
+            .filter { it != contextTag }
+            .takeIf { it.isNotEmpty() }
+            ?.let {
+                NavigationGutterIconBuilder
+                    .create(icon)
+                    .setTargets(it)
+                    .setPopupTitle(message("hybris.editor.gutter.cng.context.mergedContexts.popup.title"))
+                    .setTooltipText(message("hybris.editor.gutter.cng.context.mergedContexts.tooltip.text", type, component, it.size))
+                    .setAlignment(GutterIconRenderer.Alignment.RIGHT)
+                    .createLineMarkerInfo(leaf)
+            }
+            ?.let { listOf(it) }
+            ?: emptyList()
+    }
+
+    companion object {
+        private const val CONTEXT_TAG = "context"
+    }
+}
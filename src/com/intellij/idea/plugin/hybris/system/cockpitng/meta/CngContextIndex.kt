@@ -0,0 +1,80 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.system.cockpitng.meta
+
+import com.intellij.idea.plugin.hybris.system.cockpitng.meta.model.CngMetaContext
+import com.intellij.idea.plugin.hybris.system.cockpitng.model.config.Context
+
+/**
+ * Index of all `<context>` elements of the backoffice configuration files, including nested ones with inherited attributes.
+ *
+ * Contexts are keyed by the lower-cased type and component, explicit `parent` declarations of the `merge-by="type"` contexts
+ * are collected while indexing, so the merge chain of the type is known without re-reading the configuration files.
+ * Every context is also registered by its location, so the effective attributes of the enclosing context are known without walking the PSI.
+ */
+class CngContextIndex {
+
+    private val contexts = HashMap<Key, MutableList<CngMetaContext>>()
+    private val typeParents = HashMap<String, String>()
+    private val contextsByLocation = HashMap<Location, CngMetaContext>()
+
+    fun add(context: CngMetaContext) {
+        context.filePath
+            ?.let { contextsByLocation[Location(it, context.textOffset)] = context }
+
+        val component = context.component
+            ?.takeIf { it.isNotBlank() }
+            ?: return
+        val type = context.type?.lowercase()
+
+        contexts.getOrPut(Key(type, component.lowercase())) { mutableListOf() }
+            .add(context)
+
+        if (type != null && context.mergeBy == Context.TYPE) {
+            context.parent
+                ?.takeIf { it.isNotBlank() && it != Context.PARENT_AUTO }
+                ?.let { typeParents.putIfAbsent(type, it) }
+        }
+    }
+
+    /**
+     * Returns contexts declared exactly for the given [type] and [component], `null` type stands for the type-agnostic contexts.
+     */
+    fun getContexts(type: String?, component: String): List<CngMetaContext> = contexts[Key(type?.lowercase(), component.lowercase())]
+        ?: emptyList()
+
+    /**
+     * Returns explicitly declared parent of the [type] or `null` if parent is resolved automatically via the Type System.
+     */
+    fun getParentType(type: String): String? = typeParents[type.lowercase()]
+
+    /**
+     * Returns the context declared at the [textOffset] of the file, offsets are valid only while the file has no pending changes.
+     */
+    fun getContext(filePath: String, textOffset: Int): CngMetaContext? = contextsByLocation[Location(filePath, textOffset)]
+
+    fun clear() {
+        contexts.clear()
+        typeParents.clear()
+        contextsByLocation.clear()
+    }
+
+    private data class Key(val type: String?, val component: String)
+    private data class Location(val filePath: String, val textOffset: Int)
+}
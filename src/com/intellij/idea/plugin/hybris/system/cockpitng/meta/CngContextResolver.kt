@@ -0,0 +1,91 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.system.cockpitng.meta
+
+import com.intellij.idea.plugin.hybris.common.HybrisConstants
+import com.intellij.idea.plugin.hybris.system.cockpitng.meta.model.CngMetaContext
+import com.intellij.idea.plugin.hybris.system.type.meta.TSMetaModelAccess
+import com.intellij.idea.plugin.hybris.system.type.meta.TSModificationTracker
+import com.intellij.openapi.components.Service
+import com.intellij.openapi.components.service
+import com.intellij.openapi.project.Project
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * Resolves the effective backoffice configuration: all contexts merged for the given type and component,
+ * starting from the type itself and followed by its parent types up to the type-agnostic contexts.
+ *
+ * Resolved merge chains are cached until the next change of the Cockpit NG or Type System meta model.
+ */
+@Service(Service.Level.PROJECT)
+class CngContextResolver(private val project: Project) {
+
+    @Volatile
+    private var cache: Cache? = null
+
+    fun getEffectiveContexts(type: String, component: String, principal: String? = null): List<CngMetaContext> {
+        val metaModel = project.service<CngMetaModelStateService>().get()
+        val tsModificationCount = project.service<TSModificationTracker>().modificationCount
+        val currentCache = cache
+            ?.takeIf { it.metaModel === metaModel && it.tsModificationCount == tsModificationCount }
+            ?: Cache(metaModel, tsModificationCount).also { cache = it }
+
+        return currentCache.contexts.computeIfAbsent(Key(type.lowercase(), component.lowercase(), principal?.lowercase())) {
+            resolve(metaModel.contextIndex, type, component, principal)
+        }
+    }
+
+    private fun resolve(index: CngContextIndex, type: String, component: String, principal: String?) = (getTypeChain(index, type)
+        .flatMap { index.getContexts(it, component) } + index.getContexts(null, component))
+        .filter { context -> principal == null || context.principal == null || matches(context.principal, principal) }
+
+    private fun getTypeChain(index: CngContextIndex, type: String): List<String> {
+        val metaModelAccess = TSMetaModelAccess.getInstance(project)
+        val chain = linkedSetOf<String>()
+        var current: String? = type
+
+        // explicit `parent` takes precedence over the Type System hierarchy, visited types protect from the cyclic declarations
+        while (current != null && chain.none { it.equals(current, true) }) {
+            chain.add(current)
+            current = index.getParentType(current)
+                ?: metaModelAccess.findMetaItemByName(current)
+                    ?.allExtends
+                    ?.firstOrNull()
+                    ?.name
+                ?: HybrisConstants.TS_TYPE_GENERIC_ITEM.takeUnless { current.equals(it, true) || metaModelAccess.findMetaItemByName(current) == null }
+        }
+
+        return chain.toList()
+    }
+
+    private fun matches(principals: String?, principal: String) = principals
+        ?.split(',')
+        ?.any { it.trim().equals(principal, true) }
+        ?: false
+
+    private class Cache(val metaModel: CngGlobalMetaModel, val tsModificationCount: Long) {
+        val contexts = ConcurrentHashMap<Key, List<CngMetaContext>>()
+    }
+
+    private data class Key(val type: String, val component: String, val principal: String?)
+
+    companion object {
+        fun getInstance(project: Project): CngContextResolver = project.getService(CngContextResolver::class.java)
+    }
+}
@@ -34,6 +34,7 @@ class CngGlobalMetaModel : ModificationTracker, Disposable {
     private var modificationTracker = 0L
     val components = mutableSetOf<String>()
     val contextAttributes = mutableMapOf<String, MutableSet<String>>()
+    val contextIndex = CngContextIndex()
     val actionDefinitions = CaseInsensitiveConcurrentHashMap<String, CngMetaActionDefinition>()
     val widgetDefinitions = CaseInsensitiveConcurrentHashMap<String, CngMetaWidgetDefinition>()
     val editorDefinitions = CaseInsensitiveConcurrentHashMap<String, CngMetaEditorDefinition>()
@@ -52,6 +53,7 @@ class CngGlobalMetaModel : ModificationTracker, Disposable {
     private fun cleanup() {
         components.clear()
         contextAttributes.clear()
+        contextIndex.clear()
         actionDefinitions.clear()
         widgetDefinitions.clear()
         editorDefinitions.clear()
@@ -49,6 +49,9 @@ object CngMetaModelMerger {
     }
 
     private fun merge(globalMetaModel: CngGlobalMetaModel, localMeta: CngMetaConfig) {
+        localMeta.contexts
+            .forEach { globalMetaModel.contextIndex.add(it) }
+
         localMeta.contexts
             .flatMap { it.attributes.entries }
             .forEach {
@@ -20,9 +20,10 @@ package com.intellij.idea.plugin.hybris.system.cockpitng.meta
 
 import com.intellij.idea.plugin.hybris.system.cockpitng.meta.model.*
 import com.intellij.idea.plugin.hybris.system.cockpitng.model.config.Config
+import com.intellij.idea.plugin.hybris.system.cockpitng.model.config.Context
 import com.intellij.idea.plugin.hybris.system.cockpitng.model.core.*
 import com.intellij.idea.plugin.hybris.system.meta.MetaModelProcessor
-import com.intellij.idea.plugin.hybris.system.type.meta.impl.CaseInsensitive.CaseInsensitiveConcurrentHashMap
+import com.intellij.idea.plugin.hybris.system.type.meta.impl.CaseInsensitive
 import com.intellij.openapi.components.Service
 import com.intellij.openapi.components.service
 import com.intellij.openapi.project.Project
@@ -54,15 +55,27 @@ class CngMetaModelAggregatedProcessor(project: Project) : MetaModelProcessor<Dom
 class CngMetaModelConfigProcessor(project: Project) : MetaModelProcessor<Config, CngMetaConfig>(project) {
 
     override fun process(container: String, yContainer: String, fileName: String, custom: Boolean, dom: Config): CngMetaConfig {
-        val contexts = dom.contexts
-            .mapNotNull { dom ->
-                dom.component.stringValue
-                    ?.takeIf { it.isNotBlank() }
-                    ?.let { CngMetaContext(dom, fileName, it, custom) }
-            }
+        val contexts = mutableListOf<CngMetaContext>()
+        dom.contexts.forEach { collectContexts(it, fileName, custom, emptyMap(), contexts) }
 
         return CngMetaConfig(dom, fileName, custom, contexts)
     }
+
+    private fun collectContexts(
+        dom: Context,
+        fileName: String,
+        custom: Boolean,
+        inheritedAttributes: Map<String, String>,
+        contexts: MutableList<CngMetaContext>
+    ) {
+        val component = dom.component.stringValue
+            ?: inheritedAttributes[Context.COMPONENT]
+        val context = CngMetaContext(dom, fileName, component ?: "", custom, inheritedAttributes)
+
+        contexts.add(context)
+
+        dom.contexts.forEach { collectContexts(it, fileName, custom, context.attributes, contexts) }
+    }
 }
 
 @Service(Service.Level.PROJECT)
@@ -118,10 +131,10 @@ class CngMetaModelWidgetDefinitionProcessor(project: Project) : MetaModelProcess
     override fun process(container: String, yContainer: String, fileName: String, custom: Boolean, dom: WidgetDefinition) = CngMetaModelNameProvider
         .extract(dom)
         ?.let { id ->
-            val settings = CaseInsensitiveConcurrentHashMap<String, CngMetaWidgetSetting>()
-            dom.settings.settings
+            val settings = dom.settings.settings
                 .map { CngMetaWidgetSetting(it, fileName, custom) }
-                .forEach { settings[it.id] = it }
+                .associateBy { it.id }
+                .let { CaseInsensitive.compact(it) }
 
             CngMetaWidgetDefinition(dom, fileName, id, custom, settings)
         }
@@ -19,18 +19,33 @@ package com.intellij.idea.plugin.hybris.system.cockpitng.meta.model
 
 import com.intellij.idea.plugin.hybris.system.cockpitng.model.config.Context
 
+/**
+ * Nested contexts inherit attributes of the enclosing ones, [inheritedAttributes] are overridden by the own attributes of the context.
+ *
+ * [filePath] and [textOffset] locate the `<context>` tag as of the last re-build of the meta model.
+ */
 class CngMetaContext(
     dom: Context,
     fileName: String,
     val name: String,
     custom: Boolean,
+    inheritedAttributes: Map<String, String> = emptyMap(),
 ) : CngMeta<Context>(dom, fileName, custom) {
 
-    val attributes = dom.xmlTag
+    val attributes = inheritedAttributes + (dom.xmlTag
         ?.attributes
         ?.filter { it.value != null }
         ?.associate { it.name to it.value!! }
-        ?: emptyMap()
+        ?: emptyMap())
+
+    val filePath = dom.xmlTag?.containingFile?.virtualFile?.path
+    val textOffset = dom.xmlTag?.textOffset ?: -1
+
+    val type get() = attributes[Context.TYPE]
+    val component get() = attributes[Context.COMPONENT]
+    val principal get() = attributes[Context.PRINCIPAL]
+    val mergeBy get() = attributes[Context.MERGE_BY]
+    val parent get() = attributes[Context.PARENT]
 
     override fun toString() = name
 
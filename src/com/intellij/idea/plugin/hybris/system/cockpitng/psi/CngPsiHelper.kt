@@ -20,6 +20,11 @@ package com.intellij.idea.plugin.hybris.system.cockpitng.psi
 
 import com.intellij.codeInsight.completion.CompletionUtilCore
 import com.intellij.idea.plugin.hybris.common.HybrisConstants
+import com.intellij.idea.plugin.hybris.system.cockpitng.meta.CngContextIndex
+import com.intellij.idea.plugin.hybris.system.cockpitng.meta.CngMetaModelStateService
+import com.intellij.idea.plugin.hybris.system.cockpitng.meta.model.CngMetaContext
+import com.intellij.idea.plugin.hybris.system.cockpitng.model.config.Context
+import com.intellij.openapi.components.service
 import com.intellij.psi.PsiElement
 import com.intellij.psi.util.childrenOfType
 import com.intellij.psi.util.parentsOfType
@@ -28,10 +33,31 @@ import com.intellij.psi.xml.XmlTag
 object CngPsiHelper {
 
     fun resolveContextTag(element: PsiElement) = element.parentsOfType<XmlTag>()
-        .firstOrNull { it.localName == "context" && it.getAttribute("type") != null }
+        .firstOrNull { it.localName == CONTEXT && it.getAttribute(Context.TYPE) != null }
 
-    fun resolveContextType(element: PsiElement) = resolveContextTag(element)
-        ?.getAttributeValue("type")
+    /**
+     * Nested contexts inherit the type of the enclosing ones, it is taken from the [CngContextIndex] entry of the nearest context,
+     * enclosing contexts are walked only while the file has changes not yet merged into the Cockpit NG meta model.
+     */
+    fun resolveContextType(element: PsiElement): String? {
+        val contextTag = element.parentsOfType<XmlTag>()
+            .firstOrNull { it.localName == CONTEXT }
+            ?: return null
+
+        val context = resolveContext(contextTag)
+
+        return if (context != null) context.type
+        else resolveContextTag(contextTag)?.getAttributeValue(Context.TYPE)
+    }
+
+    fun resolveContext(contextTag: XmlTag): CngMetaContext? {
+        val filePath = contextTag.containingFile.originalFile.virtualFile?.path ?: return null
+
+        return contextTag.project.service<CngMetaModelStateService>()
+            .getIfUpToDate(filePath)
+            ?.contextIndex
+            ?.getContext(filePath, contextTag.textOffset)
+    }
 
     fun resolveContextTypeForNewItemInWizardFlow(element: PsiElement) = resolveNamedContextTypeForNewItemInWizardFlow(element)
         ?.second
@@ -70,4 +96,5 @@ object CngPsiHelper {
         ?.firstOrNull()
         ?.trim()
 
+    private const val CONTEXT = "context"
 }
\ No newline at end of file
@@ -45,7 +45,7 @@ class CngFlowPropertyListPropertyQualifierReferenceProvider : PsiReferenceProvid
             type.contains(".") && type != HybrisConstants.COCKPIT_NG_INITIALIZE_CONTEXT_TYPE ->
                 JavaClassReference(element, type)
 
-            else -> CngFlowTSItemAttributeReference(element)
+            else -> CngFlowTSItemAttributeReference(element, type)
         }
 
         CachedValueProvider.Result.createSingleDependency(
@@ -56,7 +56,7 @@ class CngFlowPropertyQualifierReferenceProvider : PsiReferenceProvider() {
                             type.contains(".") && type != HybrisConstants.COCKPIT_NG_INITIALIZE_CONTEXT_TYPE ->
                                 JavaClassReference(element, textRange, type)
 
-                            else -> CngFlowTSItemAttributeReference(element, textRange)
+                            else -> CngFlowTSItemAttributeReference(element, textRange, type)
                         }
                     }
 
@@ -18,6 +18,7 @@
 package com.intellij.idea.plugin.hybris.system.cockpitng.psi.provider
 
 import com.intellij.idea.plugin.hybris.system.cockpitng.model.listView.ListColumn
+import com.intellij.idea.plugin.hybris.system.cockpitng.psi.CngPsiHelper
 import com.intellij.idea.plugin.hybris.system.cockpitng.psi.reference.CngTSItemAttributeReference
 import com.intellij.openapi.util.TextRange
 import com.intellij.openapi.util.text.StringUtil
@@ -53,6 +54,7 @@ class CngTSItemAttributeReferenceProvider : PsiReferenceProvider() {
     }
 
     private fun createReferences(element: PsiElement): Array<PsiReference> {
+        val contextType = CngPsiHelper.resolveContextType(element)
         var from = 1
         var previousReference: CngTSItemAttributeReference? = null
 
@@ -66,13 +68,13 @@ class CngTSItemAttributeReferenceProvider : PsiReferenceProvider() {
                 textRange
             }
             ?.map {
-                val nextReference = CngTSItemAttributeReference(element, it, previousReference)
+                val nextReference = CngTSItemAttributeReference(element, it, contextType, previousReference)
                 previousReference = nextReference
                 nextReference
             }
             ?.takeIf { it.isNotEmpty() }
             ?.toTypedArray()
-            ?: arrayOf(CngTSItemAttributeReference(element, TextRange.from(from, value.length)))
+            ?: arrayOf(CngTSItemAttributeReference(element, TextRange.from(from, value.length), contextType))
     }
 
 }
\ No newline at end of file
@@ -18,16 +18,22 @@
 
 package com.intellij.idea.plugin.hybris.system.cockpitng.psi.reference
 
-import com.intellij.idea.plugin.hybris.system.cockpitng.psi.CngPsiHelper
 import com.intellij.idea.plugin.hybris.system.type.psi.reference.AbstractAttributeDeclarationReference
 import com.intellij.openapi.util.TextRange
 import com.intellij.psi.PsiElement
 
 class CngFlowTSItemAttributeReference : AbstractAttributeDeclarationReference {
 
-    constructor(element: PsiElement) : super(element)
-    constructor(element: PsiElement, textRange: TextRange) : super(element, textRange)
+    private val contextType: String?
 
-    override fun resolveType(element: PsiElement) = CngPsiHelper.resolveContextTypeForNewItemInWizardFlow(element)
+    constructor(element: PsiElement, contextType: String?) : super(element) {
+        this.contextType = contextType
+    }
+
+    constructor(element: PsiElement, textRange: TextRange, contextType: String?) : super(element, textRange) {
+        this.contextType = contextType
+    }
+
+    override fun resolveType(element: PsiElement) = contextType
 
 }
@@ -18,7 +18,6 @@
 
 package com.intellij.idea.plugin.hybris.system.cockpitng.psi.reference
 
-import com.intellij.idea.plugin.hybris.system.cockpitng.psi.CngPsiHelper
 import com.intellij.idea.plugin.hybris.system.type.psi.reference.AbstractAttributeDeclarationReference
 import com.intellij.idea.plugin.hybris.system.type.psi.reference.result.AttributeResolveResult
 import com.intellij.idea.plugin.hybris.system.type.psi.reference.result.RelationEndResolveResult
@@ -28,11 +27,12 @@ import com.intellij.psi.PsiElement
 class CngTSItemAttributeReference(
     element: PsiElement,
     textRange: TextRange,
+    private val contextType: String?,
     private val previousReference: CngTSItemAttributeReference? = null
 ) : AbstractAttributeDeclarationReference(element, textRange) {
 
     override fun resolveType(element: PsiElement): String? {
-        if (previousReference == null || previousReference == this) return CngPsiHelper.resolveContextType(element)
+        if (previousReference == null || previousReference == this) return contextType
 
         return previousReference.multiResolve(true)
             .firstOrNull()
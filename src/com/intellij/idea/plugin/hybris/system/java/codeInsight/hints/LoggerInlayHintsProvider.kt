@@ -28,6 +28,7 @@ import com.intellij.codeInsight.hints.settings.language.isInlaySettingsEditor
 import com.intellij.idea.plugin.hybris.common.HybrisConstants
 import com.intellij.idea.plugin.hybris.common.utils.HybrisIcons
 import com.intellij.idea.plugin.hybris.settings.components.ProjectSettingsComponent
+import com.intellij.idea.plugin.hybris.tools.logging.LoggerLevelsService
 import com.intellij.openapi.actionSystem.ActionGroup
 import com.intellij.openapi.actionSystem.ActionManager
 import com.intellij.openapi.actionSystem.CommonDataKeys
@@ -60,6 +61,7 @@ class LoggerInlayHintsProvider : JavaCodeVisionProviderBase() {
         if (!ProjectSettingsComponent.getInstance(psiFile.project).isHybrisProject()) return emptyList()
 
         val entries = mutableListOf<Pair<TextRange, CodeVisionEntry>>()
+        val loggerLevelsService = LoggerLevelsService.getInstance(psiFile.project)
 
         psiFile.accept(object : PsiRecursiveElementVisitor() {
             override fun visitElement(element: PsiElement) {
@@ -85,13 +87,30 @@ class LoggerInlayHintsProvider : JavaCodeVisionProviderBase() {
 
                 val handler = ClickHandler(targetElement, loggerIdentifier)
                 val range = InlayHintsUtils.getTextRangeWithoutLeadingCommentsAndWhitespaces(targetElement)
-                entries.add(range to ClickableTextCodeVisionEntry("[y] log level", id, handler, HybrisIcons.Y.REMOTE, "", "Setup the logger for SAP Commerce Cloud"))
+                val level = loggerLevelsService.getEffectiveLevel(loggerIdentifier)
+                val text = level
+                    ?.let { "[y] log level: $it" }
+                    ?: "[y] log level"
+                entries.add(range to ClickableTextCodeVisionEntry(text, id, handler, getIcon(level), "", "Setup the logger for SAP Commerce Cloud"))
             }
         })
 
         return entries
     }
 
+    private fun getIcon(level: String?) = when (level) {
+        "ALL" -> HybrisIcons.Log.Level.ALL
+        "OFF" -> HybrisIcons.Log.Level.OFF
+        "TRACE" -> HybrisIcons.Log.Level.TRACE
+        "DEBUG" -> HybrisIcons.Log.Level.DEBUG
+        "INFO" -> HybrisIcons.Log.Level.INFO
+        "WARN" -> HybrisIcons.Log.Level.WARN
+        "ERROR" -> HybrisIcons.Log.Level.ERROR
+        "FATAL" -> HybrisIcons.Log.Level.FATAL
+        "SEVERE" -> HybrisIcons.Log.Level.SEVERE
+        else -> HybrisIcons.Y.REMOTE
+    }
+
     fun extractIdentifierForLogger(element: PsiElement, file: PsiFile): String? = when (element) {
         is PsiClass -> file.packageName()
             ?.let { "$it.${element.name}" }
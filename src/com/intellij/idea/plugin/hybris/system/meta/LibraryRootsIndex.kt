@@ -0,0 +1,71 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.system.meta
+
+import com.intellij.openapi.components.Service
+import com.intellij.openapi.project.Project
+import com.intellij.openapi.roots.OrderRootType
+import com.intellij.openapi.roots.ProjectRootManager
+import com.intellij.openapi.roots.libraries.LibraryTablesRegistrar
+import com.intellij.openapi.vfs.VirtualFile
+import com.intellij.psi.util.CachedValueProvider
+import com.intellij.psi.util.CachedValuesManager
+
+/**
+ * Reverse index of the project libraries: library classes root -> library.
+ *
+ * Lookup of the owning library is a walk up the parent chain of the file with a hash lookup per parent.
+ * Index is re-built on any change of the project roots.
+ */
+@Service(Service.Level.PROJECT)
+class LibraryRootsIndex(private val project: Project) {
+
+    private val cache = CachedValuesManager.getManager(project).createCachedValue(
+        {
+            CachedValueProvider.Result.create(buildIndex(), ProjectRootManager.getInstance(project))
+        }, false
+    )
+
+    fun findLibraryRoot(virtualFile: VirtualFile): LibraryRoot? = findRoot(virtualFile, cache.value) { it.parent }
+
+    private fun buildIndex(): Map<VirtualFile, LibraryRoot> {
+        val index = HashMap<VirtualFile, LibraryRoot>()
+
+        LibraryTablesRegistrar.getInstance().getLibraryTable(project).libraries.forEach { library ->
+            library.getFiles(OrderRootType.CLASSES).forEach { root ->
+                // same root may be shared by several libraries, first one wins
+                index.putIfAbsent(root, LibraryRoot(library.presentableName, root.name))
+            }
+        }
+
+        return index
+    }
+
+    data class LibraryRoot(
+        val libraryName: String,
+        val rootName: String,
+    )
+
+    companion object {
+        fun getInstance(project: Project): LibraryRootsIndex = project.getService(LibraryRootsIndex::class.java)
+
+        internal fun <F : Any, R> findRoot(file: F, roots: Map<F, R>, parent: (F) -> F?): R? = generateSequence(file, parent)
+            .firstNotNullOfOrNull { roots[it] }
+    }
+}
@@ -21,10 +21,7 @@ package com.intellij.idea.plugin.hybris.system.meta
 import com.intellij.idea.plugin.hybris.common.yExtensionName
 import com.intellij.openapi.application.readAction
 import com.intellij.openapi.project.Project
-import com.intellij.openapi.roots.OrderRootType
 import com.intellij.openapi.roots.ProjectFileIndex
-import com.intellij.openapi.roots.libraries.LibraryTablesRegistrar
-import com.intellij.openapi.vfs.VfsUtilCore
 import com.intellij.openapi.vfs.VirtualFile
 import com.intellij.psi.PsiFile
 import com.intellij.psi.search.ProjectScope
@@ -57,7 +54,7 @@ abstract class MetaCollector<T : DomElement>(
 
     private val myDomManager: DomManager = DomManager.getDomManager(project)
     private val projectFileIndex = ProjectFileIndex.getInstance(project)
-    private val libraryTable = LibraryTablesRegistrar.getInstance().getLibraryTable(project)
+    private val libraryRootsIndex = LibraryRootsIndex.getInstance(project)
 
     open suspend fun collectDependencies(): Set<Meta<T>> {
         val files = HashSet<Meta<T>>()
@@ -76,12 +73,8 @@ abstract class MetaCollector<T : DomElement>(
                         val metaContainer = projectFileIndex.getModuleForFile(virtualFile)
                             ?.let { it.name to it.yExtensionName() }
                         // Some files are part of the Library and, as a result, aren't associated with any Module
-                            ?: libraryTable.libraries
-                                .firstNotNullOfOrNull { library ->
-                                    library.getFiles(OrderRootType.CLASSES)
-                                        .firstOrNull { libraryVirtualFile -> VfsUtilCore.isAncestor(libraryVirtualFile, virtualFile, false) }
-                                        ?.let { library.presentableName to it.name }
-                                }
+                            ?: libraryRootsIndex.findLibraryRoot(virtualFile)
+                                ?.let { it.libraryName to it.rootName }
                             ?: return true
                         val rootElement = myDomManager.getFileElement(psiFile, clazz)
                             ?.rootElement
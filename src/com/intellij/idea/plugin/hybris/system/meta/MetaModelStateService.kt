@@ -27,10 +27,13 @@ import com.intellij.platform.util.progress.reportProgress
 import com.intellij.util.messages.Topic
 import com.intellij.util.xml.DomElement
 import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.Job
 import kotlinx.coroutines.async
 import kotlinx.coroutines.awaitAll
 import kotlinx.coroutines.flow.MutableStateFlow
 import kotlinx.coroutines.flow.asStateFlow
+import kotlinx.coroutines.flow.getAndUpdate
+import kotlinx.coroutines.flow.update
 import kotlinx.coroutines.launch
 
 data class CachedState<T>(
@@ -58,6 +61,9 @@ abstract class MetaModelStateService<G, M, D : DomElement>(
     protected val metaModelsState = _metaModelsState.asStateFlow()
     protected val metaModelState = _metaModelState.asStateFlow()
 
+    @Volatile
+    private var rebuildJob: Job? = null
+
     protected abstract suspend fun create(metaModelsToMerge: Collection<M>): G
     protected abstract fun onCompletion(newState: G)
 
@@ -74,62 +80,84 @@ abstract class MetaModelStateService<G, M, D : DomElement>(
             return getCurrentState()
         }
 
-        processState(modifiedMetas)
+        processState()
         throw ProcessCanceledException()
     }
 
-    fun getTrackedModels() = metaModelsState.value.keys
+    /**
+     * Returns the last computed state if the meta model of the [key] has no pending changes, never triggers the re-build.
+     */
+    fun getIfUpToDate(key: String): G? = metaModelState.value
+        .takeIf { it.computed && recomputeMetasState.value?.contains(key) != true && !DumbService.isDumb(project) }
+        ?.value
 
-    private fun processState(metaModels: Collection<String> = emptyList()) {
-        if (metaModelState.value.computing) return
+    fun getTrackedModels() = metaModelsState.value.keys
 
-        _metaModelState.value = CachedState(null, computed = false, computing = true)
+    private fun processState() {
+        val previousState = _metaModelState.getAndUpdate { it.copy(computed = false, computing = true) }
+        if (previousState.computing) return
 
         DumbService.Companion.getInstance(project).runWhenSmart {
-            coroutineScope.launch {
-                val newState = withBackgroundProgress(project, "Re-building $systemName System...", true) {
-                    val collectedDependencies = metaCollector.collectDependencies()
-
-                    val localMetaModels = reportProgress(collectedDependencies.size) { progressReporter ->
-                        collectedDependencies
-                            .map {
-                                progressReporter.sizedStep(1, "Processing: ${it.representationName}...") {
-                                    async {
-                                        val cachedMetaModel = metaModelsState.value[it.name]
-                                        if (cachedMetaModel == null || metaModels.contains(it.name)) {
-                                            it.name to metaModelProcessor.process(it)
-                                        } else {
-                                            it.name to cachedMetaModel
-                                        }
-                                    }
-                                }
-                            }
-                            .awaitAll()
-                            .filter { (_, model) -> model != null }
-                            .distinctBy { it.first }
-                            .associate { it.first to it.second!! }
-                    }
-
-                    _metaModelsState.value = localMetaModels
-
-                    create(metaModelsState.value.values)
+            rebuildJob = coroutineScope.launch {
+                // only changes known at this point are merged, newer ones stay pending for the next re-build
+                val metaModels = _recomputeMetasState.getAndUpdate { null }
+                    .orEmpty()
+
+                val newState = try {
+                    rebuild(metaModels)
+                } catch (e: Throwable) {
+                    // pending changes are restored, re-build will be restarted on the next access
+                    _recomputeMetasState.update { pending -> (pending.orEmpty() + metaModels).toSet().takeIf { it.isNotEmpty() } }
+                    throw e
                 }
 
                 _metaModelState.value = CachedState(newState, computed = true, computing = false)
-                _recomputeMetasState.value = null
 
                 onCompletion(newState)
+            }.apply {
+                // the last good state is kept if the re-build is cancelled or fails, including the cancellation before the start
+                invokeOnCompletion { cause ->
+                    if (cause != null) _metaModelState.update { CachedState(it.value, computed = it.value != null, computing = false) }
+                }
             }
         }
     }
 
-    fun update(metaModels: Collection<String>) {
-        val metas = _recomputeMetasState.value
-        if (metas == null) {
-            _recomputeMetasState.value = metaModels.toSet()
-        } else {
-            _recomputeMetasState.value = (metas + metaModels).toSet()
+    private suspend fun rebuild(metaModels: Collection<String>) = withBackgroundProgress(project, "Re-building $systemName System...", true) {
+        val collectedDependencies = metaCollector.collectDependencies()
+
+        val localMetaModels = reportProgress(collectedDependencies.size) { progressReporter ->
+            collectedDependencies
+                .map {
+                    progressReporter.sizedStep(1, "Processing: ${it.representationName}...") {
+                        async {
+                            val cachedMetaModel = metaModelsState.value[it.name]
+                            if (cachedMetaModel == null || metaModels.contains(it.name)) {
+                                it.name to metaModelProcessor.process(it)
+                            } else {
+                                it.name to cachedMetaModel
+                            }
+                        }
+                    }
+                }
+                .awaitAll()
+                .filter { (_, model) -> model != null }
+                .distinctBy { it.first }
+                .associate { it.first to it.second!! }
         }
+
+        _metaModelsState.value = localMetaModels
+
+        create(metaModelsState.value.values)
+    }
+
+    fun update(metaModels: Collection<String>) {
+        _recomputeMetasState.update { metas -> (metas.orEmpty() + metaModels).toSet() }
+
+        // a newer change makes the in-flight re-build obsolete
+        rebuildJob
+            ?.takeIf { it.isActive }
+            ?.cancel()
     }
 
     protected fun getCurrentState(): G {
@@ -0,0 +1,40 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.system.meta
+
+import com.intellij.util.containers.Interner
+
+/**
+ * Symbol table shared by all meta models.
+ *
+ * Type codes, qualifiers and extension names are repeated in every declaration and every re-build of the meta model,
+ * interning allows keeping a single instance of each of them, regardless of the number of open projects.
+ */
+object MetaSymbols {
+
+    private val interner = Interner.createWeakInterner<String>()
+
+    @JvmStatic
+    fun intern(symbol: String): String = interner.intern(symbol)
+
+    @JvmStatic
+    @JvmName("internNullable")
+    fun intern(symbol: String?): String? = symbol?.let { interner.intern(it) }
+
+}
@@ -0,0 +1,132 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.intellij.idea.plugin.hybris.system.spring
+
+import com.intellij.idea.plugin.hybris.system.spring.indexing.SpringBeanIndex
+import com.intellij.idea.plugin.hybris.system.spring.indexing.SpringBeanIndexEntry
+import com.intellij.idea.plugin.hybris.system.spring.indexing.SpringBeanIndexParser
+import com.intellij.openapi.components.Service
+import com.intellij.openapi.project.DumbService
+import com.intellij.openapi.project.Project
+import com.intellij.openapi.vfs.VirtualFile
+import com.intellij.psi.PsiManager
+import com.intellij.psi.search.GlobalSearchScope
+import com.intellij.psi.util.PsiTreeUtil
+import com.intellij.psi.xml.XmlFile
+import com.intellij.psi.xml.XmlTag
+import com.intellij.util.asSafely
+import com.intellij.util.indexing.FileBasedIndex
+
+/**
+ * Registry of the Spring beans related to the Type System, backed by the [SpringBeanIndex].
+ *
+ * Beans are looked up by the id, name or alias, interceptor mappings by the type code.
+ * Works on the plain XML, thus available in both IntelliJ Community and Ultimate.
+ */
+@Service(Service.Level.PROJECT)
+class SpringTypeCodeRegistry(private val project: Project) {
+
+    fun getInterceptorMappings(typeCode: String): Collection<InterceptorMapping> = getInterceptorMappingsByKey(SpringBeanIndexParser.typeCodeKey(typeCode))
+
+    fun getInterceptorMappings(): Collection<InterceptorMapping> {
+        if (DumbService.isDumb(project)) return emptyList()
+
+        return FileBasedIndex.getInstance().getAllKeys(SpringBeanIndex.NAME, project)
+            .filter { it.startsWith(SpringBeanIndexParser.KEY_TYPE_CODE_PREFIX) }
+            .flatMap { getInterceptorMappingsByKey(it) }
+    }
+
+    fun isBeanDefined(beanId: String) = resolveBean(beanId) != null
+
+    fun findBean(beanId: String): XmlTag? = resolveBean(beanId)
+        ?.let { (file, bean) -> findTag(file, bean.ordinal) }
+
+    fun findInterceptorTag(mapping: InterceptorMapping): XmlTag? = mapping.interceptorOrdinal
+        ?.let { findTag(mapping.file, it) }
+        ?: mapping.interceptorBeanId?.let { findBean(it) }
+
+    private fun getInterceptorMappingsByKey(key: String): Collection<InterceptorMapping> {
+        if (DumbService.isDumb(project)) return emptyList()
+
+        val mappings = mutableListOf<InterceptorMapping>()
+        processValues(key) { file, entry ->
+            if (entry is SpringBeanIndexEntry.InterceptorMapping) {
+                val interceptorClass = entry.interceptorClass
+                    ?: entry.interceptorBeanId?.let { resolveBean(it)?.second?.beanClass }
+
+                mappings.add(InterceptorMapping(entry.typeCode, entry.interceptorBeanId, interceptorClass, file, entry.interceptorOrdinal))
+            }
+        }
+        return mappings
+    }
+
+    /**
+     * Same as in SAP Commerce, an alias overrides the bean with the same id.
+     * Aliases may point to other aliases, resolution is bounded to not loop on the cyclic ones.
+     */
+    private fun resolveBean(beanId: String): Pair<VirtualFile, SpringBeanIndexEntry.Bean>? {
+        if (DumbService.isDumb(project)) return null
+
+        var name = beanId
+        repeat(MAX_ALIAS_CHAIN) {
+            var alias: String? = null
+            var bean: Pair<VirtualFile, SpringBeanIndexEntry.Bean>? = null
+
+            processValues(SpringBeanIndexParser.beanKey(name)) { file, entry ->
+                when (entry) {
+                    is SpringBeanIndexEntry.Alias -> alias = entry.name
+                    is SpringBeanIndexEntry.Bean -> if (bean == null) bean = file to entry
+                    is SpringBeanIndexEntry.InterceptorMapping -> Unit
+                }
+            }
+
+            name = alias
+                ?.takeIf { it != name }
+                ?: return bean
+        }
+        return null
+    }
+
+    private fun processValues(key: String, processor: (VirtualFile, SpringBeanIndexEntry) -> Unit) = FileBasedIndex.getInstance()
+        .processValues(SpringBeanIndex.NAME, key, null, { file, entries ->
+            entries.forEach { processor(file, it) }
+            true
+        }, GlobalSearchScope.allScope(project))
+
+    // index may lag behind the unsaved document, so the found tag is accepted only if it is still a bean
+    private fun findTag(file: VirtualFile, ordinal: Int): XmlTag? = PsiManager.getInstance(project).findFile(file)
+        ?.asSafely<XmlFile>()
+        ?.rootTag
+        ?.let { PsiTreeUtil.findChildrenOfType(it, XmlTag::class.java).elementAtOrNull(ordinal) }
+        ?.takeIf { it.localName == TAG_BEAN }
+
+    data class InterceptorMapping(
+        val typeCode: String,
+        val interceptorBeanId: String?,
+        val interceptorClass: String?,
+        val file: VirtualFile,
+        val interceptorOrdinal: Int?,
+    )
+
+    companion object {
+        private const val TAG_BEAN = "bean"
+        private const val MAX_ALIAS_CHAIN = 10
+
+        fun getInstance(project: Project): SpringTypeCodeRegistry = project.getService(SpringTypeCodeRegistry::class.java)
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.system.spring.indexing
+
+import com.intellij.ide.highlighter.XmlFileType
+import com.intellij.util.indexing.*
+import com.intellij.util.io.DataExternalizer
+import com.intellij.util.io.DataInputOutputUtil
+import com.intellij.util.io.EnumeratorStringDescriptor
+import com.intellij.util.io.IOUtil
+import com.intellij.util.io.KeyDescriptor
+import java.io.DataInput
+import java.io.DataOutput
+
+/**
+ * Index of the Spring beans related to the Type System, see [SpringBeanIndexParser] for its keys.
+ *
+ * Only names, classes and positions of the tags are stored, PSI is looked up when the tag itself is requested.
+ */
+class SpringBeanIndex : FileBasedIndexExtension<String, List<SpringBeanIndexEntry>>() {
+
+    override fun getName() = NAME
+    override fun getVersion() = 1
+    override fun dependsOnFileContent() = true
+    override fun getKeyDescriptor(): KeyDescriptor<String> = EnumeratorStringDescriptor.INSTANCE
+    override fun getValueExternalizer(): DataExternalizer<List<SpringBeanIndexEntry>> = SpringBeanIndexEntriesExternalizer
+    override fun getInputFilter() = DefaultFileTypeSpecificInputFilter(XmlFileType.INSTANCE)
+
+    override fun getIndexer() = DataIndexer<String, List<SpringBeanIndexEntry>, FileContent> { inputData ->
+        SpringBeanIndexParser.parse(inputData.contentAsText)
+    }
+
+    private object SpringBeanIndexEntriesExternalizer : DataExternalizer<List<SpringBeanIndexEntry>> {
+        private const val KIND_BEAN = 0
+        private const val KIND_ALIAS = 1
+        private const val KIND_INTERCEPTOR_MAPPING = 2
+
+        override fun save(out: DataOutput, value: List<SpringBeanIndexEntry>) {
+            DataInputOutputUtil.writeINT(out, value.size)
+            value.forEach { entry ->
+                when (entry) {
+                    is SpringBeanIndexEntry.Bean -> {
+                        DataInputOutputUtil.writeINT(out, KIND_BEAN)
+                        DataInputOutputUtil.writeINT(out, entry.ordinal)
+                        writeNullable(out, entry.beanClass)
+                    }
+
+                    is SpringBeanIndexEntry.Alias -> {
+                        DataInputOutputUtil.writeINT(out, KIND_ALIAS)
+                        DataInputOutputUtil.writeINT(out, entry.ordinal)
+                        IOUtil.writeUTF(out, entry.name)
+                    }
+
+                    is SpringBeanIndexEntry.InterceptorMapping -> {
+                        DataInputOutputUtil.writeINT(out, KIND_INTERCEPTOR_MAPPING)
+                        DataInputOutputUtil.writeINT(out, entry.ordinal)
+                        IOUtil.writeUTF(out, entry.typeCode)
+                        writeNullable(out, entry.interceptorBeanId)
+                        // ordinal is never negative, -1 stands for the referenced interceptor
+                        DataInputOutputUtil.writeINT(out, (entry.interceptorOrdinal ?: -1) + 1)
+                        writeNullable(out, entry.interceptorClass)
+                    }
+                }
+            }
+        }
+
+        override fun read(input: DataInput) = List(DataInputOutputUtil.readINT(input)) {
+            when (DataInputOutputUtil.readINT(input)) {
+                KIND_BEAN -> SpringBeanIndexEntry.Bean(DataInputOutputUtil.readINT(input), readNullable(input))
+                KIND_ALIAS -> SpringBeanIndexEntry.Alias(DataInputOutputUtil.readINT(input), IOUtil.readUTF(input))
+                else -> SpringBeanIndexEntry.InterceptorMapping(
+                    DataInputOutputUtil.readINT(input),
+                    IOUtil.readUTF(input),
+                    readNullable(input),
+                    (DataInputOutputUtil.readINT(input) - 1).takeIf { it >= 0 },
+                    readNullable(input)
+                )
+            }
+        }
+
+        private fun writeNullable(out: DataOutput, value: String?) {
+            out.writeBoolean(value != null)
+            if (value != null) IOUtil.writeUTF(out, value)
+        }
+
+        private fun readNullable(input: DataInput) = if (input.readBoolean()) IOUtil.readUTF(input) else null
+    }
+
+    companion object {
+        val NAME = ID.create<String, List<SpringBeanIndexEntry>>("hybris.spring.bean")
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.system.spring.indexing
+
+/**
+ * Value of the [SpringBeanIndex].
+ *
+ * [ordinal] is the position of the tag among all tags below the root `<beans>` in document order,
+ * it is used to find the tag in the PSI only when it is requested.
+ */
+sealed interface SpringBeanIndexEntry {
+    val ordinal: Int
+
+    data class Bean(
+        override val ordinal: Int,
+        val beanClass: String?,
+    ) : SpringBeanIndexEntry
+
+    data class Alias(
+        override val ordinal: Int,
+        val name: String,
+    ) : SpringBeanIndexEntry
+
+    /**
+     * Interceptor is either referenced by [interceptorBeanId] or declared as an inner bean at [interceptorOrdinal].
+     */
+    data class InterceptorMapping(
+        override val ordinal: Int,
+        val typeCode: String,
+        val interceptorBeanId: String?,
+        val interceptorOrdinal: Int?,
+        val interceptorClass: String?,
+    ) : SpringBeanIndexEntry
+}
@@ -0,0 +1,195 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.system.spring.indexing
+
+import com.intellij.idea.plugin.hybris.common.HybrisConstants
+import java.io.StringReader
+import javax.xml.stream.XMLInputFactory
+import javax.xml.stream.XMLStreamConstants
+import javax.xml.stream.XMLStreamException
+import javax.xml.stream.XMLStreamReader
+
+/**
+ * Streaming parser of the Spring XML, it builds neither PSI nor DOM, so it can be used by the index.
+ *
+ * Beans are collected by the `id` and each of the `name` values, inner beans and beans of the nested `<beans>` included.
+ * `InterceptorMapping` beans are collected by their `typeCode`.
+ */
+object SpringBeanIndexParser {
+
+    const val KEY_BEAN_PREFIX = "bean:"
+    const val KEY_TYPE_CODE_PREFIX = "typeCode:"
+
+    private const val TAG_BEANS = "beans"
+    private const val TAG_BEAN = "bean"
+    private const val TAG_ALIAS = "alias"
+    private const val TAG_PROPERTY = "property"
+    private const val TAG_VALUE = "value"
+    private const val TAG_REF = "ref"
+    private const val ATTRIBUTE_ID = "id"
+    private const val ATTRIBUTE_NAME = "name"
+    private const val ATTRIBUTE_CLASS = "class"
+    private const val ATTRIBUTE_VALUE = "value"
+    private const val ATTRIBUTE_REF = "ref"
+    private const val ATTRIBUTE_BEAN = "bean"
+    private const val ATTRIBUTE_ALIAS = "alias"
+    private const val PROPERTY_TYPE_CODE = "typeCode"
+    private const val PROPERTY_INTERCEPTOR = "interceptor"
+
+    private val factory = XMLInputFactory.newFactory().apply {
+        setProperty(XMLInputFactory.SUPPORT_DTD, false)
+        setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false)
+        setProperty(XMLInputFactory.IS_COALESCING, true)
+    }
+
+    fun beanKey(name: String) = KEY_BEAN_PREFIX + name
+    fun typeCodeKey(typeCode: String) = KEY_TYPE_CODE_PREFIX + typeCode.lowercase()
+
+    fun parse(text: CharSequence): Map<String, List<SpringBeanIndexEntry>> {
+        if (!text.contains(HybrisConstants.SPRING_NAMESPACE)) return emptyMap()
+
+        val reader = try {
+            factory.createXMLStreamReader(StringReader(text.toString()))
+        } catch (_: XMLStreamException) {
+            return emptyMap()
+        }
+
+        return try {
+            parse(reader)
+        } catch (_: XMLStreamException) {
+            emptyMap()
+        } finally {
+            reader.close()
+        }
+    }
+
+    private fun parse(reader: XMLStreamReader): Map<String, List<SpringBeanIndexEntry>> {
+        val entries = LinkedHashMap<String, MutableList<SpringBeanIndexEntry>>()
+        val beans = ArrayDeque<BeanBuilder>()
+
+        var depth = 0
+        var ordinal = -1
+        var property: String? = null
+        var propertyDepth = 0
+
+        while (reader.hasNext()) {
+            when (reader.next()) {
+                XMLStreamConstants.START_ELEMENT -> {
+                    depth++
+                    val tagName = reader.localName
+
+                    if (depth == 1) {
+                        if (tagName != TAG_BEANS || reader.namespaceURI != HybrisConstants.SPRING_NAMESPACE) return emptyMap()
+                        continue
+                    }
+                    ordinal++
+
+                    val bean = beans.lastOrNull()
+                    // only direct properties of the current bean, properties of its inner beans belong to them
+                    val beanProperty = property?.takeIf { depth == propertyDepth + 1 && bean?.depth == propertyDepth - 1 }
+
+                    when (tagName) {
+                        TAG_BEAN -> {
+                            if (beanProperty == PROPERTY_INTERCEPTOR && bean?.interceptorOrdinal == null) {
+                                bean?.interceptorOrdinal = ordinal
+                                bean?.interceptorBeanId = reader.attribute(ATTRIBUTE_ID)
+                                bean?.interceptorClass = reader.attribute(ATTRIBUTE_CLASS)
+                            }
+                            beans.addLast(BeanBuilder(reader, ordinal, depth))
+                        }
+
+                        TAG_ALIAS -> {
+                            val name = reader.attribute(ATTRIBUTE_NAME)
+                            val alias = reader.attribute(ATTRIBUTE_ALIAS)
+                            if (name != null && alias != null) entries.add(beanKey(alias), SpringBeanIndexEntry.Alias(ordinal, name))
+                        }
+
+                        TAG_PROPERTY -> if (bean?.depth == depth - 1) {
+                            property = reader.attribute(ATTRIBUTE_NAME)
+                            propertyDepth = depth
+
+                            when (property) {
+                                PROPERTY_TYPE_CODE -> reader.attribute(ATTRIBUTE_VALUE)?.let { bean.typeCode = it }
+                                PROPERTY_INTERCEPTOR -> reader.attribute(ATTRIBUTE_REF)?.let { bean.interceptorRef = it }
+                            }
+                        }
+
+                        TAG_REF -> if (beanProperty == PROPERTY_INTERCEPTOR) {
+                            reader.attribute(ATTRIBUTE_BEAN)?.let { bean?.interceptorRef = it }
+                        }
+
+                        TAG_VALUE -> if (beanProperty == PROPERTY_TYPE_CODE) {
+                            // moves the reader to the end of the element
+                            reader.elementText.trim().takeIf { it.isNotEmpty() }?.let { bean?.typeCode = it }
+                            depth--
+                        }
+                    }
+                }
+
+                XMLStreamConstants.END_ELEMENT -> {
+                    if (depth == propertyDepth) property = null
+
+                    if (beans.lastOrNull()?.depth == depth) {
+                        val bean = beans.removeLast()
+                        bean.names.forEach { entries.add(beanKey(it), SpringBeanIndexEntry.Bean(bean.ordinal, bean.beanClass)) }
+                        bean.toInterceptorMapping()
+                            ?.let { entries.add(typeCodeKey(it.typeCode), it) }
+                    }
+                    depth--
+                }
+            }
+        }
+
+        return entries
+    }
+
+    private fun MutableMap<String, MutableList<SpringBeanIndexEntry>>.add(key: String, entry: SpringBeanIndexEntry) {
+        getOrPut(key) { mutableListOf() }.add(entry)
+    }
+
+    private fun XMLStreamReader.attribute(name: String, namespace: String? = null) = getAttributeValue(namespace, name)
+        ?.trim()
+        ?.takeIf { it.isNotEmpty() }
+
+    private class BeanBuilder(reader: XMLStreamReader, val ordinal: Int, val depth: Int) {
+        val names = buildList {
+            reader.attribute(ATTRIBUTE_ID)?.let { add(it) }
+            reader.attribute(ATTRIBUTE_NAME)
+                ?.split(',', ';', ' ')
+                ?.filter { it.isNotBlank() }
+                ?.let { addAll(it) }
+        }.distinct()
+        val beanClass = reader.attribute(ATTRIBUTE_CLASS)
+        var typeCode = reader.attribute(PROPERTY_TYPE_CODE, HybrisConstants.SPRING_P_NAMESPACE)
+        var interceptorRef = reader.attribute("$PROPERTY_INTERCEPTOR-ref", HybrisConstants.SPRING_P_NAMESPACE)
+        var interceptorOrdinal: Int? = null
+        var interceptorBeanId: String? = null
+        var interceptorClass: String? = null
+
+        fun toInterceptorMapping(): SpringBeanIndexEntry.InterceptorMapping? {
+            val typeCode = typeCode ?: return null
+
+            return when {
+                interceptorRef != null -> SpringBeanIndexEntry.InterceptorMapping(ordinal, typeCode, interceptorRef, null, null)
+                interceptorOrdinal != null -> SpringBeanIndexEntry.InterceptorMapping(ordinal, typeCode, interceptorBeanId, interceptorOrdinal, interceptorClass)
+                else -> null
+            }
+        }
+    }
+}
@@ -22,6 +22,7 @@ import com.intellij.codeInsight.navigation.NavigationGutterIconBuilder
 import com.intellij.idea.plugin.hybris.common.utils.HybrisI18NBundleUtils.message
 import com.intellij.idea.plugin.hybris.common.utils.HybrisIcons
 import com.intellij.idea.plugin.hybris.spring.SpringHelper
+import com.intellij.idea.plugin.hybris.system.spring.SpringTypeCodeRegistry
 import com.intellij.idea.plugin.hybris.system.type.model.Attribute
 import com.intellij.idea.plugin.hybris.system.type.model.Persistence
 import com.intellij.idea.plugin.hybris.system.type.model.PersistenceType
@@ -42,7 +43,9 @@ class ItemsXmlAttributeHandlerLineMarkerProvider : AbstractItemsXmlLineMarkerPro
 
     override fun collectDeclarations(psi: XmlTag): Collection<LineMarkerInfo<PsiElement>> {
         val attributeHandlerId = TSPsiHelper.resolveAttributeHandlerId(psi) ?: return emptyList()
-        val springBeanDeclaration = SpringHelper.resolveBeanDeclaration(psi, attributeHandlerId) ?: return emptyList()
+        val springBeanDeclaration = SpringTypeCodeRegistry.getInstance(psi.project).findBean(attributeHandlerId)
+            ?: SpringHelper.resolveBeanDeclaration(psi, attributeHandlerId)
+            ?: return emptyList()
 
         val marker = NavigationGutterIconBuilder
             .create(icon)
@@ -27,11 +27,12 @@ class TSGlobalMetaModel {
 
     private val myMetaCache: MutableMap<TSMetaType, Map<String, TSGlobalMetaClassifier<out DomElement>>> = ConcurrentHashMap()
     private val myReferencesBySourceTypeName = CaseInsensitive.NoCaseMultiMap<TSMetaRelation.TSMetaRelationElement>()
-    private val myDeploymentTables = CaseInsensitive.CaseInsensitiveConcurrentHashMap<String, TSMetaDeployment>()
-    private val myDeploymentTypeCodes = ConcurrentHashMap<Int, TSMetaDeployment>()
+    private val myReferencesByQualifier = CaseInsensitive.NoCaseMultiMap<TSMetaRelation.TSMetaRelationElement>()
+    private val myRelationsByName = CaseInsensitive.NoCaseMultiMap<TSMetaRelation>()
+    private val myTypeCodeRegistry = TSTypeCodeRegistry()
 
-    fun getDeploymentForTable(table: String?): TSMetaDeployment? = if (table != null) myDeploymentTables[table] else null
-    fun getDeploymentForTypeCode(typeCode: Int?): TSMetaDeployment? = if (typeCode != null) myDeploymentTypeCodes[typeCode] else null
+    fun getDeploymentForTable(table: String?): TSMetaDeployment? = myTypeCodeRegistry.getTableClaimants(table).firstOrNull()
+    fun getDeploymentForTypeCode(typeCode: Int?): TSMetaDeployment? = myTypeCodeRegistry.getClaimants(typeCode).firstOrNull()
     fun getDeploymentForTypeCode(typeCode: String?): TSMetaDeployment? = getDeploymentForTypeCode(typeCode?.toIntOrNull())
 
     @Suppress("UNCHECKED_CAST")
@@ -49,15 +50,41 @@ class TSGlobalMetaModel {
 
     fun getRelations(name: String?): Collection<TSMetaRelation.TSMetaRelationElement>? = name?.let { getAllRelations()[it] }
 
+    fun getRelations(sourceTypeName: String?, qualifier: String?): Collection<TSMetaRelation.TSMetaRelationElement> =
+        if (sourceTypeName != null && qualifier != null) myReferencesByQualifier[qualifierKey(sourceTypeName, qualifier)] ?: emptyList()
+        else emptyList()
+
+    fun getRelationsByName(name: String?): Collection<TSMetaRelation> = name
+        ?.let { myRelationsByName[it] }
+        ?: emptyList()
+
     fun getAllRelations() = myReferencesBySourceTypeName
-    fun getDeploymentTypeCodes() = myDeploymentTypeCodes
+    fun getDeploymentTypeCodes() = myTypeCodeRegistry.getTypeCodes()
+    fun getTypeCodeRegistry() = myTypeCodeRegistry
+
+    fun addDeployment(deployment: TSMetaDeployment) = myTypeCodeRegistry.register(deployment)
 
-    fun addDeployment(deployment: TSMetaDeployment) {
-        myDeploymentTables[deployment.table] = deployment
-        val typeCode = deployment.typeCode?.toIntOrNull()
-        if (typeCode != null) {
-            myDeploymentTypeCodes[typeCode] = deployment
+    /**
+     * Indexes navigable relation ends by the relation name and by the pair of source type and qualifier.
+     * Should be called once all relations are merged, the indexes are not updated afterward.
+     */
+    fun indexRelations() {
+        myReferencesBySourceTypeName.entrySet().forEach { (sourceTypeName, relationEnds) ->
+            relationEnds.forEach { relationEnd ->
+                relationEnd.qualifier
+                    ?.let { myReferencesByQualifier.putValue(qualifierKey(sourceTypeName, it), relationEnd) }
+
+                val relation = relationEnd.owner
+                relation.name
+                    ?.takeUnless { myRelationsByName[it]?.contains(relation) ?: false }
+                    ?.let { myRelationsByName.putValue(it, relation) }
+            }
         }
+
+        myReferencesByQualifier.compact()
+        myRelationsByName.compact()
     }
 
+    private fun qualifierKey(sourceTypeName: String, qualifier: String) = "$sourceTypeName#$qualifier"
+
 }
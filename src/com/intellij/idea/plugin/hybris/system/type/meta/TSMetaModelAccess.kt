@@ -30,7 +30,6 @@ import com.intellij.openapi.components.service
 import com.intellij.openapi.module.ModuleManager
 import com.intellij.openapi.project.Project
 import com.intellij.util.xml.DomElement
-import org.apache.commons.collections4.CollectionUtils
 import java.util.*
 import kotlin.io.path.exists
 import kotlin.io.path.inputStream
@@ -97,9 +96,20 @@ class TSMetaModelAccess(private val project: Project) : Disposable {
     fun findMetaMapByName(name: String?) = findMetaByName<TSGlobalMetaMap>(TSMetaType.META_MAP, name)
     fun findMetaRelationByName(name: String?) = findMetaByName<TSGlobalMetaRelation>(TSMetaType.META_RELATION, name)
 
-    fun findRelationByName(name: String?) = CollectionUtils.emptyIfNull(metaModelStateService.get().getAllRelations().values())
-        .mapNotNull { metaRelationElement -> metaRelationElement.owner }
-        .filter { ref: TSMetaRelation -> name == ref.name }
+    // relation names are indexed case-insensitively, but the lookup is exact
+    fun findRelationByName(name: String?) = metaModelStateService.get().getRelationsByName(name)
+        .filter { it.name == name }
+
+    /**
+     * Relation ends of the Item type and all its parents, which are navigable via given qualifier.
+     */
+    fun findRelationEndsByQualifier(meta: TSGlobalMetaItem, qualifier: String?): List<TSMetaRelation.TSMetaRelationElement> {
+        val metaModel = metaModelStateService.get()
+
+        return (sequenceOf(meta) + meta.allExtends.asSequence())
+            .flatMap { metaModel.getRelations(it.name, qualifier) }
+            .toList()
+    }
 
     fun findMetaClassifierByName(name: String?): TSGlobalMetaClassifier<out DomElement>? = findMetaItemByName(name)
         ?: findMetaCollectionByName(name)
@@ -108,19 +118,9 @@ class TSMetaModelAccess(private val project: Project) : Disposable {
         ?: findMetaMapByName(name)
         ?: findMetaAtomicByName(name)
 
-    fun getNextAvailableTypeCode(): Int? {
-        val projectTypeCodes = metaModelStateService.get().getDeploymentTypeCodes().keys
-        val reservedTypesCodes = getReservedTypeCodes().keys
-        val keys = projectTypeCodes + reservedTypesCodes
-
-        return (10100..Short.MAX_VALUE)
-            .asSequence()
-            .filterNot { it in HybrisConstants.TS_TYPECODE_RANGE_COMMONS }
-            .filterNot { it in HybrisConstants.TS_TYPECODE_RANGE_XPRINT }
-            .filterNot { it in HybrisConstants.TS_TYPECODE_RANGE_PRINT }
-            .filterNot { it in HybrisConstants.TS_TYPECODE_RANGE_PROCESSING }
-            .firstOrNull { !keys.contains(it) }
-    }
+    fun getNextAvailableTypeCode(): Int? = metaModelStateService.get()
+        .getTypeCodeRegistry()
+        .getNextAvailableTypeCode(getReservedTypeCodes().keys)
 
     fun getReservedTypeCodes() = myReservedTypeCodes
 
@@ -17,6 +17,7 @@
  */
 package com.intellij.idea.plugin.hybris.system.type.meta
 
+import com.intellij.idea.plugin.hybris.system.meta.MetaSymbols
 import com.intellij.idea.plugin.hybris.system.type.meta.model.*
 import com.intellij.idea.plugin.hybris.system.type.meta.model.impl.*
 import com.intellij.util.xml.DomElement
@@ -43,7 +44,7 @@ object TSMetaModelMerger {
         metaItems.values
             .flatMap { it.allAttributes.values }
             .filter { it.type != null }
-            .forEach { it.flattenType = TSMetaHelper.flattenType(it.type!!, allTypes) }
+            .forEach { it.flattenType = MetaSymbols.intern(TSMetaHelper.flattenType(it.type!!, allTypes)) }
 
         // to properly propagate `isCustom` flag, we need to check every relation end defined for non directly modified Item Types
         // if at least one relation end is custom Item Type will be marked as custom too
@@ -54,17 +55,15 @@ object TSMetaModelMerger {
 
         getMetaType<TSGlobalMetaRelation>(TSMetaType.META_RELATION).values
             .forEach {
-                it.source.flattenType = TSMetaHelper.flattenType(TSMetaHelper.flattenType(it.source), allTypes)
-                it.target.flattenType = TSMetaHelper.flattenType(TSMetaHelper.flattenType(it.target), allTypes)
+                it.source.flattenType = MetaSymbols.intern(TSMetaHelper.flattenType(TSMetaHelper.flattenType(it.source), allTypes))
+                it.target.flattenType = MetaSymbols.intern(TSMetaHelper.flattenType(TSMetaHelper.flattenType(it.target), allTypes))
 
                 it.orderingAttribute
                     ?.let { orderingAttribute ->
                         val type = orderingAttribute.owner.type
                         getMetaItem(type)
                             ?.let { metaItem -> metaItem as? TSGlobalMetaItemImpl }
-                            ?.let { metaItem ->
-                                metaItem.allOrderingAttributes[orderingAttribute.qualifier] = orderingAttribute
-                            }
+                            ?.addOrderingAttribute(orderingAttribute.qualifier, orderingAttribute)
                     }
             }
 
@@ -88,6 +87,13 @@ object TSMetaModelMerger {
 
             meta.addMetasToHierarchy(itemHierarchy)
         }
+
+        // global meta model will not be modified anymore, so we can switch to the read-only compact storage
+        getMetaTypes().values
+            .flatMap { it.values }
+            .forEach { (it as? TSMetaSelfMerge<*, *>)?.compact() }
+        getAllRelations().compact()
+        indexRelations()
     }
 
     @Suppress("UNCHECKED_CAST")
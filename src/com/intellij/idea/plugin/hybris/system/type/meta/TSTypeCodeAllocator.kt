@@ -0,0 +1,66 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.intellij.idea.plugin.hybris.system.type.meta
+
+import com.intellij.idea.plugin.hybris.common.HybrisConstants
+import java.util.*
+
+/**
+ * Sorted set of disjoint and non-adjacent intervals of the occupied type codes.
+ *
+ * Used type codes and reserved ranges are merged into the intervals once, afterward the next free type code is found via single floor lookup,
+ * because the code right after the closest occupied interval is free by construction.
+ */
+class TSTypeCodeAllocator private constructor(private val intervals: TreeMap<Int, Int>) {
+
+    val size
+        get() = intervals.size
+
+    fun isOccupied(typeCode: Int) = intervals.floorEntry(typeCode)
+        ?.let { typeCode <= it.value }
+        ?: false
+
+    fun nextAvailable(from: Int = HybrisConstants.TS_TYPECODE_MIN_ALLOWED, to: Int = Short.MAX_VALUE.toInt()): Int? = intervals.floorEntry(from)
+        ?.takeIf { from <= it.value }
+        ?.let { it.value + 1 }
+        .let { candidate -> (candidate ?: from).takeIf { it <= to } }
+
+    companion object {
+
+        fun of(typeCodes: Collection<Int>, ranges: Collection<IntRange> = emptyList()): TSTypeCodeAllocator {
+            val sortedRanges = (typeCodes.map { it..it } + ranges.filterNot { it.isEmpty() })
+                .sortedBy { it.first }
+
+            val intervals = TreeMap<Int, Int>()
+            var start = 0
+            var end = -1
+            sortedRanges.forEach { range ->
+                if (end >= start && range.first <= end + 1) {
+                    end = maxOf(end, range.last)
+                } else {
+                    if (end >= start) intervals[start] = end
+                    start = range.first
+                    end = range.last
+                }
+            }
+            if (end >= start) intervals[start] = end
+
+            return TSTypeCodeAllocator(intervals)
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.intellij.idea.plugin.hybris.system.type.meta
+
+import com.intellij.idea.plugin.hybris.common.HybrisConstants
+import com.intellij.idea.plugin.hybris.system.type.meta.impl.CaseInsensitive
+import com.intellij.idea.plugin.hybris.system.type.meta.model.TSMetaDeployment
+import java.util.concurrent.ConcurrentSkipListMap
+import java.util.concurrent.CopyOnWriteArrayList
+
+/**
+ * Registry of all deployments known to the Type System, keyed by the type code and by the table.
+ *
+ * Unlike a plain map, every claimant of the same type code or table is retained, so conflicts can be reported against all of them.
+ * Occupied type codes are kept sorted and are folded into the [TSTypeCodeAllocator] on first request of the next available type code.
+ */
+class TSTypeCodeRegistry {
+
+    private val claimantsByTypeCode = ConcurrentSkipListMap<Int, MutableList<TSMetaDeployment>>()
+    private val claimantsByTable = CaseInsensitive.CaseInsensitiveConcurrentHashMap<String, MutableList<TSMetaDeployment>>()
+
+    @Volatile
+    private var allocator: Pair<Set<Int>, TSTypeCodeAllocator>? = null
+
+    fun register(deployment: TSMetaDeployment) {
+        deployment.table
+            ?.let { claimantsByTable.computeIfAbsent(it) { CopyOnWriteArrayList() }.add(deployment) }
+        deployment.typeCode
+            ?.toIntOrNull()
+            ?.let { claimantsByTypeCode.computeIfAbsent(it) { CopyOnWriteArrayList() }.add(deployment) }
+
+        allocator = null
+    }
+
+    fun getTypeCodes(): Set<Int> = claimantsByTypeCode.keys
+    fun getClaimants(typeCode: Int?): List<TSMetaDeployment> = typeCode?.let { claimantsByTypeCode[it] } ?: emptyList()
+    fun getClaimants(typeCode: String?): List<TSMetaDeployment> = getClaimants(typeCode?.toIntOrNull())
+    fun getTableClaimants(table: String?): List<TSMetaDeployment> = table?.let { claimantsByTable[it] } ?: emptyList()
+
+    fun getNextAvailableTypeCode(reservedTypeCodes: Set<Int> = emptySet()): Int? = getAllocator(reservedTypeCodes).nextAvailable()
+
+    private fun getAllocator(reservedTypeCodes: Set<Int>) = allocator
+        ?.takeIf { it.first === reservedTypeCodes }
+        ?.second
+        ?: TSTypeCodeAllocator.of(claimantsByTypeCode.keys + reservedTypeCodes, HybrisConstants.TS_TYPECODE_RESERVED_RANGES)
+            .also { allocator = reservedTypeCodes to it }
+}
@@ -18,8 +18,10 @@
 
 package com.intellij.idea.plugin.hybris.system.type.meta.impl;
 
+import com.intellij.idea.plugin.hybris.system.meta.MetaSymbols;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.TestOnly;
 
 import java.io.Serial;
 import java.util.*;
@@ -30,16 +32,27 @@ import java.util.stream.Collectors;
 
 public final class CaseInsensitive {
 
+    private static volatile boolean ourCompactDisabled;
+
     private CaseInsensitive() {
     }
 
+    /**
+     * Makes {@link #compact(Map)} return {@link CaseInsensitiveConcurrentHashMap}, the storage used before the compact maps,
+     * so the footprint of both can be compared on the same meta model.
+     */
+    @TestOnly
+    public static void setCompactDisabled(final boolean disabled) {
+        ourCompactDisabled = disabled;
+    }
+
     public static class NoCaseMultiMap<V> {
 
         private final CaseInsensitiveConcurrentHashMap<String, Collection<V>> myMap = new CaseInsensitiveConcurrentHashMap<>();
 
         public void putValue(final @NotNull String key, final @NotNull V value) {
             myMap
-                .computeIfAbsent(key, s -> new LinkedList<>())
+                .computeIfAbsent(key, s -> new ArrayList<>())
                 .add(value);
         }
 
@@ -57,7 +70,7 @@ public final class CaseInsensitive {
         public void putAllValues(@NotNull final NoCaseMultiMap<V> map) {
             map.entrySet().forEach(entry ->
                 myMap
-                    .computeIfAbsent(entry.getKey(), s -> new LinkedList<>())
+                    .computeIfAbsent(entry.getKey(), s -> new ArrayList<>())
                     .addAll(entry.getValue())
             );
         }
@@ -71,6 +84,111 @@ public final class CaseInsensitive {
             myMap.clear();
         }
 
+        /**
+         * Releases unused capacity of the value lists, should be called once all values are added.
+         */
+        public void compact() {
+            myMap.values().forEach(values -> {
+                if (values instanceof final ArrayList<V> list) list.trimToSize();
+            });
+        }
+
+    }
+
+    /**
+     * Creates read-only copy of the map backed by the sorted arrays of the lower-cased keys and values.
+     * <p>
+     * Unlike {@link CaseInsensitiveConcurrentHashMap}, it does not allocate a node per entry,
+     * so should be used for the maps which are not modified after the meta model is built.
+     */
+    @NotNull
+    public static <V> Map<String, V> compact(@NotNull final Map<String, ? extends V> map) {
+        if (ourCompactDisabled) {
+            final CaseInsensitiveConcurrentHashMap<String, V> copy = new CaseInsensitiveConcurrentHashMap<>();
+            copy.putAll(map);
+            return copy;
+        }
+        if (map.isEmpty()) return Collections.emptyMap();
+
+        return new CaseInsensitiveCompactMap<>(map);
+    }
+
+    public static final class CaseInsensitiveCompactMap<V> extends AbstractMap<String, V> {
+
+        private final String[] myKeys;
+        private final Object[] myValues;
+
+        private CaseInsensitiveCompactMap(@NotNull final Map<String, ? extends V> map) {
+            final TreeMap<String, V> sorted = new TreeMap<>();
+            map.forEach((key, value) -> sorted.put(MetaSymbols.intern(key.toLowerCase()), value));
+
+            myKeys = sorted.keySet().toArray(String[]::new);
+            myValues = sorted.values().toArray();
+        }
+
+        @Override
+        public int size() {
+            return myKeys.length;
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            return indexOf(key) >= 0;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V get(final Object key) {
+            final int index = indexOf(key);
+            return index >= 0 ? (V) myValues[index] : null;
+        }
+
+        @NotNull
+        @Override
+        @SuppressWarnings("unchecked")
+        public Collection<V> values() {
+            return (Collection<V>) Collections.unmodifiableList(Arrays.asList(myValues));
+        }
+
+        @NotNull
+        @Override
+        public Set<Entry<String, V>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public int size() {
+                    return myKeys.length;
+                }
+
+                @NotNull
+                @Override
+                public Iterator<Entry<String, V>> iterator() {
+                    return new Iterator<>() {
+                        private int myIndex;
+
+                        @Override
+                        public boolean hasNext() {
+                            return myIndex < myKeys.length;
+                        }
+
+                        @Override
+                        @SuppressWarnings("unchecked")
+                        public Entry<String, V> next() {
+                            if (!hasNext()) throw new NoSuchElementException();
+
+                            final Entry<String, V> entry = new SimpleImmutableEntry<>(myKeys[myIndex], (V) myValues[myIndex]);
+                            myIndex++;
+                            return entry;
+                        }
+                    };
+                }
+            };
+        }
+
+        private int indexOf(final Object key) {
+            if (key == null) return -1;
+
+            return Arrays.binarySearch(myKeys, key.toString().toLowerCase());
+        }
     }
 
     public static class CaseInsensitiveConcurrentHashMap<K, V> extends ConcurrentHashMap<K, V> {
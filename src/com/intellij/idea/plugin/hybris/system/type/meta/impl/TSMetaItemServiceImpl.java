@@ -19,6 +19,7 @@
 package com.intellij.idea.plugin.hybris.system.type.meta.impl;
 
 import com.intellij.idea.plugin.hybris.system.type.meta.TSMetaItemService;
+import com.intellij.idea.plugin.hybris.system.type.meta.TSMetaModelAccess;
 import com.intellij.idea.plugin.hybris.system.type.meta.TSMetaModelStateService;
 import com.intellij.idea.plugin.hybris.system.type.meta.model.TSGlobalMetaItem;
 import com.intellij.idea.plugin.hybris.system.type.meta.model.TSMetaRelation;
@@ -29,7 +30,6 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 public class TSMetaItemServiceImpl implements TSMetaItemService {
 
@@ -61,9 +61,9 @@ public class TSMetaItemServiceImpl implements TSMetaItemService {
     public List<? extends TSMetaRelation.TSMetaRelationElement> findRelationEndsByQualifier(
         final TSGlobalMetaItem meta, @NotNull final String qualifier, final boolean includeInherited
     ) {
-        return getRelationEnds(meta, includeInherited).stream()
-                                                      .filter(ref -> qualifier.equalsIgnoreCase(ref.getQualifier()))
-                                                      .collect(Collectors.toList());
+        return includeInherited
+            ? TSMetaModelAccess.getInstance(myProject).findRelationEndsByQualifier(meta, qualifier)
+            : List.copyOf(myProject.getService(TSMetaModelStateService.class).get().getRelations(meta.getName(), qualifier));
     }
 
 }
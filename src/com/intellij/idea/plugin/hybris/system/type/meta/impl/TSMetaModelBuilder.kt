@@ -214,19 +214,23 @@ class TSMetaModelBuilder(
 
     private fun create(itemTypeDom: ItemType, dom: Attributes): Map<String, TSMetaItem.TSMetaItemAttribute> = dom.attributes
         .mapNotNull { attr -> create(itemTypeDom, attr) }
-        .associateByTo(CaseInsensitive.CaseInsensitiveConcurrentHashMap()) { attr -> attr.name.trim { it <= ' ' } }
+        .associateBy { attr -> attr.name.trim { it <= ' ' } }
+        .let { CaseInsensitive.compact(it) }
 
     private fun create(dom: CustomProperties): Map<String, TSMetaCustomProperty> = dom.properties
         .mapNotNull { create(it) }
-        .associateByTo(CaseInsensitive.CaseInsensitiveConcurrentHashMap()) { attr -> attr.name.trim { it <= ' ' } }
+        .associateBy { attr -> attr.name.trim { it <= ' ' } }
+        .let { CaseInsensitive.compact(it) }
 
     private fun create(dom: Indexes): Map<String, TSMetaItem.TSMetaItemIndex> = dom.indexes
         .mapNotNull { create(it) }
-        .associateByTo(CaseInsensitive.CaseInsensitiveConcurrentHashMap()) { attr -> attr.name.trim { it <= ' ' } }
+        .associateBy { attr -> attr.name.trim { it <= ' ' } }
+        .let { CaseInsensitive.compact(it) }
 
     private fun createEnumValues(dom: EnumType): Map<String, TSMetaEnum.TSMetaEnumValue> = dom.values
         .mapNotNull { create(it) }
-        .associateByTo(CaseInsensitive.CaseInsensitiveConcurrentHashMap()) { attr -> attr.name.trim { it <= ' ' } }
+        .associateBy { attr -> attr.name.trim { it <= ' ' } }
+        .let { CaseInsensitive.compact(it) }
 
     private fun registerReferenceEnd(ownerEnd: TSMetaRelation.TSMetaRelationElement, targetEnd: TSMetaRelation.TSMetaRelationElement) {
         if (!targetEnd.isNavigable) return
@@ -35,6 +35,12 @@ abstract class TSMetaSelfMerge<DOM : DomElement, T : TSMetaClassifier<DOM>>(loca
         mergeInternally(localMeta)
     }
 
+    /**
+     * Invoked once the global meta model is merged, no more merges are expected after that.
+     */
+    open fun compact() {
+    }
+
     protected abstract fun mergeInternally(localMeta: T)
 }
 
@@ -66,7 +66,8 @@ internal class TSMetaEnumImpl(
 internal class TSGlobalMetaEnumImpl(localMeta: TSMetaEnum)
     : TSMetaSelfMerge<EnumType, TSMetaEnum>(localMeta), TSGlobalMetaEnum {
 
-    override val values = CaseInsensitive.CaseInsensitiveConcurrentHashMap<String, TSMetaEnumValue>()
+    override var values: Map<String, TSMetaEnumValue> = CaseInsensitive.CaseInsensitiveConcurrentHashMap()
+        private set
     override val domAnchor = localMeta.domAnchor
     override val moduleName = localMeta.moduleName
     override val extensionName = localMeta.extensionName
@@ -87,7 +88,11 @@ internal class TSGlobalMetaEnumImpl(localMeta: TSMetaEnum)
 
         localMeta.values.values
             .filterNot { values.contains(it.name) }
-            .forEach { values[it.name] = it }
+            .forEach { (values as MutableMap)[it.name] = it }
+    }
+
+    override fun compact() {
+        values = CaseInsensitive.compact(values)
     }
 
     override fun toString() = "Enum(module=$extensionName, name=$name, isDynamic=$isDynamic, isCustom=$isCustom)"
@@ -17,9 +17,11 @@
  */
 package com.intellij.idea.plugin.hybris.system.type.meta.model.impl
 
+import com.intellij.idea.plugin.hybris.system.meta.MetaSymbols
 import com.intellij.idea.plugin.hybris.system.type.meta.TSGlobalMetaModel
 import com.intellij.idea.plugin.hybris.system.type.meta.TSMetaHelper
 import com.intellij.idea.plugin.hybris.system.type.meta.TSMetaModelException
+import com.intellij.idea.plugin.hybris.system.type.meta.impl.CaseInsensitive
 import com.intellij.idea.plugin.hybris.system.type.meta.impl.CaseInsensitive.CaseInsensitiveConcurrentHashMap
 import com.intellij.idea.plugin.hybris.system.type.meta.model.*
 import com.intellij.idea.plugin.hybris.system.type.meta.model.TSMetaItem.TSMetaItemAttribute
@@ -31,7 +33,6 @@ import com.intellij.idea.plugin.hybris.system.type.model.ItemType
 import com.intellij.idea.plugin.hybris.util.xml.toBoolean
 import com.intellij.util.xml.DomAnchor
 import com.intellij.util.xml.DomService
-import java.util.*
 
 internal class TSMetaItemImpl(
     dom: ItemType,
@@ -72,10 +73,10 @@ internal class TSMetaItemImpl(
         override val isUnique = dom.unique.toBoolean()
         override val creationMode = dom.creationMode.value ?: CreationMode.ALL
         override val keys = dom.keys
-            .mapNotNull { it.attribute.stringValue }
+            .mapNotNull { MetaSymbols.intern(it.attribute.stringValue) }
             .toSet()
         override val includes = dom.includes
-            .mapNotNull { it.attribute.stringValue }
+            .mapNotNull { MetaSymbols.intern(it.attribute.stringValue) }
             .toSet()
 
         override fun toString() = "Index(module=$extensionName, name=$name, isCustom=$isCustom)"
@@ -96,7 +97,7 @@ internal class TSMetaItemImpl(
 
         override val description = dom.description.xmlTag?.value?.text
         override val defaultValue = dom.defaultValue.stringValue
-        override val type = dom.type.stringValue
+        override val type = MetaSymbols.intern(dom.type.stringValue)
         override val isDeprecated = TSMetaHelper.isDeprecated(dom.model, name)
         override val isAutoCreate = dom.autoCreate.toBoolean()
         override val isGenerate = dom.generate.toBoolean()
@@ -111,16 +112,22 @@ internal class TSMetaItemImpl(
 
 internal class TSGlobalMetaItemImpl(localMeta: TSMetaItem) : TSGlobalMetaItemSelfMerge<ItemType, TSMetaItem>(localMeta), TSGlobalMetaItem {
 
-    override val attributes = CaseInsensitiveConcurrentHashMap<String, TSGlobalMetaItem.TSGlobalMetaItemAttribute>()
-    override val customProperties = CaseInsensitiveConcurrentHashMap<String, TSMetaCustomProperty>()
-    override val indexes = CaseInsensitiveConcurrentHashMap<String, TSGlobalMetaItem.TSGlobalMetaItemIndex>()
-    override val relationEnds = LinkedList<TSMetaRelation.TSMetaRelationElement>()
-
-    override val allAttributes = CaseInsensitiveConcurrentHashMap<String, TSGlobalMetaItem.TSGlobalMetaItemAttribute>()
-    override val allOrderingAttributes = CaseInsensitiveConcurrentHashMap<String, TSMetaRelation.TSMetaOrderingAttribute>()
-    override val allIndexes = LinkedList<TSGlobalMetaItem.TSGlobalMetaItemIndex>()
-    override val allCustomProperties = LinkedList<TSMetaCustomProperty>()
-    override val allRelationEnds = LinkedList<TSMetaRelation.TSMetaRelationElement>()
+    // maps are mutable only while the global meta model is being merged, see `compact`
+    override var attributes: Map<String, TSGlobalMetaItem.TSGlobalMetaItemAttribute> = CaseInsensitiveConcurrentHashMap()
+        private set
+    override var customProperties: Map<String, TSMetaCustomProperty> = CaseInsensitiveConcurrentHashMap()
+        private set
+    override var indexes: Map<String, TSGlobalMetaItem.TSGlobalMetaItemIndex> = CaseInsensitiveConcurrentHashMap()
+        private set
+    override val relationEnds = ArrayList<TSMetaRelation.TSMetaRelationElement>()
+
+    override var allAttributes: Map<String, TSGlobalMetaItem.TSGlobalMetaItemAttribute> = CaseInsensitiveConcurrentHashMap()
+        private set
+    override var allOrderingAttributes: Map<String, TSMetaRelation.TSMetaOrderingAttribute> = CaseInsensitiveConcurrentHashMap()
+        private set
+    override val allIndexes = ArrayList<TSGlobalMetaItem.TSGlobalMetaItemIndex>()
+    override val allCustomProperties = ArrayList<TSMetaCustomProperty>()
+    override val allRelationEnds = ArrayList<TSMetaRelation.TSMetaRelationElement>()
     override val allExtends = linkedSetOf<TSGlobalMetaItem>()
     override val hierarchy = linkedSetOf<TSGlobalMetaItem>()
 
@@ -151,20 +158,39 @@ internal class TSGlobalMetaItemImpl(localMeta: TSMetaItem) : TSGlobalMetaItemSel
 
     override fun toString() = "Item(module=$extensionName, name=$name, isCustom=$isCustom)"
 
+    fun addOrderingAttribute(qualifier: String, orderingAttribute: TSMetaRelation.TSMetaOrderingAttribute) {
+        (allOrderingAttributes as MutableMap)[qualifier] = orderingAttribute
+    }
+
+    override fun compact() {
+        attributes.values.forEach { (it as? TSGlobalMetaItemAttributeImpl)?.compact() }
+
+        attributes = CaseInsensitive.compact(attributes)
+        customProperties = CaseInsensitive.compact(customProperties)
+        indexes = CaseInsensitive.compact(indexes)
+        allAttributes = CaseInsensitive.compact(allAttributes)
+        allOrderingAttributes = CaseInsensitive.compact(allOrderingAttributes)
+
+        relationEnds.trimToSize()
+        allIndexes.trimToSize()
+        allCustomProperties.trimToSize()
+        allRelationEnds.trimToSize()
+    }
+
     @Suppress("UNCHECKED_CAST")
     private fun mergeAttributes(localMeta: TSMetaItem, globalMeta: TSGlobalMetaItemImpl) = localMeta.attributes.values.forEach {
-        val globalAttribute = this.attributes.computeIfAbsent(it.name) { _ -> TSGlobalMetaItemAttributeImpl(globalMeta, it) }
+        val globalAttribute = (this.attributes as MutableMap).computeIfAbsent(it.name) { _ -> TSGlobalMetaItemAttributeImpl(globalMeta, it) }
         (globalAttribute as? TSMetaSelfMerge<Attribute, TSMetaItemAttribute>)
             ?.merge(it)
     }
 
     @Suppress("UNCHECKED_CAST")
     private fun mergeIndexes(localMeta: TSMetaItem) = localMeta.indexes.values.forEach {
-        val globalIndex = this.indexes.computeIfAbsent(it.name) { _ -> TSGlobalMetaItemIndexImpl(it) }
+        val globalIndex = (this.indexes as MutableMap).computeIfAbsent(it.name) { _ -> TSGlobalMetaItemIndexImpl(it) }
         (globalIndex as? TSMetaSelfMerge<Index, TSMetaItemIndex>)?.merge(it)
     }
 
-    private fun mergeCustomProperties(localMeta: TSMetaItem) = customProperties.putAll(localMeta.customProperties)
+    private fun mergeCustomProperties(localMeta: TSMetaItem) = (customProperties as MutableMap).putAll(localMeta.customProperties)
 
     override fun postMerge(globalMetaModel: TSGlobalMetaModel) {
         val extends = declarations
@@ -183,6 +209,7 @@ internal class TSGlobalMetaItemImpl(localMeta: TSMetaItem) : TSGlobalMetaItemSel
         val combinedRelationEnds = TSMetaHelper.getAllRelationEnds(globalMetaModel, this, extends)
 
         allExtends.addAll(extends)
+        val allAttributes = this.allAttributes as MutableMap
         allAttributes.putAll(attributes)
         extends.forEach { allAttributes.putAll(it.attributes) }
         allCustomProperties.addAll(customProperties.values + extends.flatMap { it.customProperties.values })
@@ -248,7 +275,8 @@ internal class TSGlobalMetaItemImpl(localMeta: TSMetaItem) : TSGlobalMetaItemSel
     ) : TSMetaSelfMerge<Attribute, TSMetaItemAttribute>(localMeta),
         TSGlobalMetaItem.TSGlobalMetaItemAttribute {
 
-        override val customProperties = CaseInsensitiveConcurrentHashMap<String, TSMetaCustomProperty>()
+        override var customProperties: Map<String, TSMetaCustomProperty> = CaseInsensitiveConcurrentHashMap()
+            private set
         override val name: String = localMeta.name
         override var moduleName = localMeta.moduleName
         override var extensionName = localMeta.extensionName
@@ -273,7 +301,11 @@ internal class TSGlobalMetaItemImpl(localMeta: TSMetaItem) : TSGlobalMetaItemSel
             mergeCustomProperties(localMeta)
         }
 
-        private fun mergeCustomProperties(localMeta: TSMetaItemAttribute) = customProperties.putAll(localMeta.customProperties)
+        override fun compact() {
+            customProperties = CaseInsensitive.compact(customProperties)
+        }
+
+        private fun mergeCustomProperties(localMeta: TSMetaItemAttribute) = (customProperties as MutableMap).putAll(localMeta.customProperties)
 
         override fun mergeInternally(localMeta: TSMetaItemAttribute) {
             if (localMeta.isRedeclare) {
@@ -28,6 +28,8 @@ import com.intellij.idea.plugin.hybris.settings.options.ApplicationCCv2SettingsC
 import com.intellij.idea.plugin.hybris.tools.ccv2.api.CCv1Api
 import com.intellij.idea.plugin.hybris.tools.ccv2.api.CCv2Api
 import com.intellij.idea.plugin.hybris.tools.ccv2.dto.*
+import com.intellij.idea.plugin.hybris.tools.ccv2.logs.CCv2BuildLogIndex
+import com.intellij.idea.plugin.hybris.tools.ccv2.logs.CCv2BuildLogsRegistry
 import com.intellij.notification.NotificationType
 import com.intellij.openapi.Disposable
 import com.intellij.openapi.components.Service
@@ -37,20 +39,19 @@ import com.intellij.openapi.project.Project
 import com.intellij.openapi.util.Key
 import com.intellij.openapi.util.getOrCreateUserDataUnsafe
 import com.intellij.openapi.util.removeUserData
+import com.intellij.openapi.util.text.StringUtil
 import com.intellij.openapi.vfs.LocalFileSystem
 import com.intellij.openapi.vfs.VirtualFile
 import com.intellij.platform.ide.progress.withBackgroundProgress
 import com.intellij.platform.util.progress.ProgressReporter
 import com.intellij.platform.util.progress.reportProgress
-import com.intellij.util.io.ZipUtil
+import com.intellij.platform.util.progress.reportRawProgress
 import com.intellij.util.messages.Topic
 import kotlinx.coroutines.*
+import java.io.IOException
 import java.net.SocketTimeoutException
 import java.nio.file.Files
 import java.util.*
-import kotlin.io.path.deleteIfExists
-import kotlin.io.path.listDirectoryEntries
-import kotlin.io.path.pathString
 import kotlin.time.Duration.Companion.seconds
 
 @Service(Service.Level.PROJECT)
@@ -572,22 +573,33 @@ class CCv2Service(val project: Project, private val coroutineScope: CoroutineSco
                 }
 
                 try {
-                    val buildLogs = CCv2Api.getInstance().downloadBuildLogs(ccv2Token, subscription, build)
-                    val buildLogsPath = buildLogs.toPath()
                     val tempDirectory = Files.createTempDirectory("ccv2_${build.code}")
                     tempDirectory.toFile().deleteOnExit()
 
-                    ZipUtil.extract(buildLogsPath, tempDirectory, null, true)
+                    val buildLogs = reportRawProgress { reporter ->
+                        // blocking download is interrupted once the background progress is cancelled
+                        runInterruptible(Dispatchers.IO) {
+                            CCv2Api.getInstance().downloadBuildLogs(ccv2Token, subscription, build, tempDirectory) { downloaded, total ->
+                                if (total != null) reporter.fraction(downloaded.toDouble() / total)
+                                reporter.details(StringUtil.formatFileSize(downloaded))
+                            }
+                        }
+                    }
 
-                    buildLogsPath.deleteIfExists()
+                    CCv2BuildLogsRegistry.getInstance(project).register(buildLogs)
 
-                    val logFiles = tempDirectory.listDirectoryEntries()
-                        .onEach { it.toFile().deleteOnExit() }
-                        .mapNotNull { LocalFileSystem.getInstance().findFileByPath(it.pathString) }
+                    val logFiles = buildLogs
+                        .onEach { it.file.deleteOnExit() }
+                        .mapNotNull { LocalFileSystem.getInstance().refreshAndFindFileByIoFile(it.file) }
 
+                    notifyOnBuildLogsProblems(build, buildLogs)
                     onCompleteCallback.invoke(logFiles)
+                } catch (e: CancellationException) {
+                    throw e
                 } catch (e: SocketTimeoutException) {
                     notifyOnTimeout(subscription)
+                } catch (e: IOException) {
+                    notifyOnException(subscription, e)
                 } catch (e: RuntimeException) {
                     notifyOnException(subscription, e)
                 }
@@ -844,7 +856,30 @@ class CCv2Service(val project: Project, private val coroutineScope: CoroutineSco
             .notify(project)
     }
 
-    private fun notifyOnException(subscription: CCv2Subscription, e: RuntimeException) {
+    private fun notifyOnBuildLogsProblems(build: CCv2BuildDto, buildLogs: Collection<CCv2BuildLogIndex>) {
+        val failedLog = buildLogs.firstOrNull { it.firstFailure != null }
+        val errors = buildLogs.sumOf { it.errors.size }
+        val warnings = buildLogs.sumOf { it.warnings.size }
+        if (failedLog == null && warnings == 0) return
+
+        Notifications
+            .create(
+                if (failedLog != null) NotificationType.WARNING else NotificationType.INFORMATION,
+                "CCv2: Build Logs - ${build.code}",
+                "Errors: $errors, warnings: $warnings"
+            )
+            .apply {
+                if (failedLog == null) return@apply
+
+                addAction("Go to First Failure") { _, _ ->
+                    CCv2BuildLogsRegistry.getInstance(project).navigate(failedLog, failedLog.firstFailure!!)
+                }
+            }
+            .hideAfter(15)
+            .notify(project)
+    }
+
+    private fun notifyOnException(subscription: CCv2Subscription, e: Exception) {
         Notifications
             .create(
                 NotificationType.WARNING,
@@ -0,0 +1,87 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.intellij.idea.plugin.hybris.tools.ccv2.actions
+
+import com.intellij.idea.plugin.hybris.tools.ccv2.logs.CCv2BuildLogIndex
+import com.intellij.idea.plugin.hybris.tools.ccv2.logs.CCv2BuildLogsRegistry
+import com.intellij.openapi.actionSystem.ActionUpdateThread
+import com.intellij.openapi.actionSystem.AnActionEvent
+import com.intellij.openapi.actionSystem.CommonDataKeys
+import com.intellij.openapi.progress.ProgressManager
+import com.intellij.openapi.project.DumbAwareAction
+import com.intellij.openapi.ui.Messages
+
+abstract class AbstractCCv2BuildLogAction(text: String) : DumbAwareAction(text) {
+
+    override fun getActionUpdateThread() = ActionUpdateThread.BGT
+
+    override fun update(e: AnActionEvent) {
+        e.presentation.isEnabledAndVisible = getIndex(e) != null
+    }
+
+    protected fun getIndex(e: AnActionEvent): CCv2BuildLogIndex? {
+        val project = e.project ?: return null
+        val file = e.getData(CommonDataKeys.VIRTUAL_FILE) ?: return null
+
+        return CCv2BuildLogsRegistry.getInstance(project).getIndex(file)
+    }
+
+    protected fun lines(index: CCv2BuildLogIndex, prefix: String, lines: IntArray) = lines
+        .take(MAX_LINES)
+        .map { CCv2BuildLogsRegistry.Line(it, "$prefix ${it + 1}: ${index.readLine(it).trim().take(MAX_LINE_LENGTH)}") }
+
+    companion object {
+        private const val MAX_LINES = 500
+        private const val MAX_LINE_LENGTH = 200
+    }
+}
+
+class CCv2BuildLogProblemsAction : AbstractCCv2BuildLogAction("Go to Build Log Problem...") {
+
+    override fun actionPerformed(e: AnActionEvent) {
+        val project = e.project ?: return
+        val index = getIndex(e) ?: return
+
+        val lines = ProgressManager.getInstance().runProcessWithProgressSynchronously<List<CCv2BuildLogsRegistry.Line>, Exception>(
+            { lines(index, "Error", index.errors) + lines(index, "Warning", index.warnings) },
+            "Reading Build Log Problems", true, project
+        )
+
+        CCv2BuildLogsRegistry.getInstance(project)
+            .showLines(index, "Build Log: ${index.errors.size} Errors, ${index.warnings.size} Warnings", lines, e.getData(CommonDataKeys.EDITOR))
+    }
+}
+
+class CCv2BuildLogSearchAction : AbstractCCv2BuildLogAction("Search in Build Log...") {
+
+    override fun actionPerformed(e: AnActionEvent) {
+        val project = e.project ?: return
+        val index = getIndex(e) ?: return
+        val query = Messages.showInputDialog(project, "Words to find:", "Search in Build Log", null)
+            ?.takeIf { it.isNotBlank() }
+            ?: return
+
+        val lines = ProgressManager.getInstance().runProcessWithProgressSynchronously<List<CCv2BuildLogsRegistry.Line>, Exception>(
+            { lines(index, "Line", index.search(query).toIntArray()) },
+            "Searching Build Log", true, project
+        )
+
+        CCv2BuildLogsRegistry.getInstance(project)
+            .showLines(index, "Build Log: '$query' (${lines.size})", lines, e.getData(CommonDataKeys.EDITOR))
+    }
+}
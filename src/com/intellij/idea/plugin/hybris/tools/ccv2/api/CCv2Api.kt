@@ -29,6 +29,8 @@ import com.intellij.idea.plugin.hybris.common.HybrisConstants
 import com.intellij.idea.plugin.hybris.settings.CCv2Subscription
 import com.intellij.idea.plugin.hybris.settings.components.ApplicationSettingsComponent
 import com.intellij.idea.plugin.hybris.tools.ccv2.dto.*
+import com.intellij.idea.plugin.hybris.tools.ccv2.logs.CCv2BuildLogIndex
+import com.intellij.idea.plugin.hybris.tools.ccv2.logs.CCv2BuildLogsDownloader
 import com.intellij.openapi.components.Service
 import com.intellij.platform.util.progress.ProgressReporter
 import com.intellij.util.application
@@ -37,7 +39,7 @@ import kotlinx.coroutines.async
 import kotlinx.coroutines.awaitAll
 import kotlinx.coroutines.launch
 import org.jetbrains.kotlin.utils.flatMapToNullableSet
-import java.io.File
+import java.nio.file.Path
 import java.util.concurrent.TimeUnit
 
 @Service
@@ -295,15 +297,22 @@ class CCv2Api {
             .code
     }
 
-    suspend fun downloadBuildLogs(
+    /**
+     * Streams the logs archive instead of the generated `BuildApi.getBuildLogs`, which loads the whole archive before returning it.
+     * Same base URL is used as for the rest of the Build API calls.
+     */
+    fun downloadBuildLogs(
         ccv2Token: String,
         subscription: CCv2Subscription,
-        build: CCv2BuildDto
-    ): File = buildApi
-        .getBuildLogs(
-            subscriptionCode = subscription.id!!,
-            buildCode = build.code,
-            requestHeaders = createRequestParams(ccv2Token)
+        build: CCv2BuildDto,
+        targetDirectory: Path,
+        progress: CCv2BuildLogsDownloader.Progress
+    ): List<CCv2BuildLogIndex> = CCv2BuildLogsDownloader(apiClient)
+        .download(
+            "${buildApi.baseUrl}/subscriptions/${subscription.id!!}/builds/${build.code}/logs",
+            createRequestParams(ccv2Token),
+            targetDirectory,
+            progress
         )
 
     suspend fun fetchServiceProperties(
@@ -0,0 +1,257 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.intellij.idea.plugin.hybris.tools.ccv2.logs
+
+import java.io.File
+import java.io.RandomAccessFile
+import java.nio.charset.StandardCharsets
+import kotlin.math.min
+
+/**
+ * Index of the decompressed CCv2 build log, built while the log is streamed, see [CCv2BuildLogsDownloader].
+ *
+ * Keeps byte offsets of all lines, error and warning lines and a coarse token index: token -> blocks of [BLOCK_LINES] lines.
+ * Search reads only the blocks which contain all tokens of the query, so it does not depend on the size of the log.
+ */
+class CCv2BuildLogIndex internal constructor(
+    val file: File,
+    private val lineOffsets: LongArray,
+    private val tokenBlocks: Map<String, IntArray>,
+    private val tokenIndexComplete: Boolean,
+    val errors: IntArray,
+    val warnings: IntArray,
+) {
+
+    val lineCount: Int
+        get() = lineOffsets.size - 1
+
+    val firstFailure: Int?
+        get() = errors.firstOrNull()
+
+    fun readLine(line: Int): String = RandomAccessFile(file, "r").use { readLines(it, line, line + 1).first() }
+
+    /**
+     * Lines containing all words of the query as whole words, case-insensitive.
+     */
+    fun search(query: String, limit: Int = DEFAULT_SEARCH_LIMIT): List<Int> {
+        val queryTokens = tokenize(query).toSet()
+        if (queryTokens.isEmpty()) return emptyList()
+
+        val result = mutableListOf<Int>()
+
+        RandomAccessFile(file, "r").use { raf ->
+            for (block in getCandidateBlocks(queryTokens)) {
+                val from = block * BLOCK_LINES
+                val lines = readLines(raf, from, min(from + BLOCK_LINES, lineCount))
+
+                lines.forEachIndexed { index, text ->
+                    if (tokenize(text).containsAll(queryTokens)) {
+                        result.add(from + index)
+                        if (result.size >= limit) return result
+                    }
+                }
+            }
+        }
+
+        return result
+    }
+
+    private fun getCandidateBlocks(queryTokens: Set<String>): IntArray {
+        val postings = queryTokens.mapNotNull {
+            tokenBlocks[it]
+                ?: if (tokenIndexComplete) return IntArray(0)
+                else null
+        }
+        if (postings.isEmpty()) return IntArray((lineCount + BLOCK_LINES - 1) / BLOCK_LINES) { it }
+
+        return postings
+            .sortedBy { it.size }
+            .reduce { candidates, blocks -> intersect(candidates, blocks) }
+    }
+
+    private fun readLines(raf: RandomAccessFile, from: Int, to: Int): List<String> {
+        if (from >= to) return emptyList()
+
+        val start = lineOffsets[from]
+        val bytes = ByteArray((lineOffsets[to] - start).toInt())
+        raf.seek(start)
+        raf.readFully(bytes)
+
+        return (from until to).map { line ->
+            val offset = (lineOffsets[line] - start).toInt()
+            var end = (lineOffsets[line + 1] - start).toInt()
+            while (end > offset && (bytes[end - 1] == LF || bytes[end - 1] == CR)) end--
+            String(bytes, offset, end - offset, StandardCharsets.UTF_8)
+        }
+    }
+
+    companion object {
+        const val BLOCK_LINES = 256
+        const val DEFAULT_SEARCH_LIMIT = 1_000
+
+        private const val MIN_TOKEN_LENGTH = 3
+        private const val MAX_TOKEN_LENGTH = 64
+        private const val LF = '\n'.code.toByte()
+        private const val CR = '\r'.code.toByte()
+
+        private val ERROR_MARKERS = listOf("[ERROR]", " ERROR ", "ERROR:", "BUILD FAILED", "FAILURE:", "Exception in thread")
+        private val WARNING_MARKERS = listOf("[WARNING]", "[WARN]", " WARN ", "WARNING:")
+
+        internal fun isError(line: String) = ERROR_MARKERS.any { line.contains(it) }
+        internal fun isWarning(line: String) = WARNING_MARKERS.any { line.contains(it) }
+
+        /**
+         * Words of letters, digits and underscores, pure numbers (timestamps, durations) are not indexed.
+         */
+        internal fun tokenize(text: String): Set<String> {
+            val tokens = HashSet<String>()
+            var start = -1
+
+            for (index in 0..text.length) {
+                val char = if (index < text.length) text[index] else ' '
+                val tokenChar = char.isLetterOrDigit() || char == '_'
+
+                if (tokenChar && start < 0) {
+                    start = index
+                } else if (!tokenChar && start >= 0) {
+                    val length = index - start
+                    if (length in MIN_TOKEN_LENGTH..MAX_TOKEN_LENGTH && !text.substring(start, index).all { it.isDigit() }) {
+                        tokens.add(text.substring(start, index).lowercase())
+                    }
+                    start = -1
+                }
+            }
+
+            return tokens
+        }
+
+        private fun intersect(sortedA: IntArray, sortedB: IntArray): IntArray {
+            val result = IntArray(min(sortedA.size, sortedB.size))
+            var a = 0
+            var b = 0
+            var size = 0
+            while (a < sortedA.size && b < sortedB.size) {
+                when {
+                    sortedA[a] < sortedB[b] -> a++
+                    sortedA[a] > sortedB[b] -> b++
+                    else -> {
+                        result[size++] = sortedA[a]
+                        a++
+                        b++
+                    }
+                }
+            }
+            return result.copyOf(size)
+        }
+    }
+}
+
+/**
+ * Consumes the decompressed log bytes as they are written to the disk.
+ */
+internal class CCv2BuildLogIndexBuilder(private val file: File) {
+
+    private var lineOffsets = LongArray(INITIAL_CAPACITY)
+    private var lines = 0
+    private var position = 0L
+    private var lineBuffer = ByteArray(INITIAL_LINE_CAPACITY)
+    private var lineLength = 0
+    private val tokenBlocks = HashMap<String, IntList>()
+    private var tokenIndexComplete = true
+    private val errors = IntList()
+    private val warnings = IntList()
+
+    fun write(bytes: ByteArray, offset: Int, length: Int) {
+        for (index in offset until offset + length) {
+            val byte = bytes[index]
+            position++
+
+            if (byte == '\n'.code.toByte()) {
+                endLine()
+            } else if (lineLength < MAX_LINE_LENGTH) {
+                if (lineLength == lineBuffer.size) lineBuffer = lineBuffer.copyOf(lineBuffer.size * 2)
+                lineBuffer[lineLength++] = byte
+            }
+        }
+    }
+
+    fun build(): CCv2BuildLogIndex {
+        if (position > lineOffsets[lines]) endLine()
+
+        return CCv2BuildLogIndex(
+            file,
+            lineOffsets.copyOf(lines + 1),
+            tokenBlocks.mapValues { it.value.toIntArray() },
+            tokenIndexComplete,
+            errors.toIntArray(),
+            warnings.toIntArray()
+        )
+    }
+
+    private fun endLine() {
+        val line = String(lineBuffer, 0, lineLength, StandardCharsets.UTF_8)
+        index(lines, line)
+
+        lines++
+        if (lines == lineOffsets.size) lineOffsets = lineOffsets.copyOf(lineOffsets.size * 2)
+        lineOffsets[lines] = position
+        lineLength = 0
+    }
+
+    private fun index(line: Int, text: String) {
+        when {
+            CCv2BuildLogIndex.isError(text) -> errors.add(line)
+            CCv2BuildLogIndex.isWarning(text) -> warnings.add(line)
+        }
+
+        val block = line / CCv2BuildLogIndex.BLOCK_LINES
+        CCv2BuildLogIndex.tokenize(text).forEach { token ->
+            val blocks = tokenBlocks[token]
+                ?: if (tokenBlocks.size < MAX_TOKENS) IntList().also { tokenBlocks[token] = it }
+                else {
+                    tokenIndexComplete = false
+                    return@forEach
+                }
+
+            if (blocks.last() != block) blocks.add(block)
+        }
+    }
+
+    private class IntList {
+        private var values = IntArray(4)
+        private var size = 0
+
+        fun add(value: Int) {
+            if (size == values.size) values = values.copyOf(size * 2)
+            values[size++] = value
+        }
+
+        fun last() = if (size == 0) -1 else values[size - 1]
+
+        fun toIntArray() = values.copyOf(size)
+    }
+
+    companion object {
+        private const val INITIAL_CAPACITY = 1024
+        private const val INITIAL_LINE_CAPACITY = 256
+        private const val MAX_LINE_LENGTH = 64 * 1024
+
+        // unique tokens are mostly ids and hashes, once the limit is reached search falls back to the scan for unknown tokens
+        private const val MAX_TOKENS = 500_000
+    }
+}
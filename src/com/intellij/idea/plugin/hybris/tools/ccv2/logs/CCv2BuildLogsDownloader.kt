@@ -0,0 +1,198 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.intellij.idea.plugin.hybris.tools.ccv2.logs
+
+import okhttp3.Call
+import okhttp3.OkHttpClient
+import okhttp3.Request
+import java.io.*
+import java.nio.file.Files
+import java.nio.file.Path
+import java.util.zip.ZipInputStream
+
+/**
+ * Streams the build logs archive: downloaded bytes are appended to the `.part` file and decompressed on the fly,
+ * each log file is indexed while it is written, see [CCv2BuildLogIndex].
+ *
+ * Interrupted download is resumed with the HTTP `Range` request from the size of the `.part` file;
+ * already downloaded bytes are decompressed again from the disk, so the archive is never read twice from the network.
+ * Only network errors, server errors and throttled requests are retried, other HTTP errors fail the download right away.
+ *
+ * Download is blocking and is cancelled by the interruption of its thread, e.g. via `runInterruptible`:
+ * interruption is checked on each read and before each retry, the HTTP call is cancelled and [InterruptedException] is thrown.
+ */
+class CCv2BuildLogsDownloader(
+    private val client: OkHttpClient,
+    private val maxAttempts: Int = DEFAULT_MAX_ATTEMPTS,
+    private val retryDelay: Long = DEFAULT_RETRY_DELAY,
+) {
+
+    fun interface Progress {
+        fun onProgress(downloaded: Long, total: Long?)
+    }
+
+    fun download(url: String, headers: Map<String, String>, targetDirectory: Path, progress: Progress): List<CCv2BuildLogIndex> {
+        Files.createDirectories(targetDirectory)
+        val partFile = targetDirectory.resolve(PART_FILE_NAME).toFile()
+
+        var attempt = 1
+        while (true) {
+            try {
+                return downloadAttempt(url, headers, targetDirectory, partFile, progress)
+                    .also { partFile.delete() }
+            } catch (e: IOException) {
+                checkCanceled()
+                if (e is HttpStatusException && !e.retryable) throw e
+                if (attempt >= maxAttempts) throw e
+
+                Thread.sleep(retryDelay * attempt++)
+            }
+        }
+    }
+
+    private fun downloadAttempt(
+        url: String,
+        headers: Map<String, String>,
+        targetDirectory: Path,
+        partFile: File,
+        progress: Progress
+    ): List<CCv2BuildLogIndex> {
+        val downloaded = if (partFile.exists()) partFile.length() else 0L
+        val request = Request.Builder()
+            .url(url)
+            .apply { headers.forEach { (name, value) -> header(name, value) } }
+            .apply { if (downloaded > 0) header("Range", "bytes=$downloaded-") }
+            .build()
+
+        val call = client.newCall(request)
+
+        call.execute().use { response ->
+            val body = response.body ?: throw IOException("Empty response, HTTP ${response.code}")
+            val alreadyDownloaded = when (response.code) {
+                HTTP_PARTIAL_CONTENT -> downloaded
+                HTTP_RANGE_NOT_SATISFIABLE -> return extract(partFile.inputStream(), targetDirectory)
+                in 200..299 -> 0L
+                else -> throw HttpStatusException(response.code, "Unable to download build logs, HTTP ${response.code}: ${response.message}")
+            }
+            val total = body.contentLength()
+                .takeIf { it >= 0 }
+                ?.let { it + alreadyDownloaded }
+
+            FileOutputStream(partFile, alreadyDownloaded > 0).buffered().use { partOutput ->
+                val local = if (alreadyDownloaded > 0) partFile.inputStream().limited(alreadyDownloaded)
+                else InputStream.nullInputStream()
+                val remote = TeeInputStream(body.byteStream(), partOutput) {
+                    checkCanceled(call)
+                    progress.onProgress(alreadyDownloaded + it, total)
+                }
+
+                return extract(SequenceInputStream(local, remote), targetDirectory)
+            }
+        }
+    }
+
+    private fun extract(input: InputStream, targetDirectory: Path): List<CCv2BuildLogIndex> = ZipInputStream(input.buffered(BUFFER_SIZE)).use { zip ->
+        val indexes = mutableListOf<CCv2BuildLogIndex>()
+        val buffer = ByteArray(BUFFER_SIZE)
+
+        while (true) {
+            val entry = zip.nextEntry ?: break
+            if (entry.isDirectory) continue
+
+            val file = targetDirectory.resolve(File(entry.name).name).toFile()
+            val indexBuilder = CCv2BuildLogIndexBuilder(file)
+
+            FileOutputStream(file).buffered(BUFFER_SIZE).use { output ->
+                while (true) {
+                    checkCanceled()
+                    val read = zip.read(buffer)
+                    if (read < 0) break
+
+                    output.write(buffer, 0, read)
+                    indexBuilder.write(buffer, 0, read)
+                }
+            }
+            indexes.add(indexBuilder.build())
+        }
+
+        // consume the central directory, so the `.part` file is complete
+        input.transferTo(OutputStream.nullOutputStream())
+
+        indexes
+    }
+
+    private fun checkCanceled(call: Call? = null) {
+        if (!Thread.currentThread().isInterrupted) return
+
+        call?.cancel()
+        throw InterruptedException("Build logs download has been cancelled")
+    }
+
+    private fun InputStream.limited(limit: Long): InputStream = object : FilterInputStream(this) {
+        private var remaining = limit
+
+        override fun read(): Int {
+            if (remaining <= 0) return -1
+            return super.read().also { if (it >= 0) remaining-- }
+        }
+
+        override fun read(b: ByteArray, off: Int, len: Int): Int {
+            if (remaining <= 0) return -1
+            return super.read(b, off, minOf(len.toLong(), remaining).toInt()).also { if (it > 0) remaining -= it }
+        }
+    }
+
+    private class TeeInputStream(
+        input: InputStream,
+        private val output: OutputStream,
+        private val onRead: (Long) -> Unit
+    ) : FilterInputStream(input) {
+        private var count = 0L
+
+        override fun read(): Int = super.read().also {
+            if (it >= 0) {
+                output.write(it)
+                onRead(++count)
+            }
+        }
+
+        override fun read(b: ByteArray, off: Int, len: Int): Int = super.read(b, off, len).also {
+            if (it > 0) {
+                output.write(b, off, it)
+                count += it
+                onRead(count)
+            }
+        }
+    }
+
+    class HttpStatusException(val code: Int, message: String) : IOException(message) {
+        val retryable
+            get() = code >= 500 || code == HTTP_TOO_MANY_REQUESTS
+    }
+
+    companion object {
+        const val PART_FILE_NAME = "build-logs.zip.part"
+
+        private const val DEFAULT_MAX_ATTEMPTS = 5
+        private const val DEFAULT_RETRY_DELAY = 1_000L
+        private const val BUFFER_SIZE = 64 * 1024
+        private const val HTTP_PARTIAL_CONTENT = 206
+        private const val HTTP_RANGE_NOT_SATISFIABLE = 416
+        private const val HTTP_TOO_MANY_REQUESTS = 429
+    }
+}
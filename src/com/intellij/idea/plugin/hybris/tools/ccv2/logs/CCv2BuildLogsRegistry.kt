@@ -0,0 +1,68 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.intellij.idea.plugin.hybris.tools.ccv2.logs
+
+import com.intellij.openapi.components.Service
+import com.intellij.openapi.editor.Editor
+import com.intellij.openapi.fileEditor.OpenFileDescriptor
+import com.intellij.openapi.project.Project
+import com.intellij.openapi.ui.popup.JBPopupFactory
+import com.intellij.openapi.util.io.FileUtil
+import com.intellij.openapi.vfs.LocalFileSystem
+import com.intellij.openapi.vfs.VirtualFile
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * Indexes of the downloaded CCv2 build logs, keyed by the path of the decompressed log file.
+ */
+@Service(Service.Level.PROJECT)
+class CCv2BuildLogsRegistry(private val project: Project) {
+
+    private val indexes = ConcurrentHashMap<String, CCv2BuildLogIndex>()
+
+    fun register(logs: Collection<CCv2BuildLogIndex>) = logs.forEach {
+        indexes[FileUtil.toSystemIndependentName(it.file.path)] = it
+    }
+
+    fun getIndex(file: VirtualFile): CCv2BuildLogIndex? = indexes[file.path]
+
+    fun navigate(index: CCv2BuildLogIndex, line: Int) {
+        val virtualFile = LocalFileSystem.getInstance().findFileByIoFile(index.file) ?: return
+        OpenFileDescriptor(project, virtualFile, line, 0).navigate(true)
+    }
+
+    fun showLines(index: CCv2BuildLogIndex, title: String, lines: List<Line>, editor: Editor?) {
+        val popup = JBPopupFactory.getInstance()
+            .createPopupChooserBuilder(lines)
+            .setTitle(title)
+            .setNamerForFiltering { it.presentation }
+            .setItemChosenCallback { navigate(index, it.line) }
+            .createPopup()
+
+        if (editor != null) popup.showInBestPositionFor(editor)
+        else popup.showCenteredInCurrentWindow(project)
+    }
+
+    data class Line(val line: Int, val presentation: String) {
+        override fun toString() = presentation
+    }
+
+    companion object {
+        fun getInstance(project: Project): CCv2BuildLogsRegistry = project.getService(CCv2BuildLogsRegistry::class.java)
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.tools.logging
+
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * Snapshots of the logger levels per remote connection.
+ *
+ * Reading never goes to the network, a snapshot is fetched only on explicit [refresh]. A refresh of the connection which is already
+ * being fetched is skipped, and [onRefresh] is notified only when the fetched levels differ from the known ones.
+ *
+ * A snapshot older than [ttl] milliseconds is not returned anymore, so outdated levels are not shown as the current ones.
+ */
+class LoggerLevelsCache(
+    private val onRefresh: (String) -> Unit = {},
+    private val ttl: Long = DEFAULT_TTL,
+    private val clock: () -> Long = System::currentTimeMillis,
+    private val fetch: (String) -> LoggerLevelsSnapshot?,
+) {
+
+    private val snapshots = ConcurrentHashMap<String, LoggerLevelsSnapshot>()
+    private val generations = ConcurrentHashMap<String, AtomicLong>()
+    private val fetching = ConcurrentHashMap.newKeySet<String>()
+
+    fun get(connection: String): LoggerLevelsSnapshot? = snapshots[connection]
+        ?.takeIf { clock() - it.timestamp <= ttl }
+
+    /**
+     * Fetches the levels in the calling thread, returns `null` if the fetch failed, was dropped or is already in progress.
+     */
+    fun refresh(connection: String): LoggerLevelsSnapshot? {
+        if (!fetching.add(connection)) return null
+
+        val (snapshot, changed) = try {
+            fetchAndStore(connection)
+        } finally {
+            fetching.remove(connection)
+        }
+            ?: return null
+
+        if (changed) onRefresh(connection)
+
+        return snapshot
+    }
+
+    /**
+     * Applies the level changed by the user to the current snapshot, an in-flight fetch could be started before the change, so its result is dropped.
+     */
+    @Synchronized
+    fun update(connection: String, loggerIdentifier: String, level: String): Boolean {
+        generation(connection).incrementAndGet()
+        return snapshots.computeIfPresent(connection) { _, snapshot -> snapshot.withLevel(loggerIdentifier, level) } != null
+    }
+
+    @Synchronized
+    fun invalidate(connection: String): Boolean {
+        generations.remove(connection)?.incrementAndGet()
+        return snapshots.remove(connection) != null
+    }
+
+    /**
+     * Drops snapshots of all connections, e.g. once connections or replicas are changed and old keys cannot be reached anymore.
+     */
+    @Synchronized
+    fun invalidateAll(): Boolean {
+        generations.values.forEach { it.incrementAndGet() }
+        generations.clear()
+
+        val hadSnapshots = snapshots.isNotEmpty()
+        snapshots.clear()
+        return hadSnapshots
+    }
+
+    private fun fetchAndStore(connection: String): Pair<LoggerLevelsSnapshot, Boolean>? {
+        val generation = generation(connection)
+        val expectedGeneration = generation.get()
+        val snapshot = fetch(connection) ?: return null
+
+        synchronized(this) {
+            // invalidated or updated by the user while the fetch was in progress
+            if (generations[connection] !== generation || generation.get() != expectedGeneration) return null
+
+            val previous = snapshots.put(connection, snapshot)
+            return snapshot to (previous == null || !previous.hasSameLevels(snapshot))
+        }
+    }
+
+    private fun generation(connection: String) = generations.computeIfAbsent(connection) { AtomicLong() }
+
+    companion object {
+        private const val DEFAULT_TTL = 10 * 60 * 1000L
+    }
+}
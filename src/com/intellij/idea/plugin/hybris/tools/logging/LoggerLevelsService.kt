@@ -0,0 +1,119 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.tools.logging
+
+import com.intellij.codeInsight.daemon.DaemonCodeAnalyzer
+import com.intellij.ide.highlighter.JavaFileType
+import com.intellij.idea.plugin.hybris.settings.RemoteConnectionSettings
+import com.intellij.idea.plugin.hybris.tools.remote.RemoteConnectionListener
+import com.intellij.idea.plugin.hybris.tools.remote.RemoteConnectionType
+import com.intellij.idea.plugin.hybris.tools.remote.RemoteConnectionUtil
+import com.intellij.idea.plugin.hybris.tools.remote.http.AbstractHybrisHacHttpClient
+import com.intellij.idea.plugin.hybris.tools.remote.http.HybrisHacHttpClient
+import com.intellij.idea.plugin.hybris.tools.remote.http.Replica
+import com.intellij.openapi.Disposable
+import com.intellij.openapi.application.ApplicationManager
+import com.intellij.openapi.components.Service
+import com.intellij.openapi.diagnostic.thisLogger
+import com.intellij.openapi.fileEditor.FileEditorManager
+import com.intellij.openapi.project.Project
+import com.intellij.psi.PsiManager
+
+/**
+ * Levels of the loggers on the active SAP Commerce connection, as known from the last snapshot fetched by the user,
+ * outdated snapshot is not shown, see [LoggerLevelsCache].
+ *
+ * All configured loggers are fetched with a single HAC request, snapshot is kept per connection and replica,
+ * because each node has its own logging configuration. Nothing is fetched implicitly, e.g. while the editor hints are computed.
+ */
+@Service(Service.Level.PROJECT)
+class LoggerLevelsService(private val project: Project) : Disposable {
+
+    private val cache = LoggerLevelsCache(
+        onRefresh = { refreshHints() },
+        fetch = { fetch() }
+    )
+
+    init {
+        project.messageBus.connect(this).subscribe(RemoteConnectionListener.TOPIC, object : RemoteConnectionListener {
+            override fun onActiveConnectionChanged(settings: RemoteConnectionSettings) = invalidate(settings.type)
+            override fun onConnectionsChanged(type: RemoteConnectionType) = invalidate(type)
+            override fun onReplicaChanged(replica: Replica?) = invalidate(RemoteConnectionType.Hybris)
+        })
+    }
+
+    fun getEffectiveLevel(loggerIdentifier: String): String? = cache.get(getConnectionKey())
+        ?.getEffectiveLevel(loggerIdentifier)
+
+    /**
+     * Fetches the levels from the active connection in the calling thread, must be invoked on the explicit user action only.
+     */
+    fun refresh(): LoggerLevelsSnapshot? = cache.refresh(getConnectionKey())
+
+    fun onLevelChanged(loggerIdentifier: String, level: String) {
+        if (cache.update(getConnectionKey(), loggerIdentifier, level)) refreshHints()
+    }
+
+    private fun invalidate(type: RemoteConnectionType) {
+        if (type != RemoteConnectionType.Hybris) return
+
+        // old connection keys cannot be reached anymore, so all snapshots are dropped
+        if (cache.invalidateAll()) refreshHints()
+    }
+
+    private fun getConnectionKey(): String {
+        val settings = RemoteConnectionUtil.getActiveRemoteConnectionSettings(project, RemoteConnectionType.Hybris)
+        val replica = HybrisHacHttpClient.getInstance(project).replica
+
+        return "${settings.uuid}|${settings.generatedURL}|${replica?.id ?: ""}"
+    }
+
+    private fun fetch(): LoggerLevelsSnapshot? {
+        if (project.isDisposed) return null
+
+        val result = HybrisHacHttpClient.getInstance(project)
+            .executeGroovyScript(project, LoggerLevelsSnapshot.SCRIPT, false, AbstractHybrisHacHttpClient.DEFAULT_HAC_TIMEOUT)
+
+        if (result.hasError()) {
+            thisLogger().debug("Unable to fetch logger levels: ${result.errorMessage}")
+            return null
+        }
+
+        return LoggerLevelsSnapshot.parse(result.result ?: "", System.currentTimeMillis())
+    }
+
+    /**
+     * Logger hints are shown only for the Java classes and packages, so only opened Java files are re-highlighted.
+     */
+    private fun refreshHints() = ApplicationManager.getApplication().invokeLater({
+        val psiManager = PsiManager.getInstance(project)
+        val daemonCodeAnalyzer = DaemonCodeAnalyzer.getInstance(project)
+
+        FileEditorManager.getInstance(project).openFiles
+            .filter { it.fileType == JavaFileType.INSTANCE }
+            .mapNotNull { psiManager.findFile(it) }
+            .forEach { daemonCodeAnalyzer.restart(it) }
+    }, project.disposed)
+
+    override fun dispose() = Unit
+
+    companion object {
+        fun getInstance(project: Project): LoggerLevelsService = project.getService(LoggerLevelsService::class.java)
+    }
+}
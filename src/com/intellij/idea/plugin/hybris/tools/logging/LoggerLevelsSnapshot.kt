@@ -0,0 +1,86 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.intellij.idea.plugin.hybris.tools.logging
+
+/**
+ * Levels of all loggers configured on the SAP Commerce node at the moment of [timestamp].
+ *
+ * Effective level of any other logger is inherited from the closest configured parent package, same as Log4j 2 does it.
+ */
+data class LoggerLevelsSnapshot(
+    val levels: Map<String, String>,
+    val rootLevel: String?,
+    val timestamp: Long,
+) {
+
+    fun getEffectiveLevel(loggerIdentifier: String): String? {
+        var name = loggerIdentifier
+        while (true) {
+            levels[name]?.let { return it }
+
+            val index = name.lastIndexOf('.')
+            if (index < 0) return rootLevel
+
+            name = name.substring(0, index)
+        }
+    }
+
+    fun withLevel(loggerIdentifier: String, level: String) = copy(levels = levels + (loggerIdentifier to level))
+
+    fun hasSameLevels(other: LoggerLevelsSnapshot) = rootLevel == other.rootLevel && levels == other.levels
+
+    companion object {
+
+        /**
+         * Executed via HAC Scripting console, lists all configured loggers as `name=LEVEL` lines, root logger has an empty name.
+         */
+        val SCRIPT = """
+            |import org.apache.logging.log4j.LogManager
+            |
+            |LogManager.getContext(false).configuration.loggers.values()
+            |    .collect { "${'$'}{it.name}=${'$'}{it.level}" }
+            |    .join('\n')
+            """.trimMargin()
+
+        fun parse(output: String, timestamp: Long): LoggerLevelsSnapshot {
+            val levels = HashMap<String, String>()
+            var rootLevel: String? = null
+
+            output.lineSequence()
+                .map { it.trim() }
+                .filter { it.isNotEmpty() }
+                .forEach { line ->
+                    val separator = line.lastIndexOf('=')
+                    if (separator < 0) return@forEach
+
+                    val name = line.substring(0, separator).trim()
+                    val level = line.substring(separator + 1).trim()
+                        .takeIf { it.isNotEmpty() && it != "null" }
+                        ?.uppercase()
+                        ?: return@forEach
+
+                    if (name.isEmpty() || name.equals(ROOT_LOGGER_NAME, true)) rootLevel = level
+                    else levels[name] = level
+                }
+
+            return LoggerLevelsSnapshot(levels, rootLevel, timestamp)
+        }
+
+        private const val ROOT_LOGGER_NAME = "root"
+    }
+}
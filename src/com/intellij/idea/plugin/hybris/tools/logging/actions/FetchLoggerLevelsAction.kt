@@ -0,0 +1,67 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.tools.logging.actions
+
+import com.intellij.idea.plugin.hybris.common.utils.HybrisIcons
+import com.intellij.idea.plugin.hybris.notifications.Notifications
+import com.intellij.idea.plugin.hybris.tools.logging.LoggerLevelsService
+import com.intellij.idea.plugin.hybris.tools.remote.RemoteConnectionType
+import com.intellij.idea.plugin.hybris.tools.remote.RemoteConnectionUtil
+import com.intellij.notification.NotificationType
+import com.intellij.openapi.actionSystem.ActionUpdateThread
+import com.intellij.openapi.actionSystem.AnAction
+import com.intellij.openapi.actionSystem.AnActionEvent
+import com.intellij.openapi.progress.ProgressIndicator
+import com.intellij.openapi.progress.ProgressManager
+import com.intellij.openapi.progress.Task
+
+/**
+ * Levels shown by the logger hints are fetched from the remote connection only on this explicit user action.
+ */
+class FetchLoggerLevelsAction : AnAction("Fetch Current Levels", "Fetch levels of all loggers from the active connection", HybrisIcons.Actions.REFRESH) {
+
+    override fun getActionUpdateThread() = ActionUpdateThread.BGT
+
+    override fun actionPerformed(e: AnActionEvent) {
+        val project = e.project ?: return
+
+        ProgressManager.getInstance().run(object : Task.Backgroundable(project, "Fetching logger levels from SAP Commerce...") {
+            override fun run(indicator: ProgressIndicator) {
+                if (LoggerLevelsService.getInstance(project).refresh() != null) return
+
+                val server = RemoteConnectionUtil.getActiveRemoteConnectionSettings(project, RemoteConnectionType.Hybris)
+
+                Notifications.create(
+                    NotificationType.ERROR,
+                    "Unable to fetch logger levels",
+                    "<p>${server.shortenConnectionName()}</p>"
+                )
+                    .hideAfter(5)
+                    .notify(project)
+            }
+        })
+    }
+
+    override fun update(e: AnActionEvent) {
+        super.update(e)
+        val isRightPlace = "GoToAction" != e.place
+        e.presentation.isEnabled = isRightPlace
+        e.presentation.isVisible = isRightPlace
+    }
+}
@@ -21,6 +21,7 @@ package com.intellij.idea.plugin.hybris.tools.logging.actions
 import com.intellij.idea.plugin.hybris.common.HybrisConstants
 import com.intellij.idea.plugin.hybris.common.utils.HybrisIcons
 import com.intellij.idea.plugin.hybris.notifications.Notifications
+import com.intellij.idea.plugin.hybris.tools.logging.LoggerLevelsService
 import com.intellij.idea.plugin.hybris.tools.remote.RemoteConnectionType
 import com.intellij.idea.plugin.hybris.tools.remote.RemoteConnectionUtil
 import com.intellij.idea.plugin.hybris.tools.remote.http.AbstractHybrisHacHttpClient
@@ -72,6 +73,8 @@ abstract class AbstractLoggerAction(private val logLevel: String, val icon: Icon
                         val abbreviationLogIdentifier = PackageUtils.abbreviatePackageName(logIdentifier)
 
                         if (result.statusCode == 200) {
+                            LoggerLevelsService.getInstance(project).onLevelChanged(logIdentifier, logLevel)
+
                             notify(
                                 project,
                                 NotificationType.INFORMATION,
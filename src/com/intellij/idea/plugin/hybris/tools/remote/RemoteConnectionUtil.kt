@@ -124,6 +124,8 @@ object RemoteConnectionUtil {
                 state.remoteConnectionSettingsList.add(settings)
             }
         }
+
+        fireConnectionsChanged(project, settings.type)
     }
 
     fun saveRemoteConnections(project: Project, type: RemoteConnectionType, settings: Collection<RemoteConnectionSettings>) {
@@ -138,6 +140,10 @@ object RemoteConnectionUtil {
         else settings.forEach { addRemoteConnection(project, it) }
     }
 
+    fun fireConnectionsChanged(project: Project, type: RemoteConnectionType) = project.messageBus
+        .syncPublisher(RemoteConnectionListener.TOPIC)
+        .onConnectionsChanged(type)
+
     fun setActiveRemoteConnectionSettings(project: Project, settings: RemoteConnectionSettings) {
         val developerSettings = DeveloperSettingsComponent.getInstance(project).state
 
@@ -150,6 +156,10 @@ object RemoteConnectionUtil {
                 developerSettings.activeSolrConnectionID = settings.uuid
             }
         }
+
+        project.messageBus
+            .syncPublisher(RemoteConnectionListener.TOPIC)
+            .onActiveConnectionChanged(settings)
     }
 
     fun changeRemoteConnectionScope(project: Project, settings: RemoteConnectionSettings, originalScope: RemoteConnectionScope) {
@@ -27,6 +27,7 @@ import com.intellij.idea.plugin.hybris.tools.remote.RemoteConnectionType
 import com.intellij.idea.plugin.hybris.tools.remote.RemoteConnectionUtil
 import com.intellij.idea.plugin.hybris.tools.remote.console.HybrisConsole
 import com.intellij.idea.plugin.hybris.tools.remote.console.HybrisConsoleService
+import com.intellij.idea.plugin.hybris.tools.remote.console.impl.HybrisGroovyConsole
 import com.intellij.idea.plugin.hybris.tools.remote.console.impl.HybrisImpexMonitorConsole
 import com.intellij.idea.plugin.hybris.tools.remote.console.impl.HybrisSolrSearchConsole
 import com.intellij.idea.plugin.hybris.tools.remote.http.impex.HybrisHttpResult
@@ -59,6 +60,12 @@ class HybrisConsoleExecuteActionHandler(
                     isProcessRunning = true
                     try {
                         setEditorEnabled(console, false)
+
+                        if (console is HybrisGroovyConsole && console.isStreamingMode()) {
+                            executeStreaming(console, query, indicator)
+                            return
+                        }
+
                         val httpResult = console.execute(query)
 
                         when (console) {
@@ -96,6 +103,22 @@ class HybrisConsoleExecuteActionHandler(
         }
     }
 
+    private fun executeStreaming(console: HybrisGroovyConsole, query: String, indicator: ProgressIndicator) {
+        printCurrentHost(console, RemoteConnectionType.Hybris)
+
+        var outputStarted = false
+        val httpResult = console.executeStreaming(query, indicator) {
+            if (!outputStarted) {
+                outputStarted = true
+                console.print("[OUTPUT] \n", SYSTEM_OUTPUT)
+            }
+            console.print(it, NORMAL_OUTPUT)
+        }
+
+        // output is already printed, only the result or error is left
+        printPlainText(console, httpResult)
+    }
+
     private fun printCurrentHost(console: HybrisConsole, remoteConnectionType: RemoteConnectionType) {
         val activeConnectionSettings = RemoteConnectionUtil.getActiveRemoteConnectionSettings(project, remoteConnectionType)
         console.print("[HOST] ", SYSTEM_OUTPUT)
@@ -24,6 +24,9 @@ import com.intellij.idea.plugin.hybris.common.HybrisConstants
 import com.intellij.idea.plugin.hybris.tools.remote.console.HybrisConsole
 import com.intellij.idea.plugin.hybris.tools.remote.http.AbstractHybrisHacHttpClient
 import com.intellij.idea.plugin.hybris.tools.remote.http.HybrisHacHttpClient
+import com.intellij.idea.plugin.hybris.tools.remote.http.groovy.GroovyStreamingExecution
+import com.intellij.idea.plugin.hybris.tools.remote.http.impex.HybrisHttpResult
+import com.intellij.openapi.progress.ProgressIndicator
 import com.intellij.openapi.project.Project
 import com.intellij.ui.components.JBCheckBox
 import com.intellij.ui.components.JBLabel
@@ -42,6 +45,11 @@ class HybrisGroovyConsole(project: Project) : HybrisConsole(project, HybrisConst
 
     private val commitCheckbox = JBCheckBox("Commit mode")
         .also { it.border = borders10 }
+    private val streamingCheckbox = JBCheckBox("Stream output")
+        .also {
+            it.border = borders10
+            it.toolTipText = "Execute the script in a server-side thread and show its output while it is running, timeout is applied to each poll request"
+        }
     private val timeoutSpinner = JSpinner(SpinnerNumberModel(AbstractHybrisHacHttpClient.DEFAULT_HAC_TIMEOUT / 1000, 1, 3600, 10))
         .also { it.border = borders5 }
 
@@ -50,6 +58,7 @@ class HybrisGroovyConsole(project: Project) : HybrisConsole(project, HybrisConst
 
         val panel = JPanel(WrappedFlowLayout(0, 0))
         panel.add(commitCheckbox)
+        panel.add(streamingCheckbox)
         panel.add(JBLabel("Timeout (seconds):").also { it.border = bordersLabel })
         panel.add(timeoutSpinner)
 
@@ -63,6 +72,16 @@ class HybrisGroovyConsole(project: Project) : HybrisConsole(project, HybrisConst
         timeoutSpinner.value.toString().toInt() * 1000
     )
 
+    fun isStreamingMode() = streamingCheckbox.isSelected
+
+    fun executeStreaming(query: String, indicator: ProgressIndicator, onOutput: (String) -> Unit): HybrisHttpResult {
+        val client = HybrisHacHttpClient.getInstance(project)
+        val timeout = timeoutSpinner.value.toString().toInt() * 1000
+
+        return GroovyStreamingExecution(POLL_INTERVAL) { client.executeGroovyScript(project, it, false, timeout) }
+            .execute(query, commitCheckbox.isSelected, { indicator.isCanceled }, onOutput)
+    }
+
     override fun title() = "Groovy Scripting"
     override fun tip() = "Groovy Console"
     override fun icon() = JetgroovyIcons.Groovy.Groovy_16x16
@@ -72,6 +91,8 @@ class HybrisGroovyConsole(project: Project) : HybrisConsole(project, HybrisConst
     }
 
     companion object {
+        private const val POLL_INTERVAL = 500L
+
         @Serial
         private val serialVersionUID: Long = -3858827004057439840L
     }
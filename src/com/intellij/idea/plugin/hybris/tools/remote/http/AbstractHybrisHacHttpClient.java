@@ -20,6 +20,7 @@ package com.intellij.idea.plugin.hybris.tools.remote.http;
 
 import com.intellij.idea.plugin.hybris.common.HybrisConstants;
 import com.intellij.idea.plugin.hybris.settings.RemoteConnectionSettings;
+import com.intellij.idea.plugin.hybris.tools.remote.RemoteConnectionListener;
 import com.intellij.openapi.diagnostic.Logger;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.util.Key;
@@ -113,6 +114,10 @@ public abstract class AbstractHybrisHacHttpClient {
     public void setReplica(final Replica replica) {
         project.putUserData(REPLICA_KEY, replica);
         cookiesPerSettings.clear();
+
+        project.getMessageBus()
+            .syncPublisher(RemoteConnectionListener.TOPIC)
+            .onReplicaChanged(replica);
     }
 
     public String login(@NotNull final Project project, @NotNull final RemoteConnectionSettings settings) {
@@ -0,0 +1,249 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.tools.remote.http.groovy
+
+import com.intellij.idea.plugin.hybris.tools.remote.http.impex.HybrisHttpResult
+import com.intellij.idea.plugin.hybris.tools.remote.http.impex.HybrisHttpResult.HybrisHttpResultBuilder.createResult
+import java.nio.charset.StandardCharsets
+import java.util.*
+
+/**
+ * Executes a Groovy script via HAC Scripting console in a server-side thread and polls its output while the script is running.
+ *
+ * Script output is written to a server-side buffer, registered under the execution id in the attributes of the HAC `JaloSession`,
+ * each poll returns only the output written since the previous one, so long-running scripts are not limited by the HTTP timeout.
+ * Failed polls are retried a few times, afterwards the execution is cancelled, so the script is not left running on the server.
+ * Cancellation interrupts the server-side thread, script is compiled with [groovy.transform.ThreadInterrupt],
+ * thus even plain loops are interrupted.
+ *
+ * @param transport executes a service script via HAC Scripting console, see `HybrisHacHttpClient.executeGroovyScript`
+ */
+class GroovyStreamingExecution(
+    private val pollInterval: Long,
+    private val transport: (String) -> HybrisHttpResult,
+) {
+
+    fun execute(
+        script: String,
+        commitMode: Boolean,
+        isCancelled: () -> Boolean,
+        onOutput: (String) -> Unit
+    ): HybrisHttpResult {
+        val id = UUID.randomUUID().toString()
+        val started = transport(startScript(id, script, commitMode))
+        if (started.hasError()) return started
+
+        var offset = 0
+        var cancelRequested = false
+        var pollsAfterCancel = 0
+        var failedPolls = 0
+
+        while (true) {
+            if (!cancelRequested && isCancelled()) {
+                cancelRequested = true
+                transport(cancelScript(id))
+            }
+
+            val polled = transport(pollScript(id, offset))
+            if (polled.hasError()) {
+                if (++failedPolls <= MAX_POLL_RETRIES) {
+                    Thread.sleep(pollInterval)
+                    continue
+                }
+
+                if (!cancelRequested) transport(cancelScript(id))
+                return polled
+            }
+            failedPolls = 0
+
+            val response = polled.result.orEmpty()
+            val header = response.substringBefore('\n')
+            val state = header.substringBefore(':')
+            val end = header.substringAfter(':').toIntOrNull() ?: offset
+            val chunk = polled.output.orEmpty()
+            offset = end
+
+            if (chunk.isNotEmpty()) onOutput(chunk)
+
+            when (state) {
+                STATE_RUNNING -> Unit
+                STATE_DONE -> return createResult()
+                    .result(response.substringAfter('\n', ""))
+                    .build()
+
+                STATE_FAILED -> return createResult()
+                    .errorMessage(response.substringAfter('\n', ""))
+                    .build()
+
+                STATE_CANCELLED -> return createResult()
+                    .errorMessage("Execution has been cancelled")
+                    .build()
+
+                else -> return createResult()
+                    .errorMessage("Execution $id is not available on the server, it may have been restarted")
+                    .build()
+            }
+
+            if (cancelRequested && ++pollsAfterCancel >= MAX_POLLS_AFTER_CANCEL) {
+                return createResult()
+                    .errorMessage("Cancellation has been requested, but the script is still running on the server")
+                    .build()
+            }
+
+            // the remaining output of a chatty script is fetched right away
+            if (chunk.length < MAX_CHUNK_LENGTH) Thread.sleep(pollInterval)
+        }
+    }
+
+    companion object {
+        const val STATE_RUNNING = "RUNNING"
+        const val STATE_DONE = "DONE"
+        const val STATE_FAILED = "FAILED"
+        const val STATE_CANCELLED = "CANCELLED"
+        const val STATE_UNKNOWN = "UNKNOWN"
+
+        const val MAX_CHUNK_LENGTH = 256 * 1024
+        private const val MAX_POLLS_AFTER_CANCEL = 20
+        private const val MAX_POLL_RETRIES = 3
+        private const val SCRIPT_HEADER = "SAP Commerce Developers Toolset - streaming execution"
+        private const val REGISTRY_KEY = "hybris.idea.groovy.executions"
+
+        // executions which are not polled anymore, e.g. IDE was closed, are interrupted and removed after an hour
+        private const val STALE_EXECUTION_TTL = 60 * 60 * 1000L
+
+        /**
+         * Starts the user script in a new server-side thread, bound to the same tenant and session as the HAC request.
+         * In non-commit mode the script is executed within a transaction, which is rolled back, same as HAC does it.
+         */
+        fun startScript(id: String, script: String, commitMode: Boolean) = """
+            |// $SCRIPT_HEADER: start
+            |import de.hybris.platform.core.Registry
+            |import de.hybris.platform.jalo.JaloSession
+            |import de.hybris.platform.tx.Transaction
+            |import groovy.transform.ThreadInterrupt
+            |import org.codehaus.groovy.control.CompilerConfiguration
+            |import org.codehaus.groovy.control.customizers.ASTTransformationCustomizer
+            |
+            |import java.util.concurrent.ConcurrentHashMap
+            |
+            |def id = '$id'
+            |def commit = $commitMode
+            |def script = new String(Base64.decoder.decode('${encode(script)}'), 'UTF-8')
+            |
+            |def session = JaloSession.currentSession
+            |def executions = session.getAttribute('$REGISTRY_KEY')
+            |if (executions == null) {
+            |    executions = new ConcurrentHashMap()
+            |    session.setAttribute('$REGISTRY_KEY', executions)
+            |}
+            |
+            |def now = System.currentTimeMillis()
+            |executions.entrySet().removeIf { entry ->
+            |    def stale = now - entry.value.polledAt > $STALE_EXECUTION_TTL
+            |    if (stale) {
+            |        entry.value.cancelled = true
+            |        entry.value.thread?.interrupt()
+            |    }
+            |    stale
+            |}
+            |
+            |def output = new StringWriter()
+            |def variables = new HashMap(binding.variables)
+            |variables.out = new PrintWriter(output, true)
+            |
+            |def configuration = new CompilerConfiguration()
+            |configuration.addCompilationCustomizers(new ASTTransformationCustomizer(ThreadInterrupt))
+            |def shell = new GroovyShell(this.class.classLoader, new Binding(variables), configuration)
+            |
+            |def tenant = Registry.currentTenant
+            |def execution = new ConcurrentHashMap([output: output, state: '$STATE_RUNNING', polledAt: now])
+            |def thread = new Thread({
+            |    def state = '$STATE_DONE'
+            |    Registry.setCurrentTenant(tenant)
+            |    session.activate()
+            |    def transaction = commit ? null : Transaction.current()
+            |    try {
+            |        transaction?.begin()
+            |        def result = shell.evaluate(script)
+            |        execution.result = result == null ? '' : String.valueOf(result)
+            |    } catch (Throwable e) {
+            |        def stacktrace = new StringWriter()
+            |        e.printStackTrace(new PrintWriter(stacktrace))
+            |        execution.error = stacktrace.toString()
+            |        state = execution.cancelled ? '$STATE_CANCELLED' : '$STATE_FAILED'
+            |    } finally {
+            |        if (transaction?.running) transaction.rollback()
+            |        JaloSession.deactivate()
+            |        Registry.unsetCurrentTenant()
+            |        execution.finishedAt = System.currentTimeMillis()
+            |        execution.state = state
+            |    }
+            |} as Runnable, 'hybris-idea-groovy-' + id)
+            |thread.daemon = true
+            |execution.thread = thread
+            |executions.put(id, execution)
+            |thread.start()
+            |
+            |id
+            """.trimMargin()
+
+        /**
+         * Prints the output written since the [offset] and returns `STATE:newOffset`,
+         * final state is followed by the script result or stacktrace on the next lines.
+         */
+        fun pollScript(id: String, offset: Int) = """
+            |// $SCRIPT_HEADER: poll
+            |import de.hybris.platform.jalo.JaloSession
+            |
+            |def id = '$id'
+            |def offset = $offset
+            |def executions = JaloSession.currentSession.getAttribute('$REGISTRY_KEY')
+            |def execution = executions?.get(id)
+            |if (execution == null) return '$STATE_UNKNOWN:' + offset
+            |
+            |execution.polledAt = System.currentTimeMillis()
+            |
+            |// state is read before the output, thus all output is returned before the final state
+            |def state = execution.state
+            |def buffer = execution.output.buffer
+            |def length = buffer.length()
+            |def end = Math.min(length, offset + $MAX_CHUNK_LENGTH)
+            |print(buffer.substring(Math.min(offset, end), end))
+            |if (state == '$STATE_RUNNING' || end < length) return '$STATE_RUNNING:' + end
+            |
+            |executions.remove(id)
+            |state + ':' + end + '\n' + (state == '$STATE_DONE' ? execution.result : execution.error)
+            """.trimMargin()
+
+        fun cancelScript(id: String) = """
+            |// $SCRIPT_HEADER: cancel
+            |import de.hybris.platform.jalo.JaloSession
+            |
+            |def id = '$id'
+            |def execution = JaloSession.currentSession.getAttribute('$REGISTRY_KEY')?.get(id)
+            |if (execution == null) return false
+            |
+            |execution.cancelled = true
+            |execution.thread.interrupt()
+            |true
+            """.trimMargin()
+
+        private fun encode(script: String) = Base64.getEncoder().encodeToString(script.toByteArray(StandardCharsets.UTF_8))
+    }
+}
@@ -138,6 +138,9 @@ abstract class AbstractRemoteConnectionDialog(
             }
         }
 
+        // host, port or credentials of the existing connection could be changed
+        RemoteConnectionUtil.fireConnectionsChanged(project, settings.type)
+
         ProgressManager.getInstance().run(object : Task.Backgroundable(project, "Persisting credentials", false) {
             override fun run(indicator: ProgressIndicator) {
                 val credentialAttributes = CredentialAttributes("SAP CX - ${settings.uuid}")
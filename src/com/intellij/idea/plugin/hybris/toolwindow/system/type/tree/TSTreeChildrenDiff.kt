@@ -0,0 +1,48 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.intellij.idea.plugin.hybris.toolwindow.system.type.tree
+
+/**
+ * Difference between the previous and current children of a tree node.
+ *
+ * Indices follow the [javax.swing.event.TreeModelEvent] contract: removed children are indexed in the previous list,
+ * inserted and changed ones - in the current list.
+ */
+data class TSTreeChildrenDiff<T>(
+    val removed: List<IndexedValue<T>>,
+    val inserted: List<IndexedValue<T>>,
+    val changed: List<IndexedValue<T>>,
+) {
+
+    companion object {
+
+        /**
+         * Children are matched by equality, [isChanged] is invoked exactly once for each child present in both lists.
+         */
+        fun <T> compute(previous: List<T>, current: List<T>, isChanged: (T) -> Boolean): TSTreeChildrenDiff<T> {
+            val previousSet = previous.toHashSet()
+            val currentSet = current.toHashSet()
+
+            return TSTreeChildrenDiff(
+                removed = previous.withIndex().filterNot { it.value in currentSet },
+                inserted = current.withIndex().filterNot { it.value in previousSet },
+                changed = current.withIndex().filter { it.value in previousSet && isChanged(it.value) },
+            )
+        }
+    }
+}
@@ -27,10 +27,16 @@ import com.intellij.util.concurrency.Invoker
 import com.intellij.util.concurrency.InvokerSupplier
 import javax.swing.tree.TreePath
 
+/**
+ * On reload only already loaded nodes are compared with the new meta model, so the tree receives fine-grained
+ * insert/remove/change events and keeps its expansion and selection.
+ * Nodes of removed types are evicted together with their loaded descendants.
+ */
 class TSTreeModel(private val rootTreeNode: TreeNode) : BaseTreeModel<TreeNode>(), Disposable, InvokerSupplier {
 
     private var globalMetaModel: TSGlobalMetaModel? = null
     private val nodes = mutableMapOf<TSNode, TreeNode>()
+    private val loadedChildren = mutableMapOf<TreeNode, List<TreeNode>>()
     private val myInvoker = if (application.isUnitTestMode) {
         Invoker.forEventDispatchThread(this)
     } else {
@@ -39,25 +45,28 @@ class TSTreeModel(private val rootTreeNode: TreeNode) : BaseTreeModel<TreeNode>(
 
     override fun getRoot() = rootTreeNode
 
-    override fun getChildren(parent: Any?) = if (parent == rootTreeNode
-        || (
-            globalMetaModel != null
-                && parent is TreeNode
-                && parent.allowsChildren
-                && parent.userObject is TSNode
-            )
-    ) {
-        ((parent as TreeNode).userObject as TSNode).getChildren(globalMetaModel)
-            .onEach { it.update() }
-            .map { nodes.computeIfAbsent(it) { tsNode -> TreeNode(tsNode) } }
-    } else {
-        emptyList()
+    override fun getChildren(parent: Any?): List<TreeNode> {
+        if (parent !is TreeNode || !isLoadable(parent)) return emptyList()
+
+        return loadedChildren.getOrPut(parent) {
+            loadChildren(parent)
+                .onEach { (it.userObject as TSNode).update() }
+        }
     }
 
     fun reload(globalMetaModel: TSGlobalMetaModel) {
-        this.globalMetaModel = globalMetaModel
+        invoker.invoke {
+            val initial = this.globalMetaModel == null
+            this.globalMetaModel = globalMetaModel
 
-        treeStructureChanged(TreePath(root), null, null)
+            if (initial) {
+                // children loaded before the meta model became available are incomplete
+                loadedChildren.clear()
+                treeStructureChanged(TreePath(root), null, null)
+            } else {
+                reload(TreePath(root))
+            }
+        }
     }
 
     override fun getInvoker() = myInvoker
@@ -65,6 +74,44 @@ class TSTreeModel(private val rootTreeNode: TreeNode) : BaseTreeModel<TreeNode>(
     override fun dispose() {
         super.dispose()
         nodes.clear()
+        loadedChildren.clear()
+    }
+
+    private fun reload(path: TreePath) {
+        val parent = path.lastPathComponent as TreeNode
+        val previous = loadedChildren[parent] ?: return
+        val current = loadChildren(parent)
+        loadedChildren[parent] = current
+
+        val diff = TSTreeChildrenDiff.compute(previous, current) { (it.userObject as TSNode).update() }
+        diff.inserted.forEach { (it.value.userObject as TSNode).update() }
+        diff.removed.forEach { evict(it.value) }
+
+        if (diff.removed.isNotEmpty()) {
+            treeNodesRemoved(path, diff.removed.map { it.index }.toIntArray(), diff.removed.map { it.value }.toTypedArray())
+        }
+        if (diff.inserted.isNotEmpty()) {
+            treeNodesInserted(path, diff.inserted.map { it.index }.toIntArray(), diff.inserted.map { it.value }.toTypedArray())
+        }
+        if (diff.changed.isNotEmpty()) {
+            treeNodesChanged(path, diff.changed.map { it.index }.toIntArray(), diff.changed.map { it.value }.toTypedArray())
+        }
+
+        current
+            .filter { loadedChildren.containsKey(it) }
+            .forEach { reload(path.pathByAddingChild(it)) }
+    }
+
+    private fun loadChildren(parent: TreeNode) = (parent.userObject as TSNode).getChildren(globalMetaModel)
+        .map { nodes.getOrPut(it) { TreeNode(it) } }
+
+    private fun isLoadable(node: TreeNode) = node == rootTreeNode
+        || (globalMetaModel != null && node.allowsChildren && node.userObject is TSNode)
+
+    private fun evict(node: TreeNode) {
+        loadedChildren.remove(node)
+            ?.forEach { evict(it) }
+        nodes.remove(node.userObject as TSNode)
     }
 
-}
\ No newline at end of file
+}
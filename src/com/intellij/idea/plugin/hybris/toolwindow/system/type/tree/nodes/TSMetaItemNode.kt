@@ -68,11 +68,6 @@ class TSMetaItemNode(
         return childrenItems + indexes + customProperties + attributes
     }
 
-    override fun dispose() {
-        super.dispose()
-        groupedByExtends = emptyMap()
-    }
-
     companion object {
         var groupedByExtends: Map<String?, List<TSGlobalMetaItem>> = emptyMap()
     }
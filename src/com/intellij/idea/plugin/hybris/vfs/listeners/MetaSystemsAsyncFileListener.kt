@@ -19,13 +19,10 @@ package com.intellij.idea.plugin.hybris.vfs.listeners
 
 import com.intellij.idea.plugin.hybris.common.HybrisConstants
 import com.intellij.idea.plugin.hybris.settings.components.ProjectSettingsComponent
-import com.intellij.idea.plugin.hybris.system.bean.meta.BSModificationTracker
 import com.intellij.idea.plugin.hybris.system.cockpitng.meta.CngMetaModelStateService
-import com.intellij.idea.plugin.hybris.system.cockpitng.meta.CngModificationTracker
-import com.intellij.idea.plugin.hybris.system.type.meta.TSModificationTracker
+import com.intellij.idea.plugin.hybris.vfs.listeners.MetaSystemsChangeDispatcher.MetaSystem
 import com.intellij.openapi.components.service
 import com.intellij.openapi.project.DumbService
-import com.intellij.openapi.project.Project
 import com.intellij.openapi.project.ProjectManager
 import com.intellij.openapi.vfs.AsyncFileListener
 import com.intellij.openapi.vfs.newvfs.events.VFileEvent
@@ -42,14 +39,6 @@ import com.intellij.util.asSafely
  */
 class MetaSystemsAsyncFileListener : AsyncFileListener {
 
-    private fun mapToTracker(fileName: String, fqn: String, project: Project, trackedCngModels: Set<String>) = when {
-        fileName.endsWith(HybrisConstants.HYBRIS_ITEMS_XML_FILE_ENDING) -> project.service<TSModificationTracker>() to fileName
-        fileName.endsWith(HybrisConstants.HYBRIS_BEANS_XML_FILE_ENDING) -> project.service<BSModificationTracker>() to fileName
-        // in case of the CockpitNG FQN is being tracked
-        trackedCngModels.contains(fqn) -> project.service<CngModificationTracker>() to fqn
-        else -> null
-    }
-
     override fun prepareChange(events: List<VFileEvent>) = ProjectManager.getInstance().openProjects
         .filterNot { DumbService.isDumb(it) }
         .filter { ProjectSettingsComponent.getInstance(it).isHybrisProject() }
@@ -68,26 +57,32 @@ class MetaSystemsAsyncFileListener : AsyncFileListener {
                         }
                         ?: (PathUtil.getFileName(event.path) to event.path)
                 }
-                .mapNotNull { mapToTracker(it.first, it.second, project, trackedCngModels) }
+                .mapNotNull { getChange(it.first, it.second) { trackedCngModels } }
                 .groupBy({ it.first }, { it.second })
                 .takeIf { it.isNotEmpty() }
+                ?.let { project to it }
         }
         .takeIf { it.isNotEmpty() }
         ?.let { processEvents ->
             object : AsyncFileListener.ChangeApplier {
                 override fun beforeVfsChange() {
-                    processEvents.forEach { metaToFileNames ->
-                        metaToFileNames.forEach { (tracker, fileNames) ->
-                            // re-triggering GlobalMetaModel state on file changes
-                            // extra cases on a file, not covered by CacheValue upToDate evaluation: create, remove, rename
-                            try {
-                                tracker.resetCache(fileNames)
-                            } catch (_: Throwable) {
-                                // do nothing; once done, model access service will notify all listeners
-                            }
-                        }
-                    }
+                    // re-triggering GlobalMetaModel state on file changes
+                    // extra cases on a file, not covered by CacheValue upToDate evaluation: create, remove, rename
+                    // changes are coalesced, so bulk operations result in a single re-build of each affected meta system
+                    processEvents
+                        .filterNot { (project, _) -> project.isDisposed }
+                        .forEach { (project, changes) -> MetaSystemsChangeDispatcher.getInstance(project).submit(changes) }
                 }
             }
         }
+
+    companion object {
+        internal fun getChange(fileName: String, fqn: String, trackedCngModels: () -> Set<String>): Pair<MetaSystem, String>? = when {
+            fileName.endsWith(HybrisConstants.HYBRIS_ITEMS_XML_FILE_ENDING) -> MetaSystem.TYPE to fileName
+            fileName.endsWith(HybrisConstants.HYBRIS_BEANS_XML_FILE_ENDING) -> MetaSystem.BEAN to fileName
+            // in case of the CockpitNG FQN is being tracked
+            trackedCngModels().contains(fqn) -> MetaSystem.COCKPIT_NG to fqn
+            else -> null
+        }
+    }
 }
@@ -0,0 +1,65 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.intellij.idea.plugin.hybris.vfs.listeners
+
+import java.util.concurrent.ScheduledExecutorService
+import java.util.concurrent.ScheduledFuture
+import java.util.concurrent.TimeUnit
+
+/**
+ * Debounces changes of the meta systems: changed keys are accumulated per meta system until there are no new changes
+ * within the quiet window, then each affected meta system receives a single callback with the exact set of changed keys.
+ *
+ * Bulk VFS operations, like `git checkout` or `ant clean all`, are delivered in many batches,
+ * without coalescing each batch would trigger its own rebuild of the meta model.
+ */
+class MetaSystemsChangeCoalescer<S : Any>(
+    private val quietWindow: () -> Long,
+    private val executor: ScheduledExecutorService,
+    private val onChange: (S, Set<String>) -> Unit,
+) {
+
+    private val pending = LinkedHashMap<S, MutableSet<String>>()
+    private var scheduledFlush: ScheduledFuture<*>? = null
+
+    @Synchronized
+    fun submit(changes: Map<S, Collection<String>>) {
+        if (changes.isEmpty()) return
+
+        changes.forEach { (system, keys) -> pending.getOrPut(system) { LinkedHashSet() }.addAll(keys) }
+
+        scheduledFlush?.cancel(false)
+        scheduledFlush = executor.schedule({ flush() }, quietWindow().coerceAtLeast(0), TimeUnit.MILLISECONDS)
+    }
+
+    fun flush() {
+        val changes = synchronized(this) {
+            scheduledFlush = null
+            LinkedHashMap(pending).also { pending.clear() }
+        }
+
+        changes.forEach { (system, keys) -> onChange(system, keys) }
+    }
+
+    @Synchronized
+    fun cancel() {
+        scheduledFlush?.cancel(false)
+        scheduledFlush = null
+        pending.clear()
+    }
+}
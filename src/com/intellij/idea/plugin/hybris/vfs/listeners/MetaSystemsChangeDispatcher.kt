@@ -0,0 +1,67 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.intellij.idea.plugin.hybris.vfs.listeners
+
+import com.intellij.idea.plugin.hybris.settings.components.ApplicationSettingsComponent
+import com.intellij.idea.plugin.hybris.system.bean.meta.BSModificationTracker
+import com.intellij.idea.plugin.hybris.system.cockpitng.meta.CngModificationTracker
+import com.intellij.idea.plugin.hybris.system.meta.MetaModelModificationTracker
+import com.intellij.idea.plugin.hybris.system.type.meta.TSModificationTracker
+import com.intellij.openapi.Disposable
+import com.intellij.openapi.components.Service
+import com.intellij.openapi.project.Project
+import com.intellij.util.concurrency.AppExecutorUtil
+
+/**
+ * Entry point for the VFS changes of the meta systems, see [MetaSystemsAsyncFileListener].
+ *
+ * Changes are coalesced by the [MetaSystemsChangeCoalescer], so every affected meta system is reset once per burst of changes
+ * with all changed keys, and only related meta models are re-processed by the corresponding state service.
+ */
+@Service(Service.Level.PROJECT)
+class MetaSystemsChangeDispatcher(private val project: Project) : Disposable {
+
+    private val coalescer = MetaSystemsChangeCoalescer<MetaSystem>(
+        { ApplicationSettingsComponent.getInstance().state.metaSystemsRebuildQuietWindow.toLong() },
+        AppExecutorUtil.getAppScheduledExecutorService()
+    ) { system, keys ->
+        if (project.isDisposed) return@MetaSystemsChangeCoalescer
+
+        try {
+            system.getTracker(project).resetCache(keys)
+        } catch (_: Throwable) {
+            // do nothing; once done, model access service will notify all listeners
+        }
+    }
+
+    fun submit(changes: Map<MetaSystem, Collection<String>>) = coalescer.submit(changes)
+
+    override fun dispose() = coalescer.cancel()
+
+    enum class MetaSystem(private val trackerClass: Class<out MetaModelModificationTracker>) {
+        TYPE(TSModificationTracker::class.java),
+        BEAN(BSModificationTracker::class.java),
+        COCKPIT_NG(CngModificationTracker::class.java);
+
+        fun getTracker(project: Project): MetaModelModificationTracker = project.getService(trackerClass)
+    }
+
+    companion object {
+        fun getInstance(project: Project): MetaSystemsChangeDispatcher = project.getService(MetaSystemsChangeDispatcher::class.java)
+    }
+}
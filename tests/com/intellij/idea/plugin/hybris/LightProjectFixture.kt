@@ -0,0 +1,52 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris
+
+import com.intellij.idea.plugin.hybris.settings.components.ProjectSettingsComponent
+import com.intellij.openapi.application.ReadAction
+import com.intellij.openapi.project.Project
+import com.intellij.testFramework.LightProjectDescriptor
+import com.intellij.testFramework.fixtures.CodeInsightTestFixture
+import com.intellij.testFramework.fixtures.IdeaTestFixtureFactory
+import com.intellij.testFramework.fixtures.impl.TempDirTestFixtureImpl
+import com.intellij.testFramework.runInEdtAndWait
+
+/**
+ * Light headless SAP Commerce project for the tests which need project services, PSI or indexes, same setup as the `BenchmarkProjectFixture`.
+ */
+class LightProjectFixture(descriptor: LightProjectDescriptor = LightProjectDescriptor.EMPTY_PROJECT_DESCRIPTOR) {
+
+    val codeInsightFixture: CodeInsightTestFixture
+    val project: Project
+        get() = codeInsightFixture.project
+
+    init {
+        val factory = IdeaTestFixtureFactory.getFixtureFactory()
+        val projectFixture = factory.createLightFixtureBuilder(descriptor, "sap-commerce-test").fixture
+        codeInsightFixture = factory.createCodeInsightFixture(projectFixture, TempDirTestFixtureImpl())
+
+        runInEdtAndWait { codeInsightFixture.setUp() }
+
+        ProjectSettingsComponent.getInstance(project).state.hybrisProject = true
+    }
+
+    fun <T> readAction(computable: () -> T): T = ReadAction.compute<T, RuntimeException> { computable() }
+
+    fun dispose() = runInEdtAndWait { codeInsightFixture.tearDown() }
+}
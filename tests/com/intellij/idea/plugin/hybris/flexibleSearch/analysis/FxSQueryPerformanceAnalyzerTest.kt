@@ -0,0 +1,169 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.flexibleSearch.analysis
+
+import com.intellij.idea.plugin.hybris.LightProjectFixture
+import com.intellij.idea.plugin.hybris.flexibleSearch.analysis.FxSQueryPerformanceFinding.Kind
+import com.intellij.idea.plugin.hybris.system.type.meta.TSMetaModelStateService
+import com.intellij.openapi.components.service
+import com.intellij.psi.PsiFile
+import com.intellij.testFramework.runInEdtAndWait
+import kotlin.test.AfterTest
+import kotlin.test.BeforeTest
+import kotlin.test.Test
+import kotlin.test.assertEquals
+
+/**
+ * Findings and cost of the queries against the Type System built from the test `items.xml`.
+ */
+class FxSQueryPerformanceAnalyzerTest {
+
+    private lateinit var fixture: LightProjectFixture
+
+    @BeforeTest
+    fun setUp() {
+        fixture = LightProjectFixture()
+        runInEdtAndWait { fixture.codeInsightFixture.addFileToProject("test-items.xml", ITEMS_XML) }
+
+        val stateService = fixture.project.service<TSMetaModelStateService>()
+        val deadline = System.currentTimeMillis() + TYPE_SYSTEM_TIMEOUT
+        stateService.init()
+        while (!stateService.initialized()) {
+            check(System.currentTimeMillis() < deadline) { "Type System is not built in $TYPE_SYSTEM_TIMEOUT ms" }
+            Thread.sleep(50)
+        }
+    }
+
+    @AfterTest
+    fun tearDown() {
+        fixture.dispose()
+    }
+
+    @Test
+    fun test_analyze() {
+        listOf(
+            Case("SELECT {p.pk} FROM {Product AS p} WHERE {p.code} = ?code", 1),
+            Case(
+                "SELECT {p.pk} FROM {Product AS p} WHERE {p.description} = ?description", 11,
+                Kind.NON_INDEXED_ATTRIBUTE to listOf("description", "Product")
+            ),
+            Case(
+                "SELECT {p.pk} FROM {Product AS p} ORDER BY {p.description}", 6,
+                Kind.NON_INDEXED_ATTRIBUTE to listOf("description", "Product")
+            ),
+            // selected columns are not filtered, so indexes are not applicable
+            Case("SELECT {p.description} FROM {Product AS p}", 1),
+            Case("SELECT {p.pk} FROM {Product AS p} WHERE {p.name[en]} = ?name", 1),
+            Case(
+                "SELECT {p.pk} FROM {Product AS p} WHERE {p.code} LIKE '%abc'", 11,
+                Kind.LEADING_WILDCARD to listOf("'%abc'")
+            ),
+            Case("SELECT {p.pk} FROM {Product AS p} WHERE {p.code} LIKE 'abc%'", 1),
+            Case(
+                "SELECT {r.pk} FROM {ProductReferenceRelation AS r}", 16,
+                Kind.NON_DEPLOYED_RELATION to listOf("ProductReferenceRelation")
+            ),
+            Case("SELECT {r.pk} FROM {CategoryProductRelation AS r}", 1),
+            Case(
+                "SELECT {m.pk} FROM {Media AS m}", 11,
+                Kind.UNBOUNDED_SUBTYPES to listOf("Media", "1", "2")
+            ),
+            Case("SELECT {m.pk} FROM {Media! AS m}", 1),
+            // sub-types share the deployment table of the super type
+            Case("SELECT {p.pk} FROM {Product AS p}", 1),
+            Case(
+                "SELECT {p.pk} FROM {Product AS p JOIN Category AS c ON {c.code} = {p.description}}", 22,
+                Kind.NON_INDEXED_ATTRIBUTE to listOf("code", "Category"),
+                Kind.NON_INDEXED_ATTRIBUTE to listOf("description", "Product")
+            ),
+        ).forEach { case ->
+            val report = analyze(case.query)
+
+            assertEquals(case.findings, report.findings.map { it.kind to it.arguments }, case.query)
+            assertEquals(case.cost, report.cost, case.query)
+        }
+    }
+
+    private fun analyze(query: String): FxSQueryPerformanceReport {
+        lateinit var file: PsiFile
+        runInEdtAndWait { file = fixture.codeInsightFixture.configureByText("query.fxs", query) }
+
+        return fixture.readAction { FxSQueryPerformanceAnalyzer.analyze(file) }
+    }
+
+    private class Case(val query: String, val cost: Int, vararg findings: Pair<Kind, List<String>>) {
+        val findings = findings.toList()
+    }
+
+    companion object {
+        private const val TYPE_SYSTEM_TIMEOUT = 30_000L
+
+        private val ITEMS_XML = """
+            <items xmlns:xsi="http://www.w3.org/2001/XMLSchema-instance" xsi:noNamespaceSchemaLocation="items.xsd">
+                <relations>
+                    <relation code="CategoryProductRelation" localized="false">
+                        <deployment table="Cat2ProdRel" typecode="143"/>
+                        <sourceElement qualifier="supercategories" type="Category" cardinality="many"/>
+                        <targetElement qualifier="products" type="Product" cardinality="many"/>
+                    </relation>
+                    <relation code="ProductReferenceRelation" localized="false">
+                        <sourceElement qualifier="referencingProducts" type="Product" cardinality="many"/>
+                        <targetElement qualifier="referencedProducts" type="Product" cardinality="many"/>
+                    </relation>
+                </relations>
+                <itemtypes>
+                    <itemtype code="Product" autocreate="true" generate="true">
+                        <deployment table="Products" typecode="1"/>
+                        <attributes>
+                            <attribute qualifier="code" type="java.lang.String">
+                                <persistence type="property"/>
+                            </attribute>
+                            <attribute qualifier="name" type="localized:java.lang.String">
+                                <persistence type="property"/>
+                            </attribute>
+                            <attribute qualifier="description" type="java.lang.String">
+                                <persistence type="property"/>
+                            </attribute>
+                        </attributes>
+                        <indexes>
+                            <index name="codeIdx">
+                                <key attribute="code"/>
+                            </index>
+                        </indexes>
+                    </itemtype>
+                    <itemtype code="VariantProduct" extends="Product" autocreate="true" generate="true"/>
+                    <itemtype code="Category" autocreate="true" generate="true">
+                        <deployment table="Categories" typecode="142"/>
+                        <attributes>
+                            <attribute qualifier="code" type="java.lang.String">
+                                <persistence type="property"/>
+                            </attribute>
+                        </attributes>
+                    </itemtype>
+                    <itemtype code="Media" autocreate="true" generate="true">
+                        <deployment table="Medias" typecode="30"/>
+                    </itemtype>
+                    <itemtype code="CatalogMedia" extends="Media" autocreate="true" generate="true">
+                        <deployment table="CatalogMedias" typecode="31"/>
+                    </itemtype>
+                </itemtypes>
+            </items>
+        """.trimIndent()
+    }
+}
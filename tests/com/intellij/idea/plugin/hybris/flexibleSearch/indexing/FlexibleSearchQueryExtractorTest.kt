@@ -0,0 +1,99 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for Intellij IDEA.
+ * Copyright (C) 2019-2023 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.flexibleSearch.indexing
+
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertTrue
+
+class FlexibleSearchQueryExtractorTest {
+    private val extractor = FlexibleSearchQueryExtractor
+
+    @Test
+    fun test_extract_concatenationWithModelConstants() {
+        val text = """
+            private static final String QUERY = "SELECT {p.pk} FROM {" + ProductModel._TYPECODE + " AS p} "
+                + "WHERE {p." + ProductModel.APPROVALSTATUS + "} = ?status";
+        """.trimIndent()
+
+        val result = extractor.extract(text)
+
+        assertEquals(1, result.size)
+        assertEquals(text.indexOf("\"SELECT"), result[0].range.startOffset)
+        assertEquals(text.indexOf(";"), result[0].range.endOffset)
+        assertEquals(setOf("product"), result[0].types)
+        assertEquals(setOf("product.pk", "product.approvalstatus"), result[0].attributes)
+    }
+
+    @Test
+    fun test_extract_unaliasedColumnsReferToTheTable() {
+        val result = extractor.extract("String query = \"SELECT {pk} FROM {Order} WHERE {code} = ?code\";")
+
+        assertEquals(1, result.size)
+        assertEquals(setOf("order"), result[0].types)
+        assertEquals(setOf("order.pk", "order.code"), result[0].attributes)
+    }
+
+    @Test
+    fun test_extract_joinedTables() {
+        val result = extractor.extract(
+            "\"SELECT {p.pk} FROM {Product! AS p JOIN CatalogVersion AS cv ON {p.catalogVersion} = {cv.pk}} WHERE {cv.version} = 'Online'\""
+        )
+
+        assertEquals(1, result.size)
+        assertEquals(setOf("product", "catalogversion"), result[0].types)
+        assertEquals(setOf("product.pk", "product.catalogversion", "catalogversion.pk", "catalogversion.version"), result[0].attributes)
+    }
+
+    @Test
+    fun test_extract_ignoresNonQueryLiteralsAndComments() {
+        val result = extractor.extract(
+            """
+                // "SELECT {pk} FROM {Product}"
+                String message = "Select a product";
+                char quote = '"';
+            """.trimIndent()
+        )
+
+        assertTrue(result.isEmpty())
+    }
+
+    @Test
+    fun test_extract_groovySingleQuotedStrings() {
+        val text = """
+            def query = 'SELECT {p.pk} FROM {' + ProductModel._TYPECODE + ' AS p} ' +
+                '''WHERE {p.code} = ?code'''
+            def plain = 'SELECT {pk} FROM {Unit}'
+        """.trimIndent()
+
+        val result = extractor.extract(text, groovy = true)
+
+        assertEquals(2, result.size)
+        assertEquals(text.indexOf("'SELECT"), result[0].range.startOffset)
+        assertEquals(text.indexOf("\ndef plain"), result[0].range.endOffset)
+        assertEquals(setOf("product"), result[0].types)
+        assertEquals(setOf("product.pk", "product.code"), result[0].attributes)
+        assertEquals(setOf("unit"), result[1].types)
+    }
+
+    @Test
+    fun test_extract_singleQuotedCharsOutsideOfGroovy() {
+        assertTrue(extractor.extract("val query = 'SELECT {pk} FROM {Unit}'").isEmpty())
+    }
+}
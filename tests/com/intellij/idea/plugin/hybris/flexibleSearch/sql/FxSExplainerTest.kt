@@ -0,0 +1,103 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.flexibleSearch.sql
+
+import java.sql.Connection
+import kotlin.test.AfterTest
+import kotlin.test.BeforeTest
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertTrue
+
+/**
+ * Explains the queries against the embedded HSQLDB of the [FxSTestDatabase].
+ */
+class FxSExplainerTest {
+
+    private lateinit var connection: Connection
+
+    @BeforeTest
+    fun setUp() {
+        connection = FxSTestDatabase.open()
+    }
+
+    @AfterTest
+    fun tearDown() {
+        FxSTestDatabase.close(connection)
+    }
+
+    @Test
+    fun test_explain_indexedColumn() {
+        val plan = FxSExplainer.explain(
+            connection, FxSSqlDialect.HSQLDB,
+            "SELECT item_t0.PK FROM products item_t0 WHERE item_t0.p_code = ${FxSSqlDialect.EXPLAIN_PARAMETER}"
+        )
+
+        assertTrue(plan.rows.isNotEmpty())
+        assertEquals(emptySet(), plan.fullScans)
+    }
+
+    @Test
+    fun test_explain_nonIndexedColumn() {
+        val plan = FxSExplainer.explain(
+            connection, FxSSqlDialect.HSQLDB,
+            "SELECT item_t0.PK FROM products item_t0 WHERE item_t0.p_description = ${FxSSqlDialect.EXPLAIN_PARAMETER}"
+        )
+
+        assertEquals(setOf("products"), plan.fullScans)
+    }
+
+    @Test
+    fun test_explain_localizedColumn() {
+        val plan = FxSExplainer.explain(
+            connection, FxSSqlDialect.HSQLDB,
+            """
+                SELECT item_t0.PK FROM products item_t0
+                WHERE item_t0.p_code = '0'
+                AND (SELECT item_t0lp.p_name FROM productslp item_t0lp WHERE item_t0lp.ITEMPK = item_t0.PK AND item_t0lp.LANGPK = '0') = '0'
+            """.trimIndent()
+        )
+
+        assertEquals(emptySet(), plan.fullScans)
+    }
+
+    @Test
+    fun test_findFullScans_otherDialects() {
+        val mysqlPlan = listOf(
+            listOf("1", "SIMPLE", "item_t0", null, "ALL", null, null, null, null, "100", "10.0", "Using where"),
+            listOf("1", "SIMPLE", "item_t1", null, "ref", "products_code", "products_code", "767", "const", "1", "100.0", null),
+        ).map { row -> row.map { it ?: "" } }
+        val postgresqlPlan = listOf(
+            listOf("Nested Loop  (cost=0.00..35.50 rows=10 width=8)"),
+            listOf("  ->  Seq Scan on products item_t0  (cost=0.00..25.00 rows=6 width=8)"),
+            listOf("  ->  Index Scan using catalogs_pk on catalogs item_t1  (cost=0.15..8.17 rows=1 width=8)"),
+        )
+
+        assertEquals(setOf("item_t0"), FxSSqlDialect.MYSQL.findFullScans(mysqlPlan))
+        assertEquals(setOf("products"), FxSSqlDialect.POSTGRESQL.findFullScans(postgresqlPlan))
+    }
+
+    @Test
+    fun test_fromJdbcUrl() {
+        assertEquals(FxSSqlDialect.HSQLDB, FxSSqlDialect.fromJdbcUrl("jdbc:hsqldb:file:data/hsqldb/mydb;shutdown=true"))
+        assertEquals(FxSSqlDialect.MYSQL, FxSSqlDialect.fromJdbcUrl("jdbc:mysql://localhost/commerce?useConfigs=maxPerformance"))
+        assertEquals(FxSSqlDialect.POSTGRESQL, FxSSqlDialect.fromJdbcUrl("jdbc:postgresql://localhost:5432/commerce"))
+        assertEquals(null, FxSSqlDialect.fromJdbcUrl("jdbc:sqlserver://localhost:1433"))
+    }
+}
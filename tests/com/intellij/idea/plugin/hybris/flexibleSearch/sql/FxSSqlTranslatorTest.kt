@@ -0,0 +1,203 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.flexibleSearch.sql
+
+import com.intellij.idea.plugin.hybris.LightProjectFixture
+import com.intellij.idea.plugin.hybris.flexibleSearch.analysis.FxSQueryPerformanceFinding
+import com.intellij.idea.plugin.hybris.system.type.meta.TSMetaModelAccess
+import com.intellij.idea.plugin.hybris.system.type.meta.TSMetaModelStateService
+import com.intellij.openapi.components.service
+import com.intellij.psi.PsiFile
+import com.intellij.testFramework.runInEdtAndWait
+import java.sql.Connection
+import kotlin.test.AfterTest
+import kotlin.test.BeforeTest
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertTrue
+
+/**
+ * Translates FlexibleSearch queries with the Type System built from the test `items.xml` and executes the resulting SQL
+ * against the embedded HSQLDB of the [FxSTestDatabase], seeded with the schema generated from the same Type System.
+ */
+class FxSSqlTranslatorTest {
+
+    private lateinit var fixture: LightProjectFixture
+    private lateinit var connection: Connection
+
+    @BeforeTest
+    fun setUp() {
+        fixture = LightProjectFixture()
+        runInEdtAndWait { fixture.codeInsightFixture.addFileToProject("test-items.xml", ITEMS_XML) }
+
+        val stateService = fixture.project.service<TSMetaModelStateService>()
+        val deadline = System.currentTimeMillis() + TYPE_SYSTEM_TIMEOUT
+        stateService.init()
+        while (!stateService.initialized()) {
+            check(System.currentTimeMillis() < deadline) { "Type System is not built in $TYPE_SYSTEM_TIMEOUT ms" }
+            Thread.sleep(50)
+        }
+
+        connection = FxSTestDatabase.open(createSchema())
+    }
+
+    @AfterTest
+    fun tearDown() {
+        FxSTestDatabase.close(connection)
+        fixture.dispose()
+    }
+
+    @Test
+    fun test_createSchema() {
+        // the same schema is used by the tests which run without the Type System
+        assertEquals(FxSTestDatabase.DDL, createSchema())
+    }
+
+    @Test
+    fun test_translate_typeAndAttribute() {
+        val translation = translate("SELECT {p.pk} FROM {Product AS p} WHERE {p.code} = ?code")
+
+        assertEquals("SELECT p.PK FROM products p WHERE p.TypePkString IN (?) AND ( p.p_code = ? )", translation.sql)
+        assertEquals(listOf("typePks(Product)", "?code"), translation.parameters)
+        assertExecutable(translation)
+    }
+
+    @Test
+    fun test_translate_exactSubTypeWithoutAlias() {
+        val translation = translate("SELECT {pk} FROM {VariantProduct!}")
+
+        assertEquals("SELECT item_t0.PK FROM products item_t0 WHERE item_t0.TypePkString = ?", translation.sql)
+        assertEquals(listOf("typePk(VariantProduct)"), translation.parameters)
+        assertExecutable(translation)
+    }
+
+    @Test
+    fun test_translate_localizedAttribute() {
+        val translation = translate("SELECT {p.pk} FROM {Product AS p} WHERE {p.name[en]} = ?name")
+
+        assertEquals(
+            "SELECT p.PK FROM products p WHERE p.TypePkString IN (?) AND ( " +
+                "(SELECT plp.p_name FROM productslp plp WHERE plp.ITEMPK = p.PK AND plp.LANGPK = ? ) = ? )",
+            translation.sql
+        )
+        assertEquals(listOf("typePks(Product)", "language(en)", "?name"), translation.parameters)
+        assertExecutable(translation)
+    }
+
+    @Test
+    fun test_translate_outerJoinOfRelation() {
+        val translation = translate("SELECT {p.pk} FROM {Product AS p LEFT JOIN CategoryProductRelation AS r ON {r.target} = {p.pk}}")
+
+        assertEquals(
+            "SELECT p.PK FROM products p LEFT JOIN cat2prodrel r ON r.TypePkString = ? AND ( r.TargetPK = p.PK ) WHERE p.TypePkString IN (?)",
+            translation.sql
+        )
+        assertEquals(listOf("typePk(CategoryProductRelation)", "typePks(Product)"), translation.parameters)
+        assertExecutable(translation)
+    }
+
+    @Test
+    fun test_explain_indexedAttribute() {
+        val (translation, findings) = explain("SELECT {p.pk} FROM {Product AS p} WHERE {p.code} = ?code")
+
+        assertEquals("SELECT p.PK FROM products p WHERE p.TypePkString IN ('0') AND ( p.p_code = '0' )", translation.sql)
+        assertEquals(emptyList(), findings)
+    }
+
+    @Test
+    fun test_explain_nonIndexedAttribute() {
+        val (_, findings) = explain("SELECT {p.pk} FROM {Product AS p} WHERE {p.description} = ?description")
+
+        assertEquals(
+            listOf(FxSQueryPerformanceFinding.Kind.FULL_TABLE_SCAN, FxSQueryPerformanceFinding.Kind.MISSING_INDEX),
+            findings.map { it.kind }
+        )
+        assertEquals(listOf("p_description", "products"), findings.last().arguments)
+    }
+
+    private fun translate(query: String, parameter: String = FxSSqlTranslator.PARAMETER_PLACEHOLDER): FxSSqlTranslation {
+        lateinit var file: PsiFile
+        runInEdtAndWait { file = fixture.codeInsightFixture.configureByText("query.fxs", query) }
+
+        return fixture.readAction { FxSSqlTranslator.translate(file, TSMetaModelAccess.getInstance(fixture.project), parameter) }
+    }
+
+    private fun createSchema() = fixture.readAction { FxSTestDatabase.createSchema(TSMetaModelAccess.getInstance(fixture.project)) }
+
+    private fun explain(query: String): Pair<FxSSqlTranslation, List<FxSQueryPerformanceFinding>> {
+        val translation = translate(query, FxSSqlDialect.EXPLAIN_PARAMETER)
+        val plan = FxSExplainer.explain(connection, FxSSqlDialect.HSQLDB, translation.sql)
+
+        return translation to fixture.readAction { FxSExplainer.analyze(translation, plan) }
+    }
+
+    // every placeholder is bound, so the statement is valid for the database and not only textually correct
+    private fun assertExecutable(translation: FxSSqlTranslation) = connection.prepareStatement(translation.sql).use { statement ->
+        assertEquals(translation.parameters.size, statement.parameterMetaData.parameterCount)
+
+        translation.parameters.indices.forEach { statement.setString(it + 1, "0") }
+        statement.executeQuery().use { assertTrue(!it.next()) }
+    }
+
+    companion object {
+        private const val TYPE_SYSTEM_TIMEOUT = 30_000L
+
+        private val ITEMS_XML = """
+            <items xmlns:xsi="http://www.w3.org/2001/XMLSchema-instance" xsi:noNamespaceSchemaLocation="items.xsd">
+                <relations>
+                    <relation code="CategoryProductRelation" localized="false">
+                        <deployment table="Cat2ProdRel" typecode="143"/>
+                        <sourceElement qualifier="supercategories" type="Category" cardinality="many"/>
+                        <targetElement qualifier="products" type="Product" cardinality="many"/>
+                    </relation>
+                </relations>
+                <itemtypes>
+                    <itemtype code="Product" autocreate="true" generate="true">
+                        <deployment table="Products" typecode="1"/>
+                        <attributes>
+                            <attribute qualifier="code" type="java.lang.String">
+                                <persistence type="property"/>
+                            </attribute>
+                            <attribute qualifier="name" type="localized:java.lang.String">
+                                <persistence type="property"/>
+                            </attribute>
+                            <attribute qualifier="description" type="java.lang.String">
+                                <persistence type="property"/>
+                            </attribute>
+                        </attributes>
+                        <indexes>
+                            <index name="codeIdx">
+                                <key attribute="code"/>
+                            </index>
+                        </indexes>
+                    </itemtype>
+                    <itemtype code="VariantProduct" extends="Product" autocreate="true" generate="true"/>
+                    <itemtype code="Category" autocreate="true" generate="true">
+                        <deployment table="Categories" typecode="142"/>
+                        <attributes>
+                            <attribute qualifier="code" type="java.lang.String">
+                                <persistence type="property"/>
+                            </attribute>
+                        </attributes>
+                    </itemtype>
+                </itemtypes>
+            </items>
+        """.trimIndent()
+    }
+}
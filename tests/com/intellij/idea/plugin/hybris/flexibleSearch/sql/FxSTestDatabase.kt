@@ -0,0 +1,124 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.flexibleSearch.sql
+
+import com.intellij.idea.plugin.hybris.system.type.meta.TSMetaModelAccess
+import com.intellij.idea.plugin.hybris.system.type.meta.model.TSGlobalMetaItem
+import com.intellij.idea.plugin.hybris.system.type.meta.model.TSGlobalMetaRelation
+import com.intellij.idea.plugin.hybris.system.type.meta.model.TSMetaType
+import java.sql.Connection
+import java.sql.DriverManager
+
+/**
+ * Embedded HSQLDB with the deployment tables of the test Type System.
+ *
+ * Schema is generated from the Type System via the table and column rules of the [FxSSqlMapping],
+ * [DDL] is the schema of the `items.xml` of the `FxSSqlTranslatorTest` for the tests which run without the Type System.
+ */
+object FxSTestDatabase {
+
+    val DDL = listOf(
+        "CREATE TABLE cat2prodrel (PK BIGINT, TypePkString BIGINT, SourcePK BIGINT, TargetPK BIGINT, SequenceNumber INTEGER, RSequenceNumber INTEGER, PRIMARY KEY (PK))",
+        "CREATE INDEX cat2prodrel_source ON cat2prodrel (SourcePK)",
+        "CREATE INDEX cat2prodrel_target ON cat2prodrel (TargetPK)",
+        "CREATE TABLE categories (PK BIGINT, TypePkString BIGINT, p_code VARCHAR(255), PRIMARY KEY (PK))",
+        "CREATE TABLE products (PK BIGINT, TypePkString BIGINT, p_code VARCHAR(255), p_description VARCHAR(255), PRIMARY KEY (PK))",
+        "CREATE INDEX products_codeidx ON products (p_code)",
+        "CREATE TABLE productslp (ITEMPK BIGINT, LANGPK BIGINT, p_name VARCHAR(255), PRIMARY KEY (ITEMPK, LANGPK))",
+    )
+
+    private val STRING_TYPES = setOf("java.lang.String", "String")
+
+    fun open(ddl: List<String> = DDL): Connection = DriverManager.getConnection("jdbc:hsqldb:mem:fxs${System.nanoTime()}", "SA", "")
+        .also { connection ->
+            connection.createStatement().use { statement -> ddl.forEach { statement.execute(it) } }
+        }
+
+    fun close(connection: Connection) {
+        connection.createStatement().use { it.execute("SHUTDOWN") }
+        connection.close()
+    }
+
+    /**
+     * Tables, ordered by name, with their indexes: declared indexes of the items and source/target indexes of the relations.
+     */
+    fun createSchema(metaModelAccess: TSMetaModelAccess): List<String> {
+        val itemTables = metaModelAccess.getAll<TSGlobalMetaItem>(TSMetaType.META_ITEM)
+            .sortedBy { it.name }
+            .groupBy { FxSSqlMapping.getTable(it) }
+            .map { (table, metaItems) -> table to createItemTable(table, metaItems) }
+        val relationTables = metaModelAccess.getAll<TSGlobalMetaRelation>(TSMetaType.META_RELATION)
+            .map { FxSSqlMapping.getTable(it) }
+            .distinct()
+            .map { it to createRelationTable(it) }
+
+        return (itemTables + relationTables)
+            .sortedBy { it.first }
+            .flatMap { it.second }
+    }
+
+    private fun createItemTable(table: String, metaItems: List<TSGlobalMetaItem>): List<String> {
+        val (localized, attributes) = metaItems
+            .flatMap { it.attributes.values }
+            .filterNot { it.isDynamic }
+            .partition { it.isLocalized }
+        val columns = listOf("${FxSSqlMapping.COLUMN_PK} BIGINT", "${FxSSqlMapping.COLUMN_TYPE_PK} BIGINT") +
+            attributes.map { "${FxSSqlMapping.getColumn(it.name, it)} ${getColumnType(it.type)}" }
+        val indexes = metaItems
+            .flatMap { it.indexes.values }
+            .map { index ->
+                val keys = index.keys.map { key -> FxSSqlMapping.getColumn(key, metaItems.firstNotNullOfOrNull { it.allAttributes[key] }) }
+                "CREATE INDEX ${table}_${index.name.lowercase()} ON $table (${keys.joinToString()})"
+            }
+        val localizedTable = localized
+            .takeIf { it.isNotEmpty() }
+            ?.map { "${FxSSqlMapping.getColumn(it.name, it)} ${getColumnType(it.type)}" }
+            ?.let {
+                val localizedColumns = listOf("${FxSSqlMapping.COLUMN_ITEM_PK} BIGINT", "${FxSSqlMapping.COLUMN_LANGUAGE_PK} BIGINT") + it
+                "CREATE TABLE ${FxSSqlMapping.getLocalizedTable(table)} (${localizedColumns.joinToString()}, " +
+                    "PRIMARY KEY (${FxSSqlMapping.COLUMN_ITEM_PK}, ${FxSSqlMapping.COLUMN_LANGUAGE_PK}))"
+            }
+
+        return listOf("CREATE TABLE $table (${columns.joinToString()}, PRIMARY KEY (${FxSSqlMapping.COLUMN_PK}))") +
+            indexes +
+            listOfNotNull(localizedTable)
+    }
+
+    private fun createRelationTable(table: String): List<String> {
+        val source = FxSSqlMapping.getLinkColumn("source")
+        val target = FxSSqlMapping.getLinkColumn("target")
+        val columns = listOf(
+            "${FxSSqlMapping.getLinkColumn("pk")} BIGINT",
+            "${FxSSqlMapping.getLinkColumn("itemtype")} BIGINT",
+            "$source BIGINT",
+            "$target BIGINT",
+            "${FxSSqlMapping.getLinkColumn("sequencenumber")} INTEGER",
+            "${FxSSqlMapping.getLinkColumn("reversesequencenumber")} INTEGER",
+        )
+
+        return listOf(
+            "CREATE TABLE $table (${columns.joinToString()}, PRIMARY KEY (${FxSSqlMapping.COLUMN_PK}))",
+            "CREATE INDEX ${table}_source ON $table ($source)",
+            "CREATE INDEX ${table}_target ON $table ($target)",
+        )
+    }
+
+    private fun getColumnType(type: String?) = if (type?.removePrefix("localized:") in STRING_TYPES) "VARCHAR(255)"
+    else "BIGINT"
+}
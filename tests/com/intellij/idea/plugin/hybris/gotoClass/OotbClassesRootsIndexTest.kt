@@ -0,0 +1,133 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.gotoClass
+
+import com.intellij.idea.plugin.hybris.LightProjectFixture
+import com.intellij.openapi.roots.libraries.Library
+import com.intellij.openapi.vfs.JarFileSystem
+import com.intellij.openapi.vfs.LocalFileSystem
+import com.intellij.openapi.vfs.VirtualFile
+import com.intellij.testFramework.PsiTestUtil
+import com.intellij.testFramework.runInEdtAndWait
+import java.nio.file.Files
+import java.nio.file.Path
+import java.util.zip.ZipEntry
+import java.util.zip.ZipOutputStream
+import kotlin.io.path.createDirectories
+import kotlin.io.path.createFile
+import kotlin.io.path.outputStream
+import kotlin.test.AfterTest
+import kotlin.test.BeforeTest
+import kotlin.test.Test
+import kotlin.test.assertFalse
+import kotlin.test.assertTrue
+
+class OotbClassesRootsIndexTest {
+
+    private lateinit var fixture: LightProjectFixture
+    private lateinit var hybris: Path
+    private val libraries = mutableListOf<Library>()
+
+    @BeforeTest
+    fun setUp() {
+        fixture = LightProjectFixture()
+        hybris = Path.of(fixture.codeInsightFixture.tempDirPath).resolve("hybris")
+    }
+
+    @AfterTest
+    fun tearDown() {
+        runInEdtAndWait { libraries.forEach { PsiTestUtil.removeProjectLibrary(fixture.codeInsightFixture.module, it) } }
+        fixture.dispose()
+    }
+
+    @Test
+    fun test_contains_ootbRules() {
+        val bootstrapJar = createJar("bin/platform/bootstrap/bin/ybootstrap.jar")
+        val modelsJar = createJar("bin/platform/ext/core/models.jar")
+        val extensionClasses = createClasses("bin/custom/training", extension = true)
+        val thirdPartyJar = createJar("bin/custom/training/lib/thirdparty.jar")
+        val plainClasses = createClasses("bin/custom/plain", extension = false)
+        val notInLibrary = createClasses("bin/custom/other", extension = true)
+
+        addLibrary("platform", bootstrapJar, modelsJar)
+        addLibrary("training", extensionClasses, thirdPartyJar)
+        addLibrary("plain", plainClasses)
+
+        assertTrue(contains(bootstrapJar), "jars of the platform bootstrap/bin are OOTB")
+        assertTrue(contains(modelsJar), "models.jar is OOTB")
+        assertTrue(contains(extensionClasses), "classes of an extension are OOTB")
+        assertFalse(contains(thirdPartyJar), "other jars are not OOTB")
+        assertFalse(contains(plainClasses), "classes of a directory without extensioninfo.xml are not OOTB")
+        assertFalse(contains(notInLibrary), "classes outside of the libraries are not OOTB")
+    }
+
+    @Test
+    fun test_contains_rootsChange() {
+        val extensionClasses = createClasses("bin/custom/training", extension = true)
+        val library = addLibrary("training", extensionClasses)
+
+        assertTrue(contains(extensionClasses))
+
+        runInEdtAndWait { PsiTestUtil.removeProjectLibrary(fixture.codeInsightFixture.module, library) }
+        libraries.remove(library)
+
+        assertFalse(contains(extensionClasses), "roots must be re-collected once the library is removed")
+    }
+
+    private fun contains(classRoot: VirtualFile) = fixture.readAction {
+        val classFile = classRoot.findFileByRelativePath(CLASS_FILE)!!
+        OotbClassesRootsIndex.getInstance(fixture.project).contains(classFile)
+    }
+
+    private fun addLibrary(name: String, vararg classRoots: VirtualFile): Library {
+        lateinit var library: Library
+        runInEdtAndWait { library = PsiTestUtil.addProjectLibrary(fixture.codeInsightFixture.module, name, classRoots.toList(), emptyList()) }
+        return library.also { libraries.add(it) }
+    }
+
+    private fun createJar(path: String): VirtualFile {
+        val jar = hybris.resolve(path)
+        jar.parent.createDirectories()
+
+        ZipOutputStream(jar.outputStream()).use { zip ->
+            zip.putNextEntry(ZipEntry(CLASS_FILE))
+            zip.closeEntry()
+        }
+
+        val localJar = LocalFileSystem.getInstance().refreshAndFindFileByNioFile(jar)!!
+        return JarFileSystem.getInstance().getJarRootForLocalFile(localJar)!!
+    }
+
+    private fun createClasses(extensionPath: String, extension: Boolean): VirtualFile {
+        val extensionDirectory = hybris.resolve(extensionPath)
+        val classes = extensionDirectory.resolve("classes")
+
+        classes.resolve(CLASS_FILE).parent.createDirectories()
+        classes.resolve(CLASS_FILE).createFile()
+        if (extension) Files.writeString(extensionDirectory.resolve("extensioninfo.xml"), "<extensioninfo/>")
+
+        return LocalFileSystem.getInstance().refreshAndFindFileByNioFile(extensionDirectory)!!
+            .also { it.refresh(false, true) }
+            .findChild("classes")!!
+    }
+
+    companion object {
+        private const val CLASS_FILE = "com/training/Product.class"
+    }
+}
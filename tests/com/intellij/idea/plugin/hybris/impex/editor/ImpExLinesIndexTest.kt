@@ -0,0 +1,76 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.impex.editor
+
+import com.intellij.idea.plugin.hybris.impex.editor.ImpExLinesIndex.LineKind
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertTrue
+
+class ImpExLinesIndexTest {
+
+    @Test
+    fun test_forEachLine_visibleLinesOnly() {
+        // 0: macro, 1: header, 2-4: values, 5: empty, 6: header, 7-8: values
+        val index = ImpExLinesIndex(
+            intArrayOf(1, 6),
+            arrayOf(intArrayOf(2, 3, 4), intArrayOf(7, 8))
+        )
+
+        assertEquals(
+            listOf(3 to LineKind.VALUE_EVEN, 4 to LineKind.VALUE_ODD, 6 to LineKind.HEADER, 7 to LineKind.VALUE_ODD),
+            lines(index, 3, 7)
+        )
+        assertEquals(
+            listOf(1 to LineKind.HEADER, 2 to LineKind.VALUE_ODD),
+            lines(index, 0, 2)
+        )
+        assertEquals(emptyList(), lines(index, 9, 20))
+        assertEquals(1 until 3, index.getValueLines(0, 3, 10))
+    }
+
+    /**
+     * Whole generated file is resolved line by line, the viewport only to the lines of the visible area.
+     * Timings are measured by the `ImpExLinesIndexBenchmark`.
+     */
+    @Test
+    fun test_forEachLine_generated() {
+        val headerLines = IntArray(BLOCKS) { it * (VALUE_LINES + 1) }
+        val valueLines = Array(BLOCKS) { block -> IntArray(VALUE_LINES) { headerLines[block] + 1 + it } }
+        val index = ImpExLinesIndex(headerLines, valueLines)
+
+        var fileHighlighters = 0
+        index.forEachLine(0, Int.MAX_VALUE) { _, _ -> fileHighlighters++ }
+
+        var viewportHighlighters = 0
+        index.forEachLine(index.linesCount / 2 - VIEWPORT, index.linesCount / 2 + 2 * VIEWPORT) { _, _ -> viewportHighlighters++ }
+
+        assertEquals(index.linesCount, fileHighlighters)
+        assertTrue(viewportHighlighters <= 3 * VIEWPORT + 1)
+    }
+
+    private fun lines(index: ImpExLinesIndex, fromLine: Int, toLine: Int) = mutableListOf<Pair<Int, LineKind>>()
+        .apply { index.forEachLine(fromLine, toLine) { line, kind -> add(line to kind) } }
+
+    companion object {
+        private const val BLOCKS = 300
+        private const val VALUE_LINES = 999
+        private const val VIEWPORT = 60
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.impex.editor
+
+import com.intellij.idea.plugin.hybris.LightProjectFixture
+import com.intellij.idea.plugin.hybris.impex.psi.ImpexFile
+import com.intellij.testFramework.runInEdtAndWait
+import kotlin.test.AfterTest
+import kotlin.test.BeforeTest
+import kotlin.test.Test
+import kotlin.test.assertEquals
+
+class ImpExTableLayoutTest {
+
+    private lateinit var fixture: LightProjectFixture
+    private lateinit var file: ImpexFile
+    private lateinit var otherFile: ImpexFile
+
+    @BeforeTest
+    fun setUp() {
+        fixture = LightProjectFixture()
+        runInEdtAndWait {
+            file = fixture.codeInsightFixture.addFileToProject("test.impex", TEXT) as ImpexFile
+            otherFile = fixture.codeInsightFixture.addFileToProject("other.impex", TEXT) as ImpexFile
+        }
+    }
+
+    @AfterTest
+    fun tearDown() = fixture.dispose()
+
+    @Test
+    fun test_getColumnValues_headerBlockIsResolved() {
+        val values = fixture.readAction {
+            val layout = ImpExTableLayout.getInstance(file)!!
+            file.getHeaderLines().keys
+                .map { headerLine -> layout.getColumnValues(headerLine, 0, 0, Int.MAX_VALUE).map { file.text.substring(it.startOffset, it.endOffset).trim() } }
+        }
+
+        assertEquals(listOf(listOf("product1", "product2"), listOf("category1")), values)
+    }
+
+    @Test
+    fun test_getColumnValues_visibleLinesOnly() {
+        val values = fixture.readAction {
+            val headerLine = file.getHeaderLines().keys.first()
+            ImpExTableLayout.getInstance(file)!!.getColumnValues(headerLine, 0, 2, 2)
+                .map { file.text.substring(it.startOffset, it.endOffset).trim() }
+        }
+
+        assertEquals(listOf("product2"), values)
+    }
+
+    @Test
+    fun test_getColumnValues_headerLineOfAnotherFile() {
+        val values = fixture.readAction {
+            ImpExTableLayout.getInstance(file)!!.getColumnValues(otherFile.getHeaderLines().keys.first(), 0, 0, Int.MAX_VALUE)
+        }
+
+        assertEquals(emptyList(), values)
+    }
+
+    companion object {
+        private val TEXT = """
+            INSERT_UPDATE Product; code[unique = true]; name[lang = en]
+            ; product1 ; First
+            ; product2 ; Second
+
+            INSERT_UPDATE Category; code[unique = true]
+            ; category1
+        """.trimIndent()
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.impex.formatting
+
+import com.intellij.idea.plugin.hybris.impex.formatting.ImpExColumnWidthsModel.Metrics
+import kotlin.test.Test
+import kotlin.test.assertContentEquals
+import kotlin.test.assertEquals
+
+class ImpExColumnWidthsModelTest {
+
+    @Test
+    fun test_computeStarts_tablifiedHeader() {
+        val rows = listOf(
+            Row("INSERT_UPDATE Product", listOf("; code[unique = true]", "; name[lang = en]", "; approvalStatus(code)")),
+            Row(null, listOf("; product1", "; Very long product name", "; approved")),
+            Row(null, listOf("; p2", "; Short", "; check")),
+        )
+
+        val starts = ImpExColumnWidthsModel.computeStarts(rows.map { it.metrics() })
+
+        assertContentEquals(intArrayOf(22, 44, 69), starts)
+        assertEquals(
+            """
+                INSERT_UPDATE Product ; code[unique = true] ; name[lang = en]        ; approvalStatus(code)
+                                      ; product1            ; Very long product name ; approved
+                                      ; p2                  ; Short                  ; check
+            """.trimIndent(),
+            render(rows, starts)
+        )
+    }
+
+    private fun render(rows: List<Row>, starts: IntArray) = rows.joinToString("\n") { row ->
+        val metrics = row.metrics()
+        buildString {
+            append(row.prefix ?: "")
+            row.cells.forEachIndexed { column, cell ->
+                val spaces = if (column == 0 && row.prefix == null) starts[0]
+                else starts[column] - ImpExColumnWidthsModel.end(metrics, column - 1, starts)
+                append(" ".repeat(spaces)).append(cell)
+            }
+        }
+    }
+
+    private class Row(val prefix: String?, val cells: List<String>) {
+        fun metrics() = Metrics(
+            prefix?.length,
+            IntArray(cells.size) { if (it == 0 && prefix == null) 0 else GAP },
+            IntArray(cells.size - 1) { cells[it].length }
+        )
+    }
+
+    companion object {
+        private const val GAP = 1
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.impex.psi
+
+import com.intellij.idea.plugin.hybris.LightProjectFixture
+import com.intellij.idea.plugin.hybris.impex.psi.ImpexLeafReparser.Token
+import com.intellij.openapi.command.WriteCommandAction
+import com.intellij.psi.PsiDocumentManager
+import com.intellij.psi.PsiFile
+import com.intellij.psi.SyntaxTraverser
+import com.intellij.testFramework.runInEdtAndWait
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertFalse
+import kotlin.test.assertNotSame
+import kotlin.test.assertSame
+import kotlin.test.assertTrue
+
+class ImpexLeafReparserTest {
+
+    @Test
+    fun test_canReplace_fieldValue() {
+        val text = """
+            INSERT_UPDATE Product; code[unique = true]; name[lang = en]
+            ; product1 ; First
+            ; product2 ; Second
+        """.trimIndent()
+
+        assertAcceptedAndStable(text, text.indexOf("product2"), "product22")
+        assertAcceptedAndStable(text, text.indexOf("Product"), "Products")
+        assertAcceptedAndStable(text, text.indexOf("code"), "codes")
+    }
+
+    @Test
+    fun test_canReplace_typeChange() {
+        val text = """
+            INSERT_UPDATE Product; code[unique = true]
+            ; product1
+        """.trimIndent()
+
+        assertRejected(text, text.indexOf("product1"), "<null>")
+        assertRejected(text, text.indexOf("INSERT_UPDATE"), "INSERT_UPDATEX")
+    }
+
+    @Test
+    fun test_canReplace_multiLineLexerState() {
+        val text = """
+            ${'$'}START_USERRIGHTS
+            Type;UID;MemberOfGroups;Password;Target;read;change
+            UserGroup;employeegroup;;;;;
+            ;;;;Product;+;-
+            ${'$'}END_USERRIGHTS
+        """.trimIndent()
+
+        // user rights lines cannot be re-lexed standalone, full reparse is required
+        assertRejected(text, text.indexOf("employeegroup"), "employeegroups")
+    }
+
+    @Test
+    fun test_reparse_keepsUntouchedPsi() {
+        val text = """
+            INSERT_UPDATE Product; code[unique = true]; name[lang = en]
+            ; product1 ; First
+            ; product2 ; Second
+        """.trimIndent()
+        val offset = text.indexOf("product2") + 1
+        val fixture = LightProjectFixture()
+
+        try {
+            lateinit var file: PsiFile
+            runInEdtAndWait { file = fixture.codeInsightFixture.configureByText("test.impex", text) }
+            val (leavesBefore, childrenBefore) = fixture.readAction { leaves(file) to file.children.toList() }
+            val edited = fixture.readAction { leavesBefore.indexOfFirst { it.textRange.contains(offset) } }
+
+            runInEdtAndWait {
+                WriteCommandAction.runWriteCommandAction(fixture.project) {
+                    val documentManager = PsiDocumentManager.getInstance(fixture.project)
+                    val document = documentManager.getDocument(file)!!
+                    document.insertString(offset, "x")
+                    documentManager.commitDocument(document)
+                }
+            }
+
+            val (leavesAfter, childrenAfter) = fixture.readAction { leaves(file) to file.children.toList() }
+
+            assertEquals("pxroduct2", fixture.readAction { leavesAfter[edited].text })
+            assertEquals(leavesBefore.size, leavesAfter.size)
+            leavesBefore.indices
+                .filter { it != edited }
+                .forEach { assertSame(leavesBefore[it], leavesAfter[it], "Leaf #$it must be kept") }
+            // composite elements, e.g. header and value lines, are kept as well
+            assertEquals(childrenBefore.size, childrenAfter.size)
+            childrenBefore.indices.forEach { assertSame(childrenBefore[it], childrenAfter[it]) }
+        } finally {
+            fixture.dispose()
+        }
+    }
+
+    @Test
+    fun test_reparse_keepsCachesOfUntouchedBlocks() {
+        val text = """
+            INSERT_UPDATE Product; code[unique = true]; name[lang = en]
+            ; product1 ; First
+            INSERT_UPDATE Category; code[unique = true]; name[lang = en]
+            ; category1 ; First
+        """.trimIndent()
+        val offset = text.indexOf("category1") + 1
+        val fixture = LightProjectFixture()
+
+        try {
+            lateinit var file: PsiFile
+            runInEdtAndWait { file = fixture.codeInsightFixture.configureByText("test.impex", text) }
+            val (untouched, edited) = fixture.readAction { file.children.filterIsInstance<ImpexHeaderLine>().map { it.fullHeaderParameterList.first() } }
+            val valueGroupsBefore = fixture.readAction { untouched.valueGroups to edited.valueGroups }
+
+            runInEdtAndWait {
+                WriteCommandAction.runWriteCommandAction(fixture.project) {
+                    val documentManager = PsiDocumentManager.getInstance(fixture.project)
+                    val document = documentManager.getDocument(file)!!
+                    document.insertString(offset, "x")
+                    documentManager.commitDocument(document)
+                }
+            }
+
+            fixture.readAction {
+                assertSame(valueGroupsBefore.first, untouched.valueGroups, "Cache of the untouched block must be kept")
+                assertNotSame(valueGroupsBefore.second, edited.valueGroups, "Cache of the edited block must be recalculated")
+                assertEquals("cxategory1", edited.valueGroups.single().value?.text?.trim())
+                assertEquals(0, untouched.columnNumber)
+            }
+        } finally {
+            fixture.dispose()
+        }
+    }
+
+    private fun assertAcceptedAndStable(text: String, offset: Int, newText: String) {
+        val (tokens) = ImpexLeafReparser.lex(text)
+        val (line, index) = lineAt(tokens, offset)
+
+        assertTrue(ImpexLeafReparser.canReplace(line, index, newText))
+
+        // full re-lex must differ only by the edited token, so the parser builds the same tree and other PSI is kept
+        val tokenIndex = tokenIndexAt(tokens, offset)
+        val expected = tokens.toMutableList()
+        expected[tokenIndex] = Token(tokens[tokenIndex].type, newText)
+
+        val edited = text.substring(0, offset) + newText + text.substring(offset + tokens[tokenIndex].text.length)
+        assertEquals(expected, ImpexLeafReparser.lex(edited).first)
+    }
+
+    private fun assertRejected(text: String, offset: Int, newText: String) {
+        val (tokens) = ImpexLeafReparser.lex(text)
+        val (line, index) = lineAt(tokens, offset)
+
+        assertFalse(ImpexLeafReparser.canReplace(line, index, newText))
+    }
+
+    private fun tokenIndexAt(tokens: List<Token>, offset: Int): Int {
+        var start = 0
+        tokens.forEachIndexed { index, token ->
+            if (offset < start + token.text.length) return index
+            start += token.text.length
+        }
+        return -1
+    }
+
+    private fun lineAt(tokens: List<Token>, offset: Int): Pair<List<Token>, Int> {
+        val tokenIndex = tokenIndexAt(tokens, offset)
+        val start = (tokenIndex - 1 downTo 0).firstOrNull { tokens[it].type == ImpexTypes.CRLF }
+            ?.let { it + 1 }
+            ?: 0
+        val end = (tokenIndex until tokens.size).firstOrNull { tokens[it].type == ImpexTypes.CRLF }
+            ?: (tokens.size - 1)
+
+        return tokens.subList(start, end + 1) to tokenIndex - start
+    }
+
+    private fun leaves(file: PsiFile) = SyntaxTraverser.psiTraverser(file)
+        .filter { it.firstChild == null }
+        .toList()
+}
@@ -0,0 +1,201 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.project.configurators.impl
+
+import com.intellij.idea.plugin.hybris.LightProjectFixture
+import com.intellij.idea.plugin.hybris.common.HybrisConstants
+import com.intellij.idea.plugin.hybris.project.configurators.LibRootsPlan
+import com.intellij.idea.plugin.hybris.project.configurators.SharedLibraries
+import com.intellij.idea.plugin.hybris.project.descriptors.DefaultHybrisProjectDescriptor
+import com.intellij.idea.plugin.hybris.project.descriptors.JavaLibraryDescriptor
+import com.intellij.idea.plugin.hybris.project.descriptors.impl.ConfigModuleDescriptor
+import com.intellij.openapi.externalSystem.service.project.IdeModifiableModelsProviderImpl
+import com.intellij.openapi.progress.EmptyProgressIndicator
+import com.intellij.openapi.roots.LibraryOrderEntry
+import com.intellij.openapi.roots.OrderRootType
+import com.intellij.openapi.vfs.LocalFileSystem
+import com.intellij.openapi.vfs.VfsUtil
+import com.intellij.testFramework.runInEdtAndWait
+import java.io.File
+import java.nio.file.Files
+import java.util.jar.JarEntry
+import java.util.jar.JarOutputStream
+import java.util.zip.CRC32
+import java.util.zip.ZipEntry
+import kotlin.random.Random
+import kotlin.test.AfterTest
+import kotlin.test.BeforeTest
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertFalse
+import kotlin.test.assertNotEquals
+import kotlin.test.assertTrue
+
+/**
+ * Jars are shared between the extensions by the content hash, computed from the tail of the jar, not by the file name.
+ */
+class DefaultLibRootsConfiguratorTest {
+
+    private lateinit var directory: File
+
+    @BeforeTest
+    fun setUp() {
+        directory = Files.createTempDirectory("lib-roots").toFile()
+    }
+
+    @AfterTest
+    fun tearDown() {
+        directory.deleteRecursively()
+    }
+
+    @Test
+    fun test_sameNameDifferentContent_notShared() {
+        val first = jar("extension1", "commons.jar", "a/A.class" to "first".toByteArray())
+        val second = jar("extension2", "commons.jar", "a/A.class" to "second".toByteArray())
+
+        val sharedLibraries = SharedLibraries(listOf(plan(first), plan(second)))
+
+        assertNotEquals(DefaultLibRootsConfigurator.getContentHash(first), DefaultLibRootsConfigurator.getContentHash(second))
+        assertFalse(sharedLibraries.isShared(jar(first)))
+        assertFalse(sharedLibraries.isShared(jar(second)))
+    }
+
+    @Test
+    fun test_sameContent_shared() {
+        val first = jar("extension1", "commons.jar", "a/A.class" to "same".toByteArray())
+        val second = first.copyTo(File(directory, "extension2/lib/commons.jar"))
+        val renamed = first.copyTo(File(directory, "extension3/lib/commons-1.0.jar"))
+
+        val sharedLibraries = SharedLibraries(listOf(plan(first), plan(second), plan(renamed)))
+
+        assertTrue(sharedLibraries.isShared(jar(first)))
+        assertTrue(sharedLibraries.isShared(jar(second)))
+        assertTrue(sharedLibraries.isShared(jar(renamed)))
+    }
+
+    @Test
+    fun test_differenceOutsideOfTail_detected() {
+        // entries are larger than the hashed tail, only the CRC of the first entry in the central directory differs
+        val content = Random(42).nextBytes(LARGE_ENTRY_SIZE)
+        val changed = content.copyOf().also { it[0] = (it[0] + 1).toByte() }
+        val first = jar("extension1", "large.jar", "a/A.bin" to content, "b/B.bin" to content)
+        val second = jar("extension2", "large.jar", "a/A.bin" to changed, "b/B.bin" to content)
+
+        assertEquals(first.length(), second.length())
+        assertNotEquals(DefaultLibRootsConfigurator.getContentHash(first), DefaultLibRootsConfigurator.getContentHash(second))
+    }
+
+    @Test
+    fun test_unreadableJars_notShared() {
+        val first = File(directory, "extension1/lib/missing.jar")
+        val second = File(directory, "extension2/lib/missing.jar")
+
+        assertNotEquals(DefaultLibRootsConfigurator.getContentHash(first), DefaultLibRootsConfigurator.getContentHash(second))
+    }
+
+    @Test
+    fun test_folderWithSharedJars_referencesSharedLibraryOnly() {
+        val own = jar("extension1", "own.jar", "o/O.class" to "own".toByteArray())
+        val commons = jar("extension1", "commons.jar", "c/C.class" to "commons".toByteArray())
+        // same jar in the second folder of the same module
+        val webCommons = commons.copyTo(File(directory, "extension1/web/webroot/WEB-INF/lib/commons.jar"))
+        val plan = LibRootsPlan(
+            null,
+            listOf(
+                library(own.parentFile, true, own, commons),
+                library(webCommons.parentFile, false, webCommons)
+            )
+        )
+        val sharedLibraries = SharedLibraries(listOf(plan))
+        LocalFileSystem.getInstance().refreshAndFindFileByIoFile(directory)
+
+        val fixture = LightProjectFixture()
+        try {
+            runInEdtAndWait {
+                val modifiableModelsProvider = IdeModifiableModelsProviderImpl(fixture.project)
+                try {
+                    val modifiableRootModel = modifiableModelsProvider.getModifiableRootModel(fixture.codeInsightFixture.module)
+                    DefaultLibRootsConfigurator().configure(
+                        EmptyProgressIndicator(),
+                        plan,
+                        sharedLibraries,
+                        modifiableRootModel,
+                        ConfigModuleDescriptor(File(directory, "extension1"), DefaultHybrisProjectDescriptor()),
+                        modifiableModelsProvider
+                    )
+
+                    val moduleLibraryUrls = modifiableRootModel.moduleLibraryTable.libraries
+                        .flatMap { modifiableModelsProvider.getModifiableLibraryModel(it).getUrls(OrderRootType.CLASSES).toList() }
+                    assertEquals(listOf(VfsUtil.getUrlForLibraryRoot(own)), moduleLibraryUrls)
+
+                    val sharedEntries = modifiableRootModel.orderEntries
+                        .filterIsInstance<LibraryOrderEntry>()
+                        .filter { it.libraryName?.startsWith(HybrisConstants.SHARED_LIBRARY_PREFIX) == true }
+                    assertEquals(listOf(HybrisConstants.SHARED_LIBRARY_PREFIX + commons.name), sharedEntries.map { it.libraryName })
+                    // exported by the first folder only
+                    assertTrue(sharedEntries.single().isExported)
+
+                    // own.jar and the shared commons.jar instead of both folders with all their jars
+                    assertEquals(2, sharedLibraries.rootsCount)
+                    assertEquals(5, sharedLibraries.rootsWithoutSharingCount)
+                } finally {
+                    modifiableModelsProvider.dispose()
+                }
+            }
+        } finally {
+            fixture.dispose()
+        }
+    }
+
+    private fun library(folder: File, exported: Boolean, vararg jars: File) = LibRootsPlan.Library(
+        JavaLibraryDescriptor(libraryFile = folder, jarFiles = jars.toSet(), exported = exported),
+        emptyList(),
+        emptyList(),
+        jars.map { jar(it) }
+    )
+
+    private fun jar(extension: String, name: String, vararg entries: Pair<String, ByteArray>) = File(directory, "$extension/lib/$name")
+        .also { file ->
+            file.parentFile.mkdirs()
+            JarOutputStream(file.outputStream()).use { output ->
+                entries.forEach { (entryName, content) ->
+                    // stored entries keep the length of the jar independent of the content
+                    output.putNextEntry(JarEntry(entryName).also {
+                        it.time = 0
+                        it.method = ZipEntry.STORED
+                        it.size = content.size.toLong()
+                        it.crc = CRC32().apply { update(content) }.value
+                    })
+                    output.write(content)
+                    output.closeEntry()
+                }
+            }
+        }
+
+    private fun jar(file: File) = LibRootsPlan.Jar(file, DefaultLibRootsConfigurator.getContentHash(file))
+
+    private fun plan(file: File) = LibRootsPlan(
+        null,
+        listOf(LibRootsPlan.Library(JavaLibraryDescriptor(libraryFile = file.parentFile), emptyList(), emptyList(), listOf(jar(file))))
+    )
+
+    companion object {
+        private const val LARGE_ENTRY_SIZE = 128 * 1024
+    }
+}
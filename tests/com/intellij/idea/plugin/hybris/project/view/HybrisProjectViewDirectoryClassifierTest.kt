@@ -0,0 +1,53 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.intellij.idea.plugin.hybris.project.view
+
+import com.intellij.idea.plugin.hybris.common.HybrisConstants
+import kotlin.test.Test
+import kotlin.test.assertEquals
+
+class HybrisProjectViewDirectoryClassifierTest {
+
+    @Test
+    fun test_classify() {
+        assertEquals(true, HybrisProjectViewDirectoryClassifier.isExternalModule(classify("/custom/angular", false, HybrisConstants.FILE_ANGULAR_JSON)))
+        assertEquals(true, HybrisProjectViewDirectoryClassifier.isExternalModule(classify("/custom/gradle", false, HybrisConstants.GRADLE_SETTINGS_KTS)))
+        assertEquals(false, HybrisProjectViewDirectoryClassifier.isExternalModule(classify("/custom/extension", true, "pom.xml")))
+        assertEquals(false, HybrisProjectViewDirectoryClassifier.isExternalModule(classify("/hybris/bin/platform/ext/core", false, "pom.xml")))
+        assertEquals(true, HybrisProjectViewDirectoryClassifier.isExternalModule(classify("/hybris/bin/platform/ext/ui", false, HybrisConstants.FILE_ANGULAR_JSON)))
+        assertEquals(false, HybrisProjectViewDirectoryClassifier.isExternalModule(classify("/custom/plain", false)))
+    }
+
+    @Test
+    fun test_classify_flags() {
+        assertEquals(HybrisProjectViewDirectoryClassifier.GRADLE_KTS, classify("/custom/gradle", false, HybrisConstants.GRADLE_BUILD_KTS))
+        assertEquals(
+            HybrisProjectViewDirectoryClassifier.MAVEN or HybrisProjectViewDirectoryClassifier.ECLIPSE,
+            classify("/custom/maven", false, "pom.xml", HybrisConstants.DOT_PROJECT)
+        )
+        // build files of the platform extensions are ignored, but Angular applications are still detected
+        assertEquals(
+            HybrisProjectViewDirectoryClassifier.HYBRIS or HybrisProjectViewDirectoryClassifier.ANGULAR,
+            classify("/hybris/bin/platform/ext/ui", true, HybrisConstants.FILE_ANGULAR_JSON, HybrisConstants.GRADLE_BUILD)
+        )
+        assertEquals(0, classify("/custom/plain", false))
+    }
+
+    private fun classify(path: String, hybrisModule: Boolean, vararg files: String) = HybrisProjectViewDirectoryClassifier
+        .classify(path, hybrisModule) { it in files }
+}
@@ -0,0 +1,159 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.intellij.idea.plugin.hybris.system.businessProcess.analysis
+
+import com.intellij.idea.plugin.hybris.system.businessProcess.indexing.BpProcessDefinitionParser
+import com.intellij.idea.plugin.hybris.system.businessProcess.indexing.BpProcessNodeType
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertNotNull
+import kotlin.test.assertNull
+
+class BpProcessAnalyzerTest {
+
+    @Test
+    fun test_parse() {
+        val definition = assertNotNull(BpProcessDefinitionParser.parse(PROCESS))
+
+        assertEquals("order-process", definition.name)
+        assertEquals("checkOrder", definition.start)
+        assertEquals("error", definition.onError)
+        assertEquals(
+            listOf("checkOrder", "splitOrder", "waitForConsignments", "orphan", "join", "success", "error"),
+            definition.nodes.map { it.id }
+        )
+
+        val wait = definition.nodes.first { it.id == "waitForConsignments" }
+        assertEquals(BpProcessNodeType.WAIT, wait.type)
+        assertEquals(listOf("\${process.code}_ConsignmentSubprocessEnd", "CancelEvent"), wait.events)
+        assertEquals(listOf("then" to "join", "timeout" to "error", "cancel" to "missing"), wait.transitions.map { it.name to it.target })
+
+        assertEquals(listOf("split" to "waitForConsignments", "split" to "join"), definition.nodes.first { it.id == "splitOrder" }.transitions.map { it.name to it.target })
+        assertEquals("checkOrderAction", definition.nodes.first { it.id == "checkOrder" }.bean)
+    }
+
+    @Test
+    fun test_parse_notProcess() {
+        assertNull(BpProcessDefinitionParser.parse("<beans><bean id=\"process\"/></beans>"))
+        assertNull(BpProcessDefinitionParser.parse("<process name=\"broken\"><action id=\"a\""))
+    }
+
+    @Test
+    fun test_analyze() {
+        val definition = assertNotNull(BpProcessDefinitionParser.parse(PROCESS))
+
+        val problems = BpProcessAnalyzer.analyze(
+            definition,
+            { it.endsWith("ConsignmentSubprocessEnd") },
+            { it != "missingAction" }
+        )
+
+        assertEquals(
+            setOf(
+                BpProcessProblem(BpProcessProblem.Kind.UNDEFINED_NODE, "waitForConsignments", "missing"),
+                BpProcessProblem(BpProcessProblem.Kind.UNTRIGGERED_EVENT, "waitForConsignments", "CancelEvent"),
+                BpProcessProblem(BpProcessProblem.Kind.UNDEFINED_BEAN, "orphan", "missingAction"),
+                BpProcessProblem(BpProcessProblem.Kind.UNREACHABLE_NODE, "orphan", "orphan"),
+            ),
+            problems.toSet()
+        )
+    }
+
+    @Test
+    fun test_getEventWord() {
+        assertEquals("ConsignmentSubprocessEnd", BpProcessAnalyzer.getEventWord("\${process.code}_ConsignmentSubprocessEnd"))
+        assertEquals("CSAOrderVerified", BpProcessAnalyzer.getEventWord("CSAOrderVerified"))
+        assertNull(BpProcessAnalyzer.getEventWord("\${process.code}"))
+    }
+
+    @Test
+    fun test_getIndexedWords() {
+        // `code + "_CSAOrderVerified"` is indexed with the leading underscore
+        val word = assertNotNull(BpProcessAnalyzer.getEventWord("\${process.code}_CSAOrderVerified"))
+
+        assertEquals(listOf("CSAOrderVerified", "_CSAOrderVerified"), BpProcessAnalyzer.getIndexedWords(word))
+    }
+
+    /**
+     * Parses and analyzes hundreds of generated process definitions, as it happens on indexing and highlighting without DOM.
+     */
+    @Test
+    fun test_analyze_generated() {
+        val problems = (0 until PROCESSES)
+            .map { generateProcess(it) }
+            .sumOf { BpProcessAnalyzer.analyze(BpProcessDefinitionParser.parse(it)!!, { true }, { true }).size }
+
+        // every process has a single unreachable node
+        assertEquals(PROCESSES, problems)
+    }
+
+    private fun generateProcess(index: Int) = buildString {
+        append("<process xmlns=\"http://www.hybris.de/xsd/processdefinition\" name=\"process$index\" start=\"action0\" onError=\"error\">\n")
+        (0 until NODES).forEach {
+            append("  <action id=\"action$it\" bean=\"bean$it\">\n")
+            append("    <transition name=\"OK\" to=\"${if (it == NODES - 1) "success" else "action${it + 1}"}\"/>\n")
+            append("    <transition name=\"NOK\" to=\"error\"/>\n")
+            append("  </action>\n")
+        }
+        append("  <action id=\"unreachable\" bean=\"unreachableBean\"><transition name=\"OK\" to=\"success\"/></action>\n")
+        append("  <end id=\"success\" state=\"SUCCEEDED\">Done</end>\n")
+        append("  <end id=\"error\" state=\"ERROR\">Failed</end>\n")
+        append("</process>\n")
+    }
+
+    companion object {
+        private const val PROCESSES = 500
+        private const val NODES = 50
+
+        private val PROCESS = """
+            <?xml version="1.0" encoding="utf-8"?>
+            <process xmlns="http://www.hybris.de/xsd/processdefinition" start="checkOrder" name="order-process" onError="error"
+                     processClass="de.hybris.platform.orderprocessing.model.OrderProcessModel">
+
+                <contextParameter name="order" use="required" type="OrderModel"/>
+
+                <action id="checkOrder" bean="checkOrderAction">
+                    <transition name="OK" to="splitOrder"/>
+                    <transition name="NOK" to="error"/>
+                </action>
+
+                <split id="splitOrder">
+                    <targetNode name="waitForConsignments"/>
+                    <targetNode name="join"/>
+                </split>
+
+                <wait id="waitForConsignments" then="join" prependProcessCode="false">
+                    <event>${'$'}{process.code}_ConsignmentSubprocessEnd</event>
+                    <timeout delay="PT12H" then="error"/>
+                    <case event="CancelEvent">
+                        <choice id="cancel" then="missing"/>
+                    </case>
+                </wait>
+
+                <action id="orphan" bean="missingAction">
+                    <transition name="OK" to="success"/>
+                </action>
+
+                <join id="join" then="success"/>
+
+                <end id="success" state="SUCCEEDED">Order placed.</end>
+                <end id="error" state="ERROR">Order not placed.</end>
+            </process>
+        """.trimIndent()
+    }
+}
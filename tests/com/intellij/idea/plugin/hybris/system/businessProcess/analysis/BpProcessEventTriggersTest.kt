@@ -0,0 +1,79 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.system.businessProcess.analysis
+
+import com.intellij.idea.plugin.hybris.LightProjectFixture
+import com.intellij.testFramework.runInEdtAndWait
+import kotlin.test.AfterTest
+import kotlin.test.BeforeTest
+import kotlin.test.Test
+import kotlin.test.assertFalse
+import kotlin.test.assertTrue
+
+class BpProcessEventTriggersTest {
+
+    private lateinit var fixture: LightProjectFixture
+
+    @BeforeTest
+    fun setUp() {
+        fixture = LightProjectFixture()
+    }
+
+    @AfterTest
+    fun tearDown() {
+        fixture.dispose()
+    }
+
+    @Test
+    fun test_isTriggered_processCodePrefix() {
+        addFile(
+            "src/OrderVerifier.java",
+            """
+                class OrderVerifier {
+                    void verify(String code) {
+                        triggerEvent(code + "_CSAOrderVerified");
+                    }
+                }
+            """.trimIndent()
+        )
+
+        assertTrue(isTriggered("\${process.code}_CSAOrderVerified"))
+        assertFalse(isTriggered("\${process.code}_CSAOrderRejected"))
+    }
+
+    @Test
+    fun test_isTriggered_plainLiteral() {
+        addFile(
+            "src/OrderCanceller.java",
+            """
+                class OrderCanceller {
+                    void cancel() {
+                        triggerEvent("CancelEvent");
+                    }
+                }
+            """.trimIndent()
+        )
+
+        assertTrue(isTriggered("CancelEvent"))
+    }
+
+    private fun addFile(path: String, text: String) = runInEdtAndWait { fixture.codeInsightFixture.addFileToProject(path, text) }
+
+    private fun isTriggered(event: String) = fixture.readAction { BpProcessEventTriggers.getInstance(fixture.project).isTriggered(event) }
+}
@@ -0,0 +1,169 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.system.cockpitng.psi
+
+import com.intellij.idea.plugin.hybris.LightProjectFixture
+import com.intellij.idea.plugin.hybris.system.cockpitng.meta.CngMetaModelStateService
+import com.intellij.idea.plugin.hybris.system.cockpitng.meta.CngModificationTracker
+import com.intellij.idea.plugin.hybris.system.cockpitng.psi.reference.CngTSItemAttributeReference
+import com.intellij.idea.plugin.hybris.system.meta.MetaModelStateService
+import com.intellij.idea.plugin.hybris.system.type.meta.TSMetaModelStateService
+import com.intellij.openapi.command.WriteCommandAction
+import com.intellij.openapi.components.service
+import com.intellij.psi.util.PsiTreeUtil
+import com.intellij.psi.util.parentsOfType
+import com.intellij.psi.xml.XmlAttributeValue
+import com.intellij.psi.xml.XmlFile
+import com.intellij.psi.xml.XmlTag
+import com.intellij.testFramework.runInEdtAndWait
+import kotlin.test.AfterTest
+import kotlin.test.BeforeTest
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertNotNull
+import kotlin.test.assertNull
+
+/**
+ * Context types of the backoffice configuration are taken from the `CngContextIndex`, PSI is walked only for the changed files.
+ */
+class CngPsiHelperTest {
+
+    private lateinit var fixture: LightProjectFixture
+    private lateinit var configFile: XmlFile
+
+    @BeforeTest
+    fun setUp() {
+        fixture = LightProjectFixture()
+        runInEdtAndWait {
+            fixture.codeInsightFixture.addFileToProject("test-items.xml", ITEMS_XML)
+            configFile = fixture.codeInsightFixture.addFileToProject("test-backoffice-config.xml", CONFIG_XML) as XmlFile
+        }
+
+        initialize(fixture.project.service<TSMetaModelStateService>())
+        initialize(fixture.project.service<CngMetaModelStateService>())
+    }
+
+    @AfterTest
+    fun tearDown() = fixture.dispose()
+
+    @Test
+    fun test_resolveContext_nestedContextInheritsType() {
+        val context = fixture.readAction { CngPsiHelper.resolveContext(contextTag("list-view")) }
+
+        assertNotNull(context)
+        assertEquals("Product", context.type)
+        assertEquals("listview", context.component)
+    }
+
+    @Test
+    fun test_resolveContextType() {
+        assertEquals("Product", fixture.readAction { CngPsiHelper.resolveContextType(qualifier("code")) })
+        assertEquals("Category", fixture.readAction { CngPsiHelper.resolveContextType(qualifier("name")) })
+    }
+
+    @Test
+    fun test_resolveContextType_changedFileIsWalked() {
+        runInEdtAndWait {
+            WriteCommandAction.runWriteCommandAction(fixture.project) {
+                contextTag("list-view").setAttribute("principal", "admingroup")
+            }
+        }
+        fixture.project.service<CngModificationTracker>().resetCache(configFile)
+
+        assertNull(fixture.readAction { CngPsiHelper.resolveContext(contextTag("list-view")) })
+        assertEquals("Product", fixture.readAction { CngPsiHelper.resolveContextType(qualifier("code")) })
+    }
+
+    @Test
+    fun test_itemAttributeReference_resolvesAgainstIndexedContextType() {
+        val resolved = fixture.readAction {
+            val reference = qualifier("code").references
+                .filterIsInstance<CngTSItemAttributeReference>()
+                .single()
+
+            reference.resolve()
+                ?.parentsOfType<XmlTag>()
+                ?.firstOrNull { it.localName == "itemtype" }
+                ?.getAttributeValue("code")
+        }
+
+        assertEquals("Product", resolved)
+    }
+
+    private fun contextTag(innerTagName: String) = PsiTreeUtil.findChildrenOfType(configFile, XmlTag::class.java)
+        .first { it.localName == innerTagName }
+        .parentTag!!
+
+    private fun qualifier(value: String) = PsiTreeUtil.findChildrenOfType(configFile, XmlAttributeValue::class.java)
+        .first { it.value == value }
+
+    private fun initialize(stateService: MetaModelStateService<*, *, *>) {
+        val deadline = System.currentTimeMillis() + META_MODEL_TIMEOUT
+        stateService.init()
+        while (!stateService.initialized()) {
+            check(System.currentTimeMillis() < deadline) { "Meta model is not built in $META_MODEL_TIMEOUT ms" }
+            Thread.sleep(50)
+        }
+    }
+
+    companion object {
+        private const val META_MODEL_TIMEOUT = 30_000L
+
+        private val ITEMS_XML = """
+            <items xmlns:xsi="http://www.w3.org/2001/XMLSchema-instance" xsi:noNamespaceSchemaLocation="items.xsd">
+                <itemtypes>
+                    <itemtype code="Product" autocreate="true" generate="true">
+                        <deployment table="Products" typecode="1"/>
+                        <attributes>
+                            <attribute qualifier="code" type="java.lang.String">
+                                <persistence type="property"/>
+                            </attribute>
+                        </attributes>
+                    </itemtype>
+                    <itemtype code="Category" autocreate="true" generate="true">
+                        <deployment table="Categories" typecode="142"/>
+                        <attributes>
+                            <attribute qualifier="name" type="java.lang.String">
+                                <persistence type="property"/>
+                            </attribute>
+                        </attributes>
+                    </itemtype>
+                </itemtypes>
+            </items>
+        """.trimIndent()
+
+        private val CONFIG_XML = """
+            <config xmlns="http://www.hybris.com/cockpit/config"
+                    xmlns:list-view="http://www.hybris.com/cockpitng/component/listView">
+                <context type="Product">
+                    <context component="listview">
+                        <list-view:list-view>
+                            <list-view:column qualifier="code"/>
+                        </list-view:list-view>
+                    </context>
+                </context>
+                <context type="Category" component="listview">
+                    <list-view:list-view>
+                        <list-view:column qualifier="name"/>
+                    </list-view:list-view>
+                </context>
+            </config>
+        """.trimIndent()
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.system.meta
+
+import com.intellij.idea.plugin.hybris.LightProjectFixture
+import com.intellij.idea.plugin.hybris.system.meta.LibraryRootsIndex.LibraryRoot
+import com.intellij.openapi.roots.libraries.Library
+import com.intellij.openapi.vfs.VirtualFile
+import com.intellij.testFramework.PsiTestUtil
+import com.intellij.testFramework.runInEdtAndWait
+import kotlin.test.AfterTest
+import kotlin.test.BeforeTest
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertNull
+
+class LibraryRootsIndexTest {
+
+    private lateinit var fixture: LightProjectFixture
+    private val libraries = mutableListOf<Library>()
+
+    @BeforeTest
+    fun setUp() {
+        fixture = LightProjectFixture()
+    }
+
+    @AfterTest
+    fun tearDown() {
+        runInEdtAndWait { libraries.forEach { PsiTestUtil.removeProjectLibrary(fixture.codeInsightFixture.module, it) } }
+        fixture.dispose()
+    }
+
+    @Test
+    fun test_findLibraryRoot_moduleDependency() {
+        val itemsFile = createFile("core/resources/core-items.xml")
+        val nestedItemsFile = createFile("core/nested/resources/nested-items.xml")
+        val moduleFile = createFile("custom/resources/custom-items.xml")
+
+        addLibrary("core", "core")
+        addLibrary("nested", "core/nested")
+
+        assertEquals(LibraryRoot("core", "core"), findLibraryRoot(itemsFile))
+        // nearest classes root wins
+        assertEquals(LibraryRoot("nested", "nested"), findLibraryRoot(nestedItemsFile))
+        assertNull(findLibraryRoot(moduleFile))
+    }
+
+    @Test
+    fun test_findLibraryRoot_rootsChange() {
+        val itemsFile = createFile("core/resources/core-items.xml")
+        val customItemsFile = createFile("custom/resources/custom-items.xml")
+        val core = addLibrary("core", "core")
+
+        assertEquals(LibraryRoot("core", "core"), findLibraryRoot(itemsFile))
+        assertNull(findLibraryRoot(customItemsFile))
+
+        // index is re-built once the library is added
+        addLibrary("custom", "custom")
+        assertEquals(LibraryRoot("custom", "custom"), findLibraryRoot(customItemsFile))
+
+        // and once the library is removed
+        runInEdtAndWait { PsiTestUtil.removeProjectLibrary(fixture.codeInsightFixture.module, core) }
+        libraries.remove(core)
+        assertNull(findLibraryRoot(itemsFile))
+    }
+
+    private fun findLibraryRoot(file: VirtualFile) = fixture.readAction { LibraryRootsIndex.getInstance(fixture.project).findLibraryRoot(file) }
+
+    private fun createFile(path: String): VirtualFile {
+        lateinit var file: VirtualFile
+        runInEdtAndWait { file = fixture.codeInsightFixture.tempDirFixture.createFile(path, "<items/>") }
+        return file
+    }
+
+    private fun addLibrary(name: String, rootPath: String): Library {
+        lateinit var library: Library
+        runInEdtAndWait {
+            val root = fixture.codeInsightFixture.tempDirFixture.getFile(rootPath)!!
+            library = PsiTestUtil.addProjectLibrary(fixture.codeInsightFixture.module, name, listOf(root), emptyList())
+        }
+        return library.also { libraries.add(it) }
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.system.spring.indexing
+
+import com.intellij.idea.plugin.hybris.system.spring.indexing.SpringBeanIndexEntry.Alias
+import com.intellij.idea.plugin.hybris.system.spring.indexing.SpringBeanIndexEntry.Bean
+import com.intellij.idea.plugin.hybris.system.spring.indexing.SpringBeanIndexEntry.InterceptorMapping
+import com.intellij.idea.plugin.hybris.system.spring.indexing.SpringBeanIndexParser.beanKey
+import com.intellij.idea.plugin.hybris.system.spring.indexing.SpringBeanIndexParser.typeCodeKey
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertTrue
+
+class SpringBeanIndexParserTest {
+
+    @Test
+    fun test_parse_beansByIdNamesAndAliases() {
+        val entries = SpringBeanIndexParser.parse(
+            beans(
+                """
+                <bean id="defaultProductService" name="productServiceV1, productServiceV2" class="com.example.DefaultProductService"/>
+                <alias name="defaultProductService" alias="productService"/>
+                <beans profile="dev">
+                    <bean id="devProductService" class="com.example.DevProductService"/>
+                </beans>
+                """
+            )
+        )
+
+        val bean = Bean(0, "com.example.DefaultProductService")
+        assertEquals(listOf(bean), entries[beanKey("defaultProductService")])
+        assertEquals(listOf(bean), entries[beanKey("productServiceV1")])
+        assertEquals(listOf(bean), entries[beanKey("productServiceV2")])
+        assertEquals(listOf(Alias(1, "defaultProductService")), entries[beanKey("productService")])
+        assertEquals(listOf(Bean(3, "com.example.DevProductService")), entries[beanKey("devProductService")])
+    }
+
+    @Test
+    fun test_parse_innerBeans() {
+        val entries = SpringBeanIndexParser.parse(
+            beans(
+                """
+                <bean id="processAction" class="com.example.ProcessAction">
+                    <property name="delegate">
+                        <bean id="innerDelegate" class="com.example.Delegate"/>
+                    </property>
+                </bean>
+                """
+            )
+        )
+
+        assertEquals(listOf(Bean(0, "com.example.ProcessAction")), entries[beanKey("processAction")])
+        assertEquals(listOf(Bean(2, "com.example.Delegate")), entries[beanKey("innerDelegate")])
+    }
+
+    @Test
+    fun test_parse_interceptorMappings() {
+        val entries = SpringBeanIndexParser.parse(
+            beans(
+                """
+                <bean id="productPrepareMapping" class="de.hybris.platform.servicelayer.interceptor.impl.InterceptorMapping"
+                      p:interceptor-ref="productPrepareInterceptor" p:typeCode="Product"/>
+                <bean class="de.hybris.platform.servicelayer.interceptor.impl.InterceptorMapping">
+                    <property name="interceptor" ref="categoryValidateInterceptor"/>
+                    <property name="typeCode" value="Category"/>
+                </bean>
+                <bean class="de.hybris.platform.servicelayer.interceptor.impl.InterceptorMapping">
+                    <property name="typeCode">
+                        <value>Product</value>
+                    </property>
+                    <property name="interceptor">
+                        <bean class="com.example.ProductRemoveInterceptor">
+                            <property name="typeCode" value="Unit"/>
+                        </bean>
+                    </property>
+                </bean>
+                <bean class="de.hybris.platform.servicelayer.interceptor.impl.InterceptorMapping">
+                    <property name="typeCode" value="Media"/>
+                    <property name="interceptor">
+                        <ref bean="mediaInitDefaultsInterceptor"/>
+                    </property>
+                </bean>
+                """
+            )
+        )
+
+        assertEquals(
+            listOf(
+                InterceptorMapping(0, "Product", "productPrepareInterceptor", null, null),
+                InterceptorMapping(4, "Product", null, 8, "com.example.ProductRemoveInterceptor"),
+            ),
+            entries[typeCodeKey("product")]
+        )
+        assertEquals(listOf(InterceptorMapping(1, "Category", "categoryValidateInterceptor", null, null)), entries[typeCodeKey("Category")])
+        assertEquals(listOf(InterceptorMapping(10, "Media", "mediaInitDefaultsInterceptor", null, null)), entries[typeCodeKey("Media")])
+        // inner bean has no interceptor, so it is not a mapping
+        assertEquals(null, entries[typeCodeKey("Unit")])
+    }
+
+    @Test
+    fun test_parse_nonSpringXml() {
+        assertTrue(SpringBeanIndexParser.parse("""<process name="order" start="check"><action id="check" bean="checkAction"/></process>""").isEmpty())
+        assertTrue(SpringBeanIndexParser.parse(beans("<bean id=\"broken\"")).isEmpty())
+    }
+
+    private fun beans(content: String) = """
+        <beans xmlns="http://www.springframework.org/schema/beans"
+               xmlns:p="http://www.springframework.org/schema/p">
+        ${content.trimIndent()}
+        </beans>
+    """.trimIndent()
+}
@@ -0,0 +1,88 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.intellij.idea.plugin.hybris.system.type.meta
+
+import com.intellij.idea.plugin.hybris.common.HybrisConstants
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertFalse
+import kotlin.test.assertNull
+import kotlin.test.assertTrue
+
+class TSTypeCodeAllocatorTest {
+
+    @Test
+    fun test_merge_intervals() {
+        val allocator = TSTypeCodeAllocator.of(listOf(5, 1, 2, 3, 10, 11), listOf(6..8, 20..25, 22..30))
+
+        assertEquals(4, allocator.size)
+        assertTrue(allocator.isOccupied(1))
+        assertTrue(allocator.isOccupied(8))
+        assertTrue(allocator.isOccupied(30))
+        assertFalse(allocator.isOccupied(4))
+        assertFalse(allocator.isOccupied(9))
+        assertFalse(allocator.isOccupied(31))
+    }
+
+    @Test
+    fun test_next_available() {
+        val allocator = TSTypeCodeAllocator.of(listOf(10100, 10101, 10103), HybrisConstants.TS_TYPECODE_RESERVED_RANGES)
+
+        assertEquals(10102, allocator.nextAvailable())
+        assertEquals(10104, allocator.nextAvailable(10103))
+        assertEquals(13300, allocator.nextAvailable(13250))
+        assertEquals(24000, allocator.nextAvailable(23400))
+        assertEquals(24600, allocator.nextAvailable(24400))
+        assertEquals(32600, allocator.nextAvailable(32600))
+        // type codes are stored as short, there is nothing left after the processing extension range
+        assertNull(allocator.nextAvailable(32700))
+        assertNull(allocator.nextAvailable(32700, 32799))
+        assertNull(TSTypeCodeAllocator.of(emptyList(), listOf(0..Short.MAX_VALUE.toInt())).nextAvailable())
+    }
+
+    @Test
+    fun test_next_available_equals_linear_scan() {
+        val typeCodes = (10000..33000 step 3).toSet() + (13100..13400) + (32600..32900)
+        val allocator = TSTypeCodeAllocator.of(typeCodes, HybrisConstants.TS_TYPECODE_RESERVED_RANGES)
+
+        (10000..33000 step 7).forEach {
+            assertEquals(nextAvailableLinear(it, typeCodes), allocator.nextAvailable(it), "from $it")
+        }
+    }
+
+    @Test
+    fun test_next_available_deployments() {
+        // OOTB reserved type codes and an items.xml with 500 deployments
+        val reservedTypeCodes = (10000..10000 + RESERVED * 2 step 2).toSet()
+        val typeCodes = reservedTypeCodes + (10100 until 10100 + DEPLOYMENTS)
+        val allocator = TSTypeCodeAllocator.of(typeCodes, HybrisConstants.TS_TYPECODE_RESERVED_RANGES)
+
+        assertEquals(nextAvailableLinear(10100, typeCodes), allocator.nextAvailable())
+    }
+
+    // previous implementation of the TSMetaModelAccess.getNextAvailableTypeCode
+    private fun nextAvailableLinear(from: Int, typeCodes: Set<Int>) = (from..Short.MAX_VALUE)
+        .asSequence()
+        .filterNot { code -> HybrisConstants.TS_TYPECODE_RESERVED_RANGES.any { code in it } }
+        .firstOrNull { !typeCodes.contains(it) }
+
+    companion object {
+        private const val DEPLOYMENTS = 500
+        private const val RESERVED = 2_000
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.system.type.meta.impl
+
+import java.util.*
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertNull
+import kotlin.test.assertSame
+import kotlin.test.assertTrue
+
+class CaseInsensitiveTest {
+
+    @Test
+    fun test_compact_lookupIgnoresCase() {
+        val map = CaseInsensitive.compact(mapOf("catalogVersion" to 1, "Code" to 2, "pk" to 3))
+
+        assertEquals(3, map.size)
+        assertEquals(1, map["CATALOGVERSION"])
+        assertEquals(2, map["code"])
+        assertTrue(map.containsKey("Pk"))
+        assertNull(map["name"])
+        assertNull(map[null])
+        assertEquals(setOf(1, 2, 3), map.values.toSet())
+        assertEquals(setOf("catalogversion", "code", "pk"), map.keys)
+    }
+
+    @Test
+    fun test_compact_sameAsConcurrentHashMap() {
+        val source = CaseInsensitive.CaseInsensitiveConcurrentHashMap<String, String>()
+        source["Product"] = "a"
+        source["product"] = "b"
+        source["Category"] = "c"
+
+        assertEquals(source, CaseInsensitive.compact(source))
+    }
+
+    @Test
+    fun test_compact_keepsAllEntriesInKeyOrder() {
+        val source = CaseInsensitive.CaseInsensitiveConcurrentHashMap<String, Int>()
+        (0 until 100).forEach { source["Attribute$it"] = it }
+
+        val map = CaseInsensitive.compact(source)
+
+        assertEquals(100, map.size)
+        assertEquals(source.keys.sorted(), map.keys.toList())
+        assertEquals(map.keys.map { source[it] }, map.values.toList())
+        (0 until 100).forEach { assertEquals(it, map["ATTRIBUTE$it"]) }
+    }
+
+    @Test
+    fun test_compact_disabled_returnsConcurrentHashMap() {
+        CaseInsensitive.setCompactDisabled(true)
+        try {
+            val map = CaseInsensitive.compact(mapOf("Code" to 1))
+
+            assertTrue(map is CaseInsensitive.CaseInsensitiveConcurrentHashMap)
+            assertEquals(1, map["CODE"])
+        } finally {
+            CaseInsensitive.setCompactDisabled(false)
+        }
+    }
+
+    @Test
+    fun test_compact_keysAreInterned() {
+        // every declaration gets its own copy of the strings, same as values read from the DOM
+        val first = CaseInsensitive.compact(mapOf(String("Code".toCharArray()) to 1))
+        val second = CaseInsensitive.compact(mapOf(String("CODE".toCharArray()) to 2))
+
+        assertSame(first.keys.single(), second.keys.single())
+    }
+
+    @Test
+    fun test_compact_emptyMapIsShared() {
+        assertSame(Collections.emptyMap(), CaseInsensitive.compact(mapOf<String, Int>()))
+    }
+}
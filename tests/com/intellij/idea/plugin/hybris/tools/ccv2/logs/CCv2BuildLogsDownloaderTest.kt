@@ -0,0 +1,262 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.intellij.idea.plugin.hybris.tools.ccv2.logs
+
+import com.sun.net.httpserver.HttpExchange
+import com.sun.net.httpserver.HttpServer
+import okhttp3.OkHttpClient
+import java.io.File
+import java.io.IOException
+import java.io.RandomAccessFile
+import java.net.InetAddress
+import java.net.InetSocketAddress
+import java.nio.file.Files
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.zip.Deflater
+import java.util.zip.ZipEntry
+import java.util.zip.ZipOutputStream
+import kotlin.test.AfterTest
+import kotlin.test.BeforeTest
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertFailsWith
+import kotlin.test.assertTrue
+
+class CCv2BuildLogsDownloaderTest {
+
+    private lateinit var workDirectory: File
+    private lateinit var archive: File
+    private lateinit var server: HttpServer
+    private val requests = AtomicInteger()
+    private val failures = ConcurrentLinkedQueue<Int>()
+    private var dropFirstResponse = false
+    private var interruptOnFailure: Thread? = null
+    private val targetDirectory
+        get() = workDirectory.toPath().resolve("logs")
+
+    @BeforeTest
+    fun setUp() {
+        workDirectory = Files.createTempDirectory("ccv2_build_logs_test").toFile()
+        archive = File(workDirectory, "build-logs.zip")
+
+        server = HttpServer.create(InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0)
+        server.createContext(LOGS_PATH) { exchange ->
+            try {
+                serve(exchange)
+            } finally {
+                // closing the exchange with missing bytes drops the connection
+                runCatching { exchange.close() }
+            }
+        }
+        server.start()
+    }
+
+    @AfterTest
+    fun tearDown() {
+        server.stop(0)
+        workDirectory.deleteRecursively()
+    }
+
+    /**
+     * First response is dropped in the middle of the archive, so the download has to be resumed with the `Range` request.
+     */
+    @Test
+    fun test_download_resume_and_index() {
+        generateArchive(archive, LINES)
+        dropFirstResponse = true
+        var lastProgress = 0L
+
+        val indexes = download { downloaded, _ -> lastProgress = downloaded }
+
+        assertEquals(2, requests.get(), "download must be resumed once")
+        assertEquals(archive.length(), lastProgress)
+        assertEquals(false, targetDirectory.resolve(CCv2BuildLogsDownloader.PART_FILE_NAME).toFile().exists())
+        assertEquals(1, indexes.size)
+
+        val index = indexes.first()
+        assertEquals(LOG_FILE_NAME, index.file.name)
+        assertEquals(UNCOMPRESSED_SIZE, index.file.length())
+        assertEquals(LINES, index.lineCount)
+        assertEquals(ERROR_LINES, index.errors.toList())
+        assertEquals(LINES / WARNING_EVERY, index.warnings.size)
+        assertEquals(ERROR_LINES.first(), index.firstFailure)
+        assertTrue(index.readLine(ERROR_LINES.first()).startsWith("[ERROR] Failed to compile CustomModel"))
+
+        val searchResult = index.search("failed custommodel")
+        assertEquals(ERROR_LINES, searchResult)
+
+        val scanResult = index.file.useLines { lines ->
+            lines.withIndex()
+                .filter { it.value.contains("Failed", true) && it.value.contains("CustomModel", true) }
+                .map { it.index }
+                .toList()
+        }
+        assertEquals(searchResult, scanResult)
+    }
+
+    @Test
+    fun test_download_serverErrorsAreRetried() {
+        generateArchive(archive, SMALL_LINES)
+        failures.addAll(listOf(503, 429))
+
+        val indexes = download()
+
+        assertEquals(3, requests.get())
+        assertEquals(SMALL_LINES, indexes.single().lineCount)
+    }
+
+    @Test
+    fun test_download_clientErrorsAreNotRetried() {
+        generateArchive(archive, SMALL_LINES)
+        failures.add(403)
+
+        val exception = assertFailsWith<CCv2BuildLogsDownloader.HttpStatusException> { download() }
+
+        assertEquals(403, exception.code)
+        assertEquals(1, requests.get())
+    }
+
+    @Test
+    fun test_download_attemptsAreLimited() {
+        generateArchive(archive, SMALL_LINES)
+        repeat(MAX_ATTEMPTS) { failures.add(502) }
+
+        val exception = assertFailsWith<CCv2BuildLogsDownloader.HttpStatusException> { download() }
+
+        assertEquals(502, exception.code)
+        assertEquals(MAX_ATTEMPTS, requests.get())
+    }
+
+    @Test
+    fun test_download_cancelledWhileStreaming() {
+        generateArchive(archive, LINES)
+
+        try {
+            assertFailsWith<InterruptedException> { download { _, _ -> Thread.currentThread().interrupt() } }
+        } finally {
+            Thread.interrupted()
+        }
+
+        assertEquals(1, requests.get())
+        assertTrue(targetDirectory.resolve(CCv2BuildLogsDownloader.PART_FILE_NAME).toFile().length() < archive.length())
+    }
+
+    @Test
+    fun test_download_cancelledBeforeRetry() {
+        generateArchive(archive, SMALL_LINES)
+        failures.add(503)
+        interruptOnFailure = Thread.currentThread()
+
+        try {
+            assertFailsWith<InterruptedException> { download() }
+        } finally {
+            Thread.interrupted()
+        }
+
+        assertEquals(1, requests.get(), "cancelled download must not be retried")
+    }
+
+    private fun download(progress: CCv2BuildLogsDownloader.Progress = CCv2BuildLogsDownloader.Progress { _, _ -> }) =
+        CCv2BuildLogsDownloader(OkHttpClient(), MAX_ATTEMPTS, 0)
+            .download(
+                "http://localhost:${server.address.port}$LOGS_PATH",
+                mapOf("Authorization" to "Bearer token"),
+                targetDirectory,
+                progress
+            )
+
+    private fun serve(exchange: HttpExchange) {
+        val attempt = requests.incrementAndGet()
+        failures.poll()?.let {
+            interruptOnFailure?.interrupt()
+            exchange.sendResponseHeaders(it, -1)
+            return
+        }
+
+        val length = archive.length()
+        val from = exchange.requestHeaders.getFirst("Range")
+            ?.removePrefix("bytes=")
+            ?.substringBefore('-')
+            ?.toLong()
+            ?: 0L
+
+        if (from > 0) {
+            exchange.responseHeaders.add("Content-Range", "bytes $from-${length - 1}/$length")
+            exchange.sendResponseHeaders(206, length - from)
+        } else {
+            exchange.sendResponseHeaders(200, length)
+        }
+
+        // connection is dropped after the half of the archive on the first attempt
+        val limit = if (dropFirstResponse && attempt == 1) length / 2 else length
+
+        RandomAccessFile(archive, "r").use { raf ->
+            raf.seek(from)
+            val buffer = ByteArray(64 * 1024)
+            var position = from
+            try {
+                while (position < limit) {
+                    val read = raf.read(buffer, 0, minOf(buffer.size.toLong(), limit - position).toInt())
+                    if (read < 0) break
+                    exchange.responseBody.write(buffer, 0, read)
+                    position += read
+                }
+            } catch (_: IOException) {
+                // client disconnected
+            }
+        }
+    }
+
+    private fun generateArchive(file: File, lines: Int) {
+        ZipOutputStream(file.outputStream().buffered()).use { zip ->
+            zip.setLevel(Deflater.BEST_SPEED)
+            zip.putNextEntry(ZipEntry("logs/$LOG_FILE_NAME"))
+
+            val writer = zip.bufferedWriter()
+            (0 until lines).forEach { writer.write(logLine(it)) }
+            writer.flush()
+
+            zip.closeEntry()
+        }
+    }
+
+    private fun logLine(line: Int): String {
+        val text = when {
+            line in ERROR_LINES -> "[ERROR] Failed to compile CustomModel of the extension${line % EXTENSIONS}"
+            line % WARNING_EVERY == 0 -> "[WARNING] Deprecated type attribute in the extension${line % EXTENSIONS}"
+            else -> "[INFO] Compiling Class${line % CLASSES} of the extension${line % EXTENSIONS} module${line % MODULES}"
+        }
+        return text.padEnd(LINE_LENGTH - 1, '.') + '\n'
+    }
+
+    companion object {
+        private const val LOGS_PATH = "/subscriptions/subscription/builds/build/logs"
+        private const val LOG_FILE_NAME = "build.log"
+        private const val LINE_LENGTH = 100
+        private const val LINES = 5_000_000
+        private const val SMALL_LINES = 1_000
+        private const val MAX_ATTEMPTS = 3
+        private const val UNCOMPRESSED_SIZE = LINES * LINE_LENGTH.toLong()
+        private const val WARNING_EVERY = 100_000
+        private const val EXTENSIONS = 600
+        private const val CLASSES = 10_000
+        private const val MODULES = 7
+        private val ERROR_LINES = listOf(1_234_567, 3_000_001, 4_999_999)
+    }
+}
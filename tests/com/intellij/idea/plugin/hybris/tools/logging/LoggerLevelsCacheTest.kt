@@ -0,0 +1,203 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.tools.logging
+
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertFalse
+import kotlin.test.assertNotNull
+import kotlin.test.assertNull
+import kotlin.test.assertTrue
+
+class LoggerLevelsCacheTest {
+
+    private val fetches = AtomicInteger()
+    private val refreshes = AtomicInteger()
+
+    @Volatile
+    private var configuration: String? = CONFIGURATION
+
+    @Volatile
+    private var now = 0L
+
+    @Test
+    fun test_effective_level() {
+        val snapshot = LoggerLevelsSnapshot.parse(CONFIGURATION, 0)
+
+        assertEquals("WARN", snapshot.rootLevel)
+        assertEquals("DEBUG", snapshot.getEffectiveLevel("com.synthetic.core"))
+        assertEquals("DEBUG", snapshot.getEffectiveLevel("com.synthetic.core.service.ProductService"))
+        assertEquals("ERROR", snapshot.getEffectiveLevel("com.synthetic.core.jalo.GeneratedProduct"))
+        assertEquals("INFO", snapshot.getEffectiveLevel("de.hybris.platform.Registry"))
+        assertEquals("WARN", snapshot.getEffectiveLevel("org.springframework.Bean"))
+        assertEquals("TRACE", snapshot.withLevel("org.springframework", "TRACE").getEffectiveLevel("org.springframework.Bean"))
+    }
+
+    @Test
+    fun test_reading_does_not_fetch() {
+        val cache = createCache()
+
+        repeat(EDITORS) { assertNull(cache.get(CONNECTION)) }
+        assertEquals(0, fetches.get())
+    }
+
+    @Test
+    fun test_refresh_is_notified_only_when_levels_changed() {
+        val cache = createCache()
+
+        assertNotNull(cache.refresh(CONNECTION))
+        assertEquals("DEBUG", cache.get(CONNECTION)?.getEffectiveLevel("com.synthetic.core.Service"))
+        assertEquals(1, refreshes.get())
+
+        // same levels, but a newer snapshot
+        assertNotNull(cache.refresh(CONNECTION))
+        assertEquals(1, refreshes.get())
+
+        configuration = "com.synthetic.core=TRACE"
+        assertNotNull(cache.refresh(CONNECTION))
+        assertEquals("TRACE", cache.get(CONNECTION)?.getEffectiveLevel("com.synthetic.core.Service"))
+        assertEquals(2, refreshes.get())
+    }
+
+    @Test
+    fun test_failed_fetch_keeps_last_snapshot() {
+        val cache = createCache()
+        cache.refresh(CONNECTION)
+
+        configuration = null
+        assertNull(cache.refresh(CONNECTION))
+        assertEquals("DEBUG", cache.get(CONNECTION)?.getEffectiveLevel("com.synthetic.core"))
+        assertEquals(1, refreshes.get())
+    }
+
+    @Test
+    fun test_refresh_in_progress_is_not_repeated() {
+        val started = CountDownLatch(1)
+        val release = CountDownLatch(1)
+        val cache = LoggerLevelsCache({ refreshes.incrementAndGet() }, TTL, { now }) {
+            started.countDown()
+            release.await(5, TimeUnit.SECONDS)
+            fetch()
+        }
+        val executor = Executors.newSingleThreadExecutor()
+
+        try {
+            val inFlight = executor.submit<LoggerLevelsSnapshot?> { cache.refresh(CONNECTION) }
+            assertTrue(started.await(5, TimeUnit.SECONDS))
+
+            assertNull(cache.refresh(CONNECTION))
+            release.countDown()
+
+            assertNotNull(inFlight.get(5, TimeUnit.SECONDS))
+            assertEquals(1, fetches.get())
+        } finally {
+            executor.shutdownNow()
+        }
+    }
+
+    @Test
+    fun test_invalidation_drops_in_flight_fetch() {
+        val started = CountDownLatch(1)
+        val release = CountDownLatch(1)
+        val cache = LoggerLevelsCache({ refreshes.incrementAndGet() }, TTL, { now }) {
+            started.countDown()
+            release.await(5, TimeUnit.SECONDS)
+            fetch()
+        }
+        val executor = Executors.newSingleThreadExecutor()
+
+        try {
+            val inFlight = executor.submit<LoggerLevelsSnapshot?> { cache.refresh(CONNECTION) }
+            assertTrue(started.await(5, TimeUnit.SECONDS))
+
+            // e.g. the replica was switched by the user, while the fetch was in progress
+            cache.invalidateAll()
+            release.countDown()
+
+            assertNull(inFlight.get(5, TimeUnit.SECONDS))
+            assertNull(cache.get(CONNECTION))
+            assertEquals(0, refreshes.get())
+        } finally {
+            executor.shutdownNow()
+        }
+    }
+
+    @Test
+    fun test_update_and_invalidation() {
+        val cache = createCache()
+
+        // nothing to update without a fetched snapshot
+        assertFalse(cache.update(CONNECTION, "com.synthetic.core", "TRACE"))
+
+        cache.refresh(CONNECTION)
+        cache.refresh(OTHER_CONNECTION)
+
+        assertTrue(cache.update(CONNECTION, "com.synthetic.core", "TRACE"))
+        assertEquals("TRACE", cache.get(CONNECTION)?.getEffectiveLevel("com.synthetic.core.Service"))
+
+        assertTrue(cache.invalidate(CONNECTION))
+        assertNull(cache.get(CONNECTION))
+        assertNotNull(cache.get(OTHER_CONNECTION))
+
+        assertTrue(cache.invalidateAll())
+        assertNull(cache.get(OTHER_CONNECTION))
+        assertFalse(cache.invalidateAll())
+    }
+
+    @Test
+    fun test_expired_snapshot_is_not_returned() {
+        val cache = createCache()
+        cache.refresh(CONNECTION)
+
+        now += TTL
+        assertEquals("DEBUG", cache.get(CONNECTION)?.getEffectiveLevel("com.synthetic.core"))
+
+        now += 1
+        assertNull(cache.get(CONNECTION))
+        assertEquals(1, fetches.get(), "expired snapshot must not be fetched implicitly")
+
+        cache.refresh(CONNECTION)
+        assertNotNull(cache.get(CONNECTION))
+    }
+
+    private fun createCache() = LoggerLevelsCache({ refreshes.incrementAndGet() }, TTL, { now }) { fetch() }
+
+    private fun fetch(): LoggerLevelsSnapshot? {
+        fetches.incrementAndGet()
+        return configuration?.let { LoggerLevelsSnapshot.parse(it, now) }
+    }
+
+    companion object {
+        private const val CONNECTION = "local"
+        private const val OTHER_CONNECTION = "staging"
+        private const val EDITORS = 200
+        private const val TTL = 1_000L
+        private val CONFIGURATION = """
+            |=WARN
+            |de.hybris.platform=INFO
+            |com.synthetic.core=DEBUG
+            |com.synthetic.core.jalo=error
+            |org.apache.solr=null
+            """.trimMargin()
+    }
+}
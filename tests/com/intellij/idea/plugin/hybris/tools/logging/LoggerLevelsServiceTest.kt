@@ -0,0 +1,132 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.tools.logging
+
+import com.intellij.idea.plugin.hybris.LightProjectFixture
+import com.intellij.idea.plugin.hybris.settings.RemoteConnectionSettings
+import com.intellij.idea.plugin.hybris.settings.components.DeveloperSettingsComponent
+import com.intellij.idea.plugin.hybris.tools.remote.RemoteConnectionUtil
+import com.intellij.idea.plugin.hybris.tools.remote.ReplicaType
+import com.intellij.idea.plugin.hybris.tools.remote.http.HacStubServer
+import com.intellij.idea.plugin.hybris.tools.remote.http.HybrisHacHttpClient
+import com.intellij.idea.plugin.hybris.tools.remote.http.Replica
+import kotlin.test.AfterTest
+import kotlin.test.BeforeTest
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertNotNull
+import kotlin.test.assertNull
+
+/**
+ * Fetches the levels through the real [HybrisHacHttpClient]: HAC login, CSRF token, Scripting console response parsing.
+ */
+class LoggerLevelsServiceTest {
+
+    private lateinit var fixture: LightProjectFixture
+    private lateinit var server: HacStubServer
+    private lateinit var settings: RemoteConnectionSettings
+
+    @Volatile
+    private var failing = false
+
+    @BeforeTest
+    fun setUp() {
+        fixture = LightProjectFixture()
+        server = HacStubServer { script, commit ->
+            when {
+                failing -> HacStubServer.scriptingResponse(stacktrace = "groovy.lang.MissingPropertyException: LogManager")
+                script == LoggerLevelsSnapshot.SCRIPT && !commit -> HacStubServer.scriptingResponse(result = CONFIGURATION)
+                else -> HacStubServer.scriptingResponse(stacktrace = "Unexpected script")
+            }
+        }
+        settings = server.createSettings()
+
+        RemoteConnectionUtil.addRemoteConnection(fixture.project, settings)
+        RemoteConnectionUtil.setActiveRemoteConnectionSettings(fixture.project, settings)
+    }
+
+    @AfterTest
+    fun tearDown() {
+        HybrisHacHttpClient.getInstance(fixture.project).setReplica(null)
+        DeveloperSettingsComponent.getInstance(fixture.project).state.remoteConnectionSettingsList.remove(settings)
+        server.stop()
+        fixture.dispose()
+    }
+
+    @Test
+    fun test_levels_are_fetched_only_on_refresh() {
+        val service = LoggerLevelsService.getInstance(fixture.project)
+
+        assertNull(service.getEffectiveLevel("com.synthetic.core.Service"))
+        assertEquals(0, server.scriptingRequests.get())
+
+        assertNotNull(service.refresh())
+        assertEquals(1, server.scriptingRequests.get())
+
+        assertEquals("DEBUG", service.getEffectiveLevel("com.synthetic.core.Service"))
+        assertEquals("ERROR", service.getEffectiveLevel("com.synthetic.core.jalo.GeneratedProduct"))
+        assertEquals("WARN", service.getEffectiveLevel("org.springframework.Bean"))
+        assertEquals(1, server.scriptingRequests.get())
+    }
+
+    @Test
+    fun test_failed_script_is_not_cached() {
+        failing = true
+
+        val service = LoggerLevelsService.getInstance(fixture.project)
+
+        assertNull(service.refresh())
+        assertNull(service.getEffectiveLevel("com.synthetic.core.Service"))
+    }
+
+    @Test
+    fun test_level_change_is_applied_to_snapshot() {
+        val service = LoggerLevelsService.getInstance(fixture.project)
+        service.refresh()
+
+        service.onLevelChanged("com.synthetic.core", "TRACE")
+
+        assertEquals("TRACE", service.getEffectiveLevel("com.synthetic.core.Service"))
+        assertEquals(1, server.scriptingRequests.get())
+    }
+
+    @Test
+    fun test_replica_and_connection_changes_invalidate_snapshot() {
+        val service = LoggerLevelsService.getInstance(fixture.project)
+
+        service.refresh()
+        HybrisHacHttpClient.getInstance(fixture.project).setReplica(Replica(ReplicaType.MANUAL, ".node-1"))
+        assertNull(service.getEffectiveLevel("com.synthetic.core.Service"))
+
+        service.refresh()
+        assertEquals("DEBUG", service.getEffectiveLevel("com.synthetic.core.Service"))
+
+        RemoteConnectionUtil.fireConnectionsChanged(fixture.project, settings.type)
+        assertNull(service.getEffectiveLevel("com.synthetic.core.Service"))
+    }
+
+    companion object {
+        private val CONFIGURATION = """
+            |=WARN
+            |de.hybris.platform=INFO
+            |com.synthetic.core=DEBUG
+            |com.synthetic.core.jalo=error
+            """.trimMargin()
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.tools.remote.http
+
+import com.google.gson.Gson
+import com.intellij.credentialStore.Credentials
+import com.intellij.idea.plugin.hybris.settings.RemoteConnectionSettings
+import com.intellij.idea.plugin.hybris.tools.remote.RemoteConnectionType
+import com.sun.net.httpserver.HttpExchange
+import com.sun.net.httpserver.HttpServer
+import java.net.InetAddress
+import java.net.InetSocketAddress
+import java.net.URLDecoder
+import java.nio.charset.StandardCharsets
+import java.util.*
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * Local stand-in for the HAC: login form with the CSRF token, Spring Security login and the Scripting console endpoint.
+ *
+ * Scripting requests are answered by the [scripting] handler with the `outputText`, `executionResult` and `stacktraceText` fields,
+ * same as HAC does it, so the real [HybrisHacHttpClient] can be pointed to it via [createSettings].
+ */
+class HacStubServer(private val scripting: (script: String, commit: Boolean) -> Map<String, String>) {
+
+    private val server = HttpServer.create(InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0)
+    val scriptingRequests = AtomicInteger()
+
+    init {
+        server.createContext("/") { exchange -> exchange.use { handleLoginForm(it) } }
+        server.createContext(LOGIN_PATH) { exchange -> exchange.use { handleLogin(it) } }
+        server.createContext(SCRIPTING_PATH) { exchange -> exchange.use { handleScripting(it) } }
+        server.start()
+    }
+
+    fun createSettings(uuid: String = UUID.randomUUID().toString()) = RemoteConnectionSettings().also {
+        it.uuid = uuid
+        it.type = RemoteConnectionType.Hybris
+        it.isSsl = false
+        it.hostIP = server.address.address.hostAddress
+        it.port = server.address.port.toString()
+        it.hacWebroot = ""
+        it.credentials = Credentials(USERNAME, PASSWORD)
+    }
+
+    fun stop() = server.stop(0)
+
+    private fun handleLoginForm(exchange: HttpExchange) {
+        if (!isAuthenticated(exchange)) exchange.responseHeaders.add("Set-Cookie", "JSESSIONID=$ANONYMOUS_SESSION; Path=/")
+
+        respond(exchange, 200, "text/html; charset=UTF-8", """<html><head><meta name="_csrf" content="$CSRF_TOKEN"/></head><body></body></html>""")
+    }
+
+    private fun handleLogin(exchange: HttpExchange) {
+        val params = readParams(exchange)
+        val valid = params["j_username"] == USERNAME && params["j_password"] == PASSWORD && params["_csrf"] == CSRF_TOKEN
+
+        if (valid) exchange.responseHeaders.add("Set-Cookie", "JSESSIONID=$AUTHENTICATED_SESSION; Path=/")
+        exchange.responseHeaders.add("Location", if (valid) "/" else "/login?login_error=1")
+        exchange.sendResponseHeaders(302, -1)
+    }
+
+    private fun handleScripting(exchange: HttpExchange) {
+        if (!isAuthenticated(exchange) || exchange.requestHeaders.getFirst("X-CSRF-TOKEN") != CSRF_TOKEN) {
+            exchange.responseHeaders.add("Location", "/login")
+            exchange.sendResponseHeaders(302, -1)
+            return
+        }
+
+        scriptingRequests.incrementAndGet()
+
+        val params = readParams(exchange)
+        val response = scripting(params["script"].orEmpty(), params["commit"].toBoolean())
+
+        respond(exchange, 200, "application/json; charset=UTF-8", Gson().toJson(response))
+    }
+
+    private fun isAuthenticated(exchange: HttpExchange) = exchange.requestHeaders["Cookie"].orEmpty()
+        .any { it.contains("JSESSIONID=$AUTHENTICATED_SESSION") }
+
+    private fun readParams(exchange: HttpExchange) = exchange.requestBody.readAllBytes().toString(StandardCharsets.UTF_8)
+        .split('&')
+        .filter { it.isNotEmpty() }
+        .associate { it.substringBefore('=') to URLDecoder.decode(it.substringAfter('='), StandardCharsets.UTF_8) }
+
+    private fun respond(exchange: HttpExchange, code: Int, contentType: String, body: String) {
+        val bytes = body.toByteArray(StandardCharsets.UTF_8)
+        exchange.responseHeaders.add("Content-Type", contentType)
+        exchange.sendResponseHeaders(code, bytes.size.toLong())
+        exchange.responseBody.write(bytes)
+    }
+
+    companion object {
+        const val SCRIPTING_PATH = "/console/scripting/execute"
+        private const val LOGIN_PATH = "/j_spring_security_check"
+        private const val USERNAME = "admin"
+        private const val PASSWORD = "nimda"
+        private const val CSRF_TOKEN = "stub-csrf-token"
+        private const val ANONYMOUS_SESSION = "anonymous"
+        private const val AUTHENTICATED_SESSION = "authenticated"
+
+        fun scriptingResponse(output: String = "", result: String = "", stacktrace: String = "") = mapOf(
+            "outputText" to output,
+            "executionResult" to result,
+            "stacktraceText" to stacktrace
+        )
+    }
+}
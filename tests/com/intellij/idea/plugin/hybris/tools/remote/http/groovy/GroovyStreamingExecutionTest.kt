@@ -0,0 +1,264 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.tools.remote.http.groovy
+
+import com.intellij.idea.plugin.hybris.tools.remote.http.impex.HybrisHttpResult
+import com.intellij.idea.plugin.hybris.tools.remote.http.impex.HybrisHttpResult.HybrisHttpResultBuilder.createResult
+import groovy.lang.Binding
+import groovy.lang.GroovyClassLoader
+import groovy.lang.GroovyShell
+import java.io.PrintWriter
+import java.io.StringWriter
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.atomic.AtomicInteger
+import kotlin.test.AfterTest
+import kotlin.test.BeforeTest
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertFalse
+import kotlin.test.assertNotNull
+import kotlin.test.assertNull
+import kotlin.test.assertTrue
+
+/**
+ * Evaluates the service scripts the same way HAC Scripting console does it,
+ * SAP Commerce classes used by the scripts are replaced with minimal fakes.
+ */
+class GroovyStreamingExecutionTest {
+
+    private lateinit var classLoader: GroovyClassLoader
+    private val scripts = CopyOnWriteArrayList<String>()
+
+    @BeforeTest
+    fun setUp() {
+        classLoader = GroovyClassLoader(javaClass.classLoader)
+        FAKES.forEach { classLoader.parseClass(it) }
+    }
+
+    @AfterTest
+    fun tearDown() {
+        registry().values.forEach { (it["thread"] as Thread?)?.interrupt() }
+    }
+
+    @Test
+    fun test_output_is_received_while_script_is_running() {
+        val chunks = CopyOnWriteArrayList<String>()
+        val result = GroovyStreamingExecution(POLL_INTERVAL) { evaluate(it) }
+            .execute(script(LINES), false, { false }) { chunks.add(it) }
+
+        assertFalse(result.hasError(), result.errorMessage)
+        assertEquals("42", result.result)
+        assertEquals((0 until LINES).joinToString("") { "line $it\n" }, chunks.joinToString(""))
+        // output is appended incrementally, not at the end of the execution
+        assertTrue(chunks.size > 1, "Output has been received in ${chunks.size} chunk(s)")
+        assertTrue(registry().isEmpty(), "Finished execution must be removed from the session")
+        // non-commit mode: the script is executed in a transaction, which is rolled back
+        assertEquals(1, counter("rollbacks"))
+    }
+
+    @Test
+    fun test_commit_mode_does_not_use_transaction() {
+        val result = GroovyStreamingExecution(POLL_INTERVAL) { evaluate(it) }
+            .execute(script(3), true, { false }) { }
+
+        assertFalse(result.hasError(), result.errorMessage)
+        assertEquals(0, counter("begins"))
+        assertEquals(0, counter("rollbacks"))
+    }
+
+    @Test
+    fun test_cancellation_interrupts_server_thread() {
+        val chunks = CopyOnWriteArrayList<String>()
+        val result = GroovyStreamingExecution(POLL_INTERVAL) { evaluate(it) }
+            .execute("while (true) { println 'tick' }", true, { chunks.isNotEmpty() }) { chunks.add(it) }
+
+        assertTrue(result.hasError())
+        assertEquals("Execution has been cancelled", result.errorMessage)
+        assertEquals(1, scripts.count { it.contains(": cancel") })
+        assertTrue(chunks.isNotEmpty())
+        assertTrue(registry().isEmpty())
+    }
+
+    @Test
+    fun test_script_failure_is_reported_with_stacktrace() {
+        val chunks = CopyOnWriteArrayList<String>()
+        val result = GroovyStreamingExecution(POLL_INTERVAL) { evaluate(it) }
+            .execute(script(3, fail = true), false, { false }) { chunks.add(it) }
+
+        assertTrue(result.hasError())
+        assertTrue(result.errorMessage.startsWith("java.lang.IllegalStateException: boom"), result.errorMessage)
+        assertEquals("line 0\nline 1\nline 2\n", chunks.joinToString(""))
+        assertEquals(1, counter("rollbacks"))
+    }
+
+    @Test
+    fun test_unknown_execution() {
+        val result = GroovyStreamingExecution(POLL_INTERVAL) { script ->
+            // e.g. the node has been restarted right after the start of the execution
+            evaluate(script).also { registry().values.forEach { (it["thread"] as Thread).interrupt() }; registry().clear() }
+        }
+            .execute(script(LINES), false, { false }) { }
+
+        assertTrue(result.hasError())
+        assertTrue(result.errorMessage.contains("is not available on the server"), result.errorMessage)
+    }
+
+    @Test
+    fun test_failed_polls_are_retried() {
+        val failures = AtomicInteger(2)
+        val result = GroovyStreamingExecution(POLL_INTERVAL) { script ->
+            if (script.contains(": poll") && failures.getAndDecrement() > 0) {
+                scripts.add(script)
+                createResult().errorMessage("Read timed out").build()
+            } else evaluate(script)
+        }
+            .execute(script(LINES), false, { false }) { }
+
+        assertFalse(result.hasError(), result.errorMessage)
+        assertEquals("42", result.result)
+        assertTrue(scripts.none { it.contains(": cancel") })
+    }
+
+    @Test
+    fun test_execution_is_cancelled_when_polls_keep_failing() {
+        val result = GroovyStreamingExecution(POLL_INTERVAL) { script ->
+            if (script.contains(": poll")) {
+                scripts.add(script)
+                createResult().errorMessage("Read timed out").build()
+            } else evaluate(script)
+        }
+            .execute("while (true) { println 'tick' }", false, { false }) { }
+
+        assertTrue(result.hasError())
+        assertEquals("Read timed out", result.errorMessage)
+        // first poll and 3 retries
+        assertEquals(4, scripts.count { it.contains(": poll") })
+        assertEquals(1, scripts.count { it.contains(": cancel") })
+
+        val execution = registry().values.single()
+        (execution["thread"] as Thread).join(5_000)
+        assertEquals(GroovyStreamingExecution.STATE_CANCELLED, execution["state"])
+    }
+
+    @Test
+    fun test_stale_executions_are_purged() {
+        evaluate(GroovyStreamingExecution.startScript("never-polled", "while (true) { Thread.sleep(10) }", true))
+        evaluate(GroovyStreamingExecution.startScript("finished", "42", true))
+
+        val neverPolled = assertNotNull(registry()["never-polled"])
+        (registry()["finished"]!!["thread"] as Thread).join(5_000)
+        registry().values.forEach { it["polledAt"] = 0L }
+
+        evaluate(GroovyStreamingExecution.startScript("next", "42", true))
+
+        assertEquals(setOf("next"), registry().keys)
+        val thread = neverPolled["thread"] as Thread
+        thread.join(5_000)
+        assertFalse(thread.isAlive, "Never finishing execution must be interrupted")
+        assertNull(registry()["never-polled"])
+    }
+
+    /**
+     * Same as HAC Scripting console: `out` is bound to the output of the request, the result is converted to a String,
+     * in case of a failure only the stacktrace is returned.
+     */
+    private fun evaluate(script: String): HybrisHttpResult {
+        scripts.add(script)
+
+        val output = StringWriter()
+        return try {
+            val result = GroovyShell(classLoader, Binding(mapOf("out" to PrintWriter(output, true))))
+                .evaluate(script)
+            createResult()
+                .output(output.toString())
+                .result(result?.toString() ?: "")
+                .build()
+        } catch (e: Throwable) {
+            createResult().errorMessage(e.stackTraceToString()).build()
+        }
+    }
+
+    @Suppress("UNCHECKED_CAST")
+    private fun registry(): MutableMap<String, MutableMap<String, Any?>> {
+        val session = classLoader.loadClass("de.hybris.platform.jalo.JaloSession").getMethod("getCurrentSession").invoke(null)
+        return session.javaClass.getMethod("getAttribute", String::class.java).invoke(session, REGISTRY_KEY)
+            as MutableMap<String, MutableMap<String, Any?>>?
+            ?: mutableMapOf()
+    }
+
+    private fun counter(name: String) = (classLoader.loadClass("de.hybris.platform.tx.Transaction")
+        .getField(name).get(null) as AtomicInteger).get()
+
+    companion object {
+        private const val POLL_INTERVAL = 20L
+        private const val LINES = 100
+        private const val REGISTRY_KEY = "hybris.idea.groovy.executions"
+
+        private fun script(lines: Int, fail: Boolean = false) = """
+            |$lines.times {
+            |    println "line ${'$'}it"
+            |    Thread.sleep(5)
+            |}
+            |if ($fail) throw new IllegalStateException('boom')
+            |42
+            """.trimMargin()
+
+        private val FAKES = listOf(
+            """
+            |package de.hybris.platform.core
+            |
+            |class Registry {
+            |    static Object currentTenant = 'junit'
+            |
+            |    static void unsetCurrentTenant() {}
+            |}
+            """.trimMargin(),
+            """
+            |package de.hybris.platform.jalo
+            |
+            |import java.util.concurrent.ConcurrentHashMap
+            |
+            |class JaloSession {
+            |    static final JaloSession currentSession = new JaloSession()
+            |    private final Map attributes = new ConcurrentHashMap()
+            |
+            |    Object getAttribute(String name) { attributes.get(name) }
+            |    void setAttribute(String name, Object value) { attributes.put(name, value) }
+            |    void activate() {}
+            |    static void deactivate() {}
+            |}
+            """.trimMargin(),
+            """
+            |package de.hybris.platform.tx
+            |
+            |import java.util.concurrent.atomic.AtomicInteger
+            |
+            |class Transaction {
+            |    public static final AtomicInteger begins = new AtomicInteger()
+            |    public static final AtomicInteger rollbacks = new AtomicInteger()
+            |    boolean running
+            |
+            |    static Transaction current() { new Transaction() }
+            |    void begin() { running = true; begins.incrementAndGet() }
+            |    void rollback() { running = false; rollbacks.incrementAndGet() }
+            |}
+            """.trimMargin(),
+        )
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.intellij.idea.plugin.hybris.toolwindow.system.type.tree
+
+import kotlin.test.Test
+import kotlin.test.assertEquals
+
+/**
+ * Children of an item node are keyed the same way as in the `TSMetaItemNode`, so the sort order of the keys is the tree order.
+ */
+class TSTreeChildrenDiffTest {
+
+    @Test
+    fun test_compute_attributeAdded() {
+        val diff = TSTreeChildrenDiff.compute(
+            listOf(INDEX, CODE, NAME),
+            listOf(INDEX, CODE, DESCRIPTION, NAME)
+        ) { false }
+
+        assertEquals(emptyList(), diff.removed)
+        assertEquals(listOf(IndexedValue(2, DESCRIPTION)), diff.inserted)
+        assertEquals(emptyList(), diff.changed)
+    }
+
+    @Test
+    fun test_compute_attributeRemoved() {
+        val diff = TSTreeChildrenDiff.compute(
+            listOf(INDEX, CODE, DESCRIPTION, NAME),
+            listOf(INDEX, CODE, NAME)
+        ) { false }
+
+        assertEquals(listOf(IndexedValue(2, DESCRIPTION)), diff.removed)
+        assertEquals(emptyList(), diff.inserted)
+        assertEquals(emptyList(), diff.changed)
+    }
+
+    @Test
+    fun test_compute_attributeChanged() {
+        val checked = mutableListOf<String>()
+        val diff = TSTreeChildrenDiff.compute(
+            listOf(INDEX, CODE, NAME),
+            listOf(INDEX, CODE, NAME)
+        ) {
+            checked.add(it)
+            it == NAME
+        }
+
+        assertEquals(emptyList(), diff.removed)
+        assertEquals(emptyList(), diff.inserted)
+        assertEquals(listOf(IndexedValue(2, NAME)), diff.changed)
+        assertEquals(listOf(INDEX, CODE, NAME), checked)
+    }
+
+    @Test
+    fun test_compute_mixed() {
+        val diff = TSTreeChildrenDiff.compute(
+            listOf(INDEX, CODE, DESCRIPTION, NAME),
+            listOf(CODE, NAME, STATUS)
+        ) { it == CODE }
+
+        assertEquals(listOf(IndexedValue(0, INDEX), IndexedValue(2, DESCRIPTION)), diff.removed)
+        assertEquals(listOf(IndexedValue(2, STATUS)), diff.inserted)
+        assertEquals(listOf(IndexedValue(0, CODE)), diff.changed)
+    }
+
+    companion object {
+        private const val INDEX = "1_index_codeIdx"
+        private const val CODE = "3_attribute_code"
+        private const val DESCRIPTION = "3_attribute_description"
+        private const val NAME = "3_attribute_name"
+        private const val STATUS = "3_attribute_status"
+    }
+}
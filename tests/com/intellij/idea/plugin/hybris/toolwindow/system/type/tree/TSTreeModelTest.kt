@@ -0,0 +1,161 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.intellij.idea.plugin.hybris.toolwindow.system.type.tree
+
+import com.intellij.ide.projectView.PresentationData
+import com.intellij.idea.plugin.hybris.LightProjectFixture
+import com.intellij.idea.plugin.hybris.system.type.meta.TSGlobalMetaModel
+import com.intellij.idea.plugin.hybris.toolwindow.system.type.tree.nodes.TSNode
+import com.intellij.openapi.project.Project
+import com.intellij.openapi.util.Disposer
+import com.intellij.testFramework.PlatformTestUtil
+import com.intellij.testFramework.runInEdtAndWait
+import javax.swing.event.TreeModelEvent
+import javax.swing.event.TreeModelListener
+import kotlin.test.AfterTest
+import kotlin.test.BeforeTest
+import kotlin.test.Test
+import kotlin.test.assertEquals
+
+/**
+ * Reload of the already loaded nodes must be reported with fine-grained events, structure change collapses the whole tree.
+ */
+class TSTreeModelTest {
+
+    private lateinit var fixture: LightProjectFixture
+    private lateinit var model: TSTreeModel
+    private val structure = mutableMapOf<String, List<String>>()
+    private val labels = mutableMapOf<String, String>()
+    private val events = mutableListOf<String>()
+
+    @BeforeTest
+    fun setUp() {
+        fixture = LightProjectFixture()
+        model = TSTreeModel(TreeNode(TestNode(fixture.project, ROOT)))
+    }
+
+    @AfterTest
+    fun tearDown() {
+        runInEdtAndWait { Disposer.dispose(model) }
+        fixture.dispose()
+    }
+
+    @Test
+    fun test_reload_emitsFineGrainedEvents() {
+        structure[ROOT] = listOf("Category", "Product")
+        structure["Product"] = listOf("code", "name")
+
+        runInEdtAndWait {
+            reload()
+            model.getChildren(model.root)
+                .filter { it.toString() == "Product" }
+                .forEach { model.getChildren(it) }
+            model.addTreeModelListener(RecordingListener())
+
+            structure[ROOT] = listOf("Product")
+            structure["Product"] = listOf("code", "description")
+            labels["code"] = "code: java.lang.String"
+            reload()
+        }
+
+        assertEquals(
+            listOf(
+                "removed root [0] [Category]",
+                "removed Product [1] [name]",
+                "inserted Product [1] [description]",
+                "changed Product [0] [code]",
+            ),
+            events
+        )
+    }
+
+    @Test
+    fun test_reload_notLoadedNodesAreNotReported() {
+        structure[ROOT] = listOf("Product")
+        structure["Product"] = listOf("code")
+
+        runInEdtAndWait {
+            reload()
+            model.getChildren(model.root)
+            model.addTreeModelListener(RecordingListener())
+
+            structure["Product"] = listOf("code", "name")
+            reload()
+        }
+
+        assertEquals(emptyList(), events)
+    }
+
+    @Test
+    fun test_reload_initialIsStructureChange() {
+        structure[ROOT] = listOf("Product")
+
+        runInEdtAndWait {
+            model.addTreeModelListener(RecordingListener())
+            reload()
+        }
+
+        assertEquals(listOf("structureChanged root"), events)
+    }
+
+    private fun reload() {
+        model.reload(TSGlobalMetaModel())
+        PlatformTestUtil.dispatchAllInvocationEventsInIdeEventQueue()
+    }
+
+    private inner class RecordingListener : TreeModelListener {
+        override fun treeNodesChanged(e: TreeModelEvent) = record("changed", e)
+        override fun treeNodesInserted(e: TreeModelEvent) = record("inserted", e)
+        override fun treeNodesRemoved(e: TreeModelEvent) = record("removed", e)
+        override fun treeStructureChanged(e: TreeModelEvent) {
+            events.add("structureChanged ${e.treePath.lastPathComponent}")
+        }
+
+        private fun record(type: String, e: TreeModelEvent) {
+            events.add("$type ${e.treePath.lastPathComponent} ${e.childIndices.contentToString()} ${e.children.contentToString()}")
+        }
+    }
+
+    // children and presentation are taken from the test structure instead of the meta model
+    private inner class TestNode : TSNode {
+
+        private val myName: String
+
+        constructor(project: Project, name: String) : super(project) {
+            myName = name
+        }
+
+        constructor(parent: TSNode, name: String) : super(parent) {
+            myName = name
+        }
+
+        override fun getName() = myName
+
+        override fun update(project: Project, presentation: PresentationData) {
+            presentation.presentableText = labels[myName] ?: myName
+        }
+
+        override fun getNewChildren(): Map<String, TSNode> = structure[myName].orEmpty()
+            .associateWith { TestNode(this, it) }
+    }
+
+    companion object {
+        private const val ROOT = "root"
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.intellij.idea.plugin.hybris.vfs.listeners
+
+import com.intellij.idea.plugin.hybris.vfs.listeners.MetaSystemsChangeDispatcher.MetaSystem
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import kotlin.random.Random
+import kotlin.test.AfterTest
+import kotlin.test.Test
+import kotlin.test.assertEquals
+
+class MetaSystemsChangeCoalescerTest {
+
+    private val executor = Executors.newSingleThreadScheduledExecutor()
+
+    @AfterTest
+    fun tearDown() {
+        executor.shutdownNow()
+    }
+
+    /**
+     * Replays 5000 VFS events of the `git checkout`, delivered in batches of different size,
+     * each affected meta system has to be re-built exactly once with all changed files.
+     */
+    @Test
+    fun test_checkout_singleRebuildPerSystem() {
+        val events = recordCheckout()
+        val rebuilds = CopyOnWriteArrayList<Pair<MetaSystem, Set<String>>>()
+        val coalescer = MetaSystemsChangeCoalescer<MetaSystem>({ QUIET_WINDOW }, executor) { system, keys -> rebuilds.add(system to keys) }
+
+        val expected = events
+            .mapNotNull { MetaSystemsAsyncFileListener.getChange(it.substringAfterLast('/'), it) { TRACKED_CNG_MODELS } }
+            .groupBy({ it.first }, { it.second })
+            .mapValues { it.value.toSet() }
+
+        var index = 0
+        val random = Random(SEED)
+        while (index < events.size) {
+            val batch = events.subList(index, minOf(events.size, index + random.nextInt(1, MAX_BATCH_SIZE)))
+            index += batch.size
+
+            batch
+                .mapNotNull { MetaSystemsAsyncFileListener.getChange(it.substringAfterLast('/'), it) { TRACKED_CNG_MODELS } }
+                .groupBy({ it.first }, { it.second })
+                .let { coalescer.submit(it) }
+        }
+
+        awaitRebuilds(rebuilds, expected.size)
+
+        assertEquals(setOf(MetaSystem.TYPE, MetaSystem.BEAN, MetaSystem.COCKPIT_NG), expected.keys)
+        assertEquals(expected.size, rebuilds.size)
+        assertEquals(expected, rebuilds.toMap())
+    }
+
+    @Test
+    fun test_changesAfterQuietWindow_newRebuild() {
+        val rebuilds = ConcurrentHashMap<MetaSystem, Int>()
+        val coalescer = MetaSystemsChangeCoalescer<MetaSystem>({ QUIET_WINDOW }, executor) { system, _ -> rebuilds.merge(system, 1, Int::plus) }
+
+        coalescer.submit(mapOf(MetaSystem.TYPE to listOf("core-items.xml")))
+        coalescer.submit(mapOf(MetaSystem.TYPE to listOf("catalog-items.xml")))
+        Thread.sleep(QUIET_WINDOW * 4)
+        coalescer.submit(mapOf(MetaSystem.TYPE to listOf("core-items.xml")))
+        Thread.sleep(QUIET_WINDOW * 4)
+
+        assertEquals(mapOf(MetaSystem.TYPE to 2), rebuilds.toMap())
+    }
+
+    @Test
+    fun test_cancel() {
+        val rebuilds = CopyOnWriteArrayList<MetaSystem>()
+        val coalescer = MetaSystemsChangeCoalescer<MetaSystem>({ QUIET_WINDOW }, executor) { system, _ -> rebuilds.add(system) }
+
+        coalescer.submit(mapOf(MetaSystem.BEAN to listOf("core-beans.xml")))
+        coalescer.cancel()
+        Thread.sleep(QUIET_WINDOW * 4)
+
+        assertEquals(emptyList(), rebuilds)
+    }
+
+    private fun awaitRebuilds(rebuilds: List<*>, expected: Int) {
+        val deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10)
+        while (rebuilds.size < expected && System.nanoTime() < deadline) Thread.sleep(10)
+        // give a chance to any unexpected extra re-build
+        Thread.sleep(QUIET_WINDOW * 4)
+    }
+
+    // mostly sources and resources of the custom extensions, some of them are meta system files
+    private fun recordCheckout(): List<String> {
+        val random = Random(SEED)
+
+        return (0 until EVENTS).map { index ->
+            val extension = "$ROOT/custom/extension${random.nextInt(EXTENSIONS)}"
+            when (random.nextInt(100)) {
+                0, 1 -> "$extension/resources/${extension.substringAfterLast('/')}-items.xml"
+                2, 3 -> "$extension/resources/${extension.substringAfterLast('/')}-beans.xml"
+                4 -> TRACKED_CNG_MODELS.random(random)
+                in 5..20 -> "$extension/resources/localization/${extension.substringAfterLast('/')}-locales_en.properties"
+                else -> "$extension/src/com/company/Class$index.java"
+            }
+        }
+    }
+
+    companion object {
+        private const val SEED = 42
+        private const val EVENTS = 5_000
+        private const val EXTENSIONS = 150
+        private const val MAX_BATCH_SIZE = 200
+        private const val QUIET_WINDOW = 100L
+        private const val ROOT = "/home/user/hybris/bin"
+        private val TRACKED_CNG_MODELS = (0 until 10)
+            .map { "$ROOT/custom/extension$it/resources/extension$it-backoffice-config.xml" }
+            .toSet()
+    }
+}
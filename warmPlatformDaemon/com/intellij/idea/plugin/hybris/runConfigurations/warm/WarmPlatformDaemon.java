@@ -0,0 +1,211 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.intellij.idea.plugin.hybris.runConfigurations.warm;
+
+import java.io.*;
+import java.lang.reflect.Method;
+import java.net.*;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entry point of the warm platform JVM, started by the {@link WarmPlatformService} with the platform classpath.
+ * <p>
+ * Boots the <code>junit</code> tenant once and then runs test classes or methods requested over a loopback socket.
+ * Each request loads test classes through a fresh child-first class loader over the test output directories,
+ * so recompiled tests are picked up without restarting the platform.
+ * <p>
+ * Runs inside the SAP Commerce JVM, thus may depend only on the JDK; platform and JUnit classes are accessed reflectively.
+ * It is compiled for Java 17 and shipped as a separate jar, so the plugin classes never get onto the platform classpath.
+ * <p>
+ * Every connection must start with the token passed via the {@link #ENV_TOKEN} environment variable,
+ * other local processes are not allowed to execute code in the platform.
+ */
+public final class WarmPlatformDaemon {
+
+    public static final String MAIN_CLASS = "com.intellij.idea.plugin.hybris.runConfigurations.warm.WarmPlatformDaemon";
+    public static final String ENV_TOKEN = "HYBRIS_WARM_PLATFORM_TOKEN";
+    public static final String PROPERTY_RELOAD_ROOTS = "hybris.warmPlatform.reloadRoots";
+    public static final String READY_MARKER = "[y] warm platform ready, port: ";
+    public static final String BOOT_TIME_SEPARATOR = ", boot (ms): ";
+
+    public static final String COMMAND_RUN = "RUN";
+    public static final String COMMAND_STOP = "STOP";
+    public static final String RESPONSE_RESULT = "RESULT";
+    public static final String RESPONSE_FAILURE = "FAILURE";
+    public static final String RESPONSE_TRACE = "TRACE";
+    public static final String RESPONSE_ERROR = "ERROR";
+    public static final String RESPONSE_END = "END";
+    public static final char METHOD_SEPARATOR = '#';
+
+    private static final int AUTHENTICATION_TIMEOUT_MS = 10_000;
+
+    private WarmPlatformDaemon() {
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final var token = System.getenv(ENV_TOKEN);
+        if (token == null || token.isBlank()) throw new IllegalStateException("Environment variable " + ENV_TOKEN + " is not set");
+
+        final var start = System.nanoTime();
+        bootTenant();
+        final var bootTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        final var reloadRoots = getReloadRoots();
+
+        try (final var serverSocket = new ServerSocket(0, 0, InetAddress.getLoopbackAddress())) {
+            System.out.println(READY_MARKER + serverSocket.getLocalPort() + BOOT_TIME_SEPARATOR + bootTime);
+            System.out.flush();
+
+            while (true) {
+                try (final var socket = serverSocket.accept();
+                     final var reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                     final var writer = new PrintWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8), true)) {
+
+                    // a connection which does not authenticate in time must not block the next ones
+                    socket.setSoTimeout(AUTHENTICATION_TIMEOUT_MS);
+                    if (!isAuthenticated(reader.readLine(), token)) continue;
+                    socket.setSoTimeout(0);
+
+                    final var command = reader.readLine();
+                    if (command == null) continue;
+
+                    if (command.equals(COMMAND_STOP)) {
+                        writer.println(RESPONSE_END);
+                        break;
+                    }
+
+                    if (command.startsWith(COMMAND_RUN + ' ')) {
+                        run(command.substring(COMMAND_RUN.length() + 1).trim(), reloadRoots, writer);
+                    } else {
+                        writer.println(RESPONSE_ERROR + ' ' + "Unknown command: " + command);
+                    }
+                    writer.println(RESPONSE_END);
+                } catch (final IOException e) {
+                    // the client went away, keep serving the next connections
+                }
+            }
+        }
+
+        System.exit(0);
+    }
+
+    private static boolean isAuthenticated(final String line, final String token) {
+        return line != null && MessageDigest.isEqual(line.getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // same as done by the HybrisJUnit4ClassRunner for every test class, but only once per JVM
+    private static void bootTenant() throws ReflectiveOperationException {
+        Class.forName("de.hybris.platform.core.Registry")
+            .getMethod("activateStandaloneMode")
+            .invoke(null);
+        Class.forName("de.hybris.platform.util.Utilities")
+            .getMethod("setJUnitTenant")
+            .invoke(null);
+    }
+
+    private static URL[] getReloadRoots() throws MalformedURLException {
+        final var value = System.getProperty(PROPERTY_RELOAD_ROOTS, "");
+        final var urls = new ArrayList<URL>();
+        for (final var path : value.split(File.pathSeparator)) {
+            if (!path.isBlank()) urls.add(new File(path).toURI().toURL());
+        }
+        return urls.toArray(URL[]::new);
+    }
+
+    private static void run(final String test, final URL[] reloadRoots, final PrintWriter writer) {
+        final var separator = test.indexOf(METHOD_SEPARATOR);
+        final var className = separator < 0 ? test : test.substring(0, separator);
+        final var methodName = separator < 0 ? null : test.substring(separator + 1);
+
+        final var currentThread = Thread.currentThread();
+        final var originalClassLoader = currentThread.getContextClassLoader();
+
+        try (final var classLoader = new ReloadingClassLoader(reloadRoots, WarmPlatformDaemon.class.getClassLoader())) {
+            currentThread.setContextClassLoader(classLoader);
+
+            final var testClass = Class.forName(className, true, classLoader);
+            final var requestClass = Class.forName("org.junit.runner.Request");
+            final var request = methodName == null
+                ? requestClass.getMethod("aClass", Class.class).invoke(null, testClass)
+                : requestClass.getMethod("method", Class.class, String.class).invoke(null, testClass, methodName);
+
+            final var junitCoreClass = Class.forName("org.junit.runner.JUnitCore");
+            final var result = junitCoreClass.getMethod("run", requestClass)
+                .invoke(junitCoreClass.getConstructor().newInstance(), request);
+
+            writeResult(result, writer);
+        } catch (final Throwable e) {
+            writer.println(RESPONSE_ERROR + ' ' + e);
+        } finally {
+            currentThread.setContextClassLoader(originalClassLoader);
+        }
+    }
+
+    private static void writeResult(final Object result, final PrintWriter writer) throws ReflectiveOperationException {
+        final var resultClass = result.getClass();
+        writer.println(RESPONSE_RESULT
+            + ' ' + invoke(resultClass, result, "getRunCount")
+            + ' ' + invoke(resultClass, result, "getFailureCount")
+            + ' ' + invoke(resultClass, result, "getIgnoreCount")
+            + ' ' + invoke(resultClass, result, "getRunTime"));
+
+        for (final var failure : (List<?>) invoke(resultClass, result, "getFailures")) {
+            final var failureClass = failure.getClass();
+            writer.println(RESPONSE_FAILURE + ' ' + invoke(failureClass, failure, "getTestHeader"));
+            final var trace = String.valueOf(invoke(failureClass, failure, "getTrace"));
+            trace.lines().forEach(line -> writer.println(RESPONSE_TRACE + ' ' + line));
+        }
+    }
+
+    private static Object invoke(final Class<?> clazz, final Object target, final String methodName) throws ReflectiveOperationException {
+        final Method method = clazz.getMethod(methodName);
+        return method.invoke(target);
+    }
+
+    /**
+     * Classes found in the reload roots are always defined by this class loader, everything else is delegated to the platform.
+     */
+    private static final class ReloadingClassLoader extends URLClassLoader {
+
+        static {
+            registerAsParallelCapable();
+        }
+
+        private ReloadingClassLoader(final URL[] urls, final ClassLoader parent) {
+            super(urls, parent);
+        }
+
+        @Override
+        protected Class<?> loadClass(final String name, final boolean resolve) throws ClassNotFoundException {
+            synchronized (getClassLoadingLock(name)) {
+                var loadedClass = findLoadedClass(name);
+                if (loadedClass == null && findResource(name.replace('.', '/') + ".class") != null) {
+                    loadedClass = findClass(name);
+                }
+                if (loadedClass == null) return super.loadClass(name, resolve);
+
+                if (resolve) resolveClass(loadedClass);
+                return loadedClass;
+            }
+        }
+    }
+}